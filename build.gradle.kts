@@ -10,6 +10,7 @@ plugins {
 
     //third party
     id("org.sonarqube") version "6.3.1.5724"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.jay.voyager"
@@ -80,6 +81,9 @@ dependencies {
     implementation("io.github.resilience4j:resilience4j-spring-boot3")
     implementation("io.github.resilience4j:resilience4j-micrometer")
 
+    //outbound response cache (W-TinyLFU), version managed by Spring Boot
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     //OpenTelemetry
     implementation(platform("io.opentelemetry:opentelemetry-bom:1.50.0"))
     implementation("io.opentelemetry:opentelemetry-exporter-otlp")
@@ -88,6 +92,7 @@ dependencies {
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("org.eclipse.jetty.http2:jetty-http2-server") // h2c stand-in origin for transport tests
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
@@ -113,6 +118,14 @@ springBoot {
     buildInfo()
 }
 
+//JMH, micro benchmarks live in src/jmh/java. Run with ./gradlew jmh, not part of check.
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+}
+
 //Sonar
 sonarqube {
     properties {
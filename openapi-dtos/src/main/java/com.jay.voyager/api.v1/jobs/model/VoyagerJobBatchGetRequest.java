@@ -0,0 +1,21 @@
+package com.jay.voyager.api.v1.jobs.model;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+        name = "VoyagerJobBatchGetRequest",
+        description = "Jobs looked up by the POST /api/v1/jobs:batchGet endpoint."
+)
+public record VoyagerJobBatchGetRequest(
+
+        @ArraySchema(
+                arraySchema = @Schema(description = "Job ids, at most 500 per request"),
+                schema = @Schema(description = "Job id", example = "3f2b8c1e-6a4d-4e7b-9c21-5d8e0f1a2b3c"),
+                minItems = 1,
+                maxItems = 500
+        )
+        List<String> jobIds
+) {}
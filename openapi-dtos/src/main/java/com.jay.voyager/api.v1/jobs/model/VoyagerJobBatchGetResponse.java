@@ -0,0 +1,34 @@
+package com.jay.voyager.api.v1.jobs.model;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+        name = "VoyagerJobBatchGetResponse",
+        description = "Jobs returned by the POST /api/v1/jobs:batchGet endpoint."
+)
+public record VoyagerJobBatchGetResponse(
+
+        @Schema(description = "One result per requested job id, in request order")
+        List<Result> results,
+
+        @Schema(
+                description = "Request id from the incoming identity header. Empty when not provided.",
+                example = "a1a7c9a73c4bdcb9acf3175c41371da0"
+        )
+        String requestId
+) {
+    @Schema(name = "VoyagerJobBatchGetResult", description = "Lookup result for one job id.")
+    public record Result(
+            @Schema(description = "Requested job id")
+            UUID id,
+
+            @Schema(description = "Whether a job with this id exists")
+            boolean found,
+
+            @Schema(description = "The job, null when not found")
+            VoyagerJobResponse.Job job
+    ) {}
+}
@@ -7,7 +7,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(
         name = "VoyagerJobResponse",
-        description = "Voyager job data returned by the GET /api/v1/jobs/{jobId} endpoint."
+        description = "Voyager job data returned by the /api/v1/jobs endpoints."
 )
 public record VoyagerJobResponse(
 
@@ -35,6 +35,7 @@ public record VoyagerJobResponse(
         QUEUED,
         RUNNING,
         SUCCEEDED,
-        FAILED
+        FAILED,
+        CANCELLED
     }
 }
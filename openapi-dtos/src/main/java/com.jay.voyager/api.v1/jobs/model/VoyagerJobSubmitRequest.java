@@ -0,0 +1,22 @@
+package com.jay.voyager.api.v1.jobs.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+        name = "VoyagerJobSubmitRequest",
+        description = "Job submitted to the POST /api/v1/jobs endpoint."
+)
+public record VoyagerJobSubmitRequest(
+
+        @Schema(description = "Job type, selects the work the job runs", example = "demo")
+        String type,
+
+        @Schema(description = "Start order among queued jobs of the same type. Defaults to NORMAL.")
+        JobPriority priority
+) {
+    public enum JobPriority {
+        HIGH,
+        NORMAL,
+        LOW
+    }
+}
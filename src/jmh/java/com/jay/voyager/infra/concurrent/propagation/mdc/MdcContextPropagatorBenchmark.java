@@ -0,0 +1,90 @@
+package com.jay.voyager.infra.concurrent.propagation.mdc;
+
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.MDC;
+
+import com.jay.voyager.core.observability.mdc.MdcPropagationMode;
+import com.jay.voyager.infra.concurrent.PlatformVirtualThreadFactory;
+
+/**
+ * Per-task cost of MDC propagation, {@code COPY} (copy + save + restore) vs {@code SNAPSHOT}
+ * (captured once, installed on the new thread, no restore).
+ *
+ * <p>The MDC is filled the way {@code MdcFilter} and the tracing bridge fill it for a request,
+ * so the numbers reflect a realistic map size. {@code fanOut} measures the whole path a
+ * structured fan-out takes: wrap, start a virtual thread, run, join.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MdcContextPropagatorBenchmark {
+
+    private static final int FAN_OUT_WIDTH = 8;
+
+    @Param({"COPY", "SNAPSHOT"})
+    private MdcPropagationMode mode;
+
+    private MdcContextPropagator propagator;
+    private ThreadFactory threadFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        propagator = new MdcContextPropagator(mode);
+        threadFactory = new PlatformVirtualThreadFactory(List.of(propagator));
+
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        MDC.put("spanId", "00f067aa0ba902b7");
+        MDC.put("userId", "user-123");
+        MDC.put("requestId", "0b6d5c0e-93a4-4b3e-9c7a-6f1f1f3c2d11");
+        MDC.put("kind", "http");
+        MDC.put("method", "GET");
+        MDC.put("name", "/api/v1/jobs/{jobId}");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    @Benchmark
+    public Runnable wrap() {
+        return propagator.propagateToNewThread(MdcContextPropagatorBenchmark::noop);
+    }
+
+    @Benchmark
+    public void wrapAndRun(Blackhole blackhole) {
+        Runnable task = propagator.propagateToNewThread(() -> blackhole.consume(MDC.get("traceId")));
+        task.run();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void fanOut(Blackhole blackhole) throws InterruptedException {
+        Thread[] threads = new Thread[FAN_OUT_WIDTH];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = threadFactory.newThread(() -> blackhole.consume(MDC.get("traceId")));
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private static void noop() {
+        // measures wrapping alone
+    }
+}
@@ -0,0 +1,143 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.jay.voyager.core.concurrent.limit.FixedLimit;
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
+
+/**
+ * Cost of outbound bulkhead admission, the pooled-permit limiter vs the Resilience4j semaphore
+ * bulkhead with a per-call {@code AtomicBoolean} + lambda release gate it replaced.
+ *
+ * <p>Run with the GC profiler ({@code -prof gc}) and compare {@code gc.alloc.rate.norm}: the
+ * pooled admission ({@code pooledAcquireRelease}) is expected at 0 B/op, {@code execute} adds only
+ * the response wrapper every decorator in the chain pays for.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BulkheadAdmissionBenchmark {
+
+    private static final int MAX_CONCURRENT_CALLS = 50;
+
+    private PooledConcurrencyLimiter limiter;
+    private Bulkhead bulkhead;
+    private ClientHttpRequest decoratedRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new PooledConcurrencyLimiter(new FixedLimit(MAX_CONCURRENT_CALLS), MAX_CONCURRENT_CALLS);
+        bulkhead = Bulkhead.of(
+                "benchmark",
+                BulkheadConfig.custom().maxConcurrentCalls(MAX_CONCURRENT_CALLS).maxWaitDuration(Duration.ZERO).build()
+        );
+
+        var factory = new BulkheadRequestDecoratorFactory(
+                new StubRequestFactory(), limiter, Duration.ZERO, "benchmarkOutboundClient"
+        );
+        decoratedRequest = new BulkheadClientHttpRequestDecorator(new StubRequest(), factory);
+    }
+
+    @Benchmark
+    public long pooledAcquireRelease() {
+        PooledConcurrencyLimiter.PooledPermit permit = limiter.tryAcquire();
+        long stamp = permit.stamp();
+        permit.release(stamp);
+        return stamp;
+    }
+
+    @Benchmark
+    public boolean resilience4jAcquireRelease() {
+        if (!bulkhead.tryAcquirePermission()) {
+            return false;
+        }
+        AtomicBoolean permitHeld = new AtomicBoolean(true);
+        Runnable releaseOnceGate = () -> {
+            if (permitHeld.compareAndSet(true, false)) {
+                bulkhead.releasePermission();
+            }
+        };
+        releaseOnceGate.run();
+        return permitHeld.get();
+    }
+
+    @Benchmark
+    public HttpStatusCode execute() throws Exception {
+        try (ClientHttpResponse response = decoratedRequest.execute()) {
+            return response.getStatusCode();
+        }
+    }
+
+    // a call that costs nothing, so only the decorator is measured
+    private static final class StubRequest implements ClientHttpRequest {
+
+        private static final URI TARGET = URI.create("https://example.com/orders/1");
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final Map<String, Object> attributes = new HashMap<>();
+        private final ClientHttpResponse response = new StubResponse();
+
+        @Override public ClientHttpResponse execute() { return response; }
+
+        @Override public OutputStream getBody() { return OutputStream.nullOutputStream(); }
+
+        @Override public HttpMethod getMethod() { return HttpMethod.GET; }
+
+        @Override public URI getURI() { return TARGET; }
+
+        @Override public Map<String, Object> getAttributes() { return attributes; }
+
+        @Override public HttpHeaders getHeaders() { return headers; }
+    }
+
+    private static final class StubResponse implements ClientHttpResponse {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override public HttpStatusCode getStatusCode() { return HttpStatus.OK; }
+
+        @Override public String getStatusText() { return "OK"; }
+
+        @Override public HttpHeaders getHeaders() { return headers; }
+
+        @Override public InputStream getBody() { return new ByteArrayInputStream(new byte[0]); }
+
+        @Override public void close() {
+            // nothing behind it
+        }
+    }
+
+    private static final class StubRequestFactory implements ClientHttpRequestFactory {
+
+        @Override
+        public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+            return new StubRequest();
+        }
+    }
+}
@@ -8,9 +8,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.jay.voyager.api.v1.common.error.ErrorResponse;
 import com.jay.voyager.api.v1.common.error.openapi.StandardErrorResponses;
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobBatchGetRequest;
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobBatchGetResponse;
 import com.jay.voyager.api.v1.jobs.model.VoyagerJobResponse;
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobSubmitRequest;
 
 @Tag(
         name = "VoyagerJobApi",
@@ -20,7 +25,7 @@ public interface VoyagerJobApi {
 
     @Operation(
             summary = "GET /api/v1/jobs/{jobId}",
-            description = "Demonstrates API structure, identity extraction, and OpenAPI documentation."
+            description = "Returns the current state of a job."
     )
     @StandardErrorResponses
     @ApiResponses({
@@ -31,7 +36,102 @@ public interface VoyagerJobApi {
                             mediaType = "application/json",
                             schema = @Schema(implementation = VoyagerJobResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No job with this id",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
             )
     })
     VoyagerJobResponse get(String jobId);
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "GET /api/v1/jobs/{jobId}/events",
+            description = "Streams the job's status as Server-Sent Events instead of polling GET /api/v1/jobs/{jobId}. "
+                    + "Each 'status' event carries the job, the current status comes first and the stream ends "
+                    + "after a final status. A slow client may skip intermediate statuses, never the final one."
+    )
+    @StandardErrorResponses
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream of the job's status",
+                    content = @Content(
+                            mediaType = "text/event-stream",
+                            schema = @Schema(implementation = VoyagerJobResponse.Job.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No job with this id",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    SseEmitter events(String jobId);
+
+    @Operation(
+            summary = "POST /api/v1/jobs:batchGet",
+            description = "Returns the current state of up to 500 jobs in one request. "
+                    + "Unknown ids are reported as not found, not as an error."
+    )
+    @StandardErrorResponses
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "One result per requested id, in request order",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = VoyagerJobBatchGetResponse.class)
+                    )
+            )
+    })
+    VoyagerJobBatchGetResponse batchGet(VoyagerJobBatchGetRequest request);
+
+    @Operation(
+            summary = "POST /api/v1/jobs",
+            description = "Queues a job and returns immediately. Poll GET /api/v1/jobs/{jobId} for its status."
+    )
+    @StandardErrorResponses
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job queued",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = VoyagerJobResponse.class)
+                    )
+            )
+    })
+    VoyagerJobResponse submit(VoyagerJobSubmitRequest request);
+
+    @Operation(
+            summary = "POST /api/v1/jobs/{jobId}:cancel",
+            description = "Cancels a queued or running job. A finished job is returned unchanged."
+    )
+    @StandardErrorResponses
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Job state after cancellation",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = VoyagerJobResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No job with this id",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    VoyagerJobResponse cancel(String jobId);
+}
@@ -5,6 +5,7 @@ import java.util.function.Supplier;
 import com.jay.voyager.core.error.api.ApiException;
 import com.jay.voyager.core.error.api.ErrorType;
 import com.jay.voyager.core.error.dependency.DependencyCallException;
+import com.jay.voyager.core.error.dependency.Reason;
 
 public final class DependencyExceptionTranslator {
 
@@ -15,6 +16,10 @@ public final class DependencyExceptionTranslator {
             return supplier.get();
         } catch (DependencyCallException ex) {
             //FUTURE-NOTE: Map based on reason as reason enum grows.
+            if (ex.reason() == Reason.DEADLINE_EXCEEDED) {
+                // our own caller's budget ran out, not the dependency's fault
+                throw new ApiException(ErrorType.DEADLINE_EXCEEDED, ex);
+            }
             throw new ApiException(ErrorType.DEPENDENCY_UNAVAILABLE, ex);
         }
     }
@@ -0,0 +1,29 @@
+package com.jay.voyager.app.jobs.handler;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.jay.voyager.core.port.jobs.JobHandler;
+
+// Example job type, simulates long-running work. Add real job types as further JobHandler beans.
+// Only in the dev profile, elsewhere "demo" is an unknown job type.
+@Component
+@Profile("dev")
+public class DemoJobHandler implements JobHandler {
+
+    static final String TYPE = "demo";
+    private static final Duration WORK = Duration.ofSeconds(2);
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public void run(UUID jobId) throws InterruptedException {
+        Thread.sleep(WORK); // interruptible, so the job can be cancelled
+    }
+}
@@ -0,0 +1,46 @@
+package com.jay.voyager.app.jobs.service;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobPriority;
+import com.jay.voyager.core.error.api.ApiException;
+import com.jay.voyager.core.error.api.ErrorType;
+import com.jay.voyager.core.error.jobs.JobRejectedException;
+import com.jay.voyager.core.port.jobs.JobEngine;
+import com.jay.voyager.core.port.jobs.JobRepository;
+
+@Service
+public class JobCommandService {
+
+    private final JobEngine jobEngine;
+    private final JobRepository jobRepository;
+
+    public JobCommandService(JobEngine jobEngine, JobRepository jobRepository) {
+        this.jobEngine = jobEngine;
+        this.jobRepository = jobRepository;
+    }
+
+    public Job submit(String type, JobPriority priority) {
+        try {
+            return jobEngine.submit(type, priority);
+        } catch (JobRejectedException ex) {
+            throw switch (ex.reason()) {
+                case UNKNOWN_TYPE -> new ApiException(ErrorType.BAD_REQUEST, "Unknown job type", ex);
+                case QUEUE_FULL -> new ApiException(ErrorType.TOO_MANY_REQUESTS, ex);
+                case SHUTTING_DOWN -> new ApiException(ErrorType.DEPENDENCY_UNAVAILABLE, ex);
+            };
+        }
+    }
+
+    // cancelling a finished job is a no-op, the caller gets its final state
+    public Job cancel(UUID jobId) {
+        if (jobRepository.find(jobId).isEmpty()) {
+            throw new ApiException(ErrorType.NOT_FOUND, "Job not found");
+        }
+        jobEngine.cancel(jobId);
+        return jobRepository.find(jobId).orElseThrow();
+    }
+}
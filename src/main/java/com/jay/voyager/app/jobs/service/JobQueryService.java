@@ -0,0 +1,32 @@
+package com.jay.voyager.app.jobs.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.error.api.ApiException;
+import com.jay.voyager.core.error.api.ErrorType;
+import com.jay.voyager.core.port.jobs.JobRepository;
+
+@Service
+public class JobQueryService {
+
+    private final JobRepository jobRepository;
+
+    public JobQueryService(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    public Job get(UUID jobId) {
+        return jobRepository.find(jobId)
+                .orElseThrow(() -> new ApiException(ErrorType.NOT_FOUND, "Job not found"));
+    }
+
+    // unknown ids are missing from the result, not an error
+    public Map<UUID, Job> getAll(Collection<UUID> jobIds) {
+        return jobRepository.findAll(jobIds);
+    }
+}
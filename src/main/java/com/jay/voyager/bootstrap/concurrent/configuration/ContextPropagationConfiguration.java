@@ -3,7 +3,10 @@ package com.jay.voyager.bootstrap.concurrent.configuration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.jay.voyager.core.port.context.identity.IdentityBindingModeProvider;
+import com.jay.voyager.core.port.observability.mdc.MdcPropagationModeProvider;
 import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
+import com.jay.voyager.infra.concurrent.propagation.deadline.DeadlineContextPropagator;
 import com.jay.voyager.infra.concurrent.propagation.identity.IdentityContextPropagator;
 import com.jay.voyager.infra.concurrent.propagation.mdc.MdcContextPropagator;
 
@@ -11,12 +14,17 @@ import com.jay.voyager.infra.concurrent.propagation.mdc.MdcContextPropagator;
 public class ContextPropagationConfiguration {
 
     @Bean
-    public ContextPropagator identityContextPropagator() {
-        return new IdentityContextPropagator();
+    public ContextPropagator identityContextPropagator(IdentityBindingModeProvider identityBindingModeProvider) {
+        return new IdentityContextPropagator(identityBindingModeProvider.identityBindingMode());
     }
 
     @Bean
-    public ContextPropagator mdcContextPropagator() {
-        return new MdcContextPropagator();
+    public ContextPropagator deadlineContextPropagator() {
+        return new DeadlineContextPropagator();
+    }
+
+    @Bean
+    public ContextPropagator mdcContextPropagator(MdcPropagationModeProvider mdcPropagationModeProvider) {
+        return new MdcContextPropagator(mdcPropagationModeProvider.mdcPropagationMode());
     }
 }
@@ -8,7 +8,9 @@ import java.util.concurrent.ThreadFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.jay.voyager.core.port.concurrent.fanout.FanOut;
 import com.jay.voyager.infra.concurrent.PlatformVirtualThreadFactory;
+import com.jay.voyager.infra.concurrent.fanout.VirtualThreadFanOut;
 import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
 
 @Configuration
@@ -20,11 +22,15 @@ public class VirtualThreadsConfiguration {
     }
 
     /*
-     * FUTURE-NOTE: When real async orchestration use cases show up, prefer CompletableFuture with this
-     *  executor (do not use the ForkJoin common pool). Choose per-use-case policies such as fail-fast,
-     *  join-all, or partial results with explicit exception handling. If async patterns repeat across
-     *  services, consider introducing a small infra helper or port at that time.
+     * Parallel calls from app orchestration go through FanOut (join-all, first-success, partial results
+     * with a deadline). Prefer it over CompletableFuture chains on this executor, and never use the
+     * ForkJoin common pool.
      */
+    @Bean
+    FanOut fanOut(ThreadFactory platformVirtualThreadFactory) {
+        return new VirtualThreadFanOut(platformVirtualThreadFactory);
+    }
+
     @Bean(name = "platformVirtualThreadExecutorService", destroyMethod = "close")
     ExecutorService platformVirtualThreadExecutorService(ThreadFactory platformVirtualThreadFactory) {
         return Executors.newThreadPerTaskExecutor(platformVirtualThreadFactory);
@@ -0,0 +1,39 @@
+package com.jay.voyager.bootstrap.concurrent.limit.binding;
+
+import com.jay.voyager.bootstrap.concurrent.limit.properties.LimitProperties;
+import com.jay.voyager.core.concurrent.limit.LimitPolicy;
+
+// maps bound LimitProperties into the core LimitPolicy model, shared by inbound and outbound resolvers
+public final class LimitPolicyMapper {
+
+    private LimitPolicyMapper() {}
+
+    public static LimitPolicy map(LimitProperties props) {
+        var propsGradient = props.gradient();
+        var propsAimd = props.aimd();
+
+        return new LimitPolicy(
+                mapAlgorithm(props.algorithm()),
+                props.initialLimit(),
+                props.minLimit(),
+                props.maxLimit(),
+                new LimitPolicy.Gradient(
+                        propsGradient.smoothing(),
+                        propsGradient.rttTolerance(),
+                        propsGradient.longWindow()
+                ),
+                new LimitPolicy.Aimd(
+                        propsAimd.backoffRatio(),
+                        propsAimd.timeout()
+                )
+        );
+    }
+
+    private static LimitPolicy.Algorithm mapAlgorithm(LimitProperties.Algorithm propsAlgorithm) {
+        return switch (propsAlgorithm) {
+            case FIXED -> LimitPolicy.Algorithm.FIXED;
+            case AIMD -> LimitPolicy.Algorithm.AIMD;
+            case GRADIENT -> LimitPolicy.Algorithm.GRADIENT;
+        };
+    }
+}
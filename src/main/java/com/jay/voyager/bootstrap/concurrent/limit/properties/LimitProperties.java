@@ -0,0 +1,95 @@
+package com.jay.voyager.bootstrap.concurrent.limit.properties;
+
+import java.time.Duration;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Concurrency limit algorithm configuration.
+ *
+ * <p>
+ * Bound as a nested type by inbound and outbound properties. {@code algorithm} selects which
+ * nested section is read; the others may be omitted. Range checks (for example
+ * {@code minLimit <= initialLimit <= maxLimit}) are enforced when the algorithm is built so the
+ * error names the exact bound that was violated.
+ * </p>
+ *
+ * <p>
+ * Where it is used as a partial per-client override, missing fields are resolved through the
+ * {@code *OrDefault(...)} helpers, as with the other outbound properties.
+ * </p>
+ */
+public record LimitProperties(
+        @NotNull Algorithm algorithm,
+        @NotNull Integer initialLimit,
+        @NotNull Integer minLimit,
+        @NotNull Integer maxLimit,
+        @NotNull @Valid Gradient gradient,
+        @NotNull @Valid Aimd aimd
+) {
+    public Algorithm algorithmOrDefault(LimitProperties defaults) {
+        return algorithm == null ? defaults.algorithm() : algorithm;
+    }
+
+    public Integer initialLimitOrDefault(LimitProperties defaults) {
+        return initialLimit == null ? defaults.initialLimit() : initialLimit;
+    }
+
+    public Integer minLimitOrDefault(LimitProperties defaults) {
+        return minLimit == null ? defaults.minLimit() : minLimit;
+    }
+
+    public Integer maxLimitOrDefault(LimitProperties defaults) {
+        return maxLimit == null ? defaults.maxLimit() : maxLimit;
+    }
+
+    public Gradient gradientOrDefault(LimitProperties defaults) {
+        return gradient == null ? defaults.gradient() : gradient;
+    }
+
+    public Aimd aimdOrDefault(LimitProperties defaults) {
+        return aimd == null ? defaults.aimd() : aimd;
+    }
+
+    public enum Algorithm {
+        FIXED,
+        AIMD,
+        GRADIENT
+    }
+
+    public record Gradient(
+            // weight given to each new limit estimate, (0, 1]
+            @NotNull Double smoothing,
+            // how much RTT may grow over the long-term baseline before the limit shrinks, >= 1.0
+            @NotNull Double rttTolerance,
+            // number of samples in the long-term RTT moving average
+            @NotNull Integer longWindow
+    ) {
+        public Double smoothingOrDefault(Gradient defaults) {
+            return smoothing == null ? defaults.smoothing() : smoothing;
+        }
+
+        public Double rttToleranceOrDefault(Gradient defaults) {
+            return rttTolerance == null ? defaults.rttTolerance() : rttTolerance;
+        }
+
+        public Integer longWindowOrDefault(Gradient defaults) {
+            return longWindow == null ? defaults.longWindow() : longWindow;
+        }
+    }
+
+    public record Aimd(
+            // multiplier applied on drop/timeout, (0, 1)
+            @NotNull Double backoffRatio,
+            // samples slower than this count as a drop
+            @NotNull Duration timeout
+    ) {
+        public Double backoffRatioOrDefault(Aimd defaults) {
+            return backoffRatio == null ? defaults.backoffRatio() : backoffRatio;
+        }
+
+        public Duration timeoutOrDefault(Aimd defaults) {
+            return timeout == null ? defaults.timeout() : timeout;
+        }
+    }
+}
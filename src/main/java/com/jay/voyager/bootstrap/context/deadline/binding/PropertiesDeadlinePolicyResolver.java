@@ -0,0 +1,42 @@
+package com.jay.voyager.bootstrap.context.deadline.binding;
+
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+
+import com.jay.voyager.bootstrap.context.deadline.properties.DeadlineContextProperties;
+import com.jay.voyager.core.context.deadline.DeadlinePolicy;
+import com.jay.voyager.core.port.context.deadline.DeadlinePolicyProvider;
+
+@Component
+public class PropertiesDeadlinePolicyResolver implements DeadlinePolicyProvider {
+
+    private final DeadlinePolicy deadlinePolicy;
+
+    public PropertiesDeadlinePolicyResolver(DeadlineContextProperties props) {
+        this.deadlinePolicy = resolve(props);
+    }
+
+    @Override
+    public DeadlinePolicy deadlinePolicy() {
+        return deadlinePolicy;
+    }
+
+    private static DeadlinePolicy resolve(DeadlineContextProperties props) {
+        var routeRules = props.routes()
+                .stream()
+                .map(route -> new DeadlinePolicy.RouteRule(
+                        route.pathPattern(),
+                        route.method(),
+                        route.timeout()
+                ))
+                .toList();
+
+        return new DeadlinePolicy(
+                props.header().trim().toLowerCase(Locale.ROOT), //normalize like the identity headers
+                props.defaultTimeout(),
+                props.maxTimeout(),
+                routeRules
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.jay.voyager.bootstrap.context.deadline.properties;
+
+import java.time.Duration;
+import java.util.List;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Request deadline configuration.
+ *
+ * <p>
+ * {@code header} carries the caller's remaining budget in milliseconds, capped at {@code maxTimeout}.
+ * Requests without it get the budget of the first matching entry in {@code routes}, then
+ * {@code defaultTimeout} ({@code 0} = no deadline). The same header is sent on outbound calls with
+ * the budget left at that point.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "platform.context.deadline")
+@Validated
+public record DeadlineContextProperties(
+        @NotBlank String header,
+        @NotNull Duration defaultTimeout,
+        @NotNull Duration maxTimeout,
+        @NotNull List<@Valid Route> routes
+) {
+    public record Route(
+            @NotBlank String pathPattern,
+            String method, // optional, any method when omitted
+            @NotNull Duration timeout
+    ) {}
+}
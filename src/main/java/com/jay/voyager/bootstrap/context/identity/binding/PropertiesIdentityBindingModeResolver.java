@@ -0,0 +1,25 @@
+package com.jay.voyager.bootstrap.context.identity.binding;
+
+import org.springframework.stereotype.Component;
+
+import com.jay.voyager.bootstrap.context.identity.properties.IdentityContextProperties;
+import com.jay.voyager.core.context.identity.IdentityBindingMode;
+import com.jay.voyager.core.port.context.identity.IdentityBindingModeProvider;
+
+@Component
+public class PropertiesIdentityBindingModeResolver implements IdentityBindingModeProvider {
+
+    private final IdentityBindingMode identityBindingMode;
+
+    public PropertiesIdentityBindingModeResolver(IdentityContextProperties props) {
+        this.identityBindingMode = switch (props.binding()) {
+            case THREAD_LOCAL -> IdentityBindingMode.THREAD_LOCAL;
+            case SCOPED_VALUE -> IdentityBindingMode.SCOPED_VALUE;
+        };
+    }
+
+    @Override
+    public IdentityBindingMode identityBindingMode() {
+        return identityBindingMode;
+    }
+}
@@ -0,0 +1,25 @@
+package com.jay.voyager.bootstrap.context.identity.properties;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Identity context configuration.
+ *
+ * <p>
+ * {@code binding} selects how inbound boundaries and task propagators bind identity. Readers of
+ * the identity context see both bindings, so switching modes requires no application changes.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "platform.context.identity")
+@Validated
+public record IdentityContextProperties(
+        @NotNull Binding binding
+) {
+    public enum Binding {
+        THREAD_LOCAL,
+        SCOPED_VALUE
+    }
+}
@@ -0,0 +1,25 @@
+package com.jay.voyager.bootstrap.context.mdc.binding;
+
+import org.springframework.stereotype.Component;
+
+import com.jay.voyager.bootstrap.context.mdc.properties.MdcContextProperties;
+import com.jay.voyager.core.observability.mdc.MdcPropagationMode;
+import com.jay.voyager.core.port.observability.mdc.MdcPropagationModeProvider;
+
+@Component
+public class PropertiesMdcPropagationModeResolver implements MdcPropagationModeProvider {
+
+    private final MdcPropagationMode mdcPropagationMode;
+
+    public PropertiesMdcPropagationModeResolver(MdcContextProperties props) {
+        this.mdcPropagationMode = switch (props.propagation()) {
+            case COPY -> MdcPropagationMode.COPY;
+            case SNAPSHOT -> MdcPropagationMode.SNAPSHOT;
+        };
+    }
+
+    @Override
+    public MdcPropagationMode mdcPropagationMode() {
+        return mdcPropagationMode;
+    }
+}
@@ -0,0 +1,25 @@
+package com.jay.voyager.bootstrap.context.mdc.properties;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * MDC propagation configuration.
+ *
+ * <p>
+ * {@code propagation} selects how the MDC is carried into tasks run on other threads. MDC field
+ * names are configured separately under {@code platform.observability.mdc}.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "platform.context.mdc")
+@Validated
+public record MdcContextProperties(
+        @NotNull Propagation propagation
+) {
+    public enum Propagation {
+        COPY,
+        SNAPSHOT
+    }
+}
@@ -0,0 +1,84 @@
+package com.jay.voyager.bootstrap.inbound.admission.binding;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.jay.voyager.bootstrap.concurrent.limit.binding.LimitPolicyMapper;
+import com.jay.voyager.bootstrap.inbound.admission.properties.InboundAdmissionProperties;
+import com.jay.voyager.core.inbound.admission.policy.AdmissionClass;
+import com.jay.voyager.core.inbound.admission.policy.AdmissionPolicy;
+import com.jay.voyager.core.port.inbound.admission.AdmissionPolicyProvider;
+
+@Component
+public class PropertiesAdmissionPolicyResolver implements AdmissionPolicyProvider {
+
+    private final AdmissionPolicy admissionPolicy;
+
+    public PropertiesAdmissionPolicyResolver(InboundAdmissionProperties props) {
+        this.admissionPolicy = resolve(props);
+    }
+
+    @Override
+    public AdmissionPolicy admissionPolicy() {
+        return admissionPolicy;
+    }
+
+    private static AdmissionPolicy resolve(InboundAdmissionProperties props) {
+        var propsClasses = props.classes();
+
+        Map<AdmissionClass, AdmissionPolicy.ClassShare> classShares = new EnumMap<>(AdmissionClass.class);
+        classShares.put(AdmissionClass.CRITICAL, mapClassShare(propsClasses.critical()));
+        classShares.put(AdmissionClass.INTERACTIVE, mapClassShare(propsClasses.interactive()));
+        classShares.put(AdmissionClass.BEST_EFFORT, mapClassShare(propsClasses.bestEffort()));
+
+        var routeRules = props.routes()
+                .stream()
+                .map(route -> new AdmissionPolicy.RouteRule(
+                        route.pathPattern(),
+                        route.method(),
+                        mapAdmissionClass(route.admissionClass())
+                ))
+                .toList();
+
+        var propsFairShare = props.fairShare();
+        var propsQueue = props.queue();
+        var propsRejection = props.rejection();
+
+        return new AdmissionPolicy(
+                LimitPolicyMapper.map(props.limit()),
+                mapAdmissionClass(props.defaultClass()),
+                props.classHeader(),
+                Map.copyOf(classShares),
+                routeRules,
+                new AdmissionPolicy.FairSharePolicy(
+                        propsFairShare.enabled(),
+                        propsFairShare.maxTenantShare(),
+                        propsFairShare.stripes()
+                ),
+                new AdmissionPolicy.QueuePolicy(
+                        propsQueue.enabled(),
+                        propsQueue.target(),
+                        propsQueue.interval(),
+                        propsQueue.capacity()
+                ),
+                new AdmissionPolicy.RejectionPolicy(
+                        propsRejection.maxRetryAfter(),
+                        propsRejection.shedReasonHeaderEnabled()
+                )
+        );
+    }
+
+    private static AdmissionPolicy.ClassShare mapClassShare(InboundAdmissionProperties.ClassShare propsShare) {
+        return new AdmissionPolicy.ClassShare(propsShare.reservedShare(), propsShare.maxShare());
+    }
+
+    private static AdmissionClass mapAdmissionClass(InboundAdmissionProperties.AdmissionClass propsClass) {
+        return switch (propsClass) {
+            case CRITICAL -> AdmissionClass.CRITICAL;
+            case INTERACTIVE -> AdmissionClass.INTERACTIVE;
+            case BEST_EFFORT -> AdmissionClass.BEST_EFFORT;
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package com.jay.voyager.bootstrap.inbound.admission.properties;
+
+import java.time.Duration;
+import java.util.List;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import com.jay.voyager.bootstrap.concurrent.limit.properties.LimitProperties;
+
+/**
+ * Inbound admission control configuration.
+ *
+ * <p>
+ * {@code limit} sizes the total permit pool. {@code classes} splits that pool between admission
+ * classes as fractions of the live limit, and {@code routes} assigns requests to a class. Requests
+ * matching no route fall back to {@code defaultClass}. {@code fairShare} additionally caps how much
+ * of the limit a single tenant ({@code Identity.userId()}) may hold. {@code queue} optionally lets
+ * requests wait briefly for a permit instead of being rejected immediately, and {@code rejection}
+ * shapes the load-shedding hints sent back with a 429.
+ * </p>
+ *
+ * <p>
+ * A reserved share is never lent to another class, so every class with a reservation must be reachable:
+ * the default class, a route's class, or below one of those, since the class header may only demote.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "platform.inbound.admission")
+@Validated
+public record InboundAdmissionProperties(
+        @NotNull @Valid LimitProperties limit,
+        @NotNull AdmissionClass defaultClass,
+        @NotBlank String classHeader,
+        @NotNull @Valid Classes classes,
+        @NotNull List<@Valid Route> routes,
+        @NotNull @Valid FairShare fairShare,
+        @NotNull @Valid Queue queue,
+        @NotNull @Valid Rejection rejection
+) {
+    @AssertTrue(message = "every admission class with a reserved share must be reachable from a route "
+            + "or the default class")
+    public boolean isEveryReservedClassReachable() {
+        if (defaultClass == null || classes == null || routes == null) {
+            return true; // reported by @NotNull
+        }
+
+        // the class header only ever moves a request towards BEST_EFFORT
+        int highestReachable = defaultClass.ordinal();
+        for (Route route : routes) {
+            if (route.admissionClass() != null) {
+                highestReachable = Math.min(highestReachable, route.admissionClass().ordinal());
+            }
+        }
+
+        for (AdmissionClass admissionClass : AdmissionClass.values()) {
+            ClassShare share = classes.share(admissionClass);
+            if (admissionClass.ordinal() < highestReachable
+                    && share != null && share.reservedShare() != null && share.reservedShare() > 0.0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public enum AdmissionClass {
+        CRITICAL,
+        INTERACTIVE,
+        BEST_EFFORT
+    }
+
+    public record Classes(
+            @NotNull @Valid ClassShare critical,
+            @NotNull @Valid ClassShare interactive,
+            @NotNull @Valid ClassShare bestEffort
+    ) {
+        ClassShare share(AdmissionClass admissionClass) {
+            return switch (admissionClass) {
+                case CRITICAL -> critical;
+                case INTERACTIVE -> interactive;
+                case BEST_EFFORT -> bestEffort;
+            };
+        }
+    }
+
+    public record ClassShare(
+            // fraction of the limit kept for this class, other classes cannot borrow it
+            @NotNull Double reservedShare,
+            // fraction of the limit this class may hold, reserved + borrowed
+            @NotNull Double maxShare
+    ) {}
+
+    public record FairShare(
+            @NotNull Boolean enabled,
+            // fraction of the limit one tenant may hold before it has to borrow idle capacity
+            @NotNull Double maxTenantShare,
+            // number of striped in-flight counters, bounds memory regardless of tenant count
+            @NotNull Integer stripes
+    ) {}
+
+    public record Queue(
+            @NotNull Boolean enabled,
+            // max wait once a standing queue is detected
+            @NotNull Duration target,
+            // max wait while the queue keeps draining, and the standing queue detection window
+            @NotNull Duration interval,
+            // max parked requests
+            @NotNull Integer capacity
+    ) {}
+
+    public record Rejection(
+            // upper bound for the computed Retry-After
+            @NotNull Duration maxRetryAfter,
+            // whether to tell clients which limit they hit via X-Load-Shed-Reason
+            @NotNull Boolean shedReasonHeaderEnabled
+    ) {}
+
+    public record Route(
+            @NotBlank String pathPattern,
+            String method, // optional, any method when omitted
+            @NotNull AdmissionClass admissionClass
+    ) {}
+}
@@ -0,0 +1,65 @@
+package com.jay.voyager.bootstrap.jobs.configuration;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jay.voyager.bootstrap.jobs.properties.JobEngineProperties;
+import com.jay.voyager.core.port.jobs.JobEngine;
+import com.jay.voyager.core.port.jobs.JobHandler;
+import com.jay.voyager.core.port.jobs.JobRepository;
+import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
+import com.jay.voyager.infra.concurrent.propagation.deadline.DeadlineContextPropagator;
+import com.jay.voyager.infra.jobs.engine.JobTypeLimits;
+import com.jay.voyager.infra.jobs.engine.VirtualThreadJobEngine;
+
+@Configuration
+public class JobEngineConfiguration {
+
+    /*
+     * Jobs are started from whichever thread frees their slot, the submitting request or the job that
+     * just finished, so their threads must not inherit that thread's context like the platform virtual
+     * thread executor does. The engine applies the submitter's context instead.
+     */
+    @Bean(name = "jobExecutorService", destroyMethod = "close")
+    ExecutorService jobExecutorService() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("job-", 0).factory());
+    }
+
+    // closed before the executor it depends on, so running jobs are cancelled instead of awaited
+    @Bean(destroyMethod = "close")
+    public JobEngine jobEngine(
+            JobRepository jobRepository,
+            @Qualifier("jobExecutorService") ExecutorService executor,
+            List<ContextPropagator> propagators,
+            List<JobHandler> handlers,
+            JobEngineProperties properties
+    ) {
+        Map<String, JobTypeLimits> limits = new HashMap<>();
+        properties.types().forEach((type, typeLimits) -> limits.put(type, toLimits(typeLimits)));
+
+        // a job outlives the request that submitted it, the request's deadline would fail its calls
+        List<ContextPropagator> submitterContext = propagators.stream()
+                .filter(propagator -> !(propagator instanceof DeadlineContextPropagator))
+                .toList();
+
+        return new VirtualThreadJobEngine(
+                jobRepository,
+                executor,
+                submitterContext,
+                List.copyOf(handlers),
+                limits,
+                toLimits(properties.defaultLimits())
+        );
+    }
+
+    private static JobTypeLimits toLimits(JobEngineProperties.Limits limits) {
+        return new JobTypeLimits(limits.maxConcurrency(), limits.maxQueued());
+    }
+}
@@ -0,0 +1,51 @@
+package com.jay.voyager.bootstrap.jobs.configuration;
+
+import java.util.concurrent.ExecutorService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jay.voyager.bootstrap.jobs.properties.JobEventsProperties;
+import com.jay.voyager.core.concurrent.limit.ConcurrencyLimiter;
+import com.jay.voyager.core.concurrent.limit.FixedLimit;
+import com.jay.voyager.core.concurrent.limit.SimpleConcurrencyLimiter;
+import com.jay.voyager.infra.concurrent.limit.metrics.ConcurrencyLimiterMetrics;
+import com.jay.voyager.infra.jobs.events.JobEventHub;
+import com.jay.voyager.web.mvc.controller.v1.mapping.VoyagerJobResponseMapper;
+import com.jay.voyager.web.mvc.sse.JobStatusStreams;
+
+@Configuration
+public class JobEventsConfiguration {
+
+    private static final String STREAM_LIMITER_NAME = "jobEventStreams";
+
+    @Bean
+    public JobEventHub jobEventHub() {
+        return new JobEventHub();
+    }
+
+    // closed before the executor it depends on, so open streams are ended instead of awaited
+    @Bean(destroyMethod = "close")
+    public JobStatusStreams jobStatusStreams(
+            JobEventHub jobEventHub,
+            @Qualifier("platformVirtualThreadExecutorService") ExecutorService executor,
+            VoyagerJobResponseMapper responseMapper,
+            JobEventsProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        // separate from the inbound bulkhead, a stream holds its permit for as long as it is open
+        ConcurrencyLimiter connections = new SimpleConcurrencyLimiter(new FixedLimit(properties.maxConnections()));
+        new ConcurrencyLimiterMetrics(STREAM_LIMITER_NAME, connections).bindTo(meterRegistry);
+
+        return new JobStatusStreams(
+                jobEventHub,
+                connections,
+                executor,
+                responseMapper,
+                properties.heartbeatInterval(),
+                properties.maxDuration()
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.jay.voyager.bootstrap.jobs.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jay.voyager.bootstrap.jobs.properties.JobStoreProperties;
+import com.jay.voyager.core.port.jobs.JobRepository;
+import com.jay.voyager.infra.jobs.events.JobEventHub;
+import com.jay.voyager.infra.jobs.events.PublishingJobRepository;
+import com.jay.voyager.infra.jobs.store.DurableJobRepository;
+import com.jay.voyager.infra.jobs.store.InMemoryJobRepository;
+import com.jay.voyager.infra.jobs.store.JobRetentionSweeper;
+
+@Configuration
+public class JobRepositoryConfiguration {
+
+    // closed by Spring on shutdown (AutoCloseable), which syncs the log of a durable repository
+    @Bean
+    public JobRepository jobRepository(JobStoreProperties properties, JobEventHub jobEventHub) {
+        return new PublishingJobRepository(store(properties), jobEventHub);
+    }
+
+    @Bean(destroyMethod = "close")
+    public JobRetentionSweeper jobRetentionSweeper(JobRepository jobRepository, JobStoreProperties properties) {
+        JobStoreProperties.Retention retention = properties.retention();
+        var sweeper = new JobRetentionSweeper(
+                jobRepository,
+                retention.ttl(),
+                retention.maxJobs(),
+                retention.sweepInterval()
+        );
+        sweeper.start();
+        return sweeper;
+    }
+
+    private static JobRepository store(JobStoreProperties properties) {
+        var index = new InMemoryJobRepository(properties.segments(), properties.expectedJobs());
+
+        JobStoreProperties.Wal wal = properties.wal();
+        if (!wal.enabled()) {
+            return index;
+        }
+
+        var repository = new DurableJobRepository(
+                index,
+                wal.directory(),
+                Math.toIntExact(wal.segmentSize().toBytes()),
+                wal.compactionInterval()
+        );
+        repository.start();
+        return repository;
+    }
+}
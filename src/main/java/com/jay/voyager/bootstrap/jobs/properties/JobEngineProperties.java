@@ -0,0 +1,30 @@
+package com.jay.voyager.bootstrap.jobs.properties;
+
+import java.util.Map;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Job engine configuration.
+ *
+ * <p>
+ * Every job type runs in its own lane: {@code maxConcurrency} jobs of the type run at once and up to
+ * {@code maxQueued} wait, beyond that submissions are rejected with a 429. {@code types} overrides
+ * {@code defaultLimits} per job type.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "voyager.jobs.engine")
+@Validated
+public record JobEngineProperties(
+        @NotNull @Valid Limits defaultLimits,
+        @NotNull Map<String, @Valid Limits> types
+) {
+    public record Limits(
+            @NotNull @Min(1) Integer maxConcurrency,
+            @NotNull @Min(0) Integer maxQueued
+    ) {}
+}
@@ -0,0 +1,25 @@
+package com.jay.voyager.bootstrap.jobs.properties;
+
+import java.time.Duration;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Job status event streams (Server-Sent Events) configuration.
+ *
+ * <p>
+ * Open streams are not counted by the inbound bulkhead, {@code maxConnections} bounds them instead,
+ * beyond that new streams are rejected with a 429. An idle stream sends a heartbeat every
+ * {@code heartbeatInterval}, and is ended after {@code maxDuration} for the client to reconnect.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "voyager.jobs.events")
+@Validated
+public record JobEventsProperties(
+        @NotNull @Min(1) Integer maxConnections,
+        @NotNull Duration heartbeatInterval,
+        @NotNull Duration maxDuration
+) {}
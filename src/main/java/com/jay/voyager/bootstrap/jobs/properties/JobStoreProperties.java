@@ -0,0 +1,56 @@
+package com.jay.voyager.bootstrap.jobs.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * In-memory job store configuration.
+ *
+ * <p>
+ * {@code expectedJobs} presizes the index so it does not resize while filling up, {@code segments}
+ * is the number of independently locked index segments and bounds write contention. {@code wal}
+ * makes the store durable by logging every state change to local disk. It is off unless a profile
+ * turns it on with an absolute {@code directory}, there is no default location. {@code retention}
+ * bounds the store by evicting finished jobs.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "voyager.jobs.store")
+@Validated
+public record JobStoreProperties(
+        @NotNull @Min(0) Integer expectedJobs,
+        @NotNull @Min(1) Integer segments,
+        @NotNull @Valid Wal wal,
+        @NotNull @Valid Retention retention
+) {
+    public record Wal(
+            @NotNull Boolean enabled,
+            // absolute, must be on a persistent volume to survive a pod restart
+            Path directory,
+            // size of each memory-mapped log file
+            @NotNull DataSize segmentSize,
+            // how often sealed log files are folded into a snapshot
+            @NotNull Duration compactionInterval
+    ) {
+        @AssertTrue(message = "an enabled write-ahead log needs an absolute directory")
+        public boolean isDirectoryValid() {
+            return !Boolean.TRUE.equals(enabled) || directory != null && directory.isAbsolute();
+        }
+    }
+
+    public record Retention(
+            // finished jobs requested longer ago are evicted
+            @NotNull Duration ttl,
+            // oldest finished jobs are evicted beyond this, unfinished ones are always kept
+            @NotNull @Min(0) Integer maxJobs,
+            // each sweep scans the whole index
+            @NotNull Duration sweepInterval
+    ) {}
+}
@@ -0,0 +1,38 @@
+package com.jay.voyager.bootstrap.observability.accesslog.binding;
+
+import org.springframework.stereotype.Component;
+
+import com.jay.voyager.bootstrap.observability.properties.ObservabilityProperties;
+import com.jay.voyager.core.observability.accesslog.AccessLogPolicy;
+import com.jay.voyager.core.port.observability.accesslog.AccessLogPolicyProvider;
+
+@Component
+public class PropertiesAccessLogPolicyResolver implements AccessLogPolicyProvider {
+
+    private final AccessLogPolicy accessLogPolicy;
+
+    public PropertiesAccessLogPolicyResolver(ObservabilityProperties obsProps) {
+        var propsAccessLog = obsProps.accessLog();
+
+        this.accessLogPolicy = new AccessLogPolicy(
+                propsAccessLog.bufferCapacity(),
+                propsAccessLog.batchSize(),
+                propsAccessLog.flushInterval(),
+                mapOverflowPolicy(propsAccessLog.overflowPolicy()),
+                propsAccessLog.sampleThreshold(),
+                propsAccessLog.sampleRate()
+        );
+    }
+
+    @Override
+    public AccessLogPolicy accessLogPolicy() {
+        return accessLogPolicy;
+    }
+
+    private static AccessLogPolicy.OverflowPolicy mapOverflowPolicy(ObservabilityProperties.OverflowPolicy propsPolicy) {
+        return switch (propsPolicy) {
+            case DROP -> AccessLogPolicy.OverflowPolicy.DROP;
+            case SAMPLE -> AccessLogPolicy.OverflowPolicy.SAMPLE;
+        };
+    }
+}
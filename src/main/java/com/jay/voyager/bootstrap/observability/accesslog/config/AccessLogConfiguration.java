@@ -0,0 +1,40 @@
+package com.jay.voyager.bootstrap.observability.accesslog.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jay.voyager.core.port.observability.accesslog.AccessLogPolicyProvider;
+import com.jay.voyager.core.port.observability.mdc.MdcFieldNamesProvider;
+import com.jay.voyager.infra.observability.accesslog.AsyncAccessLogWriter;
+import com.jay.voyager.infra.observability.accesslog.LoggerAccessLogEmitter;
+import com.jay.voyager.infra.observability.accesslog.metrics.AccessLogMetrics;
+import com.jay.voyager.web.servlet.filter.MdcFilter;
+
+@Configuration
+public class AccessLogConfiguration {
+
+    // closed by Spring on shutdown (AutoCloseable), which writes whatever is still buffered
+    @Bean
+    public AsyncAccessLogWriter accessLogWriter(
+            AccessLogPolicyProvider accessLogPolicyProvider,
+            MdcFieldNamesProvider mdcFieldNamesProvider
+    ) {
+        // logged under the MdcFilter logger as before, logback-spring.xml gives it its own appender per profile
+        LoggerAccessLogEmitter emitter = new LoggerAccessLogEmitter(
+                mdcFieldNamesProvider.mdcFieldNames(),
+                LoggerFactory.getLogger(MdcFilter.class)
+        );
+        AsyncAccessLogWriter writer = new AsyncAccessLogWriter(accessLogPolicyProvider.accessLogPolicy(), emitter);
+        writer.start();
+        return writer;
+    }
+
+    @Bean
+    public AccessLogMetrics accessLogMetrics(AsyncAccessLogWriter accessLogWriter, MeterRegistry meterRegistry) {
+        AccessLogMetrics metrics = new AccessLogMetrics(accessLogWriter);
+        metrics.bindTo(meterRegistry);
+        return metrics;
+    }
+}
@@ -1,8 +1,6 @@
 package com.jay.voyager.bootstrap.observability.metrics.configuration;
 
-import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
-import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
 import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
@@ -19,7 +17,6 @@ import org.springframework.context.annotation.Configuration;
  * <p>
  * This configuration explicitly bridges:
  * <ul>
- *   <li>{@link io.github.resilience4j.bulkhead.BulkheadRegistry}</li>
  *   <li>{@link io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry}</li>
  * </ul>
  * to the application {@link io.micrometer.core.instrument.MeterRegistry}
@@ -47,16 +44,6 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class Resilience4jMicrometerBindingConfiguration {
 
-    @Bean
-    public TaggedBulkheadMetrics taggedBulkheadMetrics(
-            BulkheadRegistry bulkheadRegistry,
-            MeterRegistry meterRegistry
-    ) {
-        TaggedBulkheadMetrics metrics = TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
-        metrics.bindTo(meterRegistry);
-        return metrics;
-    }
-
     @Bean
     public TaggedCircuitBreakerMetrics taggedCircuitBreakerMetrics(
             CircuitBreakerRegistry circuitBreakerRegistry,
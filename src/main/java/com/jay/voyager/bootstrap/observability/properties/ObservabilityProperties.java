@@ -1,5 +1,6 @@
 package com.jay.voyager.bootstrap.observability.properties;
 
+import java.time.Duration;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -10,8 +11,14 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties(prefix = "platform.observability")
 @Validated
 public record ObservabilityProperties(
-        @NotNull Mdc mdc
+        @NotNull Mdc mdc,
+        @NotNull @Valid AccessLog accessLog
 ) {
+    public enum OverflowPolicy {
+        DROP,
+        SAMPLE
+    }
+
     public record Mdc(
             @NotBlank String userId,
             @NotBlank String requestId,
@@ -26,4 +33,19 @@ public record ObservabilityProperties(
                 @NotBlank String http
         ) {}
     }
+
+    public record AccessLog(
+            // in-memory records between request threads and the writer, rounded up to a power of two
+            @NotNull Integer bufferCapacity,
+            // max records rendered and written per write + flush
+            @NotNull Integer batchSize,
+            // how long the writer sleeps when the buffer is empty
+            @NotNull Duration flushInterval,
+            // what to do with new records once the writer falls behind
+            @NotNull OverflowPolicy overflowPolicy,
+            // SAMPLE only: buffer fill ratio from which records are sampled
+            @NotNull Double sampleThreshold,
+            // SAMPLE only: keep 1 in sample-rate records above the threshold
+            @NotNull Integer sampleRate
+    ) {}
 }
@@ -0,0 +1,37 @@
+package com.jay.voyager.bootstrap.outbound.http.client.async.configuration;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jay.voyager.core.port.context.deadline.DeadlinePolicyProvider;
+import com.jay.voyager.core.port.transport.http.IdentityHeadersProvider;
+import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpClientFactory;
+import com.jay.voyager.infra.outbound.http.client.registry.HttpClientSettingsRegistry;
+import com.jay.voyager.infra.outbound.http.client.resiliency.ResiliencyChainAssembler;
+import com.jay.voyager.infra.outbound.http.client.transport.HttpTransportRegistry;
+
+@Configuration
+public class AsyncHttpClientFactoryConfiguration {
+
+    @Bean
+    public AsyncHttpClientFactory asyncHttpClientFactory(
+            HttpClientSettingsRegistry httpClientSettingsRegistry,
+            HttpTransportRegistry httpTransportRegistry,
+            ResiliencyChainAssembler resiliencyChainAssembler,
+            IdentityHeadersProvider identityHeadersProvider,
+            List<ContextPropagator> propagators,
+            DeadlinePolicyProvider deadlinePolicyProvider
+    ) {
+        return new AsyncHttpClientFactory(
+                httpClientSettingsRegistry,
+                httpTransportRegistry,
+                resiliencyChainAssembler,
+                identityHeadersProvider.identityHeaders(),
+                propagators,
+                deadlinePolicyProvider.deadlinePolicy().header()
+        );
+    }
+}
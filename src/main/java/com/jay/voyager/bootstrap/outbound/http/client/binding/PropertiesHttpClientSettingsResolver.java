@@ -3,12 +3,18 @@ package com.jay.voyager.bootstrap.outbound.http.client.binding;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 import org.springframework.stereotype.Component;
 
+import com.jay.voyager.bootstrap.concurrent.limit.binding.LimitPolicyMapper;
+import com.jay.voyager.bootstrap.concurrent.limit.properties.LimitProperties;
 import com.jay.voyager.bootstrap.outbound.http.properties.OutboundHttpProperties;
 import com.jay.voyager.core.port.outbound.http.client.HttpClientSettingsProvider;
+import com.jay.voyager.core.outbound.http.client.settings.HttpCachePolicy;
 import com.jay.voyager.core.outbound.http.client.settings.HttpClientSettings;
+import com.jay.voyager.core.outbound.http.client.settings.HttpTransportPolicy;
+import com.jay.voyager.core.concurrent.limit.LimitPolicy;
 import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
 import com.jay.voyager.bootstrap.outbound.resiliency.properties.ResiliencyProperties;
 
@@ -51,8 +57,25 @@ public class PropertiesHttpClientSettingsResolver implements HttpClientSettingsP
 
             var circuitBreakerPolicy = mapCircuitBreakerPolicy(propsResiliency, propsResiliencyDefaults);
 
-            var resiliencyPolicy =
-                    new ResiliencyPolicy(bulkheadPolicy, circuitBreakerPolicy);
+            var retryPolicy = mapRetryPolicy(propsResiliency, propsResiliencyDefaults);
+
+            var hedgingPolicy = mapHedgingPolicy(propsResiliency, propsResiliencyDefaults);
+
+            var coalescingPolicy = mapCoalescingPolicy(propsResiliency, propsResiliencyDefaults);
+
+            var resiliencyPolicy = new ResiliencyPolicy(
+                    bulkheadPolicy, circuitBreakerPolicy, retryPolicy, hedgingPolicy, coalescingPolicy
+            );
+
+            var transportPolicy = mapTransportPolicy(
+                    propsClient.transportOrDefault(propsClientDefaults),
+                    propsClientDefaults.transport()
+            );
+
+            var cachePolicy = mapCachePolicy(
+                    propsClient.cacheOrDefault(propsClientDefaults),
+                    propsClientDefaults.cache()
+            );
 
             HttpClientSettings resolvedClientSettings =
                     new HttpClientSettings(
@@ -60,7 +83,9 @@ public class PropertiesHttpClientSettingsResolver implements HttpClientSettingsP
                             propsClient.baseUrl(),
                             propsClient.connectTimeoutOrDefault(propsClientDefaults),
                             propsClient.readTimeoutOrDefault(propsClientDefaults),
-                            resiliencyPolicy
+                            transportPolicy,
+                            resiliencyPolicy,
+                            cachePolicy
                     );
 
             settingsList.add(resolvedClientSettings);
@@ -69,6 +94,36 @@ public class PropertiesHttpClientSettingsResolver implements HttpClientSettingsP
         return List.copyOf(settingsList);
     }
 
+    private static HttpTransportPolicy mapTransportPolicy(
+            OutboundHttpProperties.Transport propsTransport,
+            OutboundHttpProperties.Transport propsTransportDefaults
+    ) {
+        return new HttpTransportPolicy(
+                mapProtocol(propsTransport.protocolOrDefault(propsTransportDefaults)),
+                propsTransport.maxConcurrentStreamsOrDefault(propsTransportDefaults)
+        );
+    }
+
+    private static HttpCachePolicy mapCachePolicy(
+            OutboundHttpProperties.Cache propsCache,
+            OutboundHttpProperties.Cache propsCacheDefaults
+    ) {
+        return new HttpCachePolicy(
+                propsCache.enabledOrDefault(propsCacheDefaults),
+                propsCache.maxSizeOrDefault(propsCacheDefaults).toBytes(),
+                propsCache.maxEntrySizeOrDefault(propsCacheDefaults).toBytes()
+        );
+    }
+
+    private static HttpTransportPolicy.HttpProtocol mapProtocol(
+            OutboundHttpProperties.Transport.Protocol propsProtocol
+    ) {
+        return switch (propsProtocol) {
+            case HTTP_1_1 -> HttpTransportPolicy.HttpProtocol.HTTP_1_1;
+            case HTTP_2 -> HttpTransportPolicy.HttpProtocol.HTTP_2;
+        };
+    }
+
     private static ResiliencyPolicy.BulkheadPolicy mapBulkheadPolicy(
             ResiliencyProperties propsResiliency,
             ResiliencyProperties propsResiliencyDefaults
@@ -79,10 +134,48 @@ public class PropertiesHttpClientSettingsResolver implements HttpClientSettingsP
         return new ResiliencyPolicy.BulkheadPolicy(
                 propsBulkhead.enabledOrDefault(propsBulkheadDefaults),
                 propsBulkhead.maxConcurrentCallsOrDefault(propsBulkheadDefaults),
-                propsBulkhead.maxWaitDurationOrDefault(propsBulkheadDefaults)
+                propsBulkhead.maxWaitDurationOrDefault(propsBulkheadDefaults),
+                mapBulkheadMode(propsBulkhead.modeOrDefault(propsBulkheadDefaults)),
+                mapLimitPolicy(
+                        propsBulkhead.adaptiveOrDefault(propsBulkheadDefaults),
+                        propsBulkheadDefaults.adaptive()
+                )
         );
     }
 
+    private static ResiliencyPolicy.BulkheadPolicy.Mode mapBulkheadMode(
+            ResiliencyProperties.Bulkhead.Mode propsMode
+    ) {
+        return switch (propsMode) {
+            case STATIC -> ResiliencyPolicy.BulkheadPolicy.Mode.STATIC;
+            case ADAPTIVE -> ResiliencyPolicy.BulkheadPolicy.Mode.ADAPTIVE;
+        };
+    }
+
+    // fills a partial per-client limit override field by field, then maps it like the inbound limit
+    private static LimitPolicy mapLimitPolicy(LimitProperties propsLimit, LimitProperties propsLimitDefaults) {
+        var propsGradient = propsLimit.gradientOrDefault(propsLimitDefaults);
+        var propsGradientDefaults = propsLimitDefaults.gradient();
+        var propsAimd = propsLimit.aimdOrDefault(propsLimitDefaults);
+        var propsAimdDefaults = propsLimitDefaults.aimd();
+
+        return LimitPolicyMapper.map(new LimitProperties(
+                propsLimit.algorithmOrDefault(propsLimitDefaults),
+                propsLimit.initialLimitOrDefault(propsLimitDefaults),
+                propsLimit.minLimitOrDefault(propsLimitDefaults),
+                propsLimit.maxLimitOrDefault(propsLimitDefaults),
+                new LimitProperties.Gradient(
+                        propsGradient.smoothingOrDefault(propsGradientDefaults),
+                        propsGradient.rttToleranceOrDefault(propsGradientDefaults),
+                        propsGradient.longWindowOrDefault(propsGradientDefaults)
+                ),
+                new LimitProperties.Aimd(
+                        propsAimd.backoffRatioOrDefault(propsAimdDefaults),
+                        propsAimd.timeoutOrDefault(propsAimdDefaults)
+                )
+        ));
+    }
+
     private static ResiliencyPolicy.CircuitBreakerPolicy mapCircuitBreakerPolicy(
             ResiliencyProperties propsResiliency,
             ResiliencyProperties propsResiliencyDefaults
@@ -107,6 +200,54 @@ public class PropertiesHttpClientSettingsResolver implements HttpClientSettingsP
         );
     }
 
+    private static ResiliencyPolicy.RetryPolicy mapRetryPolicy(
+            ResiliencyProperties propsResiliency,
+            ResiliencyProperties propsResiliencyDefaults
+    ) {
+        var propsRetry = propsResiliency.retryOrDefault(propsResiliencyDefaults);
+        var propsRetryDefaults = propsResiliencyDefaults.retry();
+
+        return new ResiliencyPolicy.RetryPolicy(
+                propsRetry.enabledOrDefault(propsRetryDefaults),
+                propsRetry.maxAttemptsOrDefault(propsRetryDefaults),
+                propsRetry.initialBackoffOrDefault(propsRetryDefaults),
+                propsRetry.maxBackoffOrDefault(propsRetryDefaults),
+                propsRetry.multiplierOrDefault(propsRetryDefaults),
+                propsRetry.budgetRatioOrDefault(propsRetryDefaults)
+        );
+    }
+
+    private static ResiliencyPolicy.HedgingPolicy mapHedgingPolicy(
+            ResiliencyProperties propsResiliency,
+            ResiliencyProperties propsResiliencyDefaults
+    ) {
+        var propsHedging = propsResiliency.hedgingOrDefault(propsResiliencyDefaults);
+        var propsHedgingDefaults = propsResiliencyDefaults.hedging();
+
+        return new ResiliencyPolicy.HedgingPolicy(
+                propsHedging.enabledOrDefault(propsHedgingDefaults),
+                propsHedging.delayOrDefault(propsHedgingDefaults),
+                propsHedging.delayPercentileOrDefault(propsHedgingDefaults),
+                propsHedging.budgetRatioOrDefault(propsHedgingDefaults)
+        );
+    }
+
+    private static ResiliencyPolicy.CoalescingPolicy mapCoalescingPolicy(
+            ResiliencyProperties propsResiliency,
+            ResiliencyProperties propsResiliencyDefaults
+    ) {
+        var propsCoalescing = propsResiliency.coalescingOrDefault(propsResiliencyDefaults);
+        var propsCoalescingDefaults = propsResiliencyDefaults.coalescing();
+
+        return new ResiliencyPolicy.CoalescingPolicy(
+                propsCoalescing.enabledOrDefault(propsCoalescingDefaults),
+                propsCoalescing.keyHeadersOrDefault(propsCoalescingDefaults)
+                        .stream()
+                        .map(header -> header.trim().toLowerCase(Locale.ROOT))
+                        .toList()
+        );
+    }
+
     private static ResiliencyPolicy.CircuitBreakerPolicy.SlidingWindowType mapSlidingWindowType(
             ResiliencyProperties.CircuitBreaker.SlidingWindowType propsType
     ) {
@@ -0,0 +1,36 @@
+package com.jay.voyager.bootstrap.outbound.http.client.cache.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jay.voyager.infra.outbound.http.client.cache.HttpResponseCacheRegistry;
+import com.jay.voyager.infra.outbound.http.client.cache.metrics.HttpResponseCacheMetrics;
+import com.jay.voyager.infra.outbound.http.client.registry.HttpClientSettingsRegistry;
+
+@Configuration
+public class HttpResponseCacheConfiguration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCacheConfiguration.class);
+
+    @Bean
+    public HttpResponseCacheRegistry httpResponseCacheRegistry(HttpClientSettingsRegistry httpClientSettingsRegistry) {
+        HttpResponseCacheRegistry registry = new HttpResponseCacheRegistry(httpClientSettingsRegistry);
+
+        LOGGER.info("HTTP response cache registry initialized with clients={}", registry.caches().keySet());
+
+        return registry;
+    }
+
+    @Bean
+    public HttpResponseCacheMetrics httpResponseCacheMetrics(
+            HttpResponseCacheRegistry httpResponseCacheRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        HttpResponseCacheMetrics metrics = new HttpResponseCacheMetrics(httpResponseCacheRegistry);
+        metrics.bindTo(meterRegistry);
+        return metrics;
+    }
+}
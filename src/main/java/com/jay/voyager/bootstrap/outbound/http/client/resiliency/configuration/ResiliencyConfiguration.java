@@ -1,23 +1,55 @@
 package com.jay.voyager.bootstrap.outbound.http.client.resiliency.configuration;
 
-import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.jay.voyager.infra.concurrent.limit.metrics.ConcurrencyLimiterMetrics;
 import com.jay.voyager.infra.outbound.http.client.resiliency.ResiliencyChainAssembler;
+import com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead.OutboundLimiterRegistry;
+import com.jay.voyager.infra.outbound.http.client.resiliency.coalescing.CoalescingRequestDecoratorFactory;
+import com.jay.voyager.infra.outbound.http.client.resiliency.coalescing.metrics.CoalescingMetrics;
+import com.jay.voyager.infra.outbound.http.client.resiliency.hedging.HedgingRequestDecoratorFactory;
+import com.jay.voyager.infra.outbound.http.client.resiliency.hedging.metrics.HedgingMetrics;
+import com.jay.voyager.infra.outbound.http.client.resiliency.retry.RetryRequestDecoratorFactory;
+import com.jay.voyager.infra.outbound.http.client.resiliency.retry.metrics.RetryMetrics;
 
 @Configuration
 public class ResiliencyConfiguration {
 
+    @Bean
+    OutboundLimiterRegistry outboundLimiterRegistry(MeterRegistry meterRegistry) {
+        OutboundLimiterRegistry limiterRegistry = new OutboundLimiterRegistry();
+        //live limit and in-flight per client, same meters as the inbound limiter
+        limiterRegistry.onLimiterAdded(
+                (name, limiter) -> new ConcurrencyLimiterMetrics(name, limiter).bindTo(meterRegistry)
+        );
+        return limiterRegistry;
+    }
+
     @Bean
     ResiliencyChainAssembler resiliencyDecorator(
-            BulkheadRegistry bulkheadRegistry,
-            CircuitBreakerRegistry circuitBreakerRegistry
+            OutboundLimiterRegistry outboundLimiterRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            MeterRegistry meterRegistry
     ) {
-        return new ResiliencyChainAssembler(
-                bulkheadRegistry,
-                circuitBreakerRegistry
+        //hedge threads are created by the hedge timer and carry only the caller's deadline, no propagators
+        ResiliencyChainAssembler assembler = new ResiliencyChainAssembler(
+                outboundLimiterRegistry,
+                circuitBreakerRegistry,
+                Thread.ofVirtual().name("http-hedge-", 0).factory()
         );
+        //per client counters of the stages r4j does not cover, bound as each client's chain is assembled
+        assembler.onStageAdded((client, stage) -> {
+            if (stage instanceof HedgingRequestDecoratorFactory hedging) {
+                new HedgingMetrics(client, hedging).bindTo(meterRegistry);
+            } else if (stage instanceof RetryRequestDecoratorFactory retry) {
+                new RetryMetrics(client, retry).bindTo(meterRegistry);
+            } else if (stage instanceof CoalescingRequestDecoratorFactory coalescing) {
+                new CoalescingMetrics(client, coalescing).bindTo(meterRegistry);
+            }
+        });
+        return assembler;
     }
 }
@@ -8,9 +8,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestClient;
 
+import com.jay.voyager.core.port.context.deadline.DeadlinePolicyProvider;
+import com.jay.voyager.infra.outbound.http.client.cache.HttpResponseCacheRegistry;
 import com.jay.voyager.infra.outbound.http.client.registry.HttpClientSettingsRegistry;
 import com.jay.voyager.infra.outbound.http.client.resiliency.ResiliencyChainAssembler;
 import com.jay.voyager.infra.outbound.http.client.rest.RestClientFactory;
+import com.jay.voyager.infra.outbound.http.client.transport.HttpTransportRegistry;
 
 @Configuration
 public class RestClientFactoryConfiguration {
@@ -19,15 +22,21 @@ public class RestClientFactoryConfiguration {
     public RestClientFactory restClientFactory(
             RestClient.Builder restClientBuilder,
             HttpClientSettingsRegistry httpClientSettingsRegistry,
+            HttpTransportRegistry httpTransportRegistry,
             @Qualifier("defaultHttpClientRequestInterceptors")
             List<ClientHttpRequestInterceptor> defaultRequestInterceptors,
-            ResiliencyChainAssembler resiliencyChainAssembler
+            ResiliencyChainAssembler resiliencyChainAssembler,
+            HttpResponseCacheRegistry httpResponseCacheRegistry,
+            DeadlinePolicyProvider deadlinePolicyProvider
     ) {
         return new RestClientFactory(
                 restClientBuilder,
                 httpClientSettingsRegistry,
+                httpTransportRegistry,
                 defaultRequestInterceptors,
-                resiliencyChainAssembler
+                resiliencyChainAssembler,
+                httpResponseCacheRegistry,
+                deadlinePolicyProvider.deadlinePolicy().header()
         );
     }
 }
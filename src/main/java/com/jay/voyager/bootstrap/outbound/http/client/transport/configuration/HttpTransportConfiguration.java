@@ -0,0 +1,37 @@
+package com.jay.voyager.bootstrap.outbound.http.client.transport.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jay.voyager.infra.outbound.http.client.registry.HttpClientSettingsRegistry;
+import com.jay.voyager.infra.outbound.http.client.transport.HttpTransportRegistry;
+import com.jay.voyager.infra.outbound.http.client.transport.metrics.HttpTransportMetrics;
+
+@Configuration
+public class HttpTransportConfiguration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpTransportConfiguration.class);
+
+    // closed by Spring on shutdown (AutoCloseable), which closes the shared HttpClients
+    @Bean
+    public HttpTransportRegistry httpTransportRegistry(HttpClientSettingsRegistry httpClientSettingsRegistry) {
+        HttpTransportRegistry registry = new HttpTransportRegistry(httpClientSettingsRegistry);
+
+        LOGGER.info("HTTP transport registry initialized with transports={}", registry.stats());
+
+        return registry;
+    }
+
+    @Bean
+    public HttpTransportMetrics httpTransportMetrics(
+            HttpTransportRegistry httpTransportRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        HttpTransportMetrics metrics = new HttpTransportMetrics(httpTransportRegistry);
+        metrics.bindTo(meterRegistry);
+        return metrics;
+    }
+}
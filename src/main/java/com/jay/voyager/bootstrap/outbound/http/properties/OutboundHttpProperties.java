@@ -5,8 +5,10 @@ import java.util.Map;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 import com.jay.voyager.bootstrap.outbound.resiliency.properties.ResiliencyProperties;
@@ -24,16 +26,20 @@ public record OutboundHttpProperties(
     public record ClientDefaults(
             @NotNull Duration connectTimeout,
             @NotNull Duration readTimeout,
+            @NotNull @Valid Transport transport,
             // Only defaults cascade @Validation; ClientConfig resiliency may override or use defaults
-            @NotNull @Valid ResiliencyProperties resiliency
+            @NotNull @Valid ResiliencyProperties resiliency,
+            @NotNull @Valid Cache cache
     ) {}
 
     public record Client(
             @NotNull String baseUrl,
             Duration connectTimeout,
             Duration readTimeout,
-            // Intentionally no @Valid, allow partial overrides, defaults applied in resolver
-            ResiliencyProperties resiliency
+            // Intentionally no @Valid on overrides, allow partial overrides, defaults applied in resolver
+            Transport transport,
+            ResiliencyProperties resiliency,
+            Cache cache
     ) {
         public Duration connectTimeoutOrDefault(ClientDefaults defaults) {
             return connectTimeout == null ? defaults.connectTimeout() : connectTimeout;
@@ -46,5 +52,56 @@ public record OutboundHttpProperties(
         public ResiliencyProperties resiliencyOrDefault(ClientDefaults defaults) {
             return resiliency == null ? defaults.resiliency() : resiliency;
         }
+
+        public Transport transportOrDefault(ClientDefaults defaults) {
+            return transport == null ? defaults.transport() : transport;
+        }
+
+        public Cache cacheOrDefault(ClientDefaults defaults) {
+            return cache == null ? defaults.cache() : cache;
+        }
+    }
+
+    /*
+     * Wire protocol related, same defaults vs override rules as resiliency.
+     * Clients with the same origin, connect timeout and transport share one connection pool.
+     */
+    public record Transport(
+            @NotNull Protocol protocol,
+            @NotNull @Positive Integer maxConcurrentStreams
+    ) {
+        public Protocol protocolOrDefault(Transport defaults) {
+            return protocol == null ? defaults.protocol() : protocol;
+        }
+
+        public Integer maxConcurrentStreamsOrDefault(Transport defaults) {
+            return maxConcurrentStreams == null ? defaults.maxConcurrentStreams() : maxConcurrentStreams;
+        }
+
+        public enum Protocol {
+            HTTP_1_1,
+            HTTP_2
+        }
+    }
+
+    /*
+     * Response cache, same defaults vs override rules as resiliency. Each client has its own cache.
+     */
+    public record Cache(
+            @NotNull Boolean enabled,
+            @NotNull DataSize maxSize,
+            @NotNull DataSize maxEntrySize
+    ) {
+        public Boolean enabledOrDefault(Cache defaults) {
+            return enabled == null ? defaults.enabled() : enabled;
+        }
+
+        public DataSize maxSizeOrDefault(Cache defaults) {
+            return maxSize == null ? defaults.maxSize() : maxSize;
+        }
+
+        public DataSize maxEntrySizeOrDefault(Cache defaults) {
+            return maxEntrySize == null ? defaults.maxEntrySize() : maxEntrySize;
+        }
     }
 }
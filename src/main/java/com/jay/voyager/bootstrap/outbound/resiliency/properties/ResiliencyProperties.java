@@ -1,9 +1,12 @@
 package com.jay.voyager.bootstrap.outbound.resiliency.properties;
 
 import java.time.Duration;
+import java.util.List;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
+import com.jay.voyager.bootstrap.concurrent.limit.properties.LimitProperties;
+
 /**
  * Protocol-agnostic resiliency configuration used by outbound adapters.
  *
@@ -49,13 +52,22 @@ import jakarta.validation.constraints.NotNull;
  */
 public record ResiliencyProperties(
         @NotNull @Valid Bulkhead bulkhead,
-        @NotNull @Valid CircuitBreaker circuitBreaker
+        @NotNull @Valid CircuitBreaker circuitBreaker,
+        @NotNull @Valid Retry retry,
+        @NotNull @Valid Hedging hedging,
+        @NotNull @Valid Coalescing coalescing
 ) {
 
+    /*
+     * mode STATIC caps calls at maxConcurrentCalls. ADAPTIVE lets the adaptive limit algorithm move the
+     * cap between its min and max limit from observed call latency; maxConcurrentCalls is not used then.
+     */
     public record Bulkhead(
             @NotNull Boolean enabled,
             @NotNull Integer maxConcurrentCalls,
-            @NotNull Duration maxWaitDuration
+            @NotNull Duration maxWaitDuration,
+            @NotNull Mode mode,
+            @NotNull @Valid LimitProperties adaptive
     ) {
         public Boolean enabledOrDefault(Bulkhead defaults) {
             return enabled == null ? defaults.enabled() : enabled;
@@ -68,6 +80,19 @@ public record ResiliencyProperties(
         public Duration maxWaitDurationOrDefault(Bulkhead defaults) {
             return maxWaitDuration == null ? defaults.maxWaitDuration() : maxWaitDuration;
         }
+
+        public Mode modeOrDefault(Bulkhead defaults) {
+            return mode == null ? defaults.mode() : mode;
+        }
+
+        public LimitProperties adaptiveOrDefault(Bulkhead defaults) {
+            return adaptive == null ? defaults.adaptive() : adaptive;
+        }
+
+        public enum Mode {
+            STATIC,
+            ADAPTIVE
+        }
     }
 
     public record CircuitBreaker(
@@ -142,6 +167,75 @@ public record ResiliencyProperties(
         }
     }
 
+    public record Retry(
+            @NotNull Boolean enabled,
+            @NotNull Integer maxAttempts,
+            @NotNull Duration initialBackoff,
+            @NotNull Duration maxBackoff,
+            @NotNull Double multiplier,
+            @NotNull Double budgetRatio
+    ) {
+        public Boolean enabledOrDefault(Retry defaults) {
+            return enabled == null ? defaults.enabled() : enabled;
+        }
+
+        public Integer maxAttemptsOrDefault(Retry defaults) {
+            return maxAttempts == null ? defaults.maxAttempts() : maxAttempts;
+        }
+
+        public Duration initialBackoffOrDefault(Retry defaults) {
+            return initialBackoff == null ? defaults.initialBackoff() : initialBackoff;
+        }
+
+        public Duration maxBackoffOrDefault(Retry defaults) {
+            return maxBackoff == null ? defaults.maxBackoff() : maxBackoff;
+        }
+
+        public Double multiplierOrDefault(Retry defaults) {
+            return multiplier == null ? defaults.multiplier() : multiplier;
+        }
+
+        public Double budgetRatioOrDefault(Retry defaults) {
+            return budgetRatio == null ? defaults.budgetRatio() : budgetRatio;
+        }
+    }
+
+    public record Hedging(
+            @NotNull Boolean enabled,
+            @NotNull Duration delay,
+            @NotNull Double delayPercentile,
+            @NotNull Double budgetRatio
+    ) {
+        public Boolean enabledOrDefault(Hedging defaults) {
+            return enabled == null ? defaults.enabled() : enabled;
+        }
+
+        public Duration delayOrDefault(Hedging defaults) {
+            return delay == null ? defaults.delay() : delay;
+        }
+
+        public Double delayPercentileOrDefault(Hedging defaults) {
+            return delayPercentile == null ? defaults.delayPercentile() : delayPercentile;
+        }
+
+        public Double budgetRatioOrDefault(Hedging defaults) {
+            return budgetRatio == null ? defaults.budgetRatio() : budgetRatio;
+        }
+    }
+
+    public record Coalescing(
+            @NotNull Boolean enabled,
+            @NotNull List<String> keyHeaders
+    ) {
+        public Boolean enabledOrDefault(Coalescing defaults) {
+            return enabled == null ? defaults.enabled() : enabled;
+        }
+
+        public List<String> keyHeadersOrDefault(Coalescing defaults) {
+            return keyHeaders == null ? defaults.keyHeaders() : keyHeaders;
+        }
+    }
+
     //resiliency type defaults:
 
     public Bulkhead bulkheadOrDefault(ResiliencyProperties defaults) {
@@ -151,4 +245,16 @@ public record ResiliencyProperties(
     public CircuitBreaker circuitBreakerOrDefault(ResiliencyProperties defaults) {
         return circuitBreaker == null ? defaults.circuitBreaker() : circuitBreaker;
     }
-}
\ No newline at end of file
+
+    public Retry retryOrDefault(ResiliencyProperties defaults) {
+        return retry == null ? defaults.retry() : retry;
+    }
+
+    public Hedging hedgingOrDefault(ResiliencyProperties defaults) {
+        return hedging == null ? defaults.hedging() : hedging;
+    }
+
+    public Coalescing coalescingOrDefault(ResiliencyProperties defaults) {
+        return coalescing == null ? defaults.coalescing() : coalescing;
+    }
+}
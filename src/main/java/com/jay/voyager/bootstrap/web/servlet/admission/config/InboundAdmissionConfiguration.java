@@ -0,0 +1,118 @@
+package com.jay.voyager.bootstrap.web.servlet.admission.config;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jay.voyager.core.concurrent.limit.CoDelAdmissionQueue;
+import com.jay.voyager.core.concurrent.limit.FairShareGate;
+import com.jay.voyager.core.concurrent.limit.LimitAlgorithms;
+import com.jay.voyager.core.concurrent.limit.PartitionedConcurrencyLimiter;
+import com.jay.voyager.core.inbound.admission.policy.AdmissionClass;
+import com.jay.voyager.core.inbound.admission.policy.AdmissionPolicy;
+import com.jay.voyager.core.port.inbound.admission.AdmissionPolicyProvider;
+import com.jay.voyager.infra.concurrent.limit.metrics.ConcurrencyLimiterMetrics;
+import com.jay.voyager.web.servlet.admission.AdmissionClassifier;
+import com.jay.voyager.web.servlet.admission.InboundAdmission;
+
+@Configuration
+public class InboundAdmissionConfiguration {
+
+    // kept from the previous Resilience4j instance name so dashboards only swap the meter, not the tag.
+    private static final String INBOUND_LIMITER_NAME = "webBulkheadFilter";
+
+    @Bean
+    public PartitionedConcurrencyLimiter<AdmissionClass> inboundAdmissionLimiter(
+            AdmissionPolicyProvider admissionPolicyProvider
+    ) {
+        AdmissionPolicy admissionPolicy = admissionPolicyProvider.admissionPolicy();
+
+        Map<AdmissionClass, PartitionedConcurrencyLimiter.Share> shares = new EnumMap<>(AdmissionClass.class);
+        admissionPolicy.classShares().forEach((admissionClass, classShare) ->
+                shares.put(
+                        admissionClass,
+                        new PartitionedConcurrencyLimiter.Share(classShare.reservedShare(), classShare.maxShare())
+                )
+        );
+
+        return new PartitionedConcurrencyLimiter<>(
+                LimitAlgorithms.create(admissionPolicy.limitPolicy()),
+                AdmissionClass.class,
+                shares
+        );
+    }
+
+    @Bean
+    public FairShareGate inboundFairShareGate(
+            PartitionedConcurrencyLimiter<AdmissionClass> inboundAdmissionLimiter,
+            AdmissionPolicyProvider admissionPolicyProvider
+    ) {
+        var fairSharePolicy = admissionPolicyProvider.admissionPolicy().fairSharePolicy();
+        if (!fairSharePolicy.enabled()) {
+            return FairShareGate.disabled();
+        }
+        return new FairShareGate(
+                inboundAdmissionLimiter,
+                fairSharePolicy.maxTenantShare(),
+                fairSharePolicy.stripes()
+        );
+    }
+
+    @Bean
+    public CoDelAdmissionQueue inboundAdmissionQueue(AdmissionPolicyProvider admissionPolicyProvider) {
+        var queuePolicy = admissionPolicyProvider.admissionPolicy().queuePolicy();
+        if (!queuePolicy.enabled()) {
+            return CoDelAdmissionQueue.disabled();
+        }
+        return new CoDelAdmissionQueue(
+                queuePolicy.target(),
+                queuePolicy.interval(),
+                queuePolicy.capacity()
+        );
+    }
+
+    @Bean
+    public AdmissionClassifier admissionClassifier(AdmissionPolicyProvider admissionPolicyProvider) {
+        return new AdmissionClassifier(admissionPolicyProvider.admissionPolicy());
+    }
+
+    @Bean
+    public InboundAdmission inboundAdmission(
+            PartitionedConcurrencyLimiter<AdmissionClass> inboundAdmissionLimiter,
+            AdmissionClassifier admissionClassifier,
+            FairShareGate inboundFairShareGate,
+            CoDelAdmissionQueue inboundAdmissionQueue,
+            AdmissionPolicyProvider admissionPolicyProvider
+    ) {
+        return new InboundAdmission(
+                inboundAdmissionLimiter,
+                admissionClassifier,
+                inboundFairShareGate,
+                inboundAdmissionQueue,
+                admissionPolicyProvider.admissionPolicy().rejectionPolicy().maxRetryAfter()
+        );
+    }
+
+    @Bean
+    public ConcurrencyLimiterMetrics inboundAdmissionLimiterMetrics(
+            PartitionedConcurrencyLimiter<AdmissionClass> inboundAdmissionLimiter,
+            MeterRegistry meterRegistry
+    ) {
+        for (AdmissionClass admissionClass : AdmissionClass.values()) {
+            new ConcurrencyLimiterMetrics(
+                    INBOUND_LIMITER_NAME,
+                    admissionClass.name().toLowerCase(Locale.ROOT),
+                    inboundAdmissionLimiter.partition(admissionClass)
+            ).bindTo(meterRegistry);
+        }
+
+        ConcurrencyLimiterMetrics metrics =
+                new ConcurrencyLimiterMetrics(INBOUND_LIMITER_NAME, inboundAdmissionLimiter);
+        metrics.bindTo(meterRegistry);
+        return metrics;
+    }
+}
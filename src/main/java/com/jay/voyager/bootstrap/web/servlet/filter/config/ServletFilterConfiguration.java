@@ -1,13 +1,19 @@
 package com.jay.voyager.bootstrap.web.servlet.filter.config;
 
-import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.jay.voyager.core.port.context.deadline.DeadlinePolicyProvider;
+import com.jay.voyager.core.port.context.identity.IdentityBindingModeProvider;
+import com.jay.voyager.core.port.inbound.admission.AdmissionPolicyProvider;
+import com.jay.voyager.core.port.observability.accesslog.AccessLogSink;
 import com.jay.voyager.core.port.observability.mdc.MdcFieldNamesProvider;
 import com.jay.voyager.core.port.transport.http.IdentityHeadersProvider;
+import com.jay.voyager.web.servlet.admission.InboundAdmission;
+import com.jay.voyager.web.servlet.deadline.RequestDeadlineResolver;
 import com.jay.voyager.web.servlet.filter.BulkheadFilter;
+import com.jay.voyager.web.servlet.filter.DeadlineFilter;
 import com.jay.voyager.web.servlet.filter.IdentityFilter;
 import com.jay.voyager.web.servlet.filter.MdcFilter;
 import com.jay.voyager.web.servlet.error.ErrorResponseWriter;
@@ -16,12 +22,17 @@ import com.jay.voyager.web.servlet.error.ErrorResponseWriter;
 public class ServletFilterConfiguration {
 
     private static final String API_WILDCARD = "/api/*";
-    private static final String BULKHEAD_FILTER_INSTANCE_NAME = "webBulkheadFilter";
 
     @Bean
-    public FilterRegistrationBean<IdentityFilter> identityFilter(IdentityHeadersProvider identityHeadersProvider) {
+    public FilterRegistrationBean<IdentityFilter> identityFilter(
+        IdentityHeadersProvider identityHeadersProvider,
+        IdentityBindingModeProvider identityBindingModeProvider
+    ) {
         FilterRegistrationBean<IdentityFilter> registration = new FilterRegistrationBean<>();
-        IdentityFilter identityFilter = new IdentityFilter(identityHeadersProvider.identityHeaders());
+        IdentityFilter identityFilter = new IdentityFilter(
+                identityHeadersProvider.identityHeaders(),
+                identityBindingModeProvider.identityBindingMode()
+        );
 
         registration.setFilter(identityFilter);
         registration.setOrder(FilterOrders.IDENTITY.order());
@@ -31,9 +42,12 @@ public class ServletFilterConfiguration {
     }
 
     @Bean
-    public FilterRegistrationBean<MdcFilter> mdcFilter(MdcFieldNamesProvider mdcFieldNamesProvider) {
+    public FilterRegistrationBean<MdcFilter> mdcFilter(
+        MdcFieldNamesProvider mdcFieldNamesProvider,
+        AccessLogSink accessLogSink
+    ) {
         FilterRegistrationBean<MdcFilter> registration = new FilterRegistrationBean<>();
-        MdcFilter mdcFilter = new MdcFilter(mdcFieldNamesProvider.mdcFieldNames());
+        MdcFilter mdcFilter = new MdcFilter(mdcFieldNamesProvider.mdcFieldNames(), accessLogSink);
 
         registration.setFilter(mdcFilter);
         registration.setOrder(FilterOrders.MDC.order());
@@ -42,16 +56,36 @@ public class ServletFilterConfiguration {
         return registration;
     }
 
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(
+        DeadlinePolicyProvider deadlinePolicyProvider,
+        ErrorResponseWriter errorResponseWriter
+    ) {
+        FilterRegistrationBean<DeadlineFilter> registration = new FilterRegistrationBean<>();
+        DeadlineFilter deadlineFilter = new DeadlineFilter(
+                new RequestDeadlineResolver(deadlinePolicyProvider.deadlinePolicy()),
+                errorResponseWriter
+        );
+
+        registration.setFilter(deadlineFilter);
+        registration.setOrder(FilterOrders.DEADLINE.order());
+        registration.addUrlPatterns(API_WILDCARD);
+
+        return registration;
+    }
+
     @Bean
     public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(
-        BulkheadRegistry bulkheadRegistry,
+        InboundAdmission inboundAdmission,
+        AdmissionPolicyProvider admissionPolicyProvider,
         ErrorResponseWriter errorResponseWriter
     ) {
         FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>();
 
         BulkheadFilter bulkheadFilter = new BulkheadFilter(
-                bulkheadRegistry.bulkhead(BULKHEAD_FILTER_INSTANCE_NAME),
-                errorResponseWriter
+                inboundAdmission,
+                errorResponseWriter,
+                admissionPolicyProvider.admissionPolicy().rejectionPolicy().shedReasonHeaderEnabled()
         );
 
         registration.setFilter(bulkheadFilter);
@@ -64,7 +98,8 @@ public class ServletFilterConfiguration {
     private enum FilterOrders {
         IDENTITY(0),
         MDC(1),
-        BULKHEAD(2);
+        DEADLINE(2),
+        BULKHEAD(3);
 
         private final int order;
 
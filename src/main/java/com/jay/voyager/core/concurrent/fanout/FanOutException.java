@@ -0,0 +1,41 @@
+package com.jay.voyager.core.concurrent.fanout;
+
+import java.util.Objects;
+
+/**
+ * Failure of a fan-out as a whole, as opposed to the failure of one of its tasks.
+ *
+ * <p>
+ * Unchecked exceptions thrown by a task (for example a
+ * {@link com.jay.voyager.core.error.dependency.DependencyCallException}) are rethrown unchanged,
+ * so existing error translation keeps working. This exception is only used when there is no such
+ * exception to rethrow: the deadline passed, the waiting thread was interrupted, or a task failed
+ * with a checked exception.
+ * </p>
+ */
+public class FanOutException extends RuntimeException {
+
+    private final Reason reason;
+
+    public FanOutException(Reason reason, String message) {
+        this(reason, message, null);
+    }
+
+    public FanOutException(Reason reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = Objects.requireNonNull(reason);
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+
+    public enum Reason {
+        // a task failed with a checked exception, available as the cause
+        TASK_FAILED,
+        // the deadline passed before the policy was satisfied, unfinished tasks were cancelled
+        DEADLINE_EXCEEDED,
+        // the waiting thread was interrupted, all tasks were cancelled
+        INTERRUPTED
+    }
+}
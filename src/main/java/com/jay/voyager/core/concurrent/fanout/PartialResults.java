@@ -0,0 +1,33 @@
+package com.jay.voyager.core.concurrent.fanout;
+
+import java.util.List;
+
+/**
+ * Per-task outcomes of a fan-out that tolerates failures and missed deadlines.
+ *
+ * @param outcomes one outcome per task, in task order
+ * @param <T> result type
+ */
+public record PartialResults<T>(List<TaskOutcome<T>> outcomes) {
+
+    public PartialResults {
+        outcomes = List.copyOf(outcomes);
+    }
+
+    /**
+     * @return values of the tasks that succeeded, in task order
+     */
+    public List<T> successes() {
+        return outcomes.stream()
+                .filter(TaskOutcome::isSucceeded)
+                .map(TaskOutcome::value)
+                .toList();
+    }
+
+    /**
+     * @return {@code true} when every task succeeded
+     */
+    public boolean isComplete() {
+        return outcomes.stream().allMatch(TaskOutcome::isSucceeded);
+    }
+}
@@ -0,0 +1,35 @@
+package com.jay.voyager.core.concurrent.fanout;
+
+/**
+ * Outcome of one task of a fan-out.
+ *
+ * @param state how the task ended
+ * @param value result when {@code SUCCEEDED}, otherwise {@code null}
+ * @param failure exception when {@code FAILED}, otherwise {@code null}
+ * @param <T> result type
+ */
+public record TaskOutcome<T>(State state, T value, Throwable failure) {
+
+    public static <T> TaskOutcome<T> succeeded(T value) {
+        return new TaskOutcome<>(State.SUCCEEDED, value, null);
+    }
+
+    public static <T> TaskOutcome<T> failed(Throwable failure) {
+        return new TaskOutcome<>(State.FAILED, null, failure);
+    }
+
+    public static <T> TaskOutcome<T> cancelled() {
+        return new TaskOutcome<>(State.CANCELLED, null, null);
+    }
+
+    public boolean isSucceeded() {
+        return state == State.SUCCEEDED;
+    }
+
+    public enum State {
+        SUCCEEDED,
+        FAILED,
+        // did not finish before the deadline and was interrupted
+        CANCELLED
+    }
+}
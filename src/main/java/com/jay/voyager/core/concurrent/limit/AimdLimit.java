@@ -0,0 +1,73 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Additive-increase / multiplicative-decrease limit.
+ *
+ * <p>
+ * The limit grows by one for every successful sample while the limiter is actually being
+ * used (at least half of the limit in flight) and is multiplied by {@code backoffRatio} when
+ * a call is dropped or takes longer than {@code timeout}. This is the same control loop TCP
+ * uses for its congestion window: slow to grow, quick to back off.
+ * </p>
+ *
+ * <p>
+ * Lock-free, every sample is a compare-and-set on the limit, so completing calls never queue behind
+ * each other to report.
+ * </p>
+ */
+public final class AimdLimit implements LimitAlgorithm {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutNanos;
+
+    private final AtomicInteger limit;
+
+    public AimdLimit(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double backoffRatio,
+            Duration timeout
+    ) {
+        LimitBounds.validate(initialLimit, minLimit, maxLimit);
+        if (backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1) but was " + backoffRatio);
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.timeoutNanos = timeout.toNanos();
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    @Override
+    public int limit() {
+        return limit.get();
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+        boolean backOff = dropped || rttNanos > timeoutNanos;
+
+        int current;
+        int next;
+        do {
+            current = limit.get();
+            if (backOff) {
+                next = (int) (current * backoffRatio);
+            } else if (inFlight * 2 >= current) {
+                // only grow when the limit is the thing holding traffic back
+                next = current + 1;
+            } else {
+                return;
+            }
+            next = LimitBounds.clamp(next, minLimit, maxLimit);
+        } while (next != current && !limit.compareAndSet(current, next));
+    }
+}
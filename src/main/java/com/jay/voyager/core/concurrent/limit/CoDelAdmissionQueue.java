@@ -0,0 +1,276 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Short, deadline-bounded wait queue in front of a non-blocking permit source.
+ *
+ * <p>
+ * When a permit is not immediately available, the caller parks for a bounded time and retries
+ * when a permit released through this queue wakes it up. This absorbs microsecond-scale bursts
+ * that would otherwise turn into rejections, while keeping the amount of parked work bounded:
+ * </p>
+ * <ul>
+ *   <li>{@code capacity} caps the number of parked callers (and the request state they retain).</li>
+ *   <li>Waiting time is governed by a controlled-delay (CoDel) policy. While the queue keeps
+ *       draining, a caller may wait up to {@code interval}. Once the queue has not been empty for
+ *       a whole {@code interval} (a standing queue, not a burst) callers only wait up to
+ *       {@code target}.</li>
+ *   <li>Under that sustained queueing new callers are served LIFO: the freshest request, whose
+ *       client is most likely still waiting for it, gets the next permit while older ones time out.</li>
+ * </ul>
+ *
+ * <p>
+ * Callers that arrive while others are parked do not take a permit ahead of them, they join the
+ * queue, at the tail while it drains and at the head under standing queueing. A released permit
+ * wakes one parked caller. When the woken caller still gets no permit, because its permit source
+ * has limits of its own such as a per-tenant cap, it hands the wakeup on to the caller behind it,
+ * and a caller that leaves without a permit hands on a wakeup it received.
+ * </p>
+ *
+ * <p>
+ * This is the adaptive variant of CoDel used for RPC admission rather than the packet-drop control
+ * law: sojourn time is bounded per caller instead of dropping at an increasing rate, which suits
+ * callers that are about to be rejected anyway.
+ * </p>
+ *
+ * <p>
+ * Callers are expected to run on virtual threads, where parking only costs the retained stack.
+ * {@link #disabled()} returns a queue that never parks, keeping callers strictly fail-fast.
+ * </p>
+ */
+public final class CoDelAdmissionQueue {
+
+    private static final CoDelAdmissionQueue DISABLED = new CoDelAdmissionQueue();
+
+    private final boolean enabled;
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final int capacity;
+
+    private final Deque<Waiter> waiters = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    // a wakeup no parked waiter could use, claimed by the next caller to park
+    private final AtomicBoolean unclaimedSignal = new AtomicBoolean();
+
+    // last time the queue was observed empty, a standing queue is one that has not drained for an interval
+    private volatile long lastEmptyNanos = System.nanoTime();
+
+    /**
+     * @param target maximum wait while the queue is in a standing (overloaded) state
+     * @param interval maximum wait while the queue keeps draining, and the window used to detect a standing queue
+     * @param capacity maximum number of parked callers
+     */
+    public CoDelAdmissionQueue(Duration target, Duration interval, int capacity) {
+        if (target.isNegative() || target.isZero()) {
+            throw new IllegalArgumentException("target must be positive but was " + target);
+        }
+        if (interval.compareTo(target) < 0) {
+            throw new IllegalArgumentException("interval (" + interval + ") must be >= target (" + target + ")");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1 but was " + capacity);
+        }
+
+        this.enabled = true;
+        this.targetNanos = target.toNanos();
+        this.intervalNanos = interval.toNanos();
+        this.capacity = capacity;
+    }
+
+    private CoDelAdmissionQueue() {
+        this.enabled = false;
+        this.targetNanos = 0;
+        this.intervalNanos = 0;
+        this.capacity = 0;
+    }
+
+    /**
+     * @return a queue that never parks, {@link #acquire} is a single non-blocking attempt
+     */
+    public static CoDelAdmissionQueue disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Acquires a permit from {@code attempt}, parking for a bounded time if none is available.
+     *
+     * <p>
+     * Permits returned by this method wake the next parked caller when released, so every
+     * permit competing for the same capacity must be obtained through the same queue.
+     * </p>
+     *
+     * @param attempt non-blocking permit source, returns {@code null} when no permit is available
+     * @return a held permit, or {@code null} when the queue is full or the caller waited too long
+     */
+    public ConcurrencyLimiter.Permit acquire(Supplier<ConcurrencyLimiter.Permit> attempt) {
+        if (!enabled) {
+            return attempt.get();
+        }
+        // permits go to parked callers first, a newcomer only takes one directly when none wait
+        if (queued.get() == 0) {
+            ConcurrencyLimiter.Permit permit = attempt.get();
+            if (permit != null) {
+                return new SignallingPermit(this, permit);
+            }
+        }
+
+        int ahead = queued.getAndIncrement();
+        if (ahead >= capacity) {
+            queued.decrementAndGet();
+            return null;
+        }
+
+        long enqueuedNanos = System.nanoTime();
+        if (ahead == 0) {
+            lastEmptyNanos = enqueuedNanos;
+        }
+
+        boolean standing = enqueuedNanos - lastEmptyNanos > intervalNanos;
+        long deadlineNanos = enqueuedNanos + (standing ? targetNanos : intervalNanos);
+
+        Waiter waiter = new Waiter(Thread.currentThread());
+        if (standing) {
+            waiters.addFirst(waiter);
+        } else {
+            waiters.addLast(waiter);
+        }
+
+        ConcurrencyLimiter.Permit permit = null;
+        try {
+            permit = awaitPermit(waiter, attempt, deadlineNanos);
+            return permit;
+        } finally {
+            waiters.remove(waiter);
+            if (queued.decrementAndGet() == 0) {
+                lastEmptyNanos = System.nanoTime();
+            }
+            if (permit == null && waiter.signalled) {
+                // woken for a release it did not use
+                signalNext();
+            }
+        }
+    }
+
+    /**
+     * @return number of callers currently parked
+     */
+    public int queued() {
+        return queued.get();
+    }
+
+    /**
+     * @return {@code true} when no more callers may park
+     */
+    public boolean isFull() {
+        return enabled && queued.get() >= capacity;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private ConcurrencyLimiter.Permit awaitPermit(
+            Waiter waiter,
+            Supplier<ConcurrencyLimiter.Permit> attempt,
+            long deadlineNanos
+    ) {
+        // the head retries before its first park, a permit may have been released before it was visible.
+        // Waiters behind it wait for a release instead of competing with the ones ahead.
+        boolean attemptNow = waiters.peekFirst() == waiter;
+        if (unclaimedSignal.getAndSet(false)) {
+            waiter.signalled = true;
+            attemptNow = true;
+        }
+        while (true) {
+            if (attemptNow) {
+                ConcurrencyLimiter.Permit permit = attempt.get();
+                if (permit != null) {
+                    return new SignallingPermit(this, permit);
+                }
+            }
+
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+
+            if (waiter.signalled) {
+                // the permit freed for this waiter is not one it can use, the next waiter may
+                signalAfter(waiter);
+                waiter.signalled = false;
+            }
+            LockSupport.parkNanos(this, remaining);
+            attemptNow = true;
+        }
+    }
+
+    // wakes the first waiter that has not already been woken, so one release does not stampede the queue
+    private void signalNext() {
+        for (Waiter waiter : waiters) {
+            if (!waiter.signalled) {
+                signal(waiter);
+                return;
+            }
+        }
+        unclaimedSignal.set(true);
+    }
+
+    // passes a wakeup towards the tail, so it visits each waiter at most once
+    private void signalAfter(Waiter current) {
+        boolean behind = false;
+        for (Waiter waiter : waiters) {
+            if (behind && !waiter.signalled) {
+                signal(waiter);
+                return;
+            }
+            behind |= waiter == current;
+        }
+        unclaimedSignal.set(true);
+    }
+
+    private static void signal(Waiter waiter) {
+        waiter.signalled = true;
+        LockSupport.unpark(waiter.thread);
+    }
+
+    private static final class Waiter {
+
+        private final Thread thread;
+        private volatile boolean signalled;
+
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+
+    private static final class SignallingPermit extends ReleaseOncePermit {
+
+        private final CoDelAdmissionQueue queue;
+        private final ConcurrencyLimiter.Permit delegate;
+
+        SignallingPermit(CoDelAdmissionQueue queue, ConcurrencyLimiter.Permit delegate) {
+            this.queue = queue;
+            this.delegate = delegate;
+        }
+
+        @Override
+        void onRelease(Outcome outcome) {
+            switch (outcome) {
+                case SUCCESS -> delegate.release();
+                case DROPPED -> delegate.releaseDropped();
+                case IGNORED -> delegate.releaseIgnored();
+            }
+
+            if (queue.queued.get() > 0) {
+                queue.signalNext();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.jay.voyager.core.concurrent.limit;
+
+/**
+ * Non-blocking admission gate bounded by a (possibly changing) concurrency limit.
+ *
+ * <p>
+ * A caller that obtains a {@link Permit} must release it exactly once. The release variant
+ * tells the limiter how the call ended so adaptive {@link LimitAlgorithm}s can learn from it.
+ * Releasing a permit more than once is a no-op.
+ * </p>
+ */
+public interface ConcurrencyLimiter extends LimiterStats {
+
+    /**
+     * Attempts to acquire a permit without waiting.
+     *
+     * @return a held permit, or {@code null} when the current limit has been reached
+     */
+    Permit tryAcquire();
+
+    interface Permit {
+
+        /**
+         * Call completed normally. The permit hold time is recorded as a latency sample.
+         */
+        void release();
+
+        /**
+         * Call was dropped due to overload (for example a timeout). Signals the algorithm to back off.
+         */
+        void releaseDropped();
+
+        /**
+         * Call ended abnormally for reasons unrelated to load. No sample is recorded.
+         */
+        void releaseIgnored();
+    }
+}
@@ -0,0 +1,155 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Per-key fair-share guard placed in front of a {@link ConcurrencyLimiter}.
+ *
+ * <p>
+ * In-flight counts are tracked per key (for example a tenant or user id) in a fixed number of
+ * striped counters, so memory stays bounded no matter how many distinct keys are seen. Keys whose
+ * hashes collide share a stripe and therefore a cap; with enough stripes this only ever makes the
+ * guard slightly stricter, never looser.
+ * </p>
+ *
+ * <p>
+ * A key is capped at {@code maxKeyShare} of the current limit. Above its cap a key may still borrow
+ * idle capacity, but only while at least one more cap's worth of permits stays free for everyone
+ * else. When the service is quiet a single caller can use most of it; when it is busy a noisy caller
+ * is held at its share and cannot starve the others.
+ * </p>
+ *
+ * <p>
+ * {@link #disabled()} returns a pass-through gate so callers never need a {@code null} check.
+ * </p>
+ */
+public final class FairShareGate {
+
+    private static final FairShareGate DISABLED = new FairShareGate();
+
+    private final boolean enabled;
+    private final LimiterStats capacity;
+    private final double maxKeyShare;
+    private final AtomicIntegerArray inFlightByStripe;
+    private final int stripeMask;
+
+    /**
+     * @param capacity the limiter whose limit and in-flight count the shares are computed from
+     * @param maxKeyShare fraction of the limit one key may hold without borrowing, (0, 1]
+     * @param stripes number of counters, rounded up to a power of two
+     */
+    public FairShareGate(LimiterStats capacity, double maxKeyShare, int stripes) {
+        if (maxKeyShare <= 0.0 || maxKeyShare > 1.0) {
+            throw new IllegalArgumentException("maxKeyShare must be in (0, 1] but was " + maxKeyShare);
+        }
+        if (stripes < 1 || stripes > (1 << 30)) {
+            throw new IllegalArgumentException("stripes must be in [1, 2^30] but was " + stripes);
+        }
+
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+
+        this.enabled = true;
+        this.capacity = capacity;
+        this.maxKeyShare = maxKeyShare;
+        this.inFlightByStripe = new AtomicIntegerArray(size);
+        this.stripeMask = size - 1;
+    }
+
+    private FairShareGate() {
+        this.enabled = false;
+        this.capacity = null;
+        this.maxKeyShare = 1.0;
+        this.inFlightByStripe = new AtomicIntegerArray(1);
+        this.stripeMask = 0;
+    }
+
+    /**
+     * @return a gate that applies no per-key cap and delegates straight to the limiter
+     */
+    public static FairShareGate disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Acquires a permit from {@code limiter} on behalf of {@code key}.
+     *
+     * @return a held permit, or {@code null} when the key is over its share or the limiter is full
+     */
+    public ConcurrencyLimiter.Permit tryAcquire(String key, ConcurrencyLimiter limiter) {
+        if (!enabled) {
+            return limiter.tryAcquire();
+        }
+
+        int stripe = stripe(key);
+        int limit = capacity.limit();
+        int cap = cap(limit);
+
+        int current;
+        do {
+            current = inFlightByStripe.get(stripe);
+            if (current >= cap && capacity.inFlight() + cap >= limit) {
+                return null;
+            }
+        } while (!inFlightByStripe.compareAndSet(stripe, current, current + 1));
+
+        ConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            inFlightByStripe.decrementAndGet(stripe);
+            return null;
+        }
+        return new KeyedPermit(this, stripe, permit);
+    }
+
+    /**
+     * @return permits currently held by {@code key} (including keys sharing its stripe)
+     */
+    public int inFlight(String key) {
+        return inFlightByStripe.get(stripe(key));
+    }
+
+    /**
+     * @return {@code true} when {@code key} holds at least its share of the current limit
+     */
+    public boolean isOverShare(String key) {
+        if (!enabled) {
+            return false;
+        }
+        return inFlight(key) >= cap(capacity.limit());
+    }
+
+    private int cap(int limit) {
+        return Math.max(1, (int) (limit * maxKeyShare));
+    }
+
+    private int stripe(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+
+    private static final class KeyedPermit extends ReleaseOncePermit {
+
+        private final FairShareGate gate;
+        private final int stripe;
+        private final ConcurrencyLimiter.Permit delegate;
+
+        KeyedPermit(FairShareGate gate, int stripe, ConcurrencyLimiter.Permit delegate) {
+            this.gate = gate;
+            this.stripe = stripe;
+            this.delegate = delegate;
+        }
+
+        @Override
+        void onRelease(Outcome outcome) {
+            gate.inFlightByStripe.decrementAndGet(stripe);
+
+            switch (outcome) {
+                case SUCCESS -> delegate.release();
+                case DROPPED -> delegate.releaseDropped();
+                case IGNORED -> delegate.releaseIgnored();
+            }
+        }
+    }
+}
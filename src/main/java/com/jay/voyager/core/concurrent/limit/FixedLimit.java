@@ -0,0 +1,26 @@
+package com.jay.voyager.core.concurrent.limit;
+
+/**
+ * Static limit that never changes. Equivalent to a plain semaphore-based bulkhead.
+ */
+public final class FixedLimit implements LimitAlgorithm {
+
+    private final int limit;
+
+    public FixedLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be >= 1 but was " + limit);
+        }
+        this.limit = limit;
+    }
+
+    @Override
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+        // static by design, samples are ignored.
+    }
+}
@@ -0,0 +1,142 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gradient-based limit that tracks the ratio between long-term and current latency.
+ *
+ * <p>
+ * The algorithm keeps an exponential moving average of round trip time over a long window
+ * as the "no queueing" baseline. Each sample compares that baseline with the latest RTT:
+ * </p>
+ *
+ * <pre>
+ *   gradient = clamp(rttTolerance * longRtt / sampleRtt, 0.5, 1.0)
+ *   newLimit = limit * gradient + queueSize
+ *   limit    = limit * (1 - smoothing) + newLimit * smoothing
+ * </pre>
+ *
+ * <p>
+ * While latency stays within {@code rttTolerance} of the baseline the gradient is 1 and the
+ * limit grows by {@code queueSize} (the square root of the current limit). Once requests start
+ * queueing, RTT rises, the gradient drops below 1 and the limit shrinks towards the level the
+ * service can actually sustain.
+ * </p>
+ *
+ * <p>
+ * The limit is not grown while less than half of it is in use, otherwise an idle service would
+ * drift to {@code maxLimit} and lose its protection the moment a burst arrives.
+ * </p>
+ *
+ * <p>
+ * Lock-free: the estimated limit and the long RTT are packed as two floats into one {@link AtomicLong},
+ * a sample computes the next pair and compare-and-sets it, retrying on a concurrent update. Float
+ * precision (about seven digits) is far below the noise of either value.
+ * </p>
+ */
+public final class GradientLimit implements LimitAlgorithm {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double MAX_GRADIENT = 1.0;
+
+    // long RTT is pulled down when it drifts too far above recent samples (recovers after an incident)
+    private static final double LONG_RTT_DRIFT_RATIO = 2.0;
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double longRttFactor;
+
+    // estimated limit in the high, long RTT in nanoseconds in the low 32 bits, both float bits
+    private final AtomicLong state;
+
+    public GradientLimit(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double smoothing,
+            double rttTolerance,
+            int longWindow
+    ) {
+        LimitBounds.validate(initialLimit, minLimit, maxLimit);
+        if (smoothing <= 0.0 || smoothing > 1.0) {
+            throw new IllegalArgumentException("smoothing must be in (0, 1] but was " + smoothing);
+        }
+        if (rttTolerance < 1.0) {
+            throw new IllegalArgumentException("rttTolerance must be >= 1.0 but was " + rttTolerance);
+        }
+        if (longWindow < 1) {
+            throw new IllegalArgumentException("longWindow must be >= 1 but was " + longWindow);
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.longRttFactor = 2.0 / (longWindow + 1);
+
+        this.state = new AtomicLong(pack(initialLimit, 0.0));
+    }
+
+    @Override
+    public int limit() {
+        return (int) estimatedLimit(state.get());
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        double sampleRtt = rttNanos;
+
+        long current;
+        long next;
+        do {
+            current = state.get();
+            double estimatedLimit = estimatedLimit(current);
+            double longRttNanos = longRttNanos(current);
+
+            if (longRttNanos == 0.0) {
+                longRttNanos = sampleRtt;
+            } else {
+                longRttNanos += (sampleRtt - longRttNanos) * longRttFactor;
+            }
+
+            if (longRttNanos / sampleRtt > LONG_RTT_DRIFT_RATIO) {
+                longRttNanos *= LONG_RTT_DECAY;
+            }
+
+            // app-limited: not enough load to learn anything about the upper bound
+            if (dropped || inFlight >= estimatedLimit / 2) {
+                double gradient = dropped
+                        ? MIN_GRADIENT
+                        : Math.max(MIN_GRADIENT, Math.min(MAX_GRADIENT, rttTolerance * longRttNanos / sampleRtt));
+
+                double queueSize = Math.sqrt(estimatedLimit);
+                double newLimit = estimatedLimit * gradient + queueSize;
+                newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+
+                estimatedLimit = LimitBounds.clamp(newLimit, minLimit, maxLimit);
+            }
+
+            next = pack(estimatedLimit, longRttNanos);
+        } while (!state.compareAndSet(current, next));
+    }
+
+    private static long pack(double estimatedLimit, double longRttNanos) {
+        return (long) Float.floatToRawIntBits((float) estimatedLimit) << 32
+                | Float.floatToRawIntBits((float) longRttNanos) & 0xFFFF_FFFFL;
+    }
+
+    private static double estimatedLimit(long state) {
+        return Float.intBitsToFloat((int) (state >>> 32));
+    }
+
+    private static double longRttNanos(long state) {
+        return Float.intBitsToFloat((int) state);
+    }
+}
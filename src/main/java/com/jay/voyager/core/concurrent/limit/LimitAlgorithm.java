@@ -0,0 +1,33 @@
+package com.jay.voyager.core.concurrent.limit;
+
+/**
+ * Strategy that decides how many concurrent calls a {@link ConcurrencyLimiter} admits.
+ *
+ * <p>
+ * Implementations observe completed calls through {@link #onSample(long, int, boolean)} and
+ * may move the limit up or down in response. The limiter reads {@link #limit()} on every
+ * acquire attempt, so a changed limit takes effect immediately without resizing any
+ * underlying structure.
+ * </p>
+ *
+ * <p>
+ * Implementations must be thread-safe. {@link #limit()} is on the admission hot path and
+ * should be a plain volatile read.
+ * </p>
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * @return the current concurrency limit, always {@code >= 1}
+     */
+    int limit();
+
+    /**
+     * Records a completed call.
+     *
+     * @param rttNanos time the call held its permit, in nanoseconds
+     * @param inFlight number of in-flight calls (including this one) when the permit was acquired
+     * @param dropped {@code true} when the call signalled overload (for example a timeout)
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+}
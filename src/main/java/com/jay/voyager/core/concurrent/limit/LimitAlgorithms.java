@@ -0,0 +1,28 @@
+package com.jay.voyager.core.concurrent.limit;
+
+// maps a resolved LimitPolicy to a fresh algorithm instance (algorithms are stateful, never share)
+public final class LimitAlgorithms {
+
+    private LimitAlgorithms() {}
+
+    public static LimitAlgorithm create(LimitPolicy policy) {
+        return switch (policy.algorithm()) {
+            case FIXED -> new FixedLimit(policy.initialLimit());
+            case AIMD -> new AimdLimit(
+                    policy.initialLimit(),
+                    policy.minLimit(),
+                    policy.maxLimit(),
+                    policy.aimd().backoffRatio(),
+                    policy.aimd().timeout()
+            );
+            case GRADIENT -> new GradientLimit(
+                    policy.initialLimit(),
+                    policy.minLimit(),
+                    policy.maxLimit(),
+                    policy.gradient().smoothing(),
+                    policy.gradient().rttTolerance(),
+                    policy.gradient().longWindow()
+            );
+        };
+    }
+}
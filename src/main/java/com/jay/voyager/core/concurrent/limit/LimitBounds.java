@@ -0,0 +1,31 @@
+package com.jay.voyager.core.concurrent.limit;
+
+// shared argument checks and clamping for limit algorithms
+final class LimitBounds {
+
+    private LimitBounds() {}
+
+    static void validate(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("minLimit must be >= 1 but was " + minLimit);
+        }
+        if (maxLimit < minLimit) {
+            throw new IllegalArgumentException(
+                    "maxLimit (" + maxLimit + ") must be >= minLimit (" + minLimit + ")"
+            );
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "initialLimit (" + initialLimit + ") must be within [" + minLimit + ", " + maxLimit + "]"
+            );
+        }
+    }
+
+    static int clamp(int limit, int minLimit, int maxLimit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+
+    static double clamp(double limit, int minLimit, int maxLimit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+}
@@ -0,0 +1,37 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.time.Duration;
+
+/**
+ * Resolved settings for a {@link LimitAlgorithm}. Shared by inbound admission and outbound clients.
+ *
+ * <p>
+ * Algorithm-specific settings are only read when the matching {@link Algorithm} is selected.
+ * {@link Algorithm#FIXED} uses {@code initialLimit} as its static limit.
+ * </p>
+ */
+public record LimitPolicy(
+        Algorithm algorithm,
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        Gradient gradient,
+        Aimd aimd
+) {
+    public enum Algorithm {
+        FIXED,
+        AIMD,
+        GRADIENT
+    }
+
+    public record Gradient(
+            double smoothing,
+            double rttTolerance,
+            int longWindow
+    ) {}
+
+    public record Aimd(
+            double backoffRatio,
+            Duration timeout
+    ) {}
+}
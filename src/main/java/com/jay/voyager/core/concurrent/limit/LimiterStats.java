@@ -0,0 +1,15 @@
+package com.jay.voyager.core.concurrent.limit;
+
+// read-only view of a limiter, what metrics and diagnostics are allowed to see
+public interface LimiterStats {
+
+    /**
+     * @return the limit currently enforced
+     */
+    int limit();
+
+    /**
+     * @return the number of permits currently held
+     */
+    int inFlight();
+}
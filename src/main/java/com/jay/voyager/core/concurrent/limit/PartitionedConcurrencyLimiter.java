@@ -0,0 +1,252 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limiter whose permits are split between a fixed set of partitions.
+ *
+ * <p>
+ * Each partition owns a {@link Share} of the current limit:
+ * </p>
+ * <ul>
+ *   <li>{@code reservedShare} - permits kept available for the partition. Other partitions can
+ *       never borrow into the unused reservation of another partition.</li>
+ *   <li>{@code maxShare} - upper bound for the partition, reservation plus borrowed capacity.</li>
+ * </ul>
+ *
+ * <p>
+ * Shares are fractions of {@link LimitAlgorithm#limit()} and are recomputed on every acquire,
+ * so partitions follow an adaptive limit as it grows and shrinks. Under overload the partitions
+ * without a reservation are shed first, while reserved partitions keep being admitted for as long
+ * as they stay within their reservation.
+ * </p>
+ *
+ * <p>
+ * Admission needs a consistent view of every partition, so all in-flight counters are packed into
+ * a single {@link AtomicLong}, {@code 64 / partitions} bits each (at most 31), and an acquire
+ * compare-and-sets the incremented word after checking it. Nothing blocks, a lost race only re-reads
+ * and re-checks. That caps the number of partitions at four.
+ * </p>
+ *
+ * @param <P> partition key
+ */
+public final class PartitionedConcurrencyLimiter<P extends Enum<P>> implements LimiterStats {
+
+    // keeps at least 16 bits, 65535 permits, per partition
+    static final int MAX_PARTITIONS = 4;
+
+    private final LimitAlgorithm algorithm;
+    private final LongSupplier nanoClock;
+
+    private final double[] reservedShares;
+    private final double[] maxShares;
+    private final Map<P, ConcurrencyLimiter> partitions;
+
+    private final int bitsPerPartition;
+    private final long partitionMask;
+    // in-flight count of partition i in bits [i * bitsPerPartition, (i + 1) * bitsPerPartition)
+    private final AtomicLong inFlightByPartition = new AtomicLong();
+
+    public PartitionedConcurrencyLimiter(LimitAlgorithm algorithm, Class<P> partitionType, Map<P, Share> shares) {
+        this(algorithm, partitionType, shares, System::nanoTime);
+    }
+
+    PartitionedConcurrencyLimiter(
+            LimitAlgorithm algorithm,
+            Class<P> partitionType,
+            Map<P, Share> shares,
+            LongSupplier nanoClock
+    ) {
+        P[] keys = partitionType.getEnumConstants();
+        if (keys.length > MAX_PARTITIONS) {
+            throw new IllegalArgumentException(
+                    "At most " + MAX_PARTITIONS + " partitions are supported but " + partitionType.getSimpleName()
+                            + " has " + keys.length
+            );
+        }
+
+        this.algorithm = algorithm;
+        this.nanoClock = nanoClock;
+        this.reservedShares = new double[keys.length];
+        this.maxShares = new double[keys.length];
+        this.partitions = new EnumMap<>(partitionType);
+        this.bitsPerPartition = Math.min(Integer.SIZE - 1, Long.SIZE / keys.length);
+        this.partitionMask = (1L << bitsPerPartition) - 1;
+
+        double totalReserved = 0.0;
+        for (P key : keys) {
+            Share share = shares.get(key);
+            if (share == null) {
+                throw new IllegalArgumentException("Missing share for partition " + key);
+            }
+            reservedShares[key.ordinal()] = share.reservedShare();
+            maxShares[key.ordinal()] = share.maxShare();
+            totalReserved += share.reservedShare();
+
+            partitions.put(key, new PartitionView(key.ordinal()));
+        }
+
+        if (totalReserved > 1.0) {
+            throw new IllegalArgumentException("Reserved shares must add up to <= 1.0 but were " + totalReserved);
+        }
+    }
+
+    /**
+     * @return the limiter view admitting on behalf of {@code partition}
+     */
+    public ConcurrencyLimiter partition(P partition) {
+        return partitions.get(partition);
+    }
+
+    @Override
+    public int limit() {
+        return algorithm.limit();
+    }
+
+    @Override
+    public int inFlight() {
+        return total(inFlightByPartition.get());
+    }
+
+    private int inFlight(int partition) {
+        return used(inFlightByPartition.get(), partition);
+    }
+
+    private ConcurrencyLimiter.Permit tryAcquire(int partition) {
+        int limit = algorithm.limit();
+
+        long current;
+        int inFlight;
+        do {
+            current = inFlightByPartition.get();
+            inFlight = total(current);
+            if (inFlight >= limit) {
+                return null;
+            }
+
+            int used = used(current, partition);
+            if (used >= maxPermits(partition, limit) || used == partitionMask) {
+                return null;
+            }
+
+            if (used >= reservedPermits(partition, limit)
+                    && inFlight + unusedReservations(current, partition, limit) >= limit) {
+                // borrowing would eat into capacity another partition has reserved
+                return null;
+            }
+        } while (!inFlightByPartition.compareAndSet(current, current + unit(partition)));
+
+        return new PartitionPermit(this, partition, nanoClock.getAsLong(), inFlight + 1);
+    }
+
+    private void onRelease(int partition, long startNanos, int inFlightAtAcquire, ReleaseOncePermit.Outcome outcome) {
+        inFlightByPartition.addAndGet(-unit(partition));
+
+        if (outcome != ReleaseOncePermit.Outcome.IGNORED) {
+            long rtt = nanoClock.getAsLong() - startNanos;
+            algorithm.onSample(rtt, inFlightAtAcquire, outcome == ReleaseOncePermit.Outcome.DROPPED);
+        }
+    }
+
+    private int unusedReservations(long state, int borrower, int limit) {
+        int unused = 0;
+        for (int partition = 0; partition < reservedShares.length; partition++) {
+            if (partition != borrower) {
+                unused += Math.max(0, reservedPermits(partition, limit) - used(state, partition));
+            }
+        }
+        return unused;
+    }
+
+    private int total(long state) {
+        int total = 0;
+        for (int partition = 0; partition < reservedShares.length; partition++) {
+            total += used(state, partition);
+        }
+        return total;
+    }
+
+    private int used(long state, int partition) {
+        return (int) ((state >>> (partition * bitsPerPartition)) & partitionMask);
+    }
+
+    private long unit(int partition) {
+        return 1L << (partition * bitsPerPartition);
+    }
+
+    private int reservedPermits(int partition, int limit) {
+        return (int) (limit * reservedShares[partition]);
+    }
+
+    private int maxPermits(int partition, int limit) {
+        // a partition with a non-zero max share always gets at least one permit
+        return (int) Math.ceil(limit * maxShares[partition]);
+    }
+
+    /**
+     * Fractions of the limit owned by one partition.
+     *
+     * @param reservedShare share kept for this partition, [0, 1]
+     * @param maxShare upper bound including borrowed capacity, [reservedShare, 1]
+     */
+    public record Share(double reservedShare, double maxShare) {
+
+        public Share {
+            if (reservedShare < 0.0 || reservedShare > 1.0) {
+                throw new IllegalArgumentException("reservedShare must be in [0, 1] but was " + reservedShare);
+            }
+            if (maxShare < reservedShare || maxShare > 1.0) {
+                throw new IllegalArgumentException(
+                        "maxShare must be in [" + reservedShare + ", 1] but was " + maxShare
+                );
+            }
+        }
+    }
+
+    private final class PartitionView implements ConcurrencyLimiter {
+
+        private final int partition;
+
+        PartitionView(int partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public Permit tryAcquire() {
+            return PartitionedConcurrencyLimiter.this.tryAcquire(partition);
+        }
+
+        @Override
+        public int limit() {
+            return maxPermits(partition, algorithm.limit());
+        }
+
+        @Override
+        public int inFlight() {
+            return PartitionedConcurrencyLimiter.this.inFlight(partition);
+        }
+    }
+
+    private static final class PartitionPermit extends ReleaseOncePermit {
+
+        private final PartitionedConcurrencyLimiter<?> limiter;
+        private final int partition;
+        private final long startNanos;
+        private final int inFlightAtAcquire;
+
+        PartitionPermit(PartitionedConcurrencyLimiter<?> limiter, int partition, long startNanos, int inFlightAtAcquire) {
+            this.limiter = limiter;
+            this.partition = partition;
+            this.startNanos = startNanos;
+            this.inFlightAtAcquire = inFlightAtAcquire;
+        }
+
+        @Override
+        void onRelease(Outcome outcome) {
+            limiter.onRelease(partition, startNanos, inFlightAtAcquire, outcome);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limiter for hot call paths that allocates nothing to acquire or release a permit.
+ *
+ * <p>
+ * Admission reserves capacity with a CAS loop on an in-flight counter against
+ * {@link LimitAlgorithm#limit()}, like {@link SimpleConcurrencyLimiter}, then claims one of a fixed
+ * pool of reusable {@link PooledPermit}s. The limit is capped by the pool's capacity.
+ * </p>
+ *
+ * <p>
+ * Because permits are reused, a hold is identified by a stamp: read {@link PooledPermit#stamp()}
+ * right after acquiring and pass it back on release. Only the first release of a stamp counts, a
+ * late duplicate (for example a second close signal arriving after the permit went to another
+ * caller) is a no-op. This gives the release-once guarantee of {@link ConcurrencyLimiter.Permit}
+ * without a gate object per call.
+ * </p>
+ *
+ * <p>
+ * {@link #tryAcquire(long)} may wait a short, bounded time for a permit. Waiters poll with a
+ * growing park interval instead of queueing, so releasing never has to signal anyone. It is
+ * meant for waits of a few milliseconds, not as a queue.
+ * </p>
+ */
+public final class PooledConcurrencyLimiter implements LimiterStats {
+
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LimitAlgorithm algorithm;
+    private final LongSupplier nanoClock;
+    private final PooledPermit[] pool;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // index of the most recently released permit, where the next claim starts looking
+    private volatile int freeHint;
+
+    public PooledConcurrencyLimiter(LimitAlgorithm algorithm, int capacity) {
+        this(algorithm, capacity, System::nanoTime);
+    }
+
+    PooledConcurrencyLimiter(LimitAlgorithm algorithm, int capacity, LongSupplier nanoClock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1 but was " + capacity);
+        }
+
+        this.algorithm = algorithm;
+        this.nanoClock = nanoClock;
+        this.pool = new PooledPermit[capacity];
+        for (int i = 0; i < capacity; i++) {
+            pool[i] = new PooledPermit(this, i);
+        }
+    }
+
+    /**
+     * Attempts to acquire a permit without waiting.
+     *
+     * @return a held permit, or {@code null} when the current limit has been reached
+     */
+    public PooledPermit tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit()) {
+                return null;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        return claim(current + 1);
+    }
+
+    /**
+     * Attempts to acquire a permit, waiting up to {@code maxWaitNanos} for one to be released.
+     * An interrupt ends the wait, the interrupt status is kept.
+     *
+     * @return a held permit, or {@code null} when none became available in time
+     */
+    public PooledPermit tryAcquire(long maxWaitNanos) {
+        PooledPermit permit = tryAcquire();
+        if (permit != null || maxWaitNanos <= 0) {
+            return permit;
+        }
+
+        long deadlineNanos = System.nanoTime() + maxWaitNanos;
+        long parkNanos = MIN_PARK_NANOS;
+        while (true) {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0 || Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+
+            LockSupport.parkNanos(this, Math.min(parkNanos, remainingNanos));
+
+            permit = tryAcquire();
+            if (permit != null) {
+                return permit;
+            }
+            parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+        }
+    }
+
+    @Override
+    public int limit() {
+        return Math.min(algorithm.limit(), pool.length);
+    }
+
+    @Override
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return number of pooled permits, the upper bound of {@link #limit()}
+     */
+    public int capacity() {
+        return pool.length;
+    }
+
+    /*
+     * Capacity is already reserved, and permits are freed before the counter is decremented, so at
+     * least one permit is free for every reserved caller. Another caller may claim the one we
+     * looked at first, in which case the scan simply continues.
+     */
+    private PooledPermit claim(int inFlightAtAcquire) {
+        int start = freeHint;
+        while (true) {
+            for (int i = 0; i < pool.length; i++) {
+                int index = start + i;
+                if (index >= pool.length) {
+                    index -= pool.length;
+                }
+                if (pool[index].tryClaim(nanoClock.getAsLong(), inFlightAtAcquire)) {
+                    return pool[index];
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void onRelease(int index, long startNanos, int inFlightAtAcquire, ReleaseOncePermit.Outcome outcome) {
+        freeHint = index;
+        inFlight.decrementAndGet();
+
+        if (outcome != ReleaseOncePermit.Outcome.IGNORED) {
+            long rtt = nanoClock.getAsLong() - startNanos;
+            algorithm.onSample(rtt, inFlightAtAcquire, outcome == ReleaseOncePermit.Outcome.DROPPED);
+        }
+    }
+
+    /**
+     * A reusable permit. The stamp is odd while held and advances on every claim and release, so a
+     * stamp is never valid for more than one hold.
+     */
+    public static final class PooledPermit {
+
+        private static final AtomicLongFieldUpdater<PooledPermit> STAMP =
+                AtomicLongFieldUpdater.newUpdater(PooledPermit.class, "stamp");
+
+        private final PooledConcurrencyLimiter limiter;
+        private final int index;
+
+        private volatile long stamp;
+
+        // written by the claimer after the claim, read by the holder on release
+        private long startNanos;
+        private int inFlightAtAcquire;
+
+        private PooledPermit(PooledConcurrencyLimiter limiter, int index) {
+            this.limiter = limiter;
+            this.index = index;
+        }
+
+        /**
+         * @return the stamp of the current hold, read it right after acquiring
+         */
+        public long stamp() {
+            return stamp;
+        }
+
+        /**
+         * Call completed normally. The hold time is recorded as a latency sample.
+         */
+        public void release(long stamp) {
+            releaseOnce(stamp, ReleaseOncePermit.Outcome.SUCCESS);
+        }
+
+        /**
+         * Call was dropped due to overload (for example a timeout). Signals the algorithm to back off.
+         */
+        public void releaseDropped(long stamp) {
+            releaseOnce(stamp, ReleaseOncePermit.Outcome.DROPPED);
+        }
+
+        /**
+         * Call ended abnormally for reasons unrelated to load. No sample is recorded.
+         */
+        public void releaseIgnored(long stamp) {
+            releaseOnce(stamp, ReleaseOncePermit.Outcome.IGNORED);
+        }
+
+        private boolean tryClaim(long nowNanos, int inFlight) {
+            long current = stamp;
+            if ((current & 1L) != 0 || !STAMP.compareAndSet(this, current, current + 1)) {
+                return false;
+            }
+            startNanos = nowNanos;
+            inFlightAtAcquire = inFlight;
+            return true;
+        }
+
+        private void releaseOnce(long heldStamp, ReleaseOncePermit.Outcome outcome) {
+            // read before freeing, the next claimer overwrites them
+            long start = startNanos;
+            int inFlight = inFlightAtAcquire;
+
+            if ((heldStamp & 1L) != 0 && STAMP.compareAndSet(this, heldStamp, heldStamp + 1)) {
+                limiter.onRelease(index, start, inFlight, outcome);
+            }
+        }
+    }
+}
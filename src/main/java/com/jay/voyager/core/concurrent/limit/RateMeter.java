@@ -0,0 +1,61 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Smoothed events-per-second estimate, for example permit releases (drain rate) or rejections.
+ *
+ * <p>
+ * Recording is a single {@link LongAdder} increment so it is safe on hot paths. The rate is
+ * folded into an exponentially weighted moving average lazily, at most once per tick, by
+ * whichever reader arrives first after the tick elapsed. A fold covers every tick since the
+ * previous one, the average is decayed once per elapsed tick, so an estimate read after a quiet
+ * spell is as fresh as one read every tick.
+ * </p>
+ */
+public final class RateMeter {
+
+    private static final long TICK_NANOS = 100_000_000L; // 100ms
+    private static final double ALPHA = 0.3;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final LongSupplier nanoClock;
+    private final LongAdder events = new LongAdder();
+    private final AtomicLong lastTickNanos;
+
+    private volatile double ratePerSecond;
+
+    public RateMeter() {
+        this(System::nanoTime);
+    }
+
+    RateMeter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.lastTickNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public void record() {
+        events.increment();
+    }
+
+    /**
+     * @return smoothed rate in events per second, {@code 0} until the first tick elapsed
+     */
+    public double ratePerSecond() {
+        long now = nanoClock.getAsLong();
+        long last = lastTickNanos.get();
+        long elapsed = now - last;
+
+        // only one reader folds the tick, the others read the previous estimate
+        if (elapsed >= TICK_NANOS && lastTickNanos.compareAndSet(last, now)) {
+            double instant = events.sumThenReset() * NANOS_PER_SECOND / elapsed;
+            double current = ratePerSecond;
+            // the events are spread evenly over the elapsed ticks, each tick folds in with ALPHA
+            double weight = 1.0 - Math.pow(1.0 - ALPHA, (double) elapsed / TICK_NANOS);
+            ratePerSecond = current == 0.0 ? instant : current + weight * (instant - current);
+        }
+        return ratePerSecond;
+    }
+}
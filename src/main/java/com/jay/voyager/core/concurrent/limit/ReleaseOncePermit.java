@@ -0,0 +1,37 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+// release-once gate shared by limiter permits, subclasses decide what releasing means
+abstract class ReleaseOncePermit implements ConcurrencyLimiter.Permit {
+
+    private static final AtomicIntegerFieldUpdater<ReleaseOncePermit> RELEASED =
+            AtomicIntegerFieldUpdater.newUpdater(ReleaseOncePermit.class, "released");
+
+    private volatile int released;
+
+    @Override
+    public final void release() {
+        releaseOnce(Outcome.SUCCESS);
+    }
+
+    @Override
+    public final void releaseDropped() {
+        releaseOnce(Outcome.DROPPED);
+    }
+
+    @Override
+    public final void releaseIgnored() {
+        releaseOnce(Outcome.IGNORED);
+    }
+
+    abstract void onRelease(Outcome outcome);
+
+    private void releaseOnce(Outcome outcome) {
+        if (RELEASED.compareAndSet(this, 0, 1)) {
+            onRelease(outcome);
+        }
+    }
+
+    enum Outcome { SUCCESS, DROPPED, IGNORED }
+}
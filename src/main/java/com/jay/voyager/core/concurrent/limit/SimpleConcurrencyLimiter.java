@@ -0,0 +1,79 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link ConcurrencyLimiter} backed by a single in-flight counter and a {@link LimitAlgorithm}.
+ *
+ * <p>
+ * Acquisition is a CAS loop against {@link LimitAlgorithm#limit()}, so limit changes apply
+ * on the very next acquire. When the limit shrinks below the current in-flight count no
+ * permits are revoked; new acquisitions simply fail until enough calls complete.
+ * </p>
+ */
+public final class SimpleConcurrencyLimiter implements ConcurrencyLimiter {
+
+    private final LimitAlgorithm algorithm;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public SimpleConcurrencyLimiter(LimitAlgorithm algorithm) {
+        this(algorithm, System::nanoTime);
+    }
+
+    SimpleConcurrencyLimiter(LimitAlgorithm algorithm, LongSupplier nanoClock) {
+        this.algorithm = algorithm;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Permit tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= algorithm.limit()) {
+                return null;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        return new HeldPermit(this, nanoClock.getAsLong(), current + 1);
+    }
+
+    @Override
+    public int limit() {
+        return algorithm.limit();
+    }
+
+    @Override
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void onRelease(long startNanos, int inFlightAtAcquire, ReleaseOncePermit.Outcome outcome) {
+        inFlight.decrementAndGet();
+
+        if (outcome != ReleaseOncePermit.Outcome.IGNORED) {
+            long rtt = nanoClock.getAsLong() - startNanos;
+            algorithm.onSample(rtt, inFlightAtAcquire, outcome == ReleaseOncePermit.Outcome.DROPPED);
+        }
+    }
+
+    private static final class HeldPermit extends ReleaseOncePermit {
+
+        private final SimpleConcurrencyLimiter limiter;
+        private final long startNanos;
+        private final int inFlightAtAcquire;
+
+        HeldPermit(SimpleConcurrencyLimiter limiter, long startNanos, int inFlightAtAcquire) {
+            this.limiter = limiter;
+            this.startNanos = startNanos;
+            this.inFlightAtAcquire = inFlightAtAcquire;
+        }
+
+        @Override
+        void onRelease(Outcome outcome) {
+            limiter.onRelease(startNanos, inFlightAtAcquire, outcome);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.jay.voyager.core.context.deadline;
+
+import java.time.Duration;
+
+/**
+ * Point in time by which the current request must be answered.
+ *
+ * <p>
+ * A {@code Deadline} is captured once at ingress and then only shrinks: every outbound call made for
+ * the request gets at most the {@link #remaining()} time, never its own full timeout. Work that can
+ * no longer finish in time is abandoned instead of holding threads and downstream capacity.
+ * </p>
+ *
+ * <p>
+ * Deadlines are based on {@link System#nanoTime()}, so they are only meaningful inside this process.
+ * Across process boundaries the remaining budget is sent instead of the instant, which keeps clock
+ * skew between hosts out of the picture.
+ * </p>
+ *
+ * <p>
+ * The absence of a deadline is represented exclusively by the {@link #NONE} sentinel instance.
+ * </p>
+ */
+public final class Deadline {
+
+    /**
+     * Sentinel for "no deadline", {@link #remaining()} is unbounded and it never expires.
+     */
+    public static final Deadline NONE = new Deadline(0L);
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @param budget time allowed from now, negative budgets are treated as zero (already expired)
+     * @return a deadline {@code budget} from now
+     */
+    public static Deadline after(Duration budget) {
+        long budgetNanos = Math.max(0L, saturatedNanos(budget));
+        return new Deadline(System.nanoTime() + budgetNanos);
+    }
+
+    /**
+     * @return {@code true} for the {@link #NONE} sentinel
+     */
+    public boolean isNone() {
+        return this == NONE;
+    }
+
+    /**
+     * @return {@code true} when no time is left, never for {@link #NONE}
+     */
+    public boolean isExpired() {
+        return !isNone() && deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @return time left, {@link Duration#ZERO} once expired
+     * @throws IllegalStateException for {@link #NONE}, check {@link #isNone()} first
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(remainingNanos());
+    }
+
+    /**
+     * @return nanoseconds left, 0 once expired
+     * @throws IllegalStateException for {@link #NONE}, check {@link #isNone()} first
+     */
+    public long remainingNanos() {
+        if (isNone()) {
+            throw new IllegalStateException("No deadline");
+        }
+        return Math.max(0L, deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * @param timeout a timeout configured for some piece of work
+     * @return {@code timeout}, shortened to the remaining time when that is less
+     */
+    public Duration cap(Duration timeout) {
+        if (isNone()) {
+            return timeout;
+        }
+        long remainingNanos = remainingNanos();
+        return remainingNanos < saturatedNanos(timeout) ? Duration.ofNanos(remainingNanos) : timeout;
+    }
+
+    /**
+     * @return the earlier of the two deadlines, {@link #NONE} counts as the latest
+     */
+    public Deadline earliest(Deadline other) {
+        if (isNone()) {
+            return other;
+        }
+        if (other.isNone()) {
+            return this;
+        }
+        return other.deadlineNanos - deadlineNanos < 0 ? other : this;
+    }
+
+    @Override
+    public String toString() {
+        return isNone() ? "Deadline[none]" : "Deadline[remaining=" + remaining() + "]";
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException _) {
+            return duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+}
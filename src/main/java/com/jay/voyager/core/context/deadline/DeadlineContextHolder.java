@@ -0,0 +1,47 @@
+package com.jay.voyager.core.context.deadline;
+
+/**
+ * Scoped holder for the deadline of the current request.
+ *
+ * <p>
+ * The deadline is bound at inbound boundaries with {@link #where(Deadline)} and is in effect for the
+ * extent of that call. Unlike identity there is no {@link ThreadLocal} mode: nothing ever has to be
+ * cleared, and tasks moved to other threads rebind the captured deadline the same way (see the
+ * deadline context propagator).
+ * </p>
+ *
+ * <p>
+ * {@link #context()} never returns {@code null}. Without a binding {@link Deadline#NONE} is returned.
+ * </p>
+ */
+public final class DeadlineContextHolder {
+
+    private static final ScopedValue<Deadline> SCOPED = ScopedValue.newInstance();
+
+    private DeadlineContextHolder() {}
+
+    /**
+     * @return the deadline bound for the current call, or {@link Deadline#NONE}
+     */
+    public static Deadline context() {
+        return SCOPED.isBound() ? SCOPED.get() : Deadline.NONE;
+    }
+
+    /**
+     * Prepares a scoped binding of {@code deadline}, for example
+     * {@code DeadlineContextHolder.where(deadline).run(task)}.
+     *
+     * <p>
+     * A nested binding can only tighten the deadline: the earlier of {@code deadline} and the one
+     * currently in effect is bound. Passing {@code null} keeps the current deadline.
+     * </p>
+     *
+     * @param deadline deadline to bind
+     * @return carrier running operations with the deadline bound
+     */
+    public static ScopedValue.Carrier where(Deadline deadline) {
+        Deadline current = context();
+        Deadline bound = deadline == null ? current : current.earliest(deadline);
+        return ScopedValue.where(SCOPED, bound);
+    }
+}
@@ -0,0 +1,15 @@
+package com.jay.voyager.core.context.deadline;
+
+/**
+ * Thrown instead of starting work once the request {@link Deadline} has passed.
+ *
+ * <p>
+ * Nothing was sent or executed when this is thrown, so it is always safe to treat as "not done".
+ * </p>
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,26 @@
+package com.jay.voyager.core.context.deadline;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Resolved request deadline settings, applied at ingress and on outbound calls.
+ *
+ * @param header header carrying the remaining budget in milliseconds, read inbound and sent outbound
+ * @param defaultTimeout budget for requests without header or matching route, {@link Duration#ZERO} for none
+ * @param maxTimeout upper bound for budgets received in the header
+ * @param routeRules per-route budgets used when the caller sent none, first match wins
+ */
+public record DeadlinePolicy(
+        String header,
+        Duration defaultTimeout,
+        Duration maxTimeout,
+        List<RouteRule> routeRules
+) {
+    // method is optional (null matches any method)
+    public record RouteRule(
+            String pathPattern,
+            String method,
+            Duration timeout
+    ) {}
+}
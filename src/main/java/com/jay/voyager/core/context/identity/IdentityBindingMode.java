@@ -0,0 +1,24 @@
+package com.jay.voyager.core.context.identity;
+
+/**
+ * How inbound boundaries bind identity for the code they call.
+ *
+ * <p>
+ * {@link IdentityContextHolder#context()} reads both bindings, so readers never depend on the mode.
+ * Only the code that binds identity (inbound filters, task propagators) chooses one.
+ * </p>
+ */
+public enum IdentityBindingMode {
+
+    /**
+     * Identity is set on a {@link ThreadLocal} and must be cleared and restored explicitly.
+     */
+    THREAD_LOCAL,
+
+    /**
+     * Identity is bound to a {@link ScopedValue} for the extent of a call. Nothing has to be cleared,
+     * virtual threads never allocate a thread-local map entry for it, and structured task scope forks
+     * inherit the binding.
+     */
+    SCOPED_VALUE
+}
@@ -12,6 +12,15 @@ package com.jay.voyager.core.context.identity;
  * </p>
  *
  * <p>
+ * Identity can be bound in two ways, see {@link IdentityBindingMode}: on a {@link ThreadLocal}
+ * through {@link #context(IdentityContextSnapshot)} / {@link #clear()}, or on a {@link ScopedValue}
+ * for the extent of a call through {@link #where(IdentityContextSnapshot)}. {@link #context()} reads
+ * the scoped binding first and only falls back to the {@link ThreadLocal} when none is in effect, so
+ * a thread that only ever uses scoped bindings never touches its thread-local map. A
+ * {@link ThreadLocal} set while a scoped binding is in effect is not visible until that scope ends.
+ * </p>
+ *
+ * <p>
  * Callers interact only with {@link IdentityContextSnapshot}, which represents an
  * immutable, point-in-time view of identity.
  * </p>
@@ -22,12 +31,13 @@ package com.jay.voyager.core.context.identity;
  * </p>
  *
  * <p>
- * {@link #clear()} must be invoked in a {@code finally} block to avoid leaking identity
- * state across thread reuse.
+ * When binding through the {@link ThreadLocal}, {@link #clear()} must be invoked in a {@code finally}
+ * block to avoid leaking identity state across thread reuse. Scoped bindings end with their call.
  * </p>
  */
 public final class IdentityContextHolder {
 
+    private static final ScopedValue<IdentityContextSnapshot> SCOPED = ScopedValue.newInstance();
     private static final ThreadLocal<IdentityContextSnapshot> LOCAL = new ThreadLocal<>();
 
     private IdentityContextHolder() {}
@@ -44,6 +54,11 @@ public final class IdentityContextHolder {
      * @return a non-null snapshot of the currentidentity propagation
      */
     public static IdentityContextSnapshot context() {
+        if (SCOPED.isBound()) {
+            // already normalized and immutable when bound
+            return SCOPED.get();
+        }
+
         IdentityContextSnapshot ctx = LOCAL.get();
         if (ctx == null) {
             return IdentityContextSnapshot.EMPTY;
@@ -70,8 +85,32 @@ public final class IdentityContextHolder {
         LOCAL.set(IdentityContextSnapshot.of(snapshot.identity()));
     }
 
+    /**
+     * Prepares a scoped binding of the provided identity propagation.
+     *
+     * <p>
+     * The binding is in effect only while the returned carrier runs an operation, for example
+     * {@code IdentityContextHolder.where(snapshot).run(task)}, and takes precedence over the
+     * {@link ThreadLocal} binding. Nothing needs to be cleared afterwards.
+     * Passing {@code null} binds {@link IdentityContextSnapshot#EMPTY}.
+     * </p>
+     *
+     * @param snapshot snapshot representing the identity propagation to bind
+     * @return carrier running operations with the snapshot bound
+     */
+    public static ScopedValue.Carrier where(IdentityContextSnapshot snapshot) {
+        IdentityContextSnapshot normalized = snapshot == null
+                ? IdentityContextSnapshot.EMPTY
+                : IdentityContextSnapshot.of(snapshot.identity());
+        return ScopedValue.where(SCOPED, normalized);
+    }
+
     /**
      * Clears the identity propagation from the current thread.
+     *
+     * <p>
+     * Only the {@link ThreadLocal} binding is cleared, scoped bindings end with their call.
+     * </p>
      */
     public static void clear() {
         LOCAL.remove();
@@ -0,0 +1,7 @@
+package com.jay.voyager.core.domain.jobs;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// core domain model, mapped to the API DTO at the web layer
+public record Job(UUID id, JobStatus status, Instant requestedAt) {}
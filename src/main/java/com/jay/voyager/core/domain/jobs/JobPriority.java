@@ -0,0 +1,8 @@
+package com.jay.voyager.core.domain.jobs;
+
+// queued jobs of one type start in this order, FIFO within a priority
+public enum JobPriority {
+    HIGH,
+    NORMAL,
+    LOW
+}
@@ -0,0 +1,16 @@
+package com.jay.voyager.core.domain.jobs;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED;
+
+    /**
+     * @return whether the job is done and its status can no longer change
+     */
+    public boolean isFinished() {
+        return this != QUEUED && this != RUNNING;
+    }
+}
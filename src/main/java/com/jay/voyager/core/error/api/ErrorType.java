@@ -4,9 +4,11 @@ public enum ErrorType {
     //Server errors
     INTERNAL_SERVER_ERROR("Internal Server Error"),
     DEPENDENCY_UNAVAILABLE( "Dependency Unavailable"),
+    DEADLINE_EXCEEDED("Deadline Exceeded"),
 
     //Client errors
     BAD_REQUEST("Bad Request"),
+    NOT_FOUND("Not Found"),
     UNAUTHORIZED( "Unauthorized"), //never used as it's guaranteed by api gateway + cognito
     TOO_MANY_REQUESTS("Too many requests");
 
@@ -13,5 +13,8 @@ public enum Reason {
 
     //Resiliency related
     CAPACITY_REJECTED,
-    SHORT_CIRCUITED
+    SHORT_CIRCUITED,
+
+    //Request deadline passed before the call was sent
+    DEADLINE_EXCEEDED
 }
@@ -0,0 +1,35 @@
+package com.jay.voyager.core.error.jobs;
+
+import java.util.Objects;
+
+/**
+ * A job submission the {@link com.jay.voyager.core.port.jobs.JobEngine} did not accept. Nothing was
+ * stored for it.
+ *
+ * <p>
+ * Like {@link com.jay.voyager.core.error.dependency.DependencyCallException}, this is a technical
+ * signal, the application orchestration layer translates it into an {@code ApiException}.
+ * </p>
+ */
+public class JobRejectedException extends RuntimeException {
+
+    private final Reason reason;
+
+    public JobRejectedException(Reason reason, String message) {
+        super(message);
+        this.reason = Objects.requireNonNull(reason);
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+
+    public enum Reason {
+        // no handler is registered for the job type
+        UNKNOWN_TYPE,
+        // the job type already has as many queued jobs as it may hold
+        QUEUE_FULL,
+        // the engine is closing and no longer starts jobs
+        SHUTTING_DOWN
+    }
+}
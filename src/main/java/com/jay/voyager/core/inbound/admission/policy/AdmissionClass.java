@@ -0,0 +1,14 @@
+package com.jay.voyager.core.inbound.admission.policy;
+
+/**
+ * Inbound traffic classes, in shedding order: {@link #BEST_EFFORT} is rejected first,
+ * {@link #CRITICAL} last.
+ */
+public enum AdmissionClass {
+    // probes, control plane and calls that must keep working during an incident
+    CRITICAL,
+    // user facing reads and writes
+    INTERACTIVE,
+    // batch, prefetch and anything that can be retried later
+    BEST_EFFORT
+}
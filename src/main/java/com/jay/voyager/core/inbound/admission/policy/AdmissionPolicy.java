@@ -0,0 +1,52 @@
+package com.jay.voyager.core.inbound.admission.policy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import com.jay.voyager.core.concurrent.limit.LimitPolicy;
+
+// resolved inbound admission settings, applied by the web layer before requests reach the DispatcherServlet
+public record AdmissionPolicy(
+        LimitPolicy limitPolicy,
+        AdmissionClass defaultClass,
+        String classHeader,
+        Map<AdmissionClass, ClassShare> classShares,
+        List<RouteRule> routeRules,
+        FairSharePolicy fairSharePolicy,
+        QueuePolicy queuePolicy,
+        RejectionPolicy rejectionPolicy
+) {
+    public record ClassShare(
+            double reservedShare,
+            double maxShare
+    ) {}
+
+    // per-tenant cap on top of the class shares, tenant = Identity.userId()
+    public record FairSharePolicy(
+            boolean enabled,
+            double maxTenantShare,
+            int stripes
+    ) {}
+
+    // optional CoDel admission queue, disabled = strictly fail-fast
+    public record QueuePolicy(
+            boolean enabled,
+            Duration target,
+            Duration interval,
+            int capacity
+    ) {}
+
+    // what a rejected caller is told about when to come back and why
+    public record RejectionPolicy(
+            Duration maxRetryAfter,
+            boolean shedReasonHeaderEnabled
+    ) {}
+
+    // first matching rule wins, method is optional (null matches any method)
+    public record RouteRule(
+            String pathPattern,
+            String method,
+            AdmissionClass admissionClass
+    ) {}
+}
@@ -0,0 +1,23 @@
+package com.jay.voyager.core.observability.accesslog;
+
+import java.time.Duration;
+
+// resolved access-log pipeline settings, records are buffered in memory and written off the request thread
+public record AccessLogPolicy(
+        int bufferCapacity,
+        int batchSize,
+        Duration flushInterval,
+        OverflowPolicy overflowPolicy,
+        double sampleThreshold,
+        int sampleRate
+) {
+    /**
+     * What happens to new records once the writer falls behind.
+     */
+    public enum OverflowPolicy {
+        // keep every record until the buffer is full, then drop new ones
+        DROP,
+        // once the buffer is sampleThreshold full keep 1 in sampleRate records, drop when full
+        SAMPLE
+    }
+}
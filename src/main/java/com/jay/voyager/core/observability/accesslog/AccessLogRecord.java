@@ -0,0 +1,34 @@
+package com.jay.voyager.core.observability.accesslog;
+
+/**
+ * Compact, immutable summary of one handled request.
+ *
+ * <p>
+ * Captured on the request thread once the response status is known and handed to an
+ * {@link com.jay.voyager.core.port.observability.accesslog.AccessLogSink}. Fields that were not
+ * available for the request (no trace, anonymous caller) are {@code null}.
+ * </p>
+ *
+ * @param timestampEpochMillis wall-clock time the request completed
+ * @param traceId current trace id, if the request was traced
+ * @param spanId current span id, if the request was traced
+ * @param userId caller identity
+ * @param requestId caller supplied or generated request id
+ * @param kind transport kind, e.g. {@code http}
+ * @param method protocol method, e.g. {@code GET}
+ * @param name request target, e.g. the request URI
+ * @param status protocol status code
+ * @param durationMs time spent handling the request
+ */
+public record AccessLogRecord(
+        long timestampEpochMillis,
+        String traceId,
+        String spanId,
+        String userId,
+        String requestId,
+        String kind,
+        String method,
+        String name,
+        int status,
+        long durationMs
+) {}
@@ -0,0 +1,19 @@
+package com.jay.voyager.core.observability.mdc;
+
+/**
+ * How MDC is carried from the thread submitting a task to the thread running it.
+ */
+public enum MdcPropagationMode {
+
+    /**
+     * Copies the MDC at capture, saves a copy of the executing thread's MDC and restores it afterwards,
+     * on every task.
+     */
+    COPY,
+
+    /**
+     * Captures one snapshot that is only read afterwards and skips every copy that is not needed: nothing
+     * is saved or restored on a brand new thread, and an empty MDC is never copied.
+     */
+    SNAPSHOT
+}
@@ -0,0 +1,15 @@
+package com.jay.voyager.core.outbound.http.client.settings;
+
+/**
+ * Response cache of an outbound HTTP client.
+ *
+ * @param enabled whether {@code GET} responses are cached according to their HTTP caching headers
+ * @param maxSizeBytes memory held by cached responses (bodies and headers), least valuable entries
+ *                     are evicted above it
+ * @param maxEntrySizeBytes larger responses are passed through without being cached
+ */
+public record HttpCachePolicy(
+        boolean enabled,
+        long maxSizeBytes,
+        long maxEntrySizeBytes
+) {}
@@ -9,5 +9,7 @@ public record HttpClientSettings(
         String baseUrl,
         Duration connectTimeout,
         Duration readTimeout,
-        ResiliencyPolicy resiliencyPolicy
+        HttpTransportPolicy transportPolicy,
+        ResiliencyPolicy resiliencyPolicy,
+        HttpCachePolicy cachePolicy
 ) {}
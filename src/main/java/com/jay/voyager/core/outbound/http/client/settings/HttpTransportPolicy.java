@@ -0,0 +1,19 @@
+package com.jay.voyager.core.outbound.http.client.settings;
+
+/**
+ * Wire-level settings of an outbound HTTP client.
+ *
+ * @param protocol HTTP version requested from the origin
+ * @param maxConcurrentStreams exchanges allowed in flight on the client's transport at once.
+ *                             With HTTP/2 these are streams multiplexed over one connection,
+ *                             with HTTP/1.1 each one holds a connection.
+ */
+public record HttpTransportPolicy(
+        HttpProtocol protocol,
+        int maxConcurrentStreams
+) {
+    public enum HttpProtocol {
+        HTTP_1_1,
+        HTTP_2
+    }
+}
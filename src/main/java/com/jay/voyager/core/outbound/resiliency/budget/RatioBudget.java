@@ -0,0 +1,84 @@
+package com.jay.voyager.core.outbound.resiliency.budget;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps extra attempts (hedges, retries) at a fraction of the original requests.
+ *
+ * <p>
+ * Every original request deposits {@code ratio} of a token, every extra attempt withdraws a whole
+ * token. With {@code ratio = 0.1} at most one extra attempt is made per ten requests, no matter how
+ * slow or broken the downstream gets, so the extra load during an incident is bounded at 10% instead
+ * of doubling it. The balance is capped at {@code maxBalance} tokens so a long quiet period cannot
+ * be saved up and spent in one burst.
+ * </p>
+ *
+ * <p>
+ * Lock-free, tokens are kept in thousandths in a single {@link AtomicLong}.
+ * </p>
+ */
+public final class RatioBudget {
+
+    private static final long TOKEN = 1_000L;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance = new AtomicLong();
+
+    /**
+     * @param ratio extra attempts allowed per original request, [0, 1]
+     * @param maxBalance most tokens that may be banked, at least 1
+     */
+    public RatioBudget(double ratio, int maxBalance) {
+        if (ratio < 0.0 || ratio > 1.0) {
+            throw new IllegalArgumentException("ratio must be in [0, 1] but was " + ratio);
+        }
+        if (maxBalance < 1) {
+            throw new IllegalArgumentException("maxBalance must be >= 1 but was " + maxBalance);
+        }
+
+        this.deposit = Math.round(ratio * TOKEN);
+        this.maxBalance = maxBalance * TOKEN;
+    }
+
+    /**
+     * Records an original request, earning {@code ratio} of a token.
+     */
+    public void onRequest() {
+        if (deposit == 0) {
+            return;
+        }
+
+        long current;
+        long next;
+        do {
+            current = balance.get();
+            if (current >= maxBalance) {
+                return;
+            }
+            next = Math.min(maxBalance, current + deposit);
+        } while (!balance.compareAndSet(current, next));
+    }
+
+    /**
+     * @return {@code true} when a whole token was available and has been spent on an extra attempt
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+
+        return true;
+    }
+
+    /**
+     * @return tokens currently available, fractional
+     */
+    public double balance() {
+        return (double) balance.get() / TOKEN;
+    }
+}
@@ -1,16 +1,38 @@
 package com.jay.voyager.core.outbound.resiliency.policy;
 
 import java.time.Duration;
+import java.util.List;
+
+import com.jay.voyager.core.concurrent.limit.LimitPolicy;
 
 public record ResiliencyPolicy(
         BulkheadPolicy bulkheadPolicy,
-        CircuitBreakerPolicy circuitBreakerPolicy
+        CircuitBreakerPolicy circuitBreakerPolicy,
+        RetryPolicy retryPolicy,
+        HedgingPolicy hedgingPolicy,
+        CoalescingPolicy coalescingPolicy
 ) {
+    /**
+     * Bound on concurrent calls to the downstream.
+     *
+     * @param enabled whether calls are limited at all
+     * @param maxConcurrentCalls the limit in {@link Mode#STATIC} mode
+     * @param maxWaitDuration how long a call may wait for a permit before it is rejected
+     * @param mode a static limit, or one that tracks the downstream's capacity
+     * @param adaptiveLimit the limit algorithm in {@link Mode#ADAPTIVE} mode, its max limit bounds the permits
+     */
     public record BulkheadPolicy(
             boolean enabled,
             int maxConcurrentCalls,
-            Duration maxWaitDuration
-    ) {}
+            Duration maxWaitDuration,
+            Mode mode,
+            LimitPolicy adaptiveLimit
+    ) {
+        public enum Mode {
+            STATIC,
+            ADAPTIVE
+        }
+    }
 
     public record CircuitBreakerPolicy(
             boolean enabled,
@@ -32,4 +54,51 @@ public record ResiliencyPolicy(
             TIME_BASED
         }
     }
+
+    /**
+     * Retries of transient transport failures on idempotent requests.
+     *
+     * @param enabled whether failed attempts are retried at all
+     * @param maxAttempts attempts in total, including the first one
+     * @param initialBackoff backoff cap before the first retry, the actual wait is jittered in [0, cap]
+     * @param maxBackoff upper bound of the backoff cap as it grows
+     * @param multiplier growth of the backoff cap per retry
+     * @param budgetRatio retries allowed per original request, caps retry amplification
+     */
+    public record RetryPolicy(
+            boolean enabled,
+            int maxAttempts,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            double multiplier,
+            double budgetRatio
+    ) {}
+
+    /**
+     * Tail-latency hedging for idempotent requests.
+     *
+     * @param enabled whether hedges are sent at all
+     * @param delay wait before the hedge is sent. With a {@code delayPercentile} it is the floor
+     *              and the value used until enough latencies were observed.
+     * @param delayPercentile observed latency percentile to hedge at, e.g. 0.95, or 0 for a fixed {@code delay}
+     * @param budgetRatio hedges allowed per original request, caps the extra load
+     */
+    public record HedgingPolicy(
+            boolean enabled,
+            Duration delay,
+            double delayPercentile,
+            double budgetRatio
+    ) {}
+
+    /**
+     * Single-flight for identical concurrent idempotent requests.
+     *
+     * @param enabled whether concurrent identical requests share one call
+     * @param keyHeaders request headers (lower case) that, with method and URI, make requests identical.
+     *                   Headers that change the response, e.g. the caller's identity, belong here.
+     */
+    public record CoalescingPolicy(
+            boolean enabled,
+            List<String> keyHeaders
+    ) {}
 }
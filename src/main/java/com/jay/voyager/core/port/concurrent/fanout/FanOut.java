@@ -0,0 +1,51 @@
+package com.jay.voyager.core.port.concurrent.fanout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.jay.voyager.core.concurrent.fanout.FanOutException;
+import com.jay.voyager.core.concurrent.fanout.PartialResults;
+
+/**
+ * Runs independent tasks in parallel and joins them under a policy.
+ *
+ * <p>
+ * Every call is a self-contained scope: tasks are forked when the method is called and none of
+ * them outlives it. Tasks that are no longer needed (a sibling failed, another task already
+ * succeeded, the deadline passed) are cancelled by interrupting them. The caller's request
+ * context (identity, MDC) is visible inside every task.
+ * </p>
+ *
+ * <p>
+ * Unchecked task exceptions are rethrown unchanged, everything else surfaces as
+ * {@link FanOutException}. Results are returned in task order, never completion order.
+ * </p>
+ */
+public interface FanOut {
+
+    /**
+     * Waits for every task to succeed. The first failure cancels the remaining tasks and is rethrown.
+     *
+     * @return results in task order
+     * @throws FanOutException when the deadline passes, the caller is interrupted, or a task throws a checked exception
+     */
+    <T> List<T> joinAll(List<? extends Callable<? extends T>> tasks, Duration deadline);
+
+    /**
+     * Returns the result of the first task to succeed and cancels the others. Fails only when all tasks fail,
+     * in which case the first failure is rethrown with the others suppressed.
+     *
+     * @throws FanOutException when the deadline passes, the caller is interrupted, or a task throws a checked exception
+     */
+    <T> T firstSuccess(List<? extends Callable<? extends T>> tasks, Duration deadline);
+
+    /**
+     * Waits for every task until the deadline. Failures do not cancel siblings, tasks still running at the
+     * deadline are cancelled and reported as such.
+     *
+     * @return one outcome per task, in task order
+     * @throws FanOutException when the caller is interrupted
+     */
+    <T> PartialResults<T> partialResults(List<? extends Callable<? extends T>> tasks, Duration deadline);
+}
@@ -0,0 +1,8 @@
+package com.jay.voyager.core.port.context.deadline;
+
+import com.jay.voyager.core.context.deadline.DeadlinePolicy;
+
+public interface DeadlinePolicyProvider {
+
+    DeadlinePolicy deadlinePolicy();
+}
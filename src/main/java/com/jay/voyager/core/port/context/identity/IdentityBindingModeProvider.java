@@ -0,0 +1,8 @@
+package com.jay.voyager.core.port.context.identity;
+
+import com.jay.voyager.core.context.identity.IdentityBindingMode;
+
+public interface IdentityBindingModeProvider {
+
+    IdentityBindingMode identityBindingMode();
+}
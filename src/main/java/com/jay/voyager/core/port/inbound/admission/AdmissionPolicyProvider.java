@@ -0,0 +1,8 @@
+package com.jay.voyager.core.port.inbound.admission;
+
+import com.jay.voyager.core.inbound.admission.policy.AdmissionPolicy;
+
+public interface AdmissionPolicyProvider {
+
+    AdmissionPolicy admissionPolicy();
+}
@@ -0,0 +1,33 @@
+package com.jay.voyager.core.port.jobs;
+
+import java.util.UUID;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobPriority;
+import com.jay.voyager.core.error.jobs.JobRejectedException;
+
+/**
+ * Runs jobs in the background, decoupled from the request that submitted them.
+ *
+ * <p>
+ * Progress is recorded in the {@link JobRepository}: {@code QUEUED} on submission, then
+ * {@code RUNNING}, and finally {@code SUCCEEDED}, {@code FAILED} or {@code CANCELLED}.
+ * </p>
+ */
+public interface JobEngine {
+
+    /**
+     * Queues a job of the given type and returns immediately.
+     *
+     * @return the job as stored, in state {@code QUEUED}
+     * @throws JobRejectedException when the type is unknown, its queue is full, or the engine is shutting down
+     */
+    Job submit(String type, JobPriority priority);
+
+    /**
+     * Cancels a queued or running job. A running job's thread is interrupted.
+     *
+     * @return whether the job was cancelled, {@code false} when it is unknown or already finished
+     */
+    boolean cancel(UUID jobId);
+}
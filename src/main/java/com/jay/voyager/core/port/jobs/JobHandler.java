@@ -0,0 +1,23 @@
+package com.jay.voyager.core.port.jobs;
+
+import java.util.UUID;
+
+/**
+ * The work behind one job type.
+ *
+ * <p>
+ * Handlers run on their own virtual thread, with the submitter's request context (identity, MDC)
+ * visible. Returning normally completes the job, any exception fails it. A cancelled job's thread
+ * is interrupted, so handlers should block interruptibly (sleeps, outbound calls) or check
+ * {@link Thread#isInterrupted()} between steps.
+ * </p>
+ */
+public interface JobHandler {
+
+    /**
+     * @return the job type this handler runs, as given on submission
+     */
+    String type();
+
+    void run(UUID jobId) throws Exception;
+}
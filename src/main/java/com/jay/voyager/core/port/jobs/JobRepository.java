@@ -0,0 +1,54 @@
+package com.jay.voyager.core.port.jobs;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+
+/**
+ * Stores the current state of every job, keyed by job id.
+ */
+public interface JobRepository {
+
+    /**
+     * Inserts the job, or replaces the stored state of a job with the same id.
+     */
+    void save(Job job);
+
+    Optional<Job> find(UUID id);
+
+    /**
+     * Looks up many jobs in one call, for bulk readers. Ids without a stored job are left out.
+     *
+     * @return the stored jobs by id
+     */
+    Map<UUID, Job> findAll(Collection<UUID> ids);
+
+    /**
+     * Moves the job from {@code from} to {@code to}, atomically with respect to other transitions
+     * of the same job. Concurrent state changes race through this method, for example a job that is
+     * cancelled while it is being started ends up in exactly one of the two states.
+     *
+     * @return whether the job was in state {@code from} and is now in state {@code to}
+     */
+    boolean transition(UUID id, JobStatus from, JobStatus to);
+
+    /**
+     * Applies the store's retention: removes every finished job requested before
+     * {@code requestedBefore}, then the oldest finished jobs for as long as more than {@code maxJobs}
+     * are stored. Jobs that are not finished are never removed and may keep the store above
+     * {@code maxJobs}.
+     *
+     * @return number of removed jobs
+     */
+    int evictFinished(Instant requestedBefore, int maxJobs);
+
+    /**
+     * @return number of stored jobs
+     */
+    int size();
+}
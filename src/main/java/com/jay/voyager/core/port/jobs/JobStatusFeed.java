@@ -0,0 +1,31 @@
+package com.jay.voyager.core.port.jobs;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.jay.voyager.core.domain.jobs.Job;
+
+/**
+ * Pushes job status changes to subscribers as they are stored, so callers waiting on a job do not
+ * have to poll the {@link JobRepository}.
+ */
+public interface JobStatusFeed {
+
+    /**
+     * Delivers every later status change of the job to {@code listener}. The listener runs on the
+     * thread that changed the status and must hand the job off without blocking. Concurrent changes
+     * may be delivered out of order, a listener that cares must compare against what it has seen.
+     *
+     * @return closing it stops delivery
+     */
+    Subscription subscribe(UUID jobId, Consumer<Job> listener);
+
+    interface Subscription extends AutoCloseable {
+
+        /**
+         * Unsubscribes, closing more than once is a no-op.
+         */
+        @Override
+        void close();
+    }
+}
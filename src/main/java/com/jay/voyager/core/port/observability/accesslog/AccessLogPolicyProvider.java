@@ -0,0 +1,8 @@
+package com.jay.voyager.core.port.observability.accesslog;
+
+import com.jay.voyager.core.observability.accesslog.AccessLogPolicy;
+
+public interface AccessLogPolicyProvider {
+
+    AccessLogPolicy accessLogPolicy();
+}
@@ -0,0 +1,19 @@
+package com.jay.voyager.core.port.observability.accesslog;
+
+import com.jay.voyager.core.observability.accesslog.AccessLogRecord;
+
+/**
+ * Destination for per-request access records.
+ *
+ * <p>
+ * Called on the request thread, so implementations must not block or perform I/O.
+ * </p>
+ */
+@FunctionalInterface
+public interface AccessLogSink {
+
+    /**
+     * @return {@code true} if the record was accepted, {@code false} if it was dropped or sampled out
+     */
+    boolean offer(AccessLogRecord accessLogRecord);
+}
@@ -0,0 +1,8 @@
+package com.jay.voyager.core.port.observability.mdc;
+
+import com.jay.voyager.core.observability.mdc.MdcPropagationMode;
+
+public interface MdcPropagationModeProvider {
+
+    MdcPropagationMode mdcPropagationMode();
+}
@@ -19,7 +19,7 @@ public final class PlatformVirtualThreadFactory implements ThreadFactory {
     public Thread newThread(Runnable task) {
         Runnable propagatedTask = task;
         for (ContextPropagator propagator : propagators) {
-            propagatedTask = propagator.propagate(propagatedTask);
+            propagatedTask = propagator.propagateToNewThread(propagatedTask);
         }
         return delegate.newThread(propagatedTask);
     }
@@ -0,0 +1,255 @@
+package com.jay.voyager.infra.concurrent.fanout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.jay.voyager.core.concurrent.fanout.FanOutException;
+import com.jay.voyager.core.concurrent.fanout.PartialResults;
+import com.jay.voyager.core.concurrent.fanout.TaskOutcome;
+import com.jay.voyager.core.port.concurrent.fanout.FanOut;
+
+/**
+ * {@link FanOut} that forks one thread per task from the platform thread factory.
+ *
+ * <p>
+ * The factory is expected to be the {@code PlatformVirtualThreadFactory}: every fork is a new
+ * virtual thread, and the factory's {@code ContextPropagator}s capture identity and MDC on the
+ * calling thread when the fork is created. Blocking in a task (for example an outbound HTTP call)
+ * only parks its own virtual thread, so a fan-out costs roughly the slowest task instead of the sum.
+ * </p>
+ *
+ * <p>
+ * This follows the structured concurrency model of {@code StructuredTaskScope}, which is still a
+ * preview API on Java 25: forks never outlive the call that created them, the caller waits for
+ * completions in a single loop, and whatever is still running when the policy is settled (or the
+ * deadline passes, or the caller is interrupted) is cancelled by interrupting its thread and then
+ * joined before the call returns. Results of cancelled forks are discarded. The join is bounded by
+ * {@code CLOSE_TIMEOUT}: a task that ignores its interrupt for longer is left running and logged,
+ * rather than holding the caller indefinitely.
+ * </p>
+ */
+public final class VirtualThreadFanOut implements FanOut {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadFanOut.class);
+    // interrupted blocking I/O on a virtual thread ends at once, only a task ignoring its interrupt takes this long
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(1);
+
+    private final ThreadFactory threadFactory;
+
+    public VirtualThreadFanOut(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    @Override
+    public <T> List<T> joinAll(List<? extends Callable<? extends T>> tasks, Duration deadline) {
+        long deadlineNanos = deadlineNanos(deadline);
+
+        try (Scope<T> scope = new Scope<>(threadFactory, tasks)) {
+            Object[] results = new Object[tasks.size()];
+
+            for (int remaining = tasks.size(); remaining > 0; remaining--) {
+                Fork<T> fork = scope.awaitNext(deadlineNanos);
+                if (fork == null) {
+                    throw deadlineExceeded(tasks.size(), deadline);
+                }
+                if (fork.failure != null) {
+                    throw rethrow(fork.failure);
+                }
+                results[fork.index] = fork.value;
+            }
+
+            @SuppressWarnings("unchecked")
+            List<T> ordered = (List<T>) Collections.unmodifiableList(Arrays.asList(results));
+            return ordered;
+        }
+    }
+
+    @Override
+    public <T> T firstSuccess(List<? extends Callable<? extends T>> tasks, Duration deadline) {
+        if (tasks.isEmpty()) {
+            throw new IllegalArgumentException("firstSuccess needs at least one task");
+        }
+        long deadlineNanos = deadlineNanos(deadline);
+
+        try (Scope<T> scope = new Scope<>(threadFactory, tasks)) {
+            List<Throwable> failures = new ArrayList<>();
+
+            for (int remaining = tasks.size(); remaining > 0; remaining--) {
+                Fork<T> fork = scope.awaitNext(deadlineNanos);
+                if (fork == null) {
+                    throw deadlineExceeded(tasks.size(), deadline);
+                }
+                if (fork.failure == null) {
+                    return fork.value;
+                }
+                failures.add(fork.failure);
+            }
+
+            Throwable first = failures.getFirst();
+            for (Throwable other : failures.subList(1, failures.size())) {
+                first.addSuppressed(other);
+            }
+            throw rethrow(first);
+        }
+    }
+
+    @Override
+    public <T> PartialResults<T> partialResults(List<? extends Callable<? extends T>> tasks, Duration deadline) {
+        long deadlineNanos = deadlineNanos(deadline);
+
+        try (Scope<T> scope = new Scope<>(threadFactory, tasks)) {
+            List<TaskOutcome<T>> outcomes =
+                    new ArrayList<>(Collections.nCopies(tasks.size(), TaskOutcome.<T>cancelled()));
+
+            for (int remaining = tasks.size(); remaining > 0; remaining--) {
+                Fork<T> fork = scope.awaitNext(deadlineNanos);
+                if (fork == null) {
+                    // still running forks keep their CANCELLED outcome and are interrupted on close
+                    break;
+                }
+                outcomes.set(fork.index, fork.failure == null
+                        ? TaskOutcome.succeeded(fork.value)
+                        : TaskOutcome.failed(fork.failure));
+            }
+
+            return new PartialResults<>(outcomes);
+        }
+    }
+
+    private static long deadlineNanos(Duration deadline) {
+        if (deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("deadline must be positive but was " + deadline);
+        }
+        return System.nanoTime() + deadline.toNanos();
+    }
+
+    private static FanOutException deadlineExceeded(int tasks, Duration deadline) {
+        return new FanOutException(
+                FanOutException.Reason.DEADLINE_EXCEEDED,
+                "Fan-out of " + tasks + " tasks did not complete within " + deadline
+        );
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new FanOutException(FanOutException.Reason.TASK_FAILED, "Fan-out task failed", failure);
+    }
+
+    // the forks of one call, closing the scope cancels whatever has not completed and waits for it
+    private static final class Scope<T> implements AutoCloseable {
+
+        private final List<Fork<T>> forks;
+        private final LinkedBlockingQueue<Fork<T>> completed = new LinkedBlockingQueue<>();
+
+        Scope(ThreadFactory threadFactory, List<? extends Callable<? extends T>> tasks) {
+            this.forks = new ArrayList<>(tasks.size());
+            try {
+                for (int index = 0; index < tasks.size(); index++) {
+                    Fork<T> fork = new Fork<>(this, index, tasks.get(index));
+                    // created on the caller so the factory's propagators capture the caller's context
+                    fork.thread = threadFactory.newThread(fork);
+                    forks.add(fork);
+                    fork.thread.start();
+                }
+            } catch (RuntimeException | Error e) {
+                close();
+                throw e;
+            }
+        }
+
+        Fork<T> awaitNext(long deadlineNanos) {
+            try {
+                return completed.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FanOutException(FanOutException.Reason.INTERRUPTED, "Interrupted while waiting for fan-out", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            List<Fork<T>> cancelled = new ArrayList<>();
+            for (Fork<T> fork : forks) {
+                // a fork whose start failed never ran
+                if (!fork.done && fork.thread.getState() != Thread.State.NEW) {
+                    fork.thread.interrupt();
+                    cancelled.add(fork);
+                }
+            }
+            if (!cancelled.isEmpty()) {
+                join(cancelled);
+            }
+        }
+
+        // joins even when the caller itself was interrupted, its interrupt is restored afterwards
+        private void join(List<Fork<T>> cancelled) {
+            boolean interrupted = Thread.interrupted();
+            long deadlineNanos = System.nanoTime() + CLOSE_TIMEOUT.toNanos();
+            int running = 0;
+            for (Fork<T> fork : cancelled) {
+                while (true) {
+                    try {
+                        if (!fork.thread.join(Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())))) {
+                            running++;
+                        }
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (running > 0) {
+                LOGGER.warn("{} cancelled fan-out tasks still running after {}, left behind", running, CLOSE_TIMEOUT);
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class Fork<T> implements Runnable {
+
+        private final Scope<T> scope;
+        private final int index;
+        private final Callable<? extends T> task;
+
+        private Thread thread;
+        private T value;
+        private Throwable failure;
+        private volatile boolean done;
+
+        Fork(Scope<T> scope, int index, Callable<? extends T> task) {
+            this.scope = scope;
+            this.index = index;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                value = task.call();
+            } catch (Throwable t) {
+                failure = t;
+            } finally {
+                done = true;
+                // the queue hand-off publishes value and failure to the waiting caller
+                scope.completed.add(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.jay.voyager.infra.concurrent.limit.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.jay.voyager.core.concurrent.limit.LimiterStats;
+
+/**
+ * Publishes the live limit and in-flight count of a limiter as gauges.
+ *
+ * <p>
+ * Gauges are sampled on scrape, so this adds nothing to the acquire/release hot path.
+ * Meters are tagged with {@code name} so inbound and per-client outbound limiters share
+ * the same meter names. Partitioned limiters publish one binder per partition with an
+ * additional {@code partition} tag.
+ * </p>
+ */
+public final class ConcurrencyLimiterMetrics implements MeterBinder {
+
+    public static final String LIMIT_METER = "concurrency.limiter.limit";
+    public static final String IN_FLIGHT_METER = "concurrency.limiter.inflight";
+    static final String NAME_TAG = "name";
+    static final String PARTITION_TAG = "partition";
+
+    private final LimiterStats limiter;
+    private final Tags tags;
+
+    public ConcurrencyLimiterMetrics(String name, LimiterStats limiter) {
+        this.limiter = limiter;
+        this.tags = Tags.of(NAME_TAG, name);
+    }
+
+    public ConcurrencyLimiterMetrics(String name, String partition, LimiterStats limiter) {
+        this.limiter = limiter;
+        this.tags = Tags.of(NAME_TAG, name, PARTITION_TAG, partition);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(LIMIT_METER, limiter, LimiterStats::limit)
+                .description("Current concurrency limit enforced by the limiter")
+                .tags(tags)
+                .register(registry);
+
+        Gauge.builder(IN_FLIGHT_METER, limiter, LimiterStats::inFlight)
+                .description("Permits currently held on the limiter")
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -7,4 +7,16 @@ public interface ContextPropagator {
     Runnable propagate(Runnable task);
 
     <T> Callable<T> propagate(Callable<T> task);
+
+    /**
+     * Wraps a task that is the only task a brand new thread will ever run.
+     *
+     * <p>
+     * The executing thread starts without any context and ends with the task, so implementations may
+     * skip saving and restoring its previous context. Defaults to {@link #propagate(Runnable)}.
+     * </p>
+     */
+    default Runnable propagateToNewThread(Runnable task) {
+        return propagate(task);
+    }
 }
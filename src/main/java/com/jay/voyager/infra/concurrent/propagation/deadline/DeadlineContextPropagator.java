@@ -0,0 +1,38 @@
+package com.jay.voyager.infra.concurrent.propagation.deadline;
+
+import java.util.concurrent.Callable;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
+
+/**
+ * Propagates the request {@link Deadline} to tasks run on other threads.
+ *
+ * <p>
+ * The deadline bound when {@code propagate} is called is captured and bound again for the extent of
+ * the task with {@link DeadlineContextHolder#where(Deadline)}. Fan-out branches and hedged or async
+ * outbound calls therefore share the budget of the request that started them. Without a deadline the
+ * task is returned unchanged.
+ * </p>
+ */
+public final class DeadlineContextPropagator implements ContextPropagator {
+
+    @Override
+    public Runnable propagate(Runnable task) {
+        Deadline captured = DeadlineContextHolder.context();
+        if (captured.isNone()) {
+            return task;
+        }
+        return () -> DeadlineContextHolder.where(captured).run(task);
+    }
+
+    @Override
+    public <T> Callable<T> propagate(Callable<T> task) {
+        Deadline captured = DeadlineContextHolder.context();
+        if (captured.isNone()) {
+            return task;
+        }
+        return () -> DeadlineContextHolder.where(captured).call(task::call);
+    }
+}
@@ -2,6 +2,7 @@ package com.jay.voyager.infra.concurrent.propagation.identity;
 
 import java.util.concurrent.Callable;
 
+import com.jay.voyager.core.context.identity.IdentityBindingMode;
 import com.jay.voyager.core.context.identity.IdentityContextHolder;
 import com.jay.voyager.core.context.identity.IdentityContextSnapshot;
 import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
@@ -26,9 +27,26 @@ import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
  * When applying {@code EMPTY}, the propagator clears the underlying {@link ThreadLocal}
  * via {@link IdentityContextHolder#clear()}.
  * </p>
+ *
+ * <p>
+ * With {@link IdentityBindingMode#SCOPED_VALUE} the captured snapshot is instead bound for the
+ * extent of the task with {@link IdentityContextHolder#where(IdentityContextSnapshot)}. There is
+ * no previous propagation to record or restore, the binding simply ends with the task, and the
+ * executing (usually brand new virtual) thread never populates its thread-local map.
+ * </p>
  */
 public final class IdentityContextPropagator implements ContextPropagator {
 
+    private final IdentityBindingMode bindingMode;
+
+    public IdentityContextPropagator() {
+        this(IdentityBindingMode.THREAD_LOCAL);
+    }
+
+    public IdentityContextPropagator(IdentityBindingMode bindingMode) {
+        this.bindingMode = bindingMode;
+    }
+
     /**
      * Wraps a {@link Runnable} to execute with the identity propagation captured at wrapping time.
      *
@@ -43,6 +61,9 @@ public final class IdentityContextPropagator implements ContextPropagator {
     @Override
     public Runnable propagate(Runnable task) {
         IdentityContextSnapshot captured = IdentityContextHolder.context();
+        if (bindingMode == IdentityBindingMode.SCOPED_VALUE) {
+            return () -> IdentityContextHolder.where(captured).run(task);
+        }
         return () -> {
             IdentityContextSnapshot previous = IdentityContextHolder.context();
 
@@ -70,6 +91,9 @@ public final class IdentityContextPropagator implements ContextPropagator {
     @Override
     public <T> Callable<T> propagate(Callable<T> task) {
         IdentityContextSnapshot captured = IdentityContextHolder.context();
+        if (bindingMode == IdentityBindingMode.SCOPED_VALUE) {
+            return () -> IdentityContextHolder.where(captured).call(task::call);
+        }
         return () -> {
             IdentityContextSnapshot previous = IdentityContextHolder.context();
 
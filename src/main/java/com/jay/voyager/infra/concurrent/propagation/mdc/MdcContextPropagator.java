@@ -5,10 +5,49 @@ import java.util.concurrent.Callable;
 
 import org.slf4j.MDC;
 
+import com.jay.voyager.core.observability.mdc.MdcPropagationMode;
 import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
 
+/**
+ * Propagates the MDC of the submitting thread to the thread running a task.
+ *
+ * <p>
+ * In {@link MdcPropagationMode#COPY} every task copies the MDC at capture, copies the executing
+ * thread's MDC to restore it, and installs both, four map copies per task.
+ * </p>
+ *
+ * <p>
+ * In {@link MdcPropagationMode#SNAPSHOT} the captured map is treated as an immutable snapshot and
+ * only the copies that carry information are made for tasks that start a new thread
+ * ({@link #propagateToNewThread}), which is every task of the virtual thread executor:
+ * </p>
+ * <ul>
+ *   <li>Nothing is saved or restored. The thread starts with an empty MDC and its thread-local map
+ *       is discarded with it.</li>
+ *   <li>When the submitting thread has no MDC the task is not wrapped at all.</li>
+ * </ul>
+ * <p>
+ * Tasks run on reused threads ({@link #propagate}) behave as in {@code COPY} in both modes, since the
+ * executing thread's own MDC has to survive the task.
+ * </p>
+ *
+ * <p>
+ * Installing the snapshot still goes through {@link MDC#setContextMap}, which copies inside the MDC
+ * adapter; SLF4J offers no way to install a map by reference.
+ * </p>
+ */
 public final class MdcContextPropagator implements ContextPropagator {
 
+    private final MdcPropagationMode mode;
+
+    public MdcContextPropagator() {
+        this(MdcPropagationMode.COPY);
+    }
+
+    public MdcContextPropagator(MdcPropagationMode mode) {
+        this.mode = mode;
+    }
+
     @Override
     public Runnable propagate(Runnable task) {
         Map<String, String> captured = MDC.getCopyOfContextMap(); // Calling thread's MDC
@@ -38,6 +77,23 @@ public final class MdcContextPropagator implements ContextPropagator {
         };
     }
 
+    @Override
+    public Runnable propagateToNewThread(Runnable task) {
+        if (mode == MdcPropagationMode.COPY) {
+            return propagate(task);
+        }
+
+        Map<String, String> captured = MDC.getCopyOfContextMap();
+        if (captured == null) {
+            // a new thread already starts with an empty MDC
+            return task;
+        }
+        return () -> {
+            MDC.setContextMap(captured);
+            task.run();
+        };
+    }
+
     private void apply(Map<String, String> contextMap) {
         if (contextMap == null) {
             MDC.clear();
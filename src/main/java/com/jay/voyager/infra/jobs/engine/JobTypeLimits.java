@@ -0,0 +1,19 @@
+package com.jay.voyager.infra.jobs.engine;
+
+/**
+ * Bounds for the jobs of one type.
+ *
+ * @param maxConcurrency jobs of the type that may run at once
+ * @param maxQueued      jobs of the type that may wait to run, further submissions are rejected
+ */
+public record JobTypeLimits(int maxConcurrency, int maxQueued) {
+
+    public JobTypeLimits {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be >= 1 but was " + maxConcurrency);
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued must be >= 0 but was " + maxQueued);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.jay.voyager.infra.jobs.engine;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobPriority;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+import com.jay.voyager.core.error.jobs.JobRejectedException;
+import com.jay.voyager.core.port.jobs.JobEngine;
+import com.jay.voyager.core.port.jobs.JobHandler;
+import com.jay.voyager.core.port.jobs.JobRepository;
+import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
+
+/**
+ * {@link JobEngine} that runs every job on its own virtual thread.
+ *
+ * <p>
+ * Each job type has a lane with its own {@link JobTypeLimits}: at most {@code maxConcurrency} jobs
+ * of the type run at once, and at most {@code maxQueued} wait behind them, further submissions are
+ * rejected. A burst of one type therefore cannot take over the engine or grow the heap without
+ * bound. Waiting jobs start by {@link JobPriority}, FIFO within a priority. A steady stream of
+ * higher priority jobs can starve lower ones, size {@code maxConcurrency} for the sustained load.
+ * </p>
+ *
+ * <p>
+ * All state changes go through {@link JobRepository#transition}, so a cancel racing a job's start
+ * or completion has exactly one winner: a job cancelled while queued never starts, and a job
+ * cancelled while running keeps its {@code CANCELLED} state whatever its handler does after the
+ * interrupt.
+ * </p>
+ *
+ * <p>
+ * A job runs with the context of the call that submitted it, as captured by the given propagators,
+ * never with the context of the thread that happens to start it: the submitting request, or the job
+ * of the type that just finished. The executor must therefore not propagate context itself.
+ * </p>
+ */
+public final class VirtualThreadJobEngine implements JobEngine, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadJobEngine.class);
+
+    private static final Comparator<Execution> START_ORDER = Comparator
+            .comparing((Execution execution) -> execution.priority)
+            .thenComparingLong(execution -> execution.sequence);
+
+    private final JobRepository repository;
+    private final Executor executor;
+    private final List<ContextPropagator> submitterContext;
+    private final Map<String, Lane> lanes;
+
+    // queued and running jobs, for cancellation
+    private final Map<UUID, Execution> active = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private volatile boolean closed;
+
+    public VirtualThreadJobEngine(
+            JobRepository repository,
+            Executor executor,
+            List<JobHandler> handlers,
+            Map<String, JobTypeLimits> limits,
+            JobTypeLimits defaultLimits
+    ) {
+        this(repository, executor, List.of(), handlers, limits, defaultLimits);
+    }
+
+    /**
+     * @param executor         runs each job on its own virtual thread, without propagating any context
+     * @param submitterContext captures the submitter's context at submit and applies it while the job runs
+     * @param limits           per job type, types without an entry use {@code defaultLimits}
+     */
+    public VirtualThreadJobEngine(
+            JobRepository repository,
+            Executor executor,
+            List<ContextPropagator> submitterContext,
+            List<JobHandler> handlers,
+            Map<String, JobTypeLimits> limits,
+            JobTypeLimits defaultLimits
+    ) {
+        this.repository = repository;
+        this.executor = executor;
+        this.submitterContext = List.copyOf(submitterContext);
+
+        Map<String, Lane> byType = new HashMap<>();
+        for (JobHandler handler : handlers) {
+            Lane lane = new Lane(handler, limits.getOrDefault(handler.type(), defaultLimits));
+            if (byType.putIfAbsent(handler.type(), lane) != null) {
+                throw new IllegalStateException("Duplicate job handler for type " + handler.type());
+            }
+        }
+        this.lanes = Map.copyOf(byType);
+    }
+
+    @Override
+    public Job submit(String type, JobPriority priority) {
+        Lane lane = type == null ? null : lanes.get(type);
+        if (lane == null) {
+            throw new JobRejectedException(JobRejectedException.Reason.UNKNOWN_TYPE, "Unknown job type " + type);
+        }
+
+        // the repository keeps microseconds, return what a later read returns
+        Job job = new Job(UUID.randomUUID(), JobStatus.QUEUED, Instant.now().truncatedTo(ChronoUnit.MICROS));
+        Execution execution = new Execution(job.id(), lane, priority, sequence.getAndIncrement());
+        execution.task = inSubmitterContext(() -> run(execution));
+        lane.enqueue(execution, job);
+        return job;
+    }
+
+    @Override
+    public boolean cancel(UUID jobId) {
+        Execution execution = active.get(jobId);
+        if (execution == null) {
+            return false;
+        }
+
+        if (repository.transition(jobId, JobStatus.QUEUED, JobStatus.CANCELLED)) {
+            // it may have been taken off the queue already, its start then fails on the transition
+            execution.lane.remove(execution);
+            return true;
+        }
+        if (repository.transition(jobId, JobStatus.RUNNING, JobStatus.CANCELLED)) {
+            // the thread is set before the QUEUED -> RUNNING transition this one followed
+            execution.thread.interrupt();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stops accepting jobs and cancels every queued and running job.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        active.keySet().forEach(this::cancel);
+    }
+
+    private Runnable inSubmitterContext(Runnable task) {
+        Runnable propagated = task;
+        for (ContextPropagator propagator : submitterContext) {
+            propagated = propagator.propagate(propagated);
+        }
+        return propagated;
+    }
+
+    private void start(Execution execution) {
+        try {
+            executor.execute(execution.task);
+        } catch (RejectedExecutionException ex) {
+            LOGGER.warn("Job {} could not be started", execution.jobId, ex);
+            repository.transition(execution.jobId, JobStatus.QUEUED, JobStatus.FAILED);
+            finish(execution);
+        }
+    }
+
+    private void run(Execution execution) {
+        UUID jobId = execution.jobId;
+        try {
+            execution.thread = Thread.currentThread();
+            if (!repository.transition(jobId, JobStatus.QUEUED, JobStatus.RUNNING)) {
+                return; // cancelled while queued
+            }
+
+            try {
+                execution.lane.handler.run(jobId);
+                repository.transition(jobId, JobStatus.RUNNING, JobStatus.SUCCEEDED);
+            } catch (Exception ex) {
+                // a cancelled job is no longer RUNNING, its interrupt does not count as a failure
+                if (repository.transition(jobId, JobStatus.RUNNING, JobStatus.FAILED)) {
+                    LOGGER.warn("Job {} of type {} failed", jobId, execution.lane.handler.type(), ex);
+                }
+            }
+        } finally {
+            finish(execution);
+        }
+    }
+
+    private void finish(Execution execution) {
+        active.remove(execution.jobId);
+        execution.lane.release();
+    }
+
+    private static final class Execution {
+
+        private final UUID jobId;
+        private final Lane lane;
+        private final JobPriority priority;
+        private final long sequence;
+
+        // run(this) in the submitter's context, set before the execution is queued
+        private Runnable task;
+
+        // the job's thread, set before it turns RUNNING
+        private volatile Thread thread;
+
+        private Execution(UUID jobId, Lane lane, JobPriority priority, long sequence) {
+            this.jobId = jobId;
+            this.lane = lane;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+
+    private final class Lane {
+
+        private final JobHandler handler;
+        private final JobTypeLimits limits;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final PriorityQueue<Execution> queue = new PriorityQueue<>(START_ORDER);
+        private int running;
+        // admitted jobs that are still being stored, they count against maxQueued
+        private int storing;
+
+        private Lane(JobHandler handler, JobTypeLimits limits) {
+            this.handler = handler;
+            this.limits = limits;
+        }
+
+        void enqueue(Execution execution, Job job) {
+            lock.lock();
+            try {
+                if (closed) {
+                    throw new JobRejectedException(JobRejectedException.Reason.SHUTTING_DOWN, "Job engine is closed");
+                }
+                if (queue.size() + storing >= limits.maxQueued()) {
+                    throw new JobRejectedException(
+                            JobRejectedException.Reason.QUEUE_FULL,
+                            "Queue for job type " + handler.type() + " is full"
+                    );
+                }
+                // the slot is reserved while the job is stored, outside the lock
+                storing++;
+            } finally {
+                lock.unlock();
+            }
+
+            // stored before it can start, so the start always finds it QUEUED. A durable repository
+            // waits for its sync here, concurrent submissions of the type share that sync.
+            active.put(execution.jobId, execution);
+            try {
+                repository.save(job);
+            } catch (RuntimeException ex) {
+                withdraw(execution);
+                throw ex;
+            }
+
+            List<Execution> startable = List.of();
+            boolean shutDown;
+            lock.lock();
+            try {
+                storing--;
+                shutDown = closed;
+                if (!shutDown) {
+                    queue.add(execution);
+                    startable = pollStartable();
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (shutDown) {
+                // close() may have run while the job was being stored, before it could be cancelled
+                repository.transition(execution.jobId, JobStatus.QUEUED, JobStatus.CANCELLED);
+                active.remove(execution.jobId);
+                throw new JobRejectedException(JobRejectedException.Reason.SHUTTING_DOWN, "Job engine is closed");
+            }
+            startable.forEach(VirtualThreadJobEngine.this::start);
+        }
+
+        // gives back the slot of a job that failed to be stored
+        private void withdraw(Execution execution) {
+            active.remove(execution.jobId);
+            lock.lock();
+            try {
+                storing--;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Execution execution) {
+            lock.lock();
+            try {
+                if (queue.remove(execution)) {
+                    active.remove(execution.jobId);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release() {
+            List<Execution> startable;
+            lock.lock();
+            try {
+                running--;
+                startable = pollStartable();
+            } finally {
+                lock.unlock();
+            }
+            startable.forEach(VirtualThreadJobEngine.this::start);
+        }
+
+        // threads are started outside the lock, the executor may block or fail
+        private List<Execution> pollStartable() {
+            List<Execution> startable = List.of();
+            while (running < limits.maxConcurrency() && !queue.isEmpty()) {
+                if (startable.isEmpty()) {
+                    startable = new ArrayList<>(1);
+                }
+                startable.add(queue.poll());
+                running++;
+            }
+            return startable;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.jay.voyager.infra.jobs.events;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.port.jobs.JobStatusFeed;
+
+/**
+ * {@link JobStatusFeed} that fans every published status change out to the subscribers of its job.
+ *
+ * <p>
+ * Subscribers are kept per job id as an immutable array that is replaced on every subscribe and
+ * unsubscribe. Publishing is a lock-free map read and a walk over that array, and a job nobody
+ * watches costs one lookup, so the job engine's transitions are not slowed down by the feed.
+ * Subscriptions are short-lived and rare compared to transitions, which is what makes copying the
+ * array on write the cheaper side.
+ * </p>
+ */
+public final class JobEventHub implements JobStatusFeed {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobEventHub.class);
+
+    private final Map<UUID, Listener[]> subscribers = new ConcurrentHashMap<>();
+
+    @Override
+    public Subscription subscribe(UUID jobId, Consumer<Job> listener) {
+        Listener subscribed = new Listener(listener);
+        subscribers.merge(jobId, new Listener[] {subscribed}, JobEventHub::concat);
+        return () -> unsubscribe(jobId, subscribed);
+    }
+
+    /**
+     * Delivers the job's new status to its subscribers, on the calling thread.
+     */
+    public void publish(Job job) {
+        Listener[] listeners = subscribers.get(job.id());
+        if (listeners == null) {
+            return;
+        }
+        for (Listener listener : listeners) {
+            try {
+                listener.delegate.accept(job);
+            } catch (RuntimeException ex) {
+                // one broken subscriber must not fail the transition or starve the others
+                LOGGER.warn("Job status listener failed for job {}", job.id(), ex);
+            }
+        }
+    }
+
+    public boolean hasSubscribers(UUID jobId) {
+        return subscribers.containsKey(jobId);
+    }
+
+    private void unsubscribe(UUID jobId, Listener listener) {
+        if (!listener.subscribed.compareAndSet(true, false)) {
+            return;
+        }
+        // an empty array is never stored, the last unsubscribe removes the entry
+        subscribers.computeIfPresent(jobId, (_, listeners) -> without(listeners, listener));
+    }
+
+    private static Listener[] concat(Listener[] listeners, Listener[] added) {
+        Listener[] result = Arrays.copyOf(listeners, listeners.length + added.length);
+        System.arraycopy(added, 0, result, listeners.length, added.length);
+        return result;
+    }
+
+    private static Listener[] without(Listener[] listeners, Listener removed) {
+        Listener[] result = new Listener[listeners.length - 1];
+        int size = 0;
+        for (Listener listener : listeners) {
+            if (listener != removed) {
+                if (size == result.length) {
+                    return listeners; // not in this array
+                }
+                result[size++] = listener;
+            }
+        }
+        return size == 0 ? null : result;
+    }
+
+    // identity wrapper, the same consumer may be subscribed more than once
+    private static final class Listener {
+
+        private final Consumer<Job> delegate;
+        private final AtomicBoolean subscribed = new AtomicBoolean(true);
+
+        private Listener(Consumer<Job> delegate) {
+            this.delegate = delegate;
+        }
+    }
+}
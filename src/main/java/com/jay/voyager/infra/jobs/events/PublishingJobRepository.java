@@ -0,0 +1,80 @@
+package com.jay.voyager.infra.jobs.events;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+import com.jay.voyager.core.port.jobs.JobRepository;
+
+/**
+ * {@link JobRepository} decorator that publishes every stored status change to a {@link JobEventHub}.
+ *
+ * <p>
+ * All job state changes, from the engine and from cancellations, go through the repository, so
+ * this is the single place that sees them all. A change is published after it is stored, a
+ * subscriber reading the repository in response sees at least that state.
+ * </p>
+ */
+public final class PublishingJobRepository implements JobRepository, AutoCloseable {
+
+    private final JobRepository delegate;
+    private final JobEventHub hub;
+
+    public PublishingJobRepository(JobRepository delegate, JobEventHub hub) {
+        this.delegate = delegate;
+        this.hub = hub;
+    }
+
+    @Override
+    public void save(Job job) {
+        delegate.save(job);
+        hub.publish(job);
+    }
+
+    @Override
+    public Optional<Job> find(UUID id) {
+        return delegate.find(id);
+    }
+
+    @Override
+    public Map<UUID, Job> findAll(Collection<UUID> ids) {
+        return delegate.findAll(ids);
+    }
+
+    @Override
+    public boolean transition(UUID id, JobStatus from, JobStatus to) {
+        if (!delegate.transition(id, from, to)) {
+            return false;
+        }
+        // requestedAt never changes, the lookup is only paid for watched jobs
+        if (hub.hasSubscribers(id)) {
+            delegate.find(id).ifPresent(job -> hub.publish(new Job(id, to, job.requestedAt())));
+        }
+        return true;
+    }
+
+    // removals are not status changes, streams of evicted jobs ended when they finished
+    @Override
+    public int evictFinished(Instant requestedBefore, int maxJobs) {
+        return delegate.evictFinished(requestedBefore, maxJobs);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Closes the decorated repository when it holds resources, like a durable one.
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.jay.voyager.infra.jobs.store;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Concurrent hash map from a UUID, given as its two {@code long} halves, to a non-zero {@code long}.
+ *
+ * <p>
+ * Keys and values live in one flat {@code long[]} per segment as {@code msb, lsb, value} triples,
+ * probed linearly, so there is no boxed key and no node object per entry, and a lookup usually
+ * touches a single cache line. A value of {@code 0} marks an empty slot, which is why {@code 0}
+ * cannot be stored and doubles as "absent" on {@link #get}.
+ * </p>
+ *
+ * <p>
+ * The map is split into segments, each guarded by a {@link StampedLock}. Reads are optimistic and
+ * take no lock at all unless a write to the same segment overlapped them, in which case they retry
+ * under the read lock. Writes lock one segment, so writers to different segments do not contend.
+ * </p>
+ *
+ * <p>
+ * Removal shifts the entries that follow in the probe sequence back into the freed slot instead of
+ * leaving a tombstone, so lookups never probe past removed entries and a map that keeps a bounded
+ * number of entries does not degrade however many were removed. Tables do not shrink.
+ * </p>
+ */
+final class ConcurrentUuidLongMap {
+
+    private static final int STRIDE = 3; // msb, lsb, value
+
+    private static final int MIN_SEGMENT_SLOTS = 16;
+    // keeps STRIDE * slots within the maximum array length
+    private static final int MAX_SEGMENT_SLOTS = 1 << 28;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    /**
+     * @param segments     number of independently locked segments, rounded up to a power of two
+     * @param expectedSize number of entries to size the tables for up front
+     */
+    ConcurrentUuidLongMap(int segments, int expectedSize) {
+        if (segments < 1) {
+            throw new IllegalArgumentException("segments must be >= 1 but was " + segments);
+        }
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must be >= 0 but was " + expectedSize);
+        }
+
+        int segmentCount = ceilPowerOfTwo(segments);
+        int slotsPerSegment = slotsFor((expectedSize + segmentCount - 1) / segmentCount);
+
+        this.segments = new Segment[segmentCount];
+        this.segmentShift = Long.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment(slotsPerSegment);
+        }
+    }
+
+    /**
+     * @return the stored value, or {@code 0} when the key is absent
+     */
+    long get(long msb, long lsb) {
+        long hash = hash(msb, lsb);
+        return segmentFor(hash).get(msb, lsb, (int) hash);
+    }
+
+    /**
+     * Stores the value, replacing any previous one.
+     *
+     * @return the previous value, or {@code 0} when the key was absent
+     */
+    long put(long msb, long lsb, long value) {
+        if (value == 0) {
+            throw new IllegalArgumentException("value must not be 0");
+        }
+        long hash = hash(msb, lsb);
+        return segmentFor(hash).put(msb, lsb, value, (int) hash);
+    }
+
+    /**
+     * Stores {@code update} only if the key is currently mapped to {@code expected}.
+     *
+     * @return whether the value was replaced
+     */
+    boolean replace(long msb, long lsb, long expected, long update) {
+        if (expected == 0 || update == 0) {
+            throw new IllegalArgumentException("values must not be 0");
+        }
+        long hash = hash(msb, lsb);
+        return segmentFor(hash).replace(msb, lsb, expected, update, (int) hash);
+    }
+
+    /**
+     * Removes the key if it is currently mapped to {@code expected}.
+     *
+     * @return whether the entry was removed
+     */
+    boolean remove(long msb, long lsb, long expected) {
+        if (expected == 0) {
+            throw new IllegalArgumentException("expected must not be 0");
+        }
+        long hash = hash(msb, lsb);
+        return segmentFor(hash).remove(msb, lsb, expected, (int) hash) != 0;
+    }
+
+    /**
+     * Removes the key, whatever it is mapped to.
+     *
+     * @return the removed value, or {@code 0} when the key was absent
+     */
+    long remove(long msb, long lsb) {
+        long hash = hash(msb, lsb);
+        return segmentFor(hash).remove(msb, lsb, 0, (int) hash);
+    }
+
+    /**
+     * Visits every entry. Each segment is copied under its read lock and visited after the lock is
+     * released, so the consumer may be slow without blocking writers. Entries written while the
+     * iteration runs may or may not be visited.
+     */
+    void forEach(EntryConsumer consumer) {
+        for (Segment segment : segments) {
+            long[] copy = segment.copy();
+            for (int at = 0; at < copy.length; at += STRIDE) {
+                if (copy[at + 2] != 0) {
+                    consumer.accept(copy[at], copy[at + 1], copy[at + 2]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of entries, may be stale while writes are in progress
+     */
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long msb, long lsb, long value);
+    }
+
+    private Segment segmentFor(long hash) {
+        // a single segment would need a shift of 64, which Java reduces to 0
+        return segments.length == 1 ? segments[0] : segments[(int) (hash >>> segmentShift)];
+    }
+
+    // murmur3 finalizer, the high bits pick the segment and the low bits the slot
+    private static long hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // load factor of 0.5 keeps linear probe sequences short
+    private static int slotsFor(int entries) {
+        return Math.max(MIN_SEGMENT_SLOTS, ceilPowerOfTwo(Math.min(entries, MAX_SEGMENT_SLOTS / 2) * 2));
+    }
+
+    private static int ceilPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private static final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+
+        // replaced on resize, optimistic readers derive the slot count from the array they read
+        private long[] table;
+        private volatile int size;
+
+        Segment(int slots) {
+            this.table = new long[slots * STRIDE];
+        }
+
+        long get(long msb, long lsb, int hash) {
+            long stamp = lock.tryOptimisticRead();
+            long value = probe(table, msb, lsb, hash);
+            if (lock.validate(stamp)) {
+                return value;
+            }
+
+            stamp = lock.readLock();
+            try {
+                return probe(table, msb, lsb, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        long put(long msb, long lsb, long value, int hash) {
+            long stamp = lock.writeLock();
+            try {
+                long[] current = table;
+                int at = indexOf(current, msb, lsb, hash);
+                long previous = current[at + 2];
+                if (previous != 0) {
+                    current[at + 2] = value;
+                    return previous;
+                }
+
+                int newSize = size + 1;
+                if (newSize == current.length / STRIDE) {
+                    // the last empty slot terminates probes, it is never filled
+                    throw new IllegalStateException("Segment is full at " + size + " entries");
+                }
+
+                current[at] = msb;
+                current[at + 1] = lsb;
+                current[at + 2] = value;
+
+                size = newSize;
+                if (newSize * 2 > current.length / STRIDE) {
+                    table = resize(current);
+                }
+                return 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean replace(long msb, long lsb, long expected, long update, int hash) {
+            long stamp = lock.writeLock();
+            try {
+                long[] current = table;
+                int at = indexOf(current, msb, lsb, hash);
+                if (current[at + 2] != expected) {
+                    return false;
+                }
+                current[at + 2] = update;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        // expected 0 removes any value
+        long remove(long msb, long lsb, long expected, int hash) {
+            long stamp = lock.writeLock();
+            try {
+                long[] current = table;
+                int at = indexOf(current, msb, lsb, hash);
+                long value = current[at + 2];
+                if (value == 0 || (expected != 0 && value != expected)) {
+                    return 0;
+                }
+                shiftBack(current, at / STRIDE);
+                size = size - 1;
+                return value;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        long[] copy() {
+            long stamp = lock.readLock();
+            try {
+                return table.clone();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /*
+         * May run without a lock, so it must terminate and stay in bounds on a torn view of the
+         * table. The result is only trusted once the caller validated its stamp.
+         */
+        private static long probe(long[] table, long msb, long lsb, int hash) {
+            int slots = table.length / STRIDE;
+            int mask = slots - 1;
+            int slot = hash & mask;
+            for (int i = 0; i < slots; i++) {
+                int at = slot * STRIDE;
+                long value = table[at + 2];
+                if (value == 0) {
+                    return 0;
+                }
+                if (table[at] == msb && table[at + 1] == lsb) {
+                    return value;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return 0;
+        }
+
+        // index of the key's triple, or of the empty slot it would go into
+        private static int indexOf(long[] table, long msb, long lsb, int hash) {
+            int mask = table.length / STRIDE - 1;
+            int slot = hash & mask;
+            while (true) {
+                int at = slot * STRIDE;
+                if (table[at + 2] == 0 || (table[at] == msb && table[at + 1] == lsb)) {
+                    return at;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        /*
+         * Frees the slot by moving later entries of its probe run back. An entry may move into the
+         * hole only if the hole lies between its home slot and its current slot, otherwise a lookup
+         * starting at its home would stop at the hole before reaching it.
+         */
+        private static void shiftBack(long[] table, int hole) {
+            int mask = table.length / STRIDE - 1;
+            int slot = hole;
+            while (true) {
+                slot = (slot + 1) & mask;
+                int at = slot * STRIDE;
+                if (table[at + 2] == 0) {
+                    break;
+                }
+                int home = (int) hash(table[at], table[at + 1]) & mask;
+                if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                    System.arraycopy(table, at, table, hole * STRIDE, STRIDE);
+                    hole = slot;
+                }
+            }
+            int at = hole * STRIDE;
+            table[at] = 0;
+            table[at + 1] = 0;
+            table[at + 2] = 0;
+        }
+
+        private static long[] resize(long[] current) {
+            int slots = current.length / STRIDE;
+            if (slots >= MAX_SEGMENT_SLOTS) {
+                // inserts keep working until the segment is full, the probes just get longer
+                return current;
+            }
+
+            long[] resized = new long[slots * 2 * STRIDE];
+            for (int at = 0; at < current.length; at += STRIDE) {
+                if (current[at + 2] != 0) {
+                    long msb = current[at];
+                    long lsb = current[at + 1];
+                    int to = indexOf(resized, msb, lsb, (int) hash(msb, lsb));
+                    resized[to] = msb;
+                    resized[to + 1] = lsb;
+                    resized[to + 2] = current[at + 2];
+                }
+            }
+            return resized;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.jay.voyager.infra.jobs.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+import com.jay.voyager.core.port.jobs.JobRepository;
+
+/**
+ * {@link JobRepository} that survives restarts: every state change is written to a
+ * {@link JobWriteAheadLog} on local disk before it is acknowledged, reads are served from an
+ * {@link InMemoryJobRepository} rebuilt from the log on startup.
+ *
+ * <p>
+ * A write appends the job's encoded state to the log, waits for the group commit that makes it
+ * durable and only then applies it to the index, all under a lock striped by job id. That keeps the
+ * log order of one job's states equal to the order they were applied in, and reads never see a
+ * state that is not on disk. Writes of different jobs do not block each other, and concurrent
+ * writers share syncs.
+ * </p>
+ *
+ * <p>
+ * When a sync fails the write throws and the index keeps the previous state. The log then refuses
+ * further writes, every later write fails as well while reads keep serving the last durable states.
+ * </p>
+ *
+ * <p>
+ * An evicted job is logged as a removal record, a state without a status, which replay applies by
+ * removing the job. Evictions are applied to the index as they are logged and synced once per
+ * call, a crash before that sync brings back finished jobs the next sweep evicts again.
+ * </p>
+ *
+ * <p>
+ * Jobs that were {@code QUEUED} or {@code RUNNING} when the process stopped cannot be resumed, the
+ * store does not keep what they were to run, so recovery records them as {@code FAILED}.
+ * </p>
+ *
+ * <p>
+ * A background platform daemon thread compacts the log every {@code compactionInterval}, replacing
+ * the sealed segments with a snapshot of the index, so disk use and recovery time follow the number
+ * of jobs rather than the number of transitions.
+ * </p>
+ */
+public final class DurableJobRepository implements JobRepository, AutoCloseable {
+
+    static final String THREAD_NAME = "job-wal-compactor";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DurableJobRepository.class);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+    private static final int LOCK_STRIPES = 256;
+    // never a stored state, those always carry a status in the low byte
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    private final InMemoryJobRepository index;
+    private final JobWriteAheadLog log;
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+    private final long compactionIntervalNanos;
+
+    private volatile boolean running;
+    private Thread compactorThread;
+
+    /**
+     * Recovers the jobs stored in {@code directory} into {@code index}, which must be empty.
+     *
+     * @param segmentSize bytes per log segment file, each is allocated up front
+     */
+    public DurableJobRepository(
+            InMemoryJobRepository index,
+            Path directory,
+            int segmentSize,
+            Duration compactionInterval
+    ) {
+        if (compactionInterval.isNegative() || compactionInterval.isZero()) {
+            throw new IllegalArgumentException("compactionInterval must be positive but was " + compactionInterval);
+        }
+
+        this.index = index;
+        this.compactionIntervalNanos = compactionInterval.toNanos();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        try {
+            this.log = JobWriteAheadLog.open(directory, segmentSize, this::replay);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to recover jobs from " + directory, ex);
+        }
+
+        try {
+            failUnfinished();
+        } catch (RuntimeException ex) {
+            // gives the directory back, a retry in this process could not open it otherwise
+            try {
+                log.close();
+            } catch (IOException | RuntimeException closeEx) {
+                ex.addSuppressed(closeEx);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Starts periodic compaction.
+     */
+    public synchronized void start() {
+        if (compactorThread != null) {
+            throw new IllegalStateException("Job WAL compactor already started");
+        }
+        running = true;
+        compactorThread = Thread.ofPlatform()
+                .name(THREAD_NAME)
+                .daemon()
+                .start(this::runCompactions);
+    }
+
+    @Override
+    public void save(Job job) {
+        UUID id = job.id();
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        long state = InMemoryJobRepository.pack(job.status(), job.requestedAt());
+
+        ReentrantLock lock = stripe(msb, lsb);
+        lock.lock();
+        try {
+            log.awaitDurable(log.append(msb, lsb, state));
+            index.restore(msb, lsb, state);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Job> find(UUID id) {
+        return index.find(id);
+    }
+
+    @Override
+    public Map<UUID, Job> findAll(Collection<UUID> ids) {
+        return index.findAll(ids);
+    }
+
+    @Override
+    public boolean transition(UUID id, JobStatus from, JobStatus to) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+
+        ReentrantLock lock = stripe(msb, lsb);
+        lock.lock();
+        try {
+            long state = index.state(msb, lsb);
+            if (state == 0 || InMemoryJobRepository.status(state) != from) {
+                return false;
+            }
+            long update = InMemoryJobRepository.withStatus(state, to);
+            log.awaitDurable(log.append(msb, lsb, update));
+            index.restore(msb, lsb, update);
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public int evictFinished(Instant requestedBefore, int maxJobs) {
+        long[] last = {0};
+        int evicted = index.evictFinished(requestedBefore, maxJobs, (msb, lsb, state) -> {
+            ReentrantLock lock = stripe(msb, lsb);
+            lock.lock();
+            try {
+                if (index.state(msb, lsb) != state) {
+                    return false;
+                }
+                last[0] = log.append(msb, lsb, REMOVED);
+                return index.remove(msb, lsb, state);
+            } finally {
+                lock.unlock();
+            }
+        });
+        if (last[0] != 0) {
+            log.awaitDurable(last[0]);
+        }
+        return evicted;
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Stops compaction and closes the log, syncing whatever was appended.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        running = false;
+        if (compactorThread != null) {
+            LockSupport.unpark(compactorThread);
+            try {
+                if (!compactorThread.join(CLOSE_TIMEOUT)) {
+                    LOGGER.warn("Job WAL compactor did not stop within {}", CLOSE_TIMEOUT);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.close();
+    }
+
+    /**
+     * Replaces the sealed log segments with a snapshot of the current states.
+     *
+     * @return whether a snapshot was written, {@code false} when there was nothing to compact
+     */
+    boolean compact() throws IOException {
+        long snapshotIndex;
+        // with every stripe held, each record appended so far is also applied to the index
+        for (ReentrantLock lock : stripes) {
+            lock.lock();
+        }
+        try {
+            snapshotIndex = log.seal();
+        } finally {
+            for (ReentrantLock lock : stripes) {
+                lock.unlock();
+            }
+        }
+
+        if (snapshotIndex < 0) {
+            return false;
+        }
+        log.writeSnapshot(snapshotIndex, index::forEachState);
+        return true;
+    }
+
+    private void runCompactions() {
+        while (running) {
+            LockSupport.parkNanos(this, compactionIntervalNanos);
+            if (!running) {
+                return;
+            }
+            try {
+                compact();
+            } catch (IOException | RuntimeException ex) {
+                LOGGER.warn("Job WAL compaction failed, retrying next interval", ex);
+            }
+        }
+    }
+
+    private void replay(long msb, long lsb, long state) {
+        if (state == REMOVED) {
+            index.remove(msb, lsb);
+        } else {
+            index.restore(msb, lsb, state);
+        }
+    }
+
+    // runs before the repository is shared, no locking needed
+    private void failUnfinished() {
+        List<long[]> unfinished = new ArrayList<>();
+        index.forEachState((msb, lsb, state) -> {
+            JobStatus status = InMemoryJobRepository.status(state);
+            if (status == JobStatus.QUEUED || status == JobStatus.RUNNING) {
+                unfinished.add(new long[] {msb, lsb, InMemoryJobRepository.withStatus(state, JobStatus.FAILED)});
+            }
+        });
+        if (unfinished.isEmpty()) {
+            return;
+        }
+
+        long sequence = 0;
+        for (long[] job : unfinished) {
+            sequence = log.append(job[0], job[1], job[2]);
+        }
+        log.awaitDurable(sequence);
+        for (long[] job : unfinished) {
+            index.restore(job[0], job[1], job[2]);
+        }
+        LOGGER.warn("Marked {} jobs interrupted by the last shutdown as FAILED", unfinished.size());
+    }
+
+    private ReentrantLock stripe(long msb, long lsb) {
+        return stripes[Long.hashCode(msb ^ lsb) & (LOCK_STRIPES - 1)];
+    }
+}
@@ -0,0 +1,228 @@
+package com.jay.voyager.infra.jobs.store;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+import com.jay.voyager.core.port.jobs.JobRepository;
+
+/**
+ * {@link JobRepository} held entirely in memory, in a {@link ConcurrentUuidLongMap}.
+ *
+ * <p>
+ * A job is stored as a single {@code long}: the status in the low 8 bits (ordinal + 1, so a stored
+ * job is never {@code 0}) and {@code requestedAt} as epoch microseconds in the upper 56 bits, which
+ * covers roughly ±1,000 years around 1970. {@code requestedAt} is therefore truncated to
+ * microseconds. A million jobs take about 48 MB of flat arrays and no per-job objects, {@link Job}
+ * instances are only created for the caller on {@link #find} and {@link #findAll}.
+ * </p>
+ *
+ * <p>
+ * {@link #evictFinished} scans the index, it is meant for a periodic sweep rather than the request
+ * path. Each removal is conditional on the state it decided on, a job that changed in the meantime
+ * stays.
+ * </p>
+ */
+public final class InMemoryJobRepository implements JobRepository {
+
+    private static final JobStatus[] STATUSES = JobStatus.values();
+
+    private static final int STATUS_BITS = 8;
+    private static final long STATUS_MASK = (1L << STATUS_BITS) - 1;
+    private static final long MAX_MICROS = Long.MAX_VALUE >> STATUS_BITS;
+    private static final long MIN_MICROS = Long.MIN_VALUE >> STATUS_BITS;
+
+    private final ConcurrentUuidLongMap index;
+
+    public InMemoryJobRepository(int segments, int expectedJobs) {
+        this.index = new ConcurrentUuidLongMap(segments, expectedJobs);
+    }
+
+    @Override
+    public void save(Job job) {
+        UUID id = job.id();
+        index.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), pack(job.status(), job.requestedAt()));
+    }
+
+    @Override
+    public Optional<Job> find(UUID id) {
+        long state = index.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (state == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Job(id, status(state), requestedAt(state)));
+    }
+
+    @Override
+    public Map<UUID, Job> findAll(Collection<UUID> ids) {
+        Map<UUID, Job> found = HashMap.newHashMap(ids.size());
+        for (UUID id : ids) {
+            long state = index.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (state != 0) {
+                found.put(id, new Job(id, status(state), requestedAt(state)));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public boolean transition(UUID id, JobStatus from, JobStatus to) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        while (true) {
+            long state = index.get(msb, lsb);
+            if (state == 0 || status(state) != from) {
+                return false;
+            }
+            if (index.replace(msb, lsb, state, withStatus(state, to))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public int evictFinished(Instant requestedBefore, int maxJobs) {
+        return evictFinished(requestedBefore, maxJobs, index::remove);
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    // raw access for DurableJobRepository, which logs and replays the encoded states
+
+    long state(long msb, long lsb) {
+        return index.get(msb, lsb);
+    }
+
+    void restore(long msb, long lsb, long state) {
+        index.put(msb, lsb, state);
+    }
+
+    boolean remove(long msb, long lsb, long state) {
+        return index.remove(msb, lsb, state);
+    }
+
+    void remove(long msb, long lsb) {
+        index.remove(msb, lsb);
+    }
+
+    void forEachState(ConcurrentUuidLongMap.EntryConsumer consumer) {
+        index.forEach(consumer);
+    }
+
+    /**
+     * Picks the jobs {@link #evictFinished(Instant, int)} removes and hands each to {@code evictor},
+     * which lets DurableJobRepository log the removals.
+     */
+    int evictFinished(Instant requestedBefore, int maxJobs, Evictor evictor) {
+        if (maxJobs < 0) {
+            throw new IllegalArgumentException("maxJobs must be >= 0 but was " + maxJobs);
+        }
+        long cutoff = ChronoUnit.MICROS.between(Instant.EPOCH, requestedBefore);
+
+        // expired jobs go first, the requestedAt of the finished jobs left decides which go next
+        int[] evicted = {0};
+        var kept = new RequestTimes();
+        index.forEach((msb, lsb, state) -> {
+            if (!status(state).isFinished()) {
+                return;
+            }
+            if (requestedAtMicros(state) < cutoff) {
+                if (evictor.evict(msb, lsb, state)) {
+                    evicted[0]++;
+                }
+            } else {
+                kept.add(requestedAtMicros(state));
+            }
+        });
+
+        int excess = Math.min(index.size() - maxJobs, kept.size);
+        if (excess <= 0) {
+            return evicted[0];
+        }
+        long[] times = kept.sorted();
+        long newest = times[excess - 1];
+
+        // counted down, jobs requested in the same microsecond as the newest to go may stay
+        int[] budget = {excess};
+        index.forEach((msb, lsb, state) -> {
+            if (budget[0] > 0
+                    && status(state).isFinished()
+                    && requestedAtMicros(state) <= newest
+                    && evictor.evict(msb, lsb, state)) {
+                budget[0]--;
+                evicted[0]++;
+            }
+        });
+        return evicted[0];
+    }
+
+    @FunctionalInterface
+    interface Evictor {
+
+        /**
+         * Removes the job if it is still in {@code state}.
+         *
+         * @return whether it was removed
+         */
+        boolean evict(long msb, long lsb, long state);
+    }
+
+    static long pack(JobStatus status, Instant requestedAt) {
+        long micros;
+        try {
+            micros = ChronoUnit.MICROS.between(Instant.EPOCH, requestedAt);
+        } catch (ArithmeticException ex) {
+            // beyond what a long of microseconds holds, far outside the storable range as well
+            micros = Long.MAX_VALUE;
+        }
+        if (micros > MAX_MICROS || micros < MIN_MICROS) {
+            throw new IllegalArgumentException("requestedAt out of storable range: " + requestedAt);
+        }
+        return micros << STATUS_BITS | (status.ordinal() + 1);
+    }
+
+    static long withStatus(long state, JobStatus status) {
+        return state & ~STATUS_MASK | (status.ordinal() + 1);
+    }
+
+    static JobStatus status(long state) {
+        return STATUSES[(int) (state & STATUS_MASK) - 1];
+    }
+
+    static Instant requestedAt(long state) {
+        return Instant.EPOCH.plus(requestedAtMicros(state), ChronoUnit.MICROS);
+    }
+
+    private static long requestedAtMicros(long state) {
+        return state >> STATUS_BITS;
+    }
+
+    private static final class RequestTimes {
+
+        private long[] micros = new long[64];
+        private int size;
+
+        void add(long value) {
+            if (size == micros.length) {
+                micros = Arrays.copyOf(micros, size * 2);
+            }
+            micros[size++] = value;
+        }
+
+        long[] sorted() {
+            long[] values = Arrays.copyOf(micros, size);
+            Arrays.sort(values);
+            return values;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.jay.voyager.infra.jobs.store;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.jay.voyager.core.port.jobs.JobRepository;
+
+/**
+ * Applies the job store's retention on a schedule, so the index, and a durable store's snapshot,
+ * stay bounded instead of growing with every job ever submitted.
+ *
+ * <p>
+ * Every {@code sweepInterval} it evicts the finished jobs requested more than {@code ttl} ago, then
+ * the oldest finished jobs beyond {@code maxJobs} (see {@link JobRepository#evictFinished}). Sweeps
+ * run on a platform daemon thread, they scan the whole index.
+ * </p>
+ */
+public final class JobRetentionSweeper implements AutoCloseable {
+
+    static final String THREAD_NAME = "job-retention-sweeper";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobRetentionSweeper.class);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final JobRepository repository;
+    private final Duration ttl;
+    private final int maxJobs;
+    private final long sweepIntervalNanos;
+
+    private volatile boolean running;
+    private Thread sweeperThread;
+
+    public JobRetentionSweeper(JobRepository repository, Duration ttl, int maxJobs, Duration sweepInterval) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must be >= 0 but was " + ttl);
+        }
+        if (maxJobs < 0) {
+            throw new IllegalArgumentException("maxJobs must be >= 0 but was " + maxJobs);
+        }
+        if (sweepInterval.isNegative() || sweepInterval.isZero()) {
+            throw new IllegalArgumentException("sweepInterval must be positive but was " + sweepInterval);
+        }
+
+        this.repository = repository;
+        this.ttl = ttl;
+        this.maxJobs = maxJobs;
+        this.sweepIntervalNanos = sweepInterval.toNanos();
+    }
+
+    /**
+     * Starts periodic sweeps.
+     */
+    public synchronized void start() {
+        if (sweeperThread != null) {
+            throw new IllegalStateException("Job retention sweeper already started");
+        }
+        running = true;
+        sweeperThread = Thread.ofPlatform()
+                .name(THREAD_NAME)
+                .daemon()
+                .start(this::runSweeps);
+    }
+
+    /**
+     * Stops sweeping, waiting for a sweep in progress.
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (sweeperThread == null) {
+            return;
+        }
+        LockSupport.unpark(sweeperThread);
+        try {
+            if (!sweeperThread.join(CLOSE_TIMEOUT)) {
+                LOGGER.warn("Job retention sweeper did not stop within {}", CLOSE_TIMEOUT);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs one sweep.
+     *
+     * @return number of evicted jobs
+     */
+    int sweep(Instant now) {
+        int evicted = repository.evictFinished(now.minus(ttl), maxJobs);
+        if (evicted > 0) {
+            LOGGER.debug("Evicted {} finished jobs, {} left", evicted, repository.size());
+        }
+        return evicted;
+    }
+
+    private void runSweeps() {
+        while (running) {
+            LockSupport.parkNanos(this, sweepIntervalNanos);
+            if (!running) {
+                return;
+            }
+            try {
+                sweep(Instant.now());
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Job retention sweep failed, retrying next interval", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.jay.voyager.infra.jobs.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only log of job states in a directory of {@link WalSegment}s and snapshots.
+ *
+ * <p>
+ * Records are appended to the current segment, a full segment is synced and sealed and a new one
+ * is started. {@link #awaitDurable(long)} implements group commit: the first waiter syncs
+ * everything appended so far while later waiters block, and when it is done every waiter it
+ * covered returns, so a burst of concurrent appends costs one sync instead of one each.
+ * </p>
+ *
+ * <p>
+ * A failed sync leaves it unknown which records reached the disk, retrying it could report a lost
+ * record as durable. The log fails instead: that sync and every later append and wait throw.
+ * </p>
+ *
+ * <p>
+ * A compaction ({@link #seal()}, then {@link #writeSnapshot}) replaces the sealed segments with a
+ * snapshot of the current states: it seals the current segment, writes the snapshot next to the
+ * segments that follow it, and deletes the sealed ones once the snapshot is safely renamed into
+ * place. Recovery loads the newest snapshot and replays the segments after it, so a crash at any
+ * point of a compaction leaves a readable log.
+ * </p>
+ *
+ * <p>
+ * Files are named by a sequence number: {@code segment-N.wal} holds records appended after
+ * {@code snapshot-N.snap} was started, segments before the newest snapshot's {@code N} are obsolete.
+ * </p>
+ *
+ * <p>
+ * An open log holds an exclusive lock on {@code wal.lock} in its directory until it is closed. Two
+ * processes appending to the same segments would corrupt them, so the second one fails to open.
+ * </p>
+ */
+final class JobWriteAheadLog implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobWriteAheadLog.class);
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{20})\\.wal");
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-(\\d{20})\\.snap");
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String LOCK_NAME = "wal.lock";
+
+    private static final int SNAPSHOT_BATCH_RECORDS = 4096;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FileLock directoryLock;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private WalSegment current;
+    private long appended;
+    private boolean closed;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition syncDone = syncLock.newCondition();
+    private long durable;
+    private boolean syncing;
+    // set once a sync or rollover failed, the log no longer acknowledges anything
+    private volatile RuntimeException failure;
+
+    // compactions run one at a time, from a single thread
+    private volatile long snapshotIndex;
+
+    private JobWriteAheadLog(
+            Path directory,
+            int segmentSize,
+            FileLock directoryLock,
+            long snapshotIndex,
+            long nextSegmentIndex
+    ) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.directoryLock = directoryLock;
+        this.snapshotIndex = snapshotIndex;
+        this.current = createSegment(nextSegmentIndex);
+    }
+
+    /**
+     * Opens the log in {@code directory}, creating it if needed, and replays every stored record,
+     * oldest first, into {@code replay}. New records go to a fresh segment.
+     *
+     * @throws IOException also when another open log, of this or another process, holds the directory
+     */
+    static JobWriteAheadLog open(Path directory, int segmentSize, ConcurrentUuidLongMap.EntryConsumer replay)
+            throws IOException {
+        Files.createDirectories(directory);
+
+        FileLock directoryLock = lock(directory);
+        try {
+            return open(directory, segmentSize, directoryLock, replay);
+        } catch (IOException | RuntimeException ex) {
+            directoryLock.channel().close();
+            throw ex;
+        }
+    }
+
+    private static JobWriteAheadLog open(
+            Path directory,
+            int segmentSize,
+            FileLock directoryLock,
+            ConcurrentUuidLongMap.EntryConsumer replay
+    ) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path temp : files.filter(path -> path.getFileName().toString().endsWith(TEMP_SUFFIX)).toList()) {
+                // an unfinished snapshot, the segments it was made from are still there
+                Files.delete(temp);
+            }
+        }
+
+        List<Path> snapshots = list(directory, SNAPSHOT_NAME);
+        long snapshotIndex = snapshots.isEmpty() ? 0 : index(snapshots.getLast(), SNAPSHOT_NAME);
+        if (!snapshots.isEmpty()) {
+            readFully(snapshots.getLast(), replay, true);
+        }
+
+        long nextSegmentIndex = snapshotIndex;
+        for (Path segment : list(directory, SEGMENT_NAME)) {
+            long segmentIndex = index(segment, SEGMENT_NAME);
+            if (segmentIndex < snapshotIndex) {
+                // already in the snapshot, left behind by a compaction that did not finish deleting
+                Files.delete(segment);
+                continue;
+            }
+            readFully(segment, replay, false);
+            nextSegmentIndex = segmentIndex + 1;
+        }
+        for (Path snapshot : snapshots.subList(0, Math.max(0, snapshots.size() - 1))) {
+            Files.delete(snapshot);
+        }
+
+        return new JobWriteAheadLog(directory, segmentSize, directoryLock, snapshotIndex, nextSegmentIndex);
+    }
+
+    // fails fast instead of waiting, the other holder is a live process that keeps the log open
+    private static FileLock lock(Path directory) throws IOException {
+        Path path = directory.resolve(LOCK_NAME);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            // held by another log of this process
+            lock = null;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+        if (lock == null) {
+            channel.close();
+            throw new IOException("Job WAL directory " + directory + " is in use by another process");
+        }
+        return lock;
+    }
+
+    /**
+     * Appends a record. It is not durable before {@link #awaitDurable} returned for its sequence.
+     *
+     * @return the record's sequence number
+     */
+    long append(long msb, long lsb, long state) {
+        appendLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Job WAL is closed");
+            }
+            checkNotFailed();
+            if (!current.hasRoom()) {
+                rollover();
+            }
+            current.append(msb, lsb, state);
+            return ++appended;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the record with the given sequence, and every record before it, is on disk.
+     *
+     * @throws RuntimeException when the sync failed, the record may or may not be on disk
+     */
+    void awaitDurable(long sequence) {
+        syncLock.lock();
+        try {
+            while (durable < sequence) {
+                checkNotFailed();
+                if (syncing) {
+                    syncDone.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                syncLock.unlock();
+
+                long target = 0;
+                try {
+                    target = syncAppended();
+                } catch (RuntimeException ex) {
+                    failure = ex;
+                    throw ex;
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    durable = Math.max(durable, target);
+                    syncDone.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * First step of a compaction: seals the current segment, everything appended after this goes to
+     * segments the snapshot will not replace. The caller must make sure every record appended before
+     * is already visible to the snapshot's source.
+     *
+     * @return index of the snapshot to write, or {@code -1} when nothing was appended since the last
+     *         compaction and there is nothing to compact
+     */
+    long seal() {
+        appendLock.lock();
+        try {
+            if (closed || current.index() == snapshotIndex && current.position() == WalSegment.HEADER_SIZE) {
+                return -1;
+            }
+            rollover();
+            return current.index();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Second step of a compaction: writes the states produced by {@code snapshot} as the new base of
+     * the log and deletes the segments and snapshot it replaces.
+     *
+     * @param snapshot feeds the current state of every job to the given consumer
+     */
+    void writeSnapshot(long index, Consumer<ConcurrentUuidLongMap.EntryConsumer> snapshot) throws IOException {
+        Path target = directory.resolve(snapshotName(index));
+        Path temp = directory.resolve(target.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            writeSnapshot(channel, snapshot);
+            channel.force(true);
+        } catch (IOException | RuntimeException ex) {
+            // the sealed segments stay, the next compaction covers them
+            Files.deleteIfExists(temp);
+            throw ex;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+
+        long previousIndex = snapshotIndex;
+        snapshotIndex = index;
+        for (Path segment : list(directory, SEGMENT_NAME)) {
+            if (index(segment, SEGMENT_NAME) < index) {
+                Files.delete(segment);
+            }
+        }
+        Files.deleteIfExists(directory.resolve(snapshotName(previousIndex)));
+    }
+
+    /**
+     * Syncs what was appended, closes the current segment and releases the directory. Later appends
+     * fail.
+     */
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                current.force(current.position());
+                current.close();
+            } finally {
+                // closing the channel releases the lock
+                directoryLock.channel().close();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private long syncAppended() {
+        long target;
+        WalSegment segment;
+        int upTo;
+        appendLock.lock();
+        try {
+            target = appended;
+            segment = current;
+            upTo = segment.position();
+        } finally {
+            appendLock.unlock();
+        }
+
+        // earlier segments were synced when they were sealed
+        segment.force(upTo);
+        return target;
+    }
+
+    // called with the append lock held
+    private void rollover() {
+        try {
+            current.force(current.position());
+            current.close();
+            current = createSegment(current.index() + 1);
+        } catch (IOException ex) {
+            failure = new UncheckedIOException("Failed to start a new job WAL segment", ex);
+            throw failure;
+        } catch (RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        }
+    }
+
+    private void checkNotFailed() {
+        RuntimeException cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("Job WAL failed to sync and no longer accepts records", cause);
+        }
+    }
+
+    private WalSegment createSegment(long index) throws IOException {
+        WalSegment segment = WalSegment.create(directory.resolve(segmentName(index)), index, segmentSize);
+        // makes the new file itself survive a crash
+        syncDirectory();
+        return segment;
+    }
+
+    private static void writeSnapshot(FileChannel channel, Consumer<ConcurrentUuidLongMap.EntryConsumer> snapshot)
+            throws IOException {
+        ByteBuffer batch = ByteBuffer.allocate(SNAPSHOT_BATCH_RECORDS * WalSegment.RECORD_SIZE);
+        CRC32C crc = new CRC32C();
+        try {
+            writeFully(channel, WalSegment.header());
+            snapshot.accept((msb, lsb, state) -> {
+                if (!batch.hasRemaining()) {
+                    writeFully(channel, batch.flip());
+                    batch.clear();
+                }
+                WalSegment.encode(batch, crc, msb, lsb, state);
+            });
+            writeFully(channel, batch.flip());
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void readFully(Path file, ConcurrentUuidLongMap.EntryConsumer replay, boolean snapshot)
+            throws IOException {
+        if (!WalSegment.read(file, replay)) {
+            if (snapshot) {
+                // snapshots are synced before they are renamed into place, this is not a crash
+                throw new IOException("Corrupt job WAL snapshot " + file);
+            }
+            LOGGER.warn("Job WAL segment {} ends in a torn record, replayed up to it", file);
+        }
+    }
+
+    private void syncDirectory() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private static List<Path> list(Path directory, Pattern name) throws IOException {
+        List<Path> matches = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> name.matcher(path.getFileName().toString()).matches()).forEach(matches::add);
+        }
+        // zero-padded, so name order is index order
+        matches.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        return matches;
+    }
+
+    private static long index(Path file, Pattern name) {
+        Matcher matcher = name.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a job WAL file name: " + file);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static String segmentName(long index) {
+        return "segment-%020d.wal".formatted(index);
+    }
+
+    private static String snapshotName(long index) {
+        return "snapshot-%020d.snap".formatted(index);
+    }
+}
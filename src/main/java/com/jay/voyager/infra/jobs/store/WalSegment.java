@@ -0,0 +1,181 @@
+package com.jay.voyager.infra.jobs.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * One fixed-size, memory-mapped file of the job write-ahead log.
+ *
+ * <p>
+ * A file is a header ({@code magic, version}) followed by fixed-size records
+ * {@code msb, lsb, state, crc32c}, the checksum covering the first three fields. The file is
+ * allocated at full size up front, so unwritten space reads as zeros, and a record with state
+ * {@code 0} marks the end of the log (a stored state is never {@code 0}). A checksum mismatch
+ * marks a record torn by a crash, reading stops there as well. Snapshots use the same format.
+ * </p>
+ *
+ * <p>
+ * Appends are plain stores into the mapping and must be serialized by the caller. They are only
+ * durable once {@link #force(int)} covered them.
+ * </p>
+ */
+final class WalSegment implements AutoCloseable {
+
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_SIZE = 28;
+
+    private static final int MAGIC = 0x564A574C; // "VJWL"
+    private static final int VERSION = 1;
+    private static final int CHECKED_SIZE = 24;
+
+    private static final int READ_BATCH_RECORDS = 4096;
+
+    private final long index;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    // owned by the appender, reused for every record
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32C crc = new CRC32C();
+
+    private int position;
+
+    private WalSegment(long index, FileChannel channel, MappedByteBuffer buffer) {
+        this.index = index;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.position = HEADER_SIZE;
+    }
+
+    /**
+     * Creates and maps a new segment file of up to {@code size} bytes, the header already written.
+     * The file holds a whole number of records.
+     */
+    static WalSegment create(Path path, long index, int size) throws IOException {
+        if (size < HEADER_SIZE + RECORD_SIZE) {
+            throw new IllegalArgumentException("size must hold at least one record but was " + size);
+        }
+        int fileSize = HEADER_SIZE + (size - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+
+        FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            buffer.put(0, header(), 0, HEADER_SIZE);
+            return new WalSegment(index, channel, buffer);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    long index() {
+        return index;
+    }
+
+    int position() {
+        return position;
+    }
+
+    boolean hasRoom() {
+        return position + RECORD_SIZE <= buffer.capacity();
+    }
+
+    void append(long msb, long lsb, long state) {
+        encode(record.clear(), crc, msb, lsb, state);
+        buffer.put(position, record, 0, RECORD_SIZE);
+        position += RECORD_SIZE;
+    }
+
+    /**
+     * Writes everything before {@code upTo} through to the device.
+     */
+    void force(int upTo) {
+        try {
+            buffer.force(0, upTo);
+        } catch (UncheckedIOException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            // force reports I/O failures as unspecified runtime exceptions
+            throw new UncheckedIOException(new IOException("Failed to sync WAL segment " + index, ex));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the mapping stays valid until it is garbage collected, a late force is still safe
+        channel.close();
+    }
+
+    /**
+     * Reads the valid records of a segment or snapshot file, in order.
+     *
+     * @return whether the file ended cleanly, {@code false} when reading stopped at a torn record
+     * @throws IOException when the file is not a log file of this version
+     */
+    static boolean read(Path path, ConcurrentUuidLongMap.EntryConsumer consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer batch = ByteBuffer.allocate(READ_BATCH_RECORDS * RECORD_SIZE);
+
+            batch.limit(HEADER_SIZE);
+            if (fill(channel, batch) < HEADER_SIZE || !batch.flip().equals(header())) {
+                throw new IOException("Not a job WAL file of version " + VERSION + ": " + path);
+            }
+
+            CRC32C crc = new CRC32C();
+            while (true) {
+                batch.clear();
+                int read = fill(channel, batch);
+                for (int at = 0; at + RECORD_SIZE <= read; at += RECORD_SIZE) {
+                    long state = batch.getLong(at + 16);
+                    if (state == 0) {
+                        return true;
+                    }
+                    if (batch.getInt(at + CHECKED_SIZE) != checksum(crc, batch, at)) {
+                        return false;
+                    }
+                    consumer.accept(batch.getLong(at), batch.getLong(at + 8), state);
+                }
+                if (read < batch.capacity()) {
+                    // a partial trailing record can only be left by a crash
+                    return read % RECORD_SIZE == 0;
+                }
+            }
+        }
+    }
+
+    static ByteBuffer header() {
+        return ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+    }
+
+    /**
+     * Encodes one record at the position of a heap buffer and advances past it.
+     */
+    static void encode(ByteBuffer out, CRC32C crc, long msb, long lsb, long state) {
+        int at = out.position();
+        out.putLong(msb).putLong(lsb).putLong(state);
+        out.putInt(checksum(crc, out, at));
+    }
+
+    private static int checksum(CRC32C crc, ByteBuffer heapBuffer, int at) {
+        crc.reset();
+        crc.update(heapBuffer.array(), heapBuffer.arrayOffset() + at, CHECKED_SIZE);
+        return (int) crc.getValue();
+    }
+
+    // reads until the buffer is full or the file ends
+    private static int fill(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // keep reading
+        }
+        return buffer.position() - start;
+    }
+}
@@ -0,0 +1,16 @@
+package com.jay.voyager.infra.observability.accesslog;
+
+import com.jay.voyager.core.observability.accesslog.AccessLogRecord;
+
+/**
+ * Writes one access record out, called from the {@link AsyncAccessLogWriter} thread only.
+ *
+ * <p>
+ * May block on I/O. A thrown exception counts the record as failed, the writer carries on with the next.
+ * </p>
+ */
+@FunctionalInterface
+public interface AccessLogEmitter {
+
+    void emit(AccessLogRecord accessLogRecord);
+}
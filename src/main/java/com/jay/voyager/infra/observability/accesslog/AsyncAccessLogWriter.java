@@ -0,0 +1,219 @@
+package com.jay.voyager.infra.observability.accesslog;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.jay.voyager.core.observability.accesslog.AccessLogPolicy;
+import com.jay.voyager.core.observability.accesslog.AccessLogRecord;
+import com.jay.voyager.core.port.observability.accesslog.AccessLogSink;
+
+/**
+ * {@link AccessLogSink} that moves access-log I/O off the request thread.
+ *
+ * <p>
+ * Request threads only publish the record into a bounded {@link MpscRingBuffer} (one CAS, no locks,
+ * no allocation beyond the record itself). A single background writer drains the buffer in batches
+ * of up to {@code batchSize} records and hands each to the {@link AccessLogEmitter}, normally the
+ * dedicated access logger, so formatting and appender I/O never happen on a request thread. When
+ * there is nothing to write it parks for {@code flushInterval}.
+ * </p>
+ *
+ * <p>
+ * The writer is a dedicated platform daemon thread: it spends its time in blocking appender writes,
+ * which would otherwise pin or occupy a carrier thread shared with request handling.
+ * </p>
+ *
+ * <h2>Overflow</h2>
+ * <p>
+ * Request threads never wait for the writer. If it falls behind, the {@link AccessLogPolicy.OverflowPolicy}
+ * decides what is lost:
+ * </p>
+ * <ul>
+ *   <li>{@code DROP} - every record is kept until the buffer is full, then new records are dropped.</li>
+ *   <li>{@code SAMPLE} - once the buffer is {@code sampleThreshold} full only 1 in {@code sampleRate}
+ *       records is kept, so a sustained burst still leaves a representative trail; a full buffer drops.</li>
+ * </ul>
+ * <p>
+ * Written, dropped, sampled-out and failed records are counted and exposed for metrics.
+ * </p>
+ */
+public final class AsyncAccessLogWriter implements AccessLogSink, AutoCloseable {
+
+    static final String THREAD_NAME = "access-log-writer";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncAccessLogWriter.class);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+    private final MpscRingBuffer<AccessLogRecord> buffer;
+    private final AccessLogEmitter emitter;
+
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final AccessLogPolicy.OverflowPolicy overflowPolicy;
+    private final int sampleFromSize;
+    private final int sampleRate;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong sampleSequence = new AtomicLong();
+
+    // owned by the writer thread
+    private final Consumer<AccessLogRecord> emitOne = this::emit;
+    private int batchFailures;
+    private RuntimeException batchFailure;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    /**
+     * @param policy buffer, batching and overflow settings
+     * @param emitter writes each record out, called from the writer thread only
+     */
+    public AsyncAccessLogWriter(AccessLogPolicy policy, AccessLogEmitter emitter) {
+        if (policy.batchSize() < 1) {
+            throw new IllegalArgumentException("batchSize must be >= 1 but was " + policy.batchSize());
+        }
+        if (policy.flushInterval().isNegative() || policy.flushInterval().isZero()) {
+            throw new IllegalArgumentException("flushInterval must be positive but was " + policy.flushInterval());
+        }
+        if (policy.sampleThreshold() <= 0.0 || policy.sampleThreshold() > 1.0) {
+            throw new IllegalArgumentException("sampleThreshold must be in (0, 1] but was " + policy.sampleThreshold());
+        }
+        if (policy.sampleRate() < 1) {
+            throw new IllegalArgumentException("sampleRate must be >= 1 but was " + policy.sampleRate());
+        }
+
+        this.buffer = new MpscRingBuffer<>(policy.bufferCapacity());
+        this.emitter = emitter;
+        this.batchSize = policy.batchSize();
+        this.flushIntervalNanos = policy.flushInterval().toNanos();
+        this.overflowPolicy = policy.overflowPolicy();
+        this.sampleFromSize = (int) Math.ceil(buffer.capacity() * policy.sampleThreshold());
+        this.sampleRate = policy.sampleRate();
+    }
+
+    /**
+     * Starts the background writer. Records offered before this call are dropped.
+     */
+    public synchronized void start() {
+        if (writerThread != null) {
+            throw new IllegalStateException("Access log writer already started");
+        }
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name(THREAD_NAME)
+                .daemon()
+                .start(this::run);
+    }
+
+    @Override
+    public boolean offer(AccessLogRecord accessLogRecord) {
+        if (!running) {
+            dropped.increment();
+            return false;
+        }
+
+        if (overflowPolicy == AccessLogPolicy.OverflowPolicy.SAMPLE
+                && buffer.size() >= sampleFromSize
+                && sampleSequence.getAndIncrement() % sampleRate != 0) {
+            sampledOut.increment();
+            return false;
+        }
+
+        if (!buffer.offer(accessLogRecord)) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stops accepting records, writes what is already buffered and stops the writer thread.
+     */
+    @Override
+    public synchronized void close() {
+        if (writerThread == null || !running) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(writerThread);
+
+        try {
+            if (!writerThread.join(CLOSE_TIMEOUT)) {
+                LOGGER.warn("Access log writer did not stop within {}, {} records left unwritten",
+                        CLOSE_TIMEOUT, buffer.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long written() {
+        return written.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long sampledOut() {
+        return sampledOut.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+
+    public int buffered() {
+        return buffer.size();
+    }
+
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    private void run() {
+        while (running) {
+            if (writeBatch() == 0) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+
+        // records accepted before close are still written
+        while (writeBatch() > 0) {
+            // keep draining
+        }
+    }
+
+    private int writeBatch() {
+        int drained = buffer.drain(emitOne, batchSize);
+
+        if (batchFailures > 0) {
+            // once per batch, a broken appender would otherwise log as much as it fails to write
+            LOGGER.warn("Failed to write {} of {} access log records", batchFailures, drained, batchFailure);
+            batchFailures = 0;
+            batchFailure = null;
+        }
+        return drained;
+    }
+
+    private void emit(AccessLogRecord accessLogRecord) {
+        try {
+            emitter.emit(accessLogRecord);
+            written.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            batchFailures++;
+            batchFailure = e;
+        }
+    }
+}
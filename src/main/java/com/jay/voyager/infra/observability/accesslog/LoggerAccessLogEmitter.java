@@ -0,0 +1,58 @@
+package com.jay.voyager.infra.observability.accesslog;
+
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+
+import com.jay.voyager.core.observability.accesslog.AccessLogRecord;
+import com.jay.voyager.core.observability.mdc.MdcFieldNames;
+
+/**
+ * {@link AccessLogEmitter} that logs each record through a dedicated logger.
+ *
+ * <p>
+ * The record's fields are put into the writer thread's MDC under the configured {@link MdcFieldNames}
+ * (plus {@code traceId} and {@code spanId}, the keys the tracing bridge uses) and an empty message is
+ * logged at {@code INFO}. The logger's appender therefore formats access lines like every other line of
+ * the profile, the readable pattern in dev, the JSON encoder with level, logger and timestamp in prod.
+ * The line's timestamp is the time it was written, normally within {@code flush-interval} of the
+ * request completing.
+ * </p>
+ */
+public final class LoggerAccessLogEmitter implements AccessLogEmitter {
+
+    static final String TRACE_ID_KEY = "traceId";
+    static final String SPAN_ID_KEY = "spanId";
+
+    private final MdcFieldNames mdcFieldNames;
+    private final Logger logger;
+
+    public LoggerAccessLogEmitter(MdcFieldNames mdcFieldNames, Logger logger) {
+        this.mdcFieldNames = mdcFieldNames;
+        this.logger = logger;
+    }
+
+    @Override
+    public void emit(AccessLogRecord accessLogRecord) {
+        try {
+            put(TRACE_ID_KEY, accessLogRecord.traceId());
+            put(SPAN_ID_KEY, accessLogRecord.spanId());
+            put(mdcFieldNames.userId(), accessLogRecord.userId());
+            put(mdcFieldNames.requestId(), accessLogRecord.requestId());
+            put(mdcFieldNames.kind(), accessLogRecord.kind());
+            put(mdcFieldNames.method(), accessLogRecord.method());
+            put(mdcFieldNames.name(), accessLogRecord.name());
+            put(mdcFieldNames.status(), String.valueOf(accessLogRecord.status()));
+            put(mdcFieldNames.durationMs(), String.valueOf(accessLogRecord.durationMs()));
+
+            logger.info("");
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private static void put(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        }
+    }
+}
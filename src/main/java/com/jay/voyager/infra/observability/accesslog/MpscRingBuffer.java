@@ -0,0 +1,129 @@
+package com.jay.voyager.infra.observability.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free multi-producer / single-consumer ring buffer.
+ *
+ * <p>
+ * Every slot carries a sequence number (Vyukov's bounded queue). A producer claims a position with
+ * one CAS on the producer index, stores the element and then publishes the slot by advancing its
+ * sequence; the consumer only reads slots whose sequence says they are published. Producers never
+ * wait for each other or for the consumer: when the buffer is full {@link #offer} fails immediately.
+ * </p>
+ *
+ * <p>
+ * {@link #poll()} and {@link #drain} must only be called from a single consumer thread.
+ * </p>
+ *
+ * @param <E> element type
+ */
+final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+
+    // written by the consumer only, volatile so producers can estimate the size
+    private volatile long consumerIndex;
+
+    /**
+     * @param capacity requested capacity, rounded up to a power of two
+     */
+    MpscRingBuffer(int capacity) {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be in [2, 2^30] but was " + capacity);
+        }
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return {@code false} when the buffer is full, the element is not stored
+     */
+    boolean offer(E element) {
+        long position = producerIndex.get();
+        while (true) {
+            int slot = (int) (position & mask);
+            long difference = sequences.get(slot) - position;
+
+            if (difference == 0) {
+                if (producerIndex.compareAndSet(position, position + 1)) {
+                    slots.lazySet(slot, element);
+                    // publishes the element to the consumer
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = producerIndex.get();
+            } else if (difference < 0) {
+                // the consumer has not freed this slot yet, one full lap behind
+                return false;
+            } else {
+                // another producer claimed this position first
+                position = producerIndex.get();
+            }
+        }
+    }
+
+    /**
+     * @return the oldest published element, or {@code null} if none is available
+     */
+    E poll() {
+        long position = consumerIndex;
+        int slot = (int) (position & mask);
+
+        if (sequences.get(slot) != position + 1) {
+            // empty, or the producer holding this position has not published yet
+            return null;
+        }
+
+        E element = slots.get(slot);
+        slots.lazySet(slot, null);
+        sequences.set(slot, position + mask + 1);
+        consumerIndex = position + 1;
+        return element;
+    }
+
+    /**
+     * Hands up to {@code limit} published elements to {@code consumer}, in insertion order.
+     *
+     * @return number of elements drained
+     */
+    int drain(Consumer<? super E> consumer, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * @return approximate number of buffered elements, exact when producers and consumer are quiet
+     */
+    int size() {
+        long size = producerIndex.get() - consumerIndex;
+        return Math.clamp(size, 0, capacity());
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,61 @@
+package com.jay.voyager.infra.observability.accesslog.metrics;
+
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.jay.voyager.infra.observability.accesslog.AsyncAccessLogWriter;
+
+/**
+ * Publishes the access-log writer counters and buffer occupancy.
+ *
+ * <p>
+ * All meters read the writer's own counters on scrape, nothing is added to the request path.
+ * {@code access.log.records} is tagged with the {@code outcome} of each record so the share of
+ * dropped or sampled-out lines can be alerted on.
+ * </p>
+ */
+public final class AccessLogMetrics implements MeterBinder {
+
+    public static final String RECORDS_METER = "access.log.records";
+    public static final String BUFFERED_METER = "access.log.buffered";
+    public static final String CAPACITY_METER = "access.log.capacity";
+    static final String OUTCOME_TAG = "outcome";
+
+    private final AsyncAccessLogWriter writer;
+
+    public AccessLogMetrics(AsyncAccessLogWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        records(registry, "written", "Access log records written", AsyncAccessLogWriter::written);
+        records(registry, "dropped", "Access log records dropped because the buffer was full", AsyncAccessLogWriter::dropped);
+        records(registry, "sampled", "Access log records skipped by overflow sampling", AsyncAccessLogWriter::sampledOut);
+        records(registry, "failed", "Access log records lost to write errors", AsyncAccessLogWriter::failed);
+
+        Gauge.builder(BUFFERED_METER, writer, AsyncAccessLogWriter::buffered)
+                .description("Access log records waiting for the writer")
+                .register(registry);
+
+        Gauge.builder(CAPACITY_METER, writer, AsyncAccessLogWriter::capacity)
+                .description("Access log buffer capacity")
+                .register(registry);
+    }
+
+    private void records(
+            MeterRegistry registry,
+            String outcome,
+            String description,
+            ToDoubleFunction<AsyncAccessLogWriter> count
+    ) {
+        FunctionCounter.builder(RECORDS_METER, writer, count)
+                .description(description)
+                .tag(OUTCOME_TAG, outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,109 @@
+package com.jay.voyager.infra.outbound.http.client.async;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
+
+/**
+ * Non-blocking outbound client for one configured downstream, built by {@link AsyncHttpClientFactory}.
+ *
+ * <p>
+ * Calls go through the JDK {@code HttpClient.sendAsync} on the client's shared transport, so a large
+ * fan-out holds no thread per call in flight. They pass the async stages of the client's chain
+ * (identity headers, bulkhead, circuit breaker, deadline and read timeout) on the way.
+ * </p>
+ *
+ * <p>
+ * The returned future completes on a JDK client thread with the caller's context (identity, MDC,
+ * deadline) applied through the {@link ContextPropagator}s, captured when the call was sent. Dependent
+ * stages attached before completion run in that context, so they log and call out as the caller would.
+ * They must not block, that thread serves other exchanges. Cancelling the future cancels the exchange.
+ * </p>
+ */
+public final class AsyncHttpClient {
+
+    private final String clientName;
+    private final String baseUrl;
+    private final AsyncHttpExchange exchange;
+    private final List<ContextPropagator> propagators;
+
+    public AsyncHttpClient(
+            String clientName,
+            String baseUrl,
+            AsyncHttpExchange exchange,
+            List<ContextPropagator> propagators
+    ) {
+        this.clientName = clientName;
+        this.baseUrl = baseUrl;
+        this.exchange = exchange;
+        this.propagators = List.copyOf(propagators);
+    }
+
+    /**
+     * @param path path (and query) relative to the client's base url
+     * @return a request builder for {@code path}, the read timeout is applied on send unless set here
+     */
+    public HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path));
+    }
+
+    /**
+     * @return the response once {@code bodyHandler} completed, completed with the caller's context
+     */
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        CompletableFuture<HttpResponse<T>> sent;
+        try {
+            sent = exchange.send(request, bodyHandler);
+        } catch (RuntimeException ex) {
+            sent = CompletableFuture.failedFuture(ex);
+        }
+
+        ContextualFuture<HttpResponse<T>> result = new ContextualFuture<>(sent);
+
+        Runnable completion = result::completeFromSource;
+        for (ContextPropagator propagator : propagators) {
+            completion = propagator.propagate(completion); // captured here, on the caller
+        }
+        Runnable propagatedCompletion = completion;
+        sent.whenComplete((_, _) -> propagatedCompletion.run());
+
+        return result;
+    }
+
+    public String clientName() {
+        return clientName;
+    }
+
+    /*
+     * Completes with the outcome of the transport's future, cancelling it cancels that future (and so
+     * the JDK exchange) as well.
+     */
+    private static final class ContextualFuture<T> extends CompletableFuture<T> {
+
+        private final CompletableFuture<T> source;
+
+        ContextualFuture(CompletableFuture<T> source) {
+            this.source = source;
+        }
+
+        void completeFromSource() {
+            switch (source.state()) {
+                case SUCCESS -> complete(source.resultNow());
+                case FAILED -> completeExceptionally(source.exceptionNow());
+                case CANCELLED -> super.cancel(false);
+                case RUNNING -> throw new IllegalStateException("Source future has not completed");
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            source.cancel(mayInterruptIfRunning);
+            return cancelled;
+        }
+    }
+}
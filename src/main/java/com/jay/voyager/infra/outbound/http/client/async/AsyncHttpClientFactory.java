@@ -0,0 +1,65 @@
+package com.jay.voyager.infra.outbound.http.client.async;
+
+import java.util.List;
+
+import com.jay.voyager.core.transport.http.IdentityHeaders;
+import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
+import com.jay.voyager.infra.outbound.http.client.deadline.DeadlineAsyncHttpExchange;
+import com.jay.voyager.infra.outbound.http.client.interceptor.IdentityHeaderAsyncHttpExchange;
+import com.jay.voyager.infra.outbound.http.client.registry.HttpClientSettingsRegistry;
+import com.jay.voyager.infra.outbound.http.client.resiliency.ResiliencyChainAssembler;
+import com.jay.voyager.infra.outbound.http.client.transport.HttpTransportRegistry;
+
+/**
+ * Builds {@link AsyncHttpClient}s from the same client settings as the {@code RestClientFactory}.
+ *
+ * <p>
+ * An async client of a downstream uses the shared transport, limiter and circuit breaker of its
+ * blocking client, so both paths together stay within the same bounds. The response cache, coalescing,
+ * retry and hedging are blocking-only.
+ * </p>
+ */
+public class AsyncHttpClientFactory {
+
+    private final HttpClientSettingsRegistry clientSettingsRegistry;
+    private final HttpTransportRegistry transportRegistry;
+    private final ResiliencyChainAssembler resiliencyChainAssembler;
+    private final IdentityHeaders identityHeaders;
+    private final List<ContextPropagator> propagators;
+    private final String deadlineHeader;
+
+    public AsyncHttpClientFactory(
+            HttpClientSettingsRegistry clientSettingsRegistry,
+            HttpTransportRegistry transportRegistry,
+            ResiliencyChainAssembler resiliencyChainAssembler,
+            IdentityHeaders identityHeaders,
+            List<ContextPropagator> propagators,
+            String deadlineHeader
+    ) {
+        this.clientSettingsRegistry = clientSettingsRegistry;
+        this.transportRegistry = transportRegistry;
+        this.resiliencyChainAssembler = resiliencyChainAssembler;
+        this.identityHeaders = identityHeaders;
+        this.propagators = List.copyOf(propagators);
+        this.deadlineHeader = deadlineHeader;
+    }
+
+    public AsyncHttpClient buildClient(String clientName) {
+        var settings = clientSettingsRegistry.httpClientSettings(clientName);
+
+        AsyncHttpExchange exchange = transportRegistry.asyncExchange(settings);
+
+        // per attempt, directly on the transport as in the blocking chain
+        exchange = new DeadlineAsyncHttpExchange(exchange, settings.readTimeout(), deadlineHeader);
+        exchange = resiliencyChainAssembler.assembleAsync(
+                exchange,
+                settings.resiliencyPolicy(),
+                settings.clientName()
+        );
+
+        // what the default interceptors do for the RestClient
+        exchange = new IdentityHeaderAsyncHttpExchange(exchange, identityHeaders);
+
+        return new AsyncHttpClient(settings.clientName(), settings.baseUrl(), exchange, propagators);
+    }
+}
@@ -0,0 +1,27 @@
+package com.jay.voyager.infra.outbound.http.client.async;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One non-blocking exchange with a downstream, the async counterpart of a {@code ClientHttpRequestFactory}.
+ *
+ * <p>
+ * Stages decorate a delegate exchange the same way the blocking request factory decorators do.
+ * {@link #send} runs synchronously on the calling thread up to the transport, so stages read the
+ * caller's context (deadline, identity) there. Only completion is asynchronous.
+ * </p>
+ *
+ * <p>
+ * Stages attach their completion work to the delegate's future and return that same future, so
+ * cancelling it still reaches the JDK exchange.
+ * </p>
+ */
+public interface AsyncHttpExchange {
+
+    /**
+     * @return the response once {@code bodyHandler} completed, failed with the cause of the failure
+     */
+    <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler);
+}
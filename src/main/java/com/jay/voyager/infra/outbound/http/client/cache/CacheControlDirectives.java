@@ -0,0 +1,78 @@
+package com.jay.voyager.infra.outbound.http.client.cache;
+
+import java.util.Locale;
+
+import org.springframework.http.HttpHeaders;
+
+/*
+ * The Cache-Control directives a client side shared cache acts on (RFC 9111), parsed from request or
+ * response headers. Delta-seconds are null when absent, unknown directives are ignored.
+ */
+record CacheControlDirectives(
+        boolean noStore,
+        boolean noCache,
+        boolean isPrivate,
+        boolean isPublic,
+        boolean mustRevalidate,
+        Long maxAgeSeconds,
+        Long sMaxAgeSeconds,
+        Long staleWhileRevalidateSeconds
+) {
+
+    static final CacheControlDirectives NONE =
+            new CacheControlDirectives(false, false, false, false, false, null, null, null);
+
+    static CacheControlDirectives of(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null || cacheControl.isBlank()) {
+            return NONE;
+        }
+
+        boolean noStore = false;
+        boolean noCache = false;
+        boolean isPrivate = false;
+        boolean isPublic = false;
+        boolean mustRevalidate = false;
+        Long maxAge = null;
+        Long sMaxAge = null;
+        Long staleWhileRevalidate = null;
+
+        for (String directive : cacheControl.split(",")) {
+            String[] nameAndValue = directive.trim().split("=", 2);
+            String name = nameAndValue[0].trim().toLowerCase(Locale.ROOT);
+            String value = nameAndValue.length > 1 ? nameAndValue[1].trim() : null;
+
+            switch (name) {
+                case "no-store" -> noStore = true;
+                case "no-cache" -> noCache = true;
+                case "private" -> isPrivate = true;
+                case "public" -> isPublic = true;
+                case "must-revalidate", "proxy-revalidate" -> mustRevalidate = true;
+                case "max-age" -> maxAge = seconds(value);
+                case "s-maxage" -> sMaxAge = seconds(value);
+                case "stale-while-revalidate" -> staleWhileRevalidate = seconds(value);
+                default -> { /* not acted on */ }
+            }
+        }
+
+        return new CacheControlDirectives(
+                noStore, noCache, isPrivate, isPublic, mustRevalidate, maxAge, sMaxAge, staleWhileRevalidate
+        );
+    }
+
+    // invalid delta-seconds are treated as 0 (stale), overflowing ones as 2^31, as the RFC asks
+    private static Long seconds(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        String unquoted = value.startsWith("\"") && value.endsWith("\"") && value.length() > 1
+                ? value.substring(1, value.length() - 1)
+                : value;
+        try {
+            return Math.max(0L, Long.parseLong(unquoted));
+        } catch (NumberFormatException _) {
+            boolean overflow = !unquoted.isEmpty() && unquoted.chars().allMatch(Character::isDigit);
+            return overflow ? 1L << 31 : 0L;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.jay.voyager.infra.outbound.http.client.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+/*
+ * A caller's view of a cached response, with its own body stream over the shared bytes.
+ * Nothing to release on close, no connection (or bulkhead permit) is behind it.
+ */
+final class CachedClientHttpResponse implements ClientHttpResponse {
+
+    private final HttpStatusCode statusCode;
+    private final String statusText;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    private InputStream bodyStream;
+
+    CachedClientHttpResponse(HttpStatusCode statusCode, String statusText, HttpHeaders headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.statusText = statusText;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    @Override
+    public InputStream getBody() {
+        if (bodyStream == null) {
+            bodyStream = new ByteArrayInputStream(body);
+        }
+        return bodyStream;
+    }
+
+    @Override
+    public void close() {
+        // cached, nothing to release
+    }
+
+    @Override public HttpStatusCode getStatusCode() { return statusCode; }
+
+    @Override public String getStatusText() { return statusText; }
+
+    @Override public HttpHeaders getHeaders() { return headers; }
+}
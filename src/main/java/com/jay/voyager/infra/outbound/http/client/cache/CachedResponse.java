@@ -0,0 +1,232 @@
+package com.jay.voyager.infra.outbound.http.client.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+/*
+ * A stored response with its freshness, computed once when it was received (or revalidated).
+ * Immutable apart from the revalidation flag, which lets one caller at a time refresh a stale entry
+ * in the background while the others keep being served the stored copy.
+ */
+final class CachedResponse {
+
+    // RFC 9111 heuristically cacheable codes, stored here only with explicit freshness or a validator
+    private static final Set<Integer> CACHEABLE_STATUS = Set.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501);
+
+    private final HttpStatusCode statusCode;
+    private final String statusText;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    private final Map<String, List<String>> varyValues;
+    private final long storedAtNanos;
+    private final long freshNanos;
+    private final long staleWhileRevalidateNanos;
+    private final int weight;
+
+    private final AtomicBoolean revalidating = new AtomicBoolean();
+
+    private CachedResponse(
+            HttpStatusCode statusCode,
+            String statusText,
+            HttpHeaders headers,
+            byte[] body,
+            Map<String, List<String>> varyValues,
+            long storedAtNanos
+    ) {
+        CacheControlDirectives directives = CacheControlDirectives.of(headers);
+
+        this.statusCode = statusCode;
+        this.statusText = statusText;
+        this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        this.body = body;
+        this.varyValues = varyValues;
+        this.storedAtNanos = storedAtNanos;
+        this.freshNanos = freshnessNanos(headers, directives);
+        this.staleWhileRevalidateNanos = directives.mustRevalidate() || directives.staleWhileRevalidateSeconds() == null
+                ? 0L
+                : TimeUnit.SECONDS.toNanos(directives.staleWhileRevalidateSeconds());
+        this.weight = weigh(headers, body);
+    }
+
+    /**
+     * @return whether a shared cache may store {@code response} to a request with {@code requestHeaders}
+     */
+    static boolean isStorable(HttpHeaders requestHeaders, HttpStatusCode status, HttpHeaders responseHeaders) {
+        CacheControlDirectives directives = CacheControlDirectives.of(responseHeaders);
+
+        if (!CACHEABLE_STATUS.contains(status.value()) || directives.noStore() || directives.isPrivate()) {
+            return false;
+        }
+        if (responseHeaders.getVary().contains("*")) {
+            return false;
+        }
+        // authorized responses are per caller unless the origin says otherwise
+        if (requestHeaders.containsHeader(HttpHeaders.AUTHORIZATION)
+                && !(directives.isPublic() || directives.sMaxAgeSeconds() != null || directives.mustRevalidate())) {
+            return false;
+        }
+        return freshnessNanos(responseHeaders, directives) > 0 || hasValidator(responseHeaders);
+    }
+
+    static CachedResponse of(
+            HttpHeaders requestHeaders,
+            HttpStatusCode statusCode,
+            String statusText,
+            HttpHeaders responseHeaders,
+            byte[] body,
+            long receivedAtNanos
+    ) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(responseHeaders);
+        return new CachedResponse(
+                statusCode, statusText, headers, body, varyValues(requestHeaders, responseHeaders), receivedAtNanos
+        );
+    }
+
+    /**
+     * @return this response updated with the headers of a {@code 304 Not Modified}, fresh from now
+     */
+    CachedResponse refresh(HttpHeaders notModifiedHeaders, long receivedAtNanos) {
+        HttpHeaders merged = new HttpHeaders();
+        merged.putAll(headers);
+        notModifiedHeaders.forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                merged.put(name, values);
+            }
+        });
+        return new CachedResponse(statusCode, statusText, merged, body, varyValues, receivedAtNanos);
+    }
+
+    boolean matches(HttpHeaders requestHeaders) {
+        for (Map.Entry<String, List<String>> vary : varyValues.entrySet()) {
+            if (!vary.getValue().equals(values(requestHeaders, vary.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean isFresh(long nowNanos) {
+        return nowNanos - storedAtNanos < freshNanos;
+    }
+
+    boolean isStaleWhileRevalidate(long nowNanos) {
+        return nowNanos - storedAtNanos < freshNanos + staleWhileRevalidateNanos;
+    }
+
+    boolean hasValidator() {
+        return hasValidator(headers);
+    }
+
+    String eTag() {
+        return headers.getETag();
+    }
+
+    long lastModified() {
+        return headers.getLastModified();
+    }
+
+    boolean tryStartRevalidation() {
+        return revalidating.compareAndSet(false, true);
+    }
+
+    void endRevalidation() {
+        revalidating.set(false);
+    }
+
+    // how long the cache keeps the entry: until unusable, for as long as it can be revalidated
+    Duration retention() {
+        if (hasValidator()) {
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+        return Duration.ofNanos(Math.max(0L, freshNanos) + staleWhileRevalidateNanos);
+    }
+
+    int weight() {
+        return weight;
+    }
+
+    ClientHttpResponse toResponse() {
+        return new CachedClientHttpResponse(statusCode, statusText, headers, body);
+    }
+
+    private static boolean hasValidator(HttpHeaders headers) {
+        return headers.getETag() != null || headers.getLastModified() >= 0;
+    }
+
+    /*
+     * Shared cache lifetime: s-maxage, then max-age, then Expires - Date. No heuristic freshness,
+     * responses without explicit lifetime are only stored when they can be revalidated.
+     * The age the response already had upstream (Age header) is subtracted.
+     */
+    private static long freshnessNanos(HttpHeaders headers, CacheControlDirectives directives) {
+        if (directives.noCache()) {
+            return 0L;
+        }
+
+        long lifetimeNanos;
+        if (directives.sMaxAgeSeconds() != null) {
+            lifetimeNanos = TimeUnit.SECONDS.toNanos(directives.sMaxAgeSeconds());
+        } else if (directives.maxAgeSeconds() != null) {
+            lifetimeNanos = TimeUnit.SECONDS.toNanos(directives.maxAgeSeconds());
+        } else if (headers.getExpires() >= 0 && headers.getDate() >= 0) {
+            lifetimeNanos = TimeUnit.MILLISECONDS.toNanos(headers.getExpires() - headers.getDate());
+        } else {
+            return 0L;
+        }
+
+        return lifetimeNanos - TimeUnit.SECONDS.toNanos(age(headers));
+    }
+
+    private static long age(HttpHeaders headers) {
+        String age = headers.getFirst(HttpHeaders.AGE);
+        if (age == null) {
+            return 0L;
+        }
+        try {
+            return Math.max(0L, Long.parseLong(age.trim()));
+        } catch (NumberFormatException _) {
+            return 0L;
+        }
+    }
+
+    private static Map<String, List<String>> varyValues(HttpHeaders requestHeaders, HttpHeaders responseHeaders) {
+        List<String> vary = responseHeaders.getVary();
+        if (vary.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, List<String>> values = new HashMap<>();
+        for (String name : vary) {
+            String header = name.trim().toLowerCase(Locale.ROOT);
+            values.put(header, values(requestHeaders, header));
+        }
+        return Map.copyOf(values);
+    }
+
+    private static List<String> values(HttpHeaders headers, String name) {
+        List<String> values = headers.get(name);
+        return values == null ? List.of() : List.copyOf(values);
+    }
+
+    // body plus roughly the header characters, what the entry costs against the cache's max size
+    private static int weigh(HttpHeaders headers, byte[] body) {
+        long[] bytes = {body.length};
+        headers.forEach((name, values) -> {
+            bytes[0] += name.length();
+            values.forEach(value -> bytes[0] += value.length());
+        });
+        return (int) Math.min(Integer.MAX_VALUE, bytes[0]);
+    }
+}
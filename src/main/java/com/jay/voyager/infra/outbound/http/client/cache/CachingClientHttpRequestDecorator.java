@@ -0,0 +1,177 @@
+package com.jay.voyager.infra.outbound.http.client.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+final class CachingClientHttpRequestDecorator implements ClientHttpRequest {
+
+    private final ClientHttpRequest delegate;
+    private final CachingRequestDecoratorFactory factory;
+
+    // a written body makes the request unique, such requests are sent as they are
+    private boolean bodyRequested;
+
+    CachingClientHttpRequestDecorator(ClientHttpRequest delegate, CachingRequestDecoratorFactory factory) {
+        this.delegate = delegate;
+        this.factory = factory;
+    }
+
+    @Override
+    public ClientHttpResponse execute() throws IOException {
+        HttpHeaders requestHeaders = delegate.getHeaders();
+        CacheControlDirectives requestDirectives = CacheControlDirectives.of(requestHeaders);
+
+        // the caller runs its own conditional request or opted out, the origin answers
+        if (bodyRequested || requestDirectives.noStore() || isConditional(requestHeaders)) {
+            return delegate.execute();
+        }
+
+        HttpResponseCache cache = factory.cache();
+        CachedResponse cached = cache.get(delegate.getURI());
+        if (cached != null && !cached.matches(requestHeaders)) {
+            cached = null;
+        }
+
+        if (cached != null && !requestDirectives.noCache()) {
+            long nowNanos = System.nanoTime();
+            if (cached.isFresh(nowNanos)) {
+                return cached.toResponse();
+            }
+            if (cached.isStaleWhileRevalidate(nowNanos)) {
+                revalidateInBackground(cached);
+                cache.onStaleServed();
+                return cached.toResponse();
+            }
+        }
+
+        if (cached != null && cached.hasValidator()) {
+            return revalidate(delegate, cached, factory.cache());
+        }
+        return store(delegate, delegate.execute(), cache);
+    }
+
+    private void revalidateInBackground(CachedResponse cached) throws IOException {
+        if (!cached.tryStartRevalidation()) {
+            return; // someone is already on it
+        }
+
+        ClientHttpRequest request;
+        try {
+            request = factory.delegate().createRequest(delegate.getURI(), HttpMethod.GET);
+            request.getHeaders().putAll(delegate.getHeaders());
+        } catch (IOException | RuntimeException ex) {
+            cached.endRevalidation();
+            throw ex;
+        }
+
+        HttpResponseCache cache = factory.cache();
+        factory.revalidationThreadFactory().newThread(() -> {
+            try (ClientHttpResponse _ = cached.hasValidator()
+                    ? revalidate(request, cached, cache)
+                    : store(request, request.execute(), cache)) {
+                // refreshed entry is in the cache, the response itself is not needed
+            } catch (IOException | RuntimeException _) {
+                // the stale copy keeps being served until its stale-while-revalidate window ends
+            } finally {
+                cached.endRevalidation();
+            }
+        }).start();
+    }
+
+    private static ClientHttpResponse revalidate(
+            ClientHttpRequest request,
+            CachedResponse cached,
+            HttpResponseCache cache
+    ) throws IOException {
+        if (cached.eTag() != null) {
+            request.getHeaders().setIfNoneMatch(cached.eTag());
+        }
+        if (cached.lastModified() >= 0) {
+            request.getHeaders().setIfModifiedSince(cached.lastModified());
+        }
+
+        ClientHttpResponse response = request.execute();
+        if (!response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            cache.onModified();
+            return store(request, response, cache);
+        }
+
+        try (response) {
+            CachedResponse refreshed = cached.refresh(response.getHeaders(), System.nanoTime());
+            cache.put(request.getURI(), refreshed);
+            cache.onNotModified();
+            return refreshed.toResponse();
+        }
+    }
+
+    private static ClientHttpResponse store(
+            ClientHttpRequest request,
+            ClientHttpResponse response,
+            HttpResponseCache cache
+    ) throws IOException {
+        long receivedAtNanos = System.nanoTime();
+        HttpHeaders responseHeaders = response.getHeaders();
+
+        if (!CachedResponse.isStorable(request.getHeaders(), response.getStatusCode(), responseHeaders)) {
+            cache.invalidate(request.getURI());
+            return response;
+        }
+
+        long maxEntrySize = cache.maxEntrySizeBytes();
+        if (responseHeaders.getContentLength() > maxEntrySize) {
+            return response;
+        }
+
+        byte[] body;
+        try {
+            InputStream in = response.getBody();
+            body = in.readNBytes((int) maxEntrySize + 1);
+        } catch (IOException | RuntimeException ex) {
+            response.close();
+            throw ex;
+        }
+        if (body.length > maxEntrySize) {
+            return new PrefixedClientHttpResponse(response, body);
+        }
+
+        try (response) {
+            CachedResponse entry = CachedResponse.of(
+                    request.getHeaders(),
+                    response.getStatusCode(),
+                    response.getStatusText(),
+                    responseHeaders,
+                    body,
+                    receivedAtNanos
+            );
+            cache.put(request.getURI(), entry);
+            return entry.toResponse();
+        }
+    }
+
+    private static boolean isConditional(HttpHeaders headers) {
+        return headers.containsHeader(HttpHeaders.IF_NONE_MATCH) || headers.containsHeader(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+
+    @Override
+    public OutputStream getBody() throws IOException {
+        bodyRequested = true;
+        return delegate.getBody();
+    }
+
+    @Override public HttpMethod getMethod() { return delegate.getMethod(); }
+
+    @Override public URI getURI() { return delegate.getURI(); }
+
+    @Override public Map<String, Object> getAttributes() { return delegate.getAttributes(); }
+
+    @Override public HttpHeaders getHeaders() { return delegate.getHeaders(); }
+}
@@ -0,0 +1,69 @@
+package com.jay.voyager.infra.outbound.http.client.cache;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+/**
+ * Serves {@code GET} requests from an {@link HttpResponseCache} following HTTP caching rules (RFC 9111),
+ * as a shared cache in front of the client's whole chain.
+ *
+ * <ul>
+ *   <li>fresh responses ({@code s-maxage}, {@code max-age} or {@code Expires}) are served from memory,
+ *       without a permit, a breaker call or a connection</li>
+ *   <li>stale responses with an {@code ETag} or {@code Last-Modified} are revalidated with a conditional
+ *       request, a {@code 304 Not Modified} refreshes the stored copy instead of transferring the body again</li>
+ *   <li>within {@code stale-while-revalidate} the stale copy is served right away and one background request
+ *       refreshes it</li>
+ *   <li>{@code no-store}, {@code private}, {@code Vary: *} and authorized responses without {@code public}
+ *       are never stored, requests with {@code no-cache} or their own validators always reach the origin</li>
+ * </ul>
+ *
+ * <p>
+ * Other methods, requests with a body and responses larger than the entry limit pass straight through.
+ * There is no heuristic freshness: responses without explicit lifetime are only kept if they can be
+ * revalidated.
+ * </p>
+ */
+public final class CachingRequestDecoratorFactory implements ClientHttpRequestFactory {
+
+    private final ClientHttpRequestFactory delegate;
+    private final HttpResponseCache cache;
+    private final ThreadFactory revalidationThreadFactory;
+
+    public CachingRequestDecoratorFactory(
+            ClientHttpRequestFactory delegate,
+            HttpResponseCache cache,
+            ThreadFactory revalidationThreadFactory
+    ) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.revalidationThreadFactory = revalidationThreadFactory;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest req = delegate.createRequest(uri, httpMethod);
+
+        if (httpMethod != HttpMethod.GET) {
+            return req;
+        }
+        return new CachingClientHttpRequestDecorator(req, this);
+    }
+
+    ClientHttpRequestFactory delegate() {
+        return delegate;
+    }
+
+    HttpResponseCache cache() {
+        return cache;
+    }
+
+    ThreadFactory revalidationThreadFactory() {
+        return revalidationThreadFactory;
+    }
+}
@@ -0,0 +1,117 @@
+package com.jay.voyager.infra.outbound.http.client.cache;
+
+import java.net.URI;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import com.jay.voyager.core.outbound.http.client.settings.HttpCachePolicy;
+
+/**
+ * Bounded store of one client's cached responses, keyed by request URI.
+ *
+ * <p>
+ * Backed by Caffeine, whose W-TinyLFU policy keeps frequently requested responses over one-off ones
+ * when the byte budget ({@link HttpCachePolicy#maxSizeBytes()}) is reached, so a scan of cold URIs
+ * cannot flush the hot set. Entries weigh their body plus headers. Entries that can no longer be
+ * served or revalidated expire on their own.
+ * </p>
+ *
+ * <p>
+ * One response is kept per URI. A response that varies on request headers ({@code Vary}) is only
+ * served to requests with the same values, a request with other values replaces it.
+ * </p>
+ */
+public final class HttpResponseCache {
+
+    private final Cache<URI, CachedResponse> entries;
+    private final long maxEntrySizeBytes;
+
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder modified = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+
+    public HttpResponseCache(HttpCachePolicy cachePolicy) {
+        if (cachePolicy.maxSizeBytes() <= 0) {
+            throw new IllegalArgumentException("maxSizeBytes must be > 0 but was " + cachePolicy.maxSizeBytes());
+        }
+        if (cachePolicy.maxEntrySizeBytes() <= 0 || cachePolicy.maxEntrySizeBytes() >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "maxEntrySizeBytes must be in (0, 2GB) but was " + cachePolicy.maxEntrySizeBytes()
+            );
+        }
+
+        this.maxEntrySizeBytes = cachePolicy.maxEntrySizeBytes();
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(cachePolicy.maxSizeBytes())
+                .weigher((URI _, CachedResponse response) -> response.weight())
+                .expireAfter(Expiry.writing((URI _, CachedResponse response) -> response.retention()))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return the underlying Caffeine cache, for its statistics (hits, misses, evictions)
+     */
+    public Cache<URI, ?> nativeCache() {
+        return entries;
+    }
+
+    /**
+     * @return memory held by cached responses, in bytes
+     */
+    public long weightedSize() {
+        return entries.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    /**
+     * @return stale entries revalidated with the origin and still current ({@code 304 Not Modified})
+     */
+    public long notModified() {
+        return notModified.sum();
+    }
+
+    /**
+     * @return stale entries revalidated with the origin and replaced by a new response
+     */
+    public long modified() {
+        return modified.sum();
+    }
+
+    /**
+     * @return stale entries served while being revalidated in the background
+     */
+    public long staleServed() {
+        return staleServed.sum();
+    }
+
+    CachedResponse get(URI uri) {
+        return entries.getIfPresent(uri);
+    }
+
+    void put(URI uri, CachedResponse response) {
+        entries.put(uri, response);
+    }
+
+    void invalidate(URI uri) {
+        entries.invalidate(uri);
+    }
+
+    long maxEntrySizeBytes() {
+        return maxEntrySizeBytes;
+    }
+
+    void onNotModified() {
+        notModified.increment();
+    }
+
+    void onModified() {
+        modified.increment();
+    }
+
+    void onStaleServed() {
+        staleServed.increment();
+    }
+}
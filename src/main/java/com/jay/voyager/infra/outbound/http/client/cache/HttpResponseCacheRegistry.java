@@ -0,0 +1,62 @@
+package com.jay.voyager.infra.outbound.http.client.cache;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import com.jay.voyager.core.outbound.http.client.settings.HttpCachePolicy;
+import com.jay.voyager.core.outbound.http.client.settings.HttpClientSettings;
+import com.jay.voyager.infra.outbound.http.client.registry.HttpClientSettingsRegistry;
+
+/**
+ * Owns the {@link HttpResponseCache} of every client with caching enabled, one per client.
+ *
+ * <p>
+ * Caches are created up front so their meters cover the full set from startup. Background
+ * revalidations run on their own virtual threads, without the context of the request that triggered
+ * them: they refresh a shared entry, not that request's response.
+ * </p>
+ */
+public class HttpResponseCacheRegistry {
+
+    private final Map<String, HttpResponseCache> caches = new TreeMap<>();
+    private final ThreadFactory revalidationThreadFactory;
+
+    public HttpResponseCacheRegistry(HttpClientSettingsRegistry clientSettingsRegistry) {
+        this(clientSettingsRegistry, Thread.ofVirtual().name("http-cache-revalidation-", 0).factory());
+    }
+
+    public HttpResponseCacheRegistry(
+            HttpClientSettingsRegistry clientSettingsRegistry,
+            ThreadFactory revalidationThreadFactory
+    ) {
+        this.revalidationThreadFactory = revalidationThreadFactory;
+
+        for (String clientName : clientSettingsRegistry.clientNames()) {
+            HttpCachePolicy cachePolicy = clientSettingsRegistry.httpClientSettings(clientName).cachePolicy();
+            if (cachePolicy.enabled()) {
+                caches.put(clientName, new HttpResponseCache(cachePolicy));
+            }
+        }
+    }
+
+    /**
+     * @return {@code requestFactory} behind the client's response cache, or unchanged when caching is off
+     */
+    public ClientHttpRequestFactory decorate(HttpClientSettings settings, ClientHttpRequestFactory requestFactory) {
+        HttpResponseCache cache = caches.get(settings.clientName());
+        if (cache == null) {
+            return requestFactory;
+        }
+        return new CachingRequestDecoratorFactory(requestFactory, cache, revalidationThreadFactory);
+    }
+
+    /**
+     * @return caches by client name
+     */
+    public Map<String, HttpResponseCache> caches() {
+        return Map.copyOf(caches);
+    }
+}
@@ -0,0 +1,44 @@
+package com.jay.voyager.infra.outbound.http.client.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+/*
+ * A live response whose body was partly read while checking whether it fits the cache.
+ * The read prefix is handed back in front of the rest of the stream, closing still closes the live
+ * response.
+ */
+final class PrefixedClientHttpResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final byte[] prefix;
+
+    private InputStream body;
+
+    PrefixedClientHttpResponse(ClientHttpResponse delegate, byte[] prefix) {
+        this.delegate = delegate;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            body = new SequenceInputStream(new ByteArrayInputStream(prefix), delegate.getBody());
+        }
+        return body;
+    }
+
+    @Override public void close() { delegate.close(); }
+
+    @Override public HttpStatusCode getStatusCode() throws IOException { return delegate.getStatusCode(); }
+
+    @Override public String getStatusText() throws IOException { return delegate.getStatusText(); }
+
+    @Override public HttpHeaders getHeaders() { return delegate.getHeaders(); }
+}
@@ -0,0 +1,70 @@
+package com.jay.voyager.infra.outbound.http.client.cache.metrics;
+
+import java.util.Map;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import com.jay.voyager.infra.outbound.http.client.cache.HttpResponseCache;
+import com.jay.voyager.infra.outbound.http.client.cache.HttpResponseCacheRegistry;
+
+/**
+ * Publishes outbound response cache usage, tagged by {@code client}.
+ *
+ * <p>
+ * Hits, misses, evictions and size come from Caffeine's statistics under the standard {@code cache.*}
+ * meters ({@code cache=http.client.response}). A hit is any stored response found for the request,
+ * including stale ones that were then revalidated, which the revalidation meters break down.
+ * </p>
+ */
+public final class HttpResponseCacheMetrics implements MeterBinder {
+
+    public static final String CACHE_NAME = "http.client.response";
+    public static final String WEIGHT_METER = "http.client.cache.weight";
+    public static final String REVALIDATIONS_METER = "http.client.cache.revalidations";
+    public static final String STALE_SERVED_METER = "http.client.cache.stale.served";
+    static final String CLIENT_TAG = "client";
+    static final String RESULT_TAG = "result";
+
+    private final HttpResponseCacheRegistry cacheRegistry;
+
+    public HttpResponseCacheMetrics(HttpResponseCacheRegistry cacheRegistry) {
+        this.cacheRegistry = cacheRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Map.Entry<String, HttpResponseCache> entry : cacheRegistry.caches().entrySet()) {
+            String client = entry.getKey();
+            HttpResponseCache cache = entry.getValue();
+
+            new CaffeineCacheMetrics<>(cache.nativeCache(), CACHE_NAME, Tags.of(CLIENT_TAG, client))
+                    .bindTo(registry);
+
+            Gauge.builder(WEIGHT_METER, cache, HttpResponseCache::weightedSize)
+                    .description("Bytes held by cached responses")
+                    .tag(CLIENT_TAG, client)
+                    .baseUnit("bytes")
+                    .register(registry);
+
+            FunctionCounter.builder(REVALIDATIONS_METER, cache, HttpResponseCache::notModified)
+                    .description("Stale responses revalidated with the origin")
+                    .tags(CLIENT_TAG, client, RESULT_TAG, "not_modified")
+                    .register(registry);
+
+            FunctionCounter.builder(REVALIDATIONS_METER, cache, HttpResponseCache::modified)
+                    .description("Stale responses revalidated with the origin")
+                    .tags(CLIENT_TAG, client, RESULT_TAG, "modified")
+                    .register(registry);
+
+            FunctionCounter.builder(STALE_SERVED_METER, cache, HttpResponseCache::staleServed)
+                    .description("Stale responses served while revalidating in the background")
+                    .tag(CLIENT_TAG, client)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.jay.voyager.infra.outbound.http.client.deadline;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.core.context.deadline.DeadlineExceededException;
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpExchange;
+
+/**
+ * Timeout stage of the async client, the counterpart of {@link DeadlineRequestDecoratorFactory}.
+ *
+ * <p>
+ * Every request gets a timeout: its own when it set one, the client's read timeout otherwise, shortened
+ * to the request {@link Deadline} when less time is left. The JDK client fails the exchange with
+ * {@code HttpTimeoutException} once it runs out and cancels it, no thread waits for that.
+ * </p>
+ *
+ * <p>
+ * With a bound deadline an already expired request fails with {@link DeadlineExceededException}
+ * without being sent, and the time left is sent downstream in the deadline header. The deadline is
+ * read on the calling thread when the request is sent.
+ * </p>
+ */
+public final class DeadlineAsyncHttpExchange implements AsyncHttpExchange {
+
+    private final AsyncHttpExchange delegate;
+    private final Duration readTimeout;
+    private final String deadlineHeader;
+
+    public DeadlineAsyncHttpExchange(AsyncHttpExchange delegate, Duration readTimeout, String deadlineHeader) {
+        this.delegate = delegate;
+        this.readTimeout = readTimeout;
+        this.deadlineHeader = deadlineHeader;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        Duration timeout = request.timeout().orElse(readTimeout);
+        Deadline deadline = DeadlineContextHolder.context();
+
+        if (deadline.isNone()) {
+            if (request.timeout().isPresent()) {
+                return delegate.send(request, bodyHandler);
+            }
+            return delegate.send(copy(request).timeout(timeout).build(), bodyHandler);
+        }
+
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline.remainingNanos());
+        if (remainingMillis <= 0) {
+            return CompletableFuture.failedFuture(new DeadlineExceededException(
+                    "Request deadline passed before " + request.method() + " " + request.uri() + " was sent"
+            ));
+        }
+
+        HttpRequest bounded = copy(request)
+                .timeout(deadline.cap(timeout))
+                .setHeader(deadlineHeader, Long.toString(remainingMillis))
+                .build();
+        return delegate.send(bounded, bodyHandler);
+    }
+
+    private static HttpRequest.Builder copy(HttpRequest request) {
+        return HttpRequest.newBuilder(request, (_, _) -> true);
+    }
+}
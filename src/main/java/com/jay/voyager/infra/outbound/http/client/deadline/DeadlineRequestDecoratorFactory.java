@@ -0,0 +1,120 @@
+package com.jay.voyager.infra.outbound.http.client.deadline;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.core.context.deadline.DeadlineExceededException;
+
+/**
+ * Enforces the request {@link Deadline} on outbound calls.
+ *
+ * <p>
+ * Sits directly on the transport, below the resiliency chain, so it applies to every attempt
+ * (retries and hedges included):
+ * </p>
+ * <ul>
+ *   <li>the read timeout is shortened to the time left when that is less than the client's own</li>
+ *   <li>an attempt is not sent at all once the deadline has passed, {@link DeadlineExceededException}
+ *       is thrown instead</li>
+ *   <li>the time left is sent downstream in the deadline header (milliseconds), so the next service
+ *       can give up early too</li>
+ * </ul>
+ *
+ * <p>
+ * Without a bound deadline requests pass through untouched. The connect timeout belongs to the shared
+ * JDK client and cannot be shortened per request.
+ * </p>
+ */
+public final class DeadlineRequestDecoratorFactory implements ClientHttpRequestFactory {
+
+    private final ClientHttpRequestFactory delegate;
+    private final Duration readTimeout;
+    private final Function<Duration, ClientHttpRequestFactory> shortenedFactory;
+    private final String deadlineHeader;
+
+    /**
+     * @param delegate transport factory using the client's {@code readTimeout}
+     * @param readTimeout the client's read timeout
+     * @param shortenedFactory transport factory for a shorter read timeout, called per request
+     * @param deadlineHeader header the remaining budget is sent in
+     */
+    public DeadlineRequestDecoratorFactory(
+            ClientHttpRequestFactory delegate,
+            Duration readTimeout,
+            Function<Duration, ClientHttpRequestFactory> shortenedFactory,
+            String deadlineHeader
+    ) {
+        this.delegate = delegate;
+        this.readTimeout = readTimeout;
+        this.shortenedFactory = shortenedFactory;
+        this.deadlineHeader = deadlineHeader;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        Deadline deadline = DeadlineContextHolder.context();
+        if (deadline.isNone()) {
+            return delegate.createRequest(uri, httpMethod);
+        }
+
+        Duration timeout = deadline.cap(readTimeout);
+        if (timeout.isZero()) {
+            throw exceeded(httpMethod, uri);
+        }
+
+        ClientHttpRequestFactory factory = timeout.equals(readTimeout) ? delegate : shortenedFactory.apply(timeout);
+        return new DeadlineRequest(factory.createRequest(uri, httpMethod), deadline, deadlineHeader);
+    }
+
+    private static DeadlineExceededException exceeded(HttpMethod method, URI uri) {
+        return new DeadlineExceededException("Request deadline passed before " + method + " " + uri + " was sent");
+    }
+
+    private static final class DeadlineRequest implements ClientHttpRequest {
+
+        private final ClientHttpRequest delegate;
+        private final Deadline deadline;
+        private final String deadlineHeader;
+
+        DeadlineRequest(ClientHttpRequest delegate, Deadline deadline, String deadlineHeader) {
+            this.delegate = delegate;
+            this.deadline = deadline;
+            this.deadlineHeader = deadlineHeader;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            // set last, anything copied onto this request earlier carries an older budget
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline.remainingNanos());
+            if (remainingMillis <= 0) {
+                throw exceeded(delegate.getMethod(), delegate.getURI());
+            }
+
+            delegate.getHeaders().set(deadlineHeader, Long.toString(remainingMillis));
+            return delegate.execute();
+        }
+
+        @Override public OutputStream getBody() throws IOException { return delegate.getBody(); }
+
+        @Override public HttpMethod getMethod() { return delegate.getMethod(); }
+
+        @Override public URI getURI() { return delegate.getURI(); }
+
+        @Override public Map<String, Object> getAttributes() { return delegate.getAttributes(); }
+
+        @Override public HttpHeaders getHeaders() { return delegate.getHeaders(); }
+    }
+}
@@ -0,0 +1,34 @@
+package com.jay.voyager.infra.outbound.http.client.interceptor;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+import com.jay.voyager.core.context.identity.Identity;
+import com.jay.voyager.core.context.identity.IdentityContextHolder;
+import com.jay.voyager.core.transport.http.IdentityHeaders;
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpExchange;
+
+// async counterpart of IdentityHeaderInterceptor, the identity is read on the calling thread
+public class IdentityHeaderAsyncHttpExchange implements AsyncHttpExchange {
+
+    private final AsyncHttpExchange delegate;
+    private final IdentityHeaders identityHeaders;
+
+    public IdentityHeaderAsyncHttpExchange(AsyncHttpExchange delegate, IdentityHeaders identityHeaders) {
+        this.delegate = delegate;
+        this.identityHeaders = identityHeaders;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        Identity identity = IdentityContextHolder.context().identity();
+
+        HttpRequest identified = HttpRequest.newBuilder(request, (_, _) -> true)
+                .setHeader(identityHeaders.userId(), identity.userId())
+                .setHeader(identityHeaders.requestId(), identity.requestId())
+                .build();
+
+        return delegate.send(identified, bodyHandler);
+    }
+}
@@ -1,20 +1,35 @@
 package com.jay.voyager.infra.outbound.http.client.resiliency;
 
 import java.io.IOException;
+import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiConsumer;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
-import io.github.resilience4j.bulkhead.BulkheadConfig;
-import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.ClientHttpRequestFactory;
 
+import com.jay.voyager.core.concurrent.limit.FixedLimit;
+import com.jay.voyager.core.concurrent.limit.LimitAlgorithm;
+import com.jay.voyager.core.concurrent.limit.LimitAlgorithms;
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
 import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpExchange;
+import com.jay.voyager.infra.outbound.http.client.resiliency.circuitbreaker.CircuitBreakerAsyncHttpExchange;
 import com.jay.voyager.infra.outbound.http.client.resiliency.circuitbreaker.CircuitBreakerRequestDecoratorFactory;
+import com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead.BulkheadAsyncHttpExchange;
 import com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead.BulkheadRequestDecoratorFactory;
+import com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead.OutboundLimiterRegistry;
+import com.jay.voyager.infra.outbound.http.client.resiliency.coalescing.CoalescingRequestDecoratorFactory;
+import com.jay.voyager.infra.outbound.http.client.resiliency.hedging.HedgingRequestDecoratorFactory;
+import com.jay.voyager.infra.outbound.http.client.resiliency.retry.RetryRequestDecoratorFactory;
 
 //orchestration of functional resiliency responsibilities
 public class ResiliencyChainAssembler {
@@ -22,32 +37,92 @@ public class ResiliencyChainAssembler {
     //note that micrometer r4j metrics will use same instance name but give it distinct (bulkhead/cb) metrics
     private static final String INSTANCE_SUFFIX = "OutboundClient";
 
-    private final BulkheadRegistry bulkheadRegistry;
+    private final OutboundLimiterRegistry limiterRegistry;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ThreadFactory hedgeThreadFactory;
+
+    // stages keeping per-client counters, by client name
+    private final List<Map.Entry<String, ClientHttpRequestFactory>> stages = new ArrayList<>();
+    private final List<BiConsumer<String, ClientHttpRequestFactory>> stageListeners = new ArrayList<>();
 
     public ResiliencyChainAssembler(
-            BulkheadRegistry bulkheadRegistry,
+            OutboundLimiterRegistry limiterRegistry,
             CircuitBreakerRegistry circuitBreakerRegistry
     ) {
-        this.bulkheadRegistry = bulkheadRegistry;
+        this(limiterRegistry, circuitBreakerRegistry, Thread.ofVirtual().factory());
+    }
+
+    public ResiliencyChainAssembler(
+            OutboundLimiterRegistry limiterRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            ThreadFactory hedgeThreadFactory
+    ) {
+        this.limiterRegistry = limiterRegistry;
         this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.hedgeThreadFactory = hedgeThreadFactory;
     }
 
     public ClientHttpRequestFactory assemble(
             ClientHttpRequestFactory requestFactory,
             ResiliencyPolicy resiliencyPolicy,
-            String clientName
+            String clientName,
+            Duration readTimeout
     ) {
         String instanceName = createInstanceName(clientName);
         ClientHttpRequestFactory decorated = requestFactory;
 
         /*
          * Order matters:
-         * Outermost should acquire permit with bulkhead first (fail-fast backpressure)
-         * Then circuit breaker executes (bulkhead may still reject regardless of cb state)
+         * Outermost coalesces identical concurrent requests, waiters never take a bulkhead permit
+         * Then acquire permit with bulkhead (fail-fast backpressure)
+         * Then retry, holding the one bulkhead permit across attempts so retries never add concurrency
+         * Then circuit breaker executes per attempt, an OPEN breaker ends retrying (bulkhead may still reject
+         * regardless of cb state)
+         * Hedging is innermost, so cb sees one attempt however many hedges it took
          */
+        decorated = applyHedging(decorated, resiliencyPolicy.hedgingPolicy(), clientName, readTimeout);
         decorated = applyCircuitBreaker(decorated, resiliencyPolicy.circuitBreakerPolicy(), instanceName);
+        decorated = applyRetry(decorated, resiliencyPolicy.retryPolicy(), clientName);
         decorated = applyBulkhead(decorated, resiliencyPolicy.bulkheadPolicy(), instanceName);
+        decorated = applyCoalescing(decorated, resiliencyPolicy.coalescingPolicy(), clientName);
+
+        return decorated;
+    }
+
+    /**
+     * Registers a listener (metrics) for the blocking stages that keep counters of their own, called with
+     * the client name and the stage. It sees every such stage, the ones assembled before it registered
+     * included.
+     */
+    public synchronized void onStageAdded(BiConsumer<String, ClientHttpRequestFactory> listener) {
+        stageListeners.add(listener);
+        stages.forEach(stage -> listener.accept(stage.getKey(), stage.getValue()));
+    }
+
+    /**
+     * Async counterpart of {@link #assemble}. Only the stages that need no thread of their own are
+     * applied, bulkhead outside circuit breaker as in the blocking chain, and they share their limiter
+     * and breaker with the client's blocking chain. Retry, hedging and coalescing are blocking-only.
+     */
+    public AsyncHttpExchange assembleAsync(
+            AsyncHttpExchange exchange,
+            ResiliencyPolicy resiliencyPolicy,
+            String clientName
+    ) {
+        String instanceName = createInstanceName(clientName);
+        AsyncHttpExchange decorated = exchange;
+
+        ResiliencyPolicy.CircuitBreakerPolicy circuitBreakerPolicy = resiliencyPolicy.circuitBreakerPolicy();
+        if (circuitBreakerPolicy.enabled()) {
+            CircuitBreaker circuitBreaker = circuitBreaker(circuitBreakerPolicy, instanceName);
+            decorated = new CircuitBreakerAsyncHttpExchange(decorated, circuitBreaker);
+        }
+
+        ResiliencyPolicy.BulkheadPolicy bulkheadPolicy = resiliencyPolicy.bulkheadPolicy();
+        if (bulkheadPolicy.enabled()) {
+            PooledConcurrencyLimiter limiter = limiter(bulkheadPolicy, instanceName);
+            decorated = new BulkheadAsyncHttpExchange(decorated, limiter, instanceName);
+        }
 
         return decorated;
     }
@@ -59,19 +134,85 @@ public class ResiliencyChainAssembler {
             String instanceName
     ) {
         if (clientBulkheadPolicy.enabled()) {
-            int maxConcurrentCalls =
-                    clientBulkheadPolicy.maxConcurrentCalls();
             Duration maxWaitDuration =
                     clientBulkheadPolicy.maxWaitDuration();
 
-            BulkheadConfig.Builder bulkheadConfigBuilder = new BulkheadConfig.Builder();
-            bulkheadConfigBuilder.maxConcurrentCalls(maxConcurrentCalls);
-            bulkheadConfigBuilder.maxWaitDuration(maxWaitDuration);
+            PooledConcurrencyLimiter limiter = limiter(clientBulkheadPolicy, instanceName);
 
-            //registry should create new instance
-            Bulkhead bulkhead = bulkheadRegistry.bulkhead(instanceName, bulkheadConfigBuilder.build());
+            return new BulkheadRequestDecoratorFactory(delegate, limiter, maxWaitDuration, instanceName);
+        }
+
+        return delegate;
+    }
+
+    private PooledConcurrencyLimiter limiter(
+            ResiliencyPolicy.BulkheadPolicy clientBulkheadPolicy,
+            String instanceName
+    ) {
+        int maxConcurrentCalls =
+                clientBulkheadPolicy.maxConcurrentCalls();
 
-            return new BulkheadRequestDecoratorFactory(delegate, bulkhead);
+        /*
+         * STATIC: maxConcurrentCalls, ADAPTIVE: the algorithm estimates the downstream's capacity from
+         * call latency and overload signals, never above its max limit.
+         * Registry creates the instance once per name, with one pooled permit per call the limit can ever allow.
+         * Blocking and async chains of a client get the same instance, so they share the limit.
+         */
+        LimitAlgorithm algorithm;
+        int capacity;
+        switch (clientBulkheadPolicy.mode()) {
+            case STATIC -> {
+                algorithm = new FixedLimit(maxConcurrentCalls);
+                capacity = maxConcurrentCalls;
+            }
+            case ADAPTIVE -> {
+                algorithm = LimitAlgorithms.create(clientBulkheadPolicy.adaptiveLimit());
+                capacity = clientBulkheadPolicy.adaptiveLimit().maxLimit();
+            }
+            default -> throw new IllegalStateException("Unknown bulkhead mode " + clientBulkheadPolicy.mode());
+        }
+
+        return limiterRegistry.limiter(instanceName, algorithm, capacity);
+    }
+
+    //retry
+    ClientHttpRequestFactory applyRetry(
+            ClientHttpRequestFactory delegate,
+            ResiliencyPolicy.RetryPolicy clientRetryPolicy,
+            String clientName
+    ) {
+        if (clientRetryPolicy.enabled()) {
+            return stageAdded(clientName, new RetryRequestDecoratorFactory(delegate, clientRetryPolicy));
+        }
+
+        return delegate;
+    }
+
+    //coalescing
+    ClientHttpRequestFactory applyCoalescing(
+            ClientHttpRequestFactory delegate,
+            ResiliencyPolicy.CoalescingPolicy clientCoalescingPolicy,
+            String clientName
+    ) {
+        if (clientCoalescingPolicy.enabled()) {
+            return stageAdded(clientName, new CoalescingRequestDecoratorFactory(delegate, clientCoalescingPolicy));
+        }
+
+        return delegate;
+    }
+
+    //hedging
+    ClientHttpRequestFactory applyHedging(
+            ClientHttpRequestFactory delegate,
+            ResiliencyPolicy.HedgingPolicy clientHedgingPolicy,
+            String clientName,
+            Duration readTimeout
+    ) {
+        if (clientHedgingPolicy.enabled()) {
+            return stageAdded(
+                    clientName,
+                    new HedgingRequestDecoratorFactory(delegate, clientHedgingPolicy, readTimeout, hedgeThreadFactory)
+            );
         }
 
         return delegate;
@@ -84,41 +225,7 @@ public class ResiliencyChainAssembler {
             String instanceName
     ) {
         if (clientCircuitBreakerPolicy.enabled()) {
-            CircuitBreakerConfig.Builder cbConfigBuilder = CircuitBreakerConfig.custom();
-            cbConfigBuilder.failureRateThreshold(clientCircuitBreakerPolicy.failureRateThreshold());
-            cbConfigBuilder.slowCallDurationThreshold(clientCircuitBreakerPolicy.slowCallDurationThreshold());
-            cbConfigBuilder.slowCallRateThreshold(clientCircuitBreakerPolicy.slowCallRateThreshold());
-
-            cbConfigBuilder.slidingWindowType(
-                    mapSlidingWindowType(clientCircuitBreakerPolicy.slidingWindowType())
-            );
-            cbConfigBuilder.slidingWindowSize(clientCircuitBreakerPolicy.slidingWindowSize());
-            cbConfigBuilder.minimumNumberOfCalls(clientCircuitBreakerPolicy.minimumNumberOfCalls());
-
-            cbConfigBuilder.permittedNumberOfCallsInHalfOpenState(
-                    clientCircuitBreakerPolicy.permittedNumberOfCallsInHalfOpenState()
-            );
-            cbConfigBuilder.waitDurationInOpenState(clientCircuitBreakerPolicy.waitDurationInOpenState());
-
-            /*
-             * FUTURE-NOTE: Baseline behavior is to treat any 5xx HTTP response as a circuit breaker failure.
-             *  When concrete use cases show up, introduce per-client settings to narrow recorded 5xx codes and
-             *  optionally include select 4xx like 429 when appropriate.
-             */
-            cbConfigBuilder.recordResult(result -> {
-                if (result instanceof ClientHttpResponse response) {
-                    try {
-                        if (response.getStatusCode().is5xxServerError()) {
-                            return true;
-                        }
-                    } catch (IOException _) { /* getStatusCode() throwing is not jobs of this class to handle */ }
-                }
-
-                return false; //instance shouldn't be used outside of decorator, but harmless failsafe.
-            });
-
-            CircuitBreaker circuitBreaker =
-                    circuitBreakerRegistry.circuitBreaker(instanceName, cbConfigBuilder.build());
+            CircuitBreaker circuitBreaker = circuitBreaker(clientCircuitBreakerPolicy, instanceName);
 
             return new CircuitBreakerRequestDecoratorFactory(delegate, circuitBreaker);
         }
@@ -126,6 +233,50 @@ public class ResiliencyChainAssembler {
         return delegate;
     }
 
+    private CircuitBreaker circuitBreaker(
+            ResiliencyPolicy.CircuitBreakerPolicy clientCircuitBreakerPolicy,
+            String instanceName
+    ) {
+        CircuitBreakerConfig.Builder cbConfigBuilder = CircuitBreakerConfig.custom();
+        cbConfigBuilder.failureRateThreshold(clientCircuitBreakerPolicy.failureRateThreshold());
+        cbConfigBuilder.slowCallDurationThreshold(clientCircuitBreakerPolicy.slowCallDurationThreshold());
+        cbConfigBuilder.slowCallRateThreshold(clientCircuitBreakerPolicy.slowCallRateThreshold());
+
+        cbConfigBuilder.slidingWindowType(
+                mapSlidingWindowType(clientCircuitBreakerPolicy.slidingWindowType())
+        );
+        cbConfigBuilder.slidingWindowSize(clientCircuitBreakerPolicy.slidingWindowSize());
+        cbConfigBuilder.minimumNumberOfCalls(clientCircuitBreakerPolicy.minimumNumberOfCalls());
+
+        cbConfigBuilder.permittedNumberOfCallsInHalfOpenState(
+                clientCircuitBreakerPolicy.permittedNumberOfCallsInHalfOpenState()
+        );
+        cbConfigBuilder.waitDurationInOpenState(clientCircuitBreakerPolicy.waitDurationInOpenState());
+
+        /*
+         * FUTURE-NOTE: Baseline behavior is to treat any 5xx HTTP response as a circuit breaker failure.
+         *  When concrete use cases show up, introduce per-client settings to narrow recorded 5xx codes and
+         *  optionally include select 4xx like 429 when appropriate.
+         */
+        cbConfigBuilder.recordResult(result -> {
+            if (result instanceof ClientHttpResponse response) {
+                try {
+                    if (response.getStatusCode().is5xxServerError()) {
+                        return true;
+                    }
+                } catch (IOException _) { /* getStatusCode() throwing is not jobs of this class to handle */ }
+            }
+            if (result instanceof HttpResponse<?> response) { // async chain
+                return HttpStatusCode.valueOf(response.statusCode()).is5xxServerError();
+            }
+
+            return false; //instance shouldn't be used outside of decorator, but harmless failsafe.
+        });
+
+        // same name, same instance: blocking and async chains of a client share the breaker
+        return circuitBreakerRegistry.circuitBreaker(instanceName, cbConfigBuilder.build());
+    }
+
     private CircuitBreakerConfig.SlidingWindowType mapSlidingWindowType(
             ResiliencyPolicy.CircuitBreakerPolicy.SlidingWindowType type
     ) {
@@ -135,6 +286,12 @@ public class ResiliencyChainAssembler {
         };
     }
 
+    private synchronized <T extends ClientHttpRequestFactory> T stageAdded(String clientName, T stage) {
+        stages.add(Map.entry(clientName, stage));
+        stageListeners.forEach(listener -> listener.accept(clientName, stage));
+        return stage;
+    }
+
     private String createInstanceName(String clientName) {
         return clientName + INSTANCE_SUFFIX;
     }
@@ -0,0 +1,78 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.http.HttpStatusCode;
+
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpExchange;
+
+/**
+ * Bounds the concurrent async calls of an outbound client.
+ *
+ * <p>
+ * Uses the same {@link PooledConcurrencyLimiter} as the client's blocking bulkhead, so blocking and
+ * async calls to a downstream share one limit. The permit is held until the response future completes
+ * and released with the same overload signals (429/503, timeouts) that drive an adaptive limit.
+ * </p>
+ *
+ * <p>
+ * Admission never waits: an async caller must not park, so {@code maxWaitDuration} does not apply and
+ * a call above the limit fails at once with {@link ConcurrencyLimitExceededException}.
+ * </p>
+ */
+public final class BulkheadAsyncHttpExchange implements AsyncHttpExchange {
+
+    private final AsyncHttpExchange delegate;
+    private final PooledConcurrencyLimiter limiter;
+    private final String name;
+
+    public BulkheadAsyncHttpExchange(AsyncHttpExchange delegate, PooledConcurrencyLimiter limiter, String name) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+        this.name = name;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        PooledConcurrencyLimiter.PooledPermit permit = limiter.tryAcquire();
+        if (permit == null) {
+            return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(name, limiter.limit()));
+        }
+        long stamp = permit.stamp();
+
+        CompletableFuture<HttpResponse<T>> response;
+        try {
+            response = delegate.send(request, bodyHandler);
+        } catch (RuntimeException ex) {
+            permit.releaseIgnored(stamp);
+            throw ex;
+        }
+
+        response.whenComplete((result, failure) -> {
+            if (failure == null) {
+                release(permit, stamp, OverloadSignals.isOverloaded(HttpStatusCode.valueOf(result.statusCode())));
+            } else if (OverloadSignals.isOverloaded(unwrap(failure))) {
+                permit.releaseDropped(stamp);
+            } else {
+                permit.releaseIgnored(stamp); // cancelled or failed for reasons unrelated to load
+            }
+        });
+        return response;
+    }
+
+    private static void release(PooledConcurrencyLimiter.PooledPermit permit, long stamp, boolean overloaded) {
+        if (overloaded) {
+            permit.releaseDropped(stamp);
+        } else {
+            permit.release(stamp);
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
@@ -4,52 +4,54 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
-import io.github.resilience4j.bulkhead.BulkheadFullException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpResponse;
 
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
+
 final class BulkheadClientHttpRequestDecorator implements ClientHttpRequest {
     private final ClientHttpRequest delegate;
-    private final Bulkhead bulkhead;
+    private final BulkheadRequestDecoratorFactory factory;
 
-    BulkheadClientHttpRequestDecorator(ClientHttpRequest delegate, Bulkhead bulkhead) {
+    BulkheadClientHttpRequestDecorator(ClientHttpRequest delegate, BulkheadRequestDecoratorFactory factory) {
         this.delegate = delegate;
-        this.bulkhead = bulkhead;
+        this.factory = factory;
     }
 
     @Override
     public ClientHttpResponse execute() throws IOException {
+        PooledConcurrencyLimiter.PooledPermit permit = factory.acquire();
+        // 1 permit held needs exactly 1 release, the stamp makes any later release of this hold a no-op
+        long stamp = permit.stamp();
 
-        if (bulkhead.tryAcquirePermission()) {
-            AtomicBoolean permitHeld = new AtomicBoolean(true);
-
-            // 1 permit held needs exactly 1 safe release. A release-once gate.
-            Runnable releaseOnceGate = () -> {
-                if (permitHeld.compareAndSet(true, false)) {
-                    bulkhead.releasePermission();
-                }
-            };
-
-            try {
-                ClientHttpResponse response = delegate.execute();
-                return new BulkheadClientHttpResponseDecorator(response, releaseOnceGate);
-            } catch (RuntimeException | IOException ex) {
-                releaseOnceGate.run();
-                throw ex;
+        try {
+            ClientHttpResponse response = delegate.execute();
+            return new BulkheadClientHttpResponseDecorator(
+                    response, permit, stamp, isOverloaded(response)
+            );
+        } catch (RuntimeException | IOException ex) {
+            if (OverloadSignals.isOverloaded(ex)) {
+                permit.releaseDropped(stamp);
+            } else {
+                permit.releaseIgnored(stamp);
             }
-            /* NOTE: Do not want to finally release, as we want the permit only to be released
-             * when response body is fully consumed by higher layers and close() is called.
-             * ClientHttpResponse.close() for buffered responses and InputStream close()
-             * for streamed responses.
-             */
+            throw ex;
+        }
+        /* NOTE: Do not want to finally release, as we want the permit only to be released
+         * when response body is fully consumed by higher layers and close() is called.
+         * ClientHttpResponse.close() for buffered responses and InputStream close()
+         * for streamed responses.
+         */
+    }
 
-        } else {
-            throw BulkheadFullException.createBulkheadFullException(bulkhead);
+    private static boolean isOverloaded(ClientHttpResponse response) {
+        try {
+            return OverloadSignals.isOverloaded(response.getStatusCode());
+        } catch (IOException _) {
+            return false; // unreadable status, the caller fails on it, no capacity signal
         }
     }
 
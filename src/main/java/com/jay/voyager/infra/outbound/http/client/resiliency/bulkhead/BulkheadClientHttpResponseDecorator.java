@@ -8,10 +8,14 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpResponse;
 
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
+
 final class BulkheadClientHttpResponseDecorator implements ClientHttpResponse {
 
         private final ClientHttpResponse delegate;
-        private final Runnable releaseOnceGate;
+        private final PooledConcurrencyLimiter.PooledPermit permit;
+        private final long stamp;
+        private final boolean overloaded;
 
         /*
          * Cached body avoids multiple delegate.getBody() calls.
@@ -21,10 +25,14 @@ final class BulkheadClientHttpResponseDecorator implements ClientHttpResponse {
 
         BulkheadClientHttpResponseDecorator(
                 ClientHttpResponse delegate,
-                Runnable releaseOnceGate
+                PooledConcurrencyLimiter.PooledPermit permit,
+                long stamp,
+                boolean overloaded
         ) {
             this.delegate = delegate;
-            this.releaseOnceGate = releaseOnceGate;
+            this.permit = permit;
+            this.stamp = stamp;
+            this.overloaded = overloaded;
         }
 
         /*
@@ -34,7 +42,7 @@ final class BulkheadClientHttpResponseDecorator implements ClientHttpResponse {
          *
          * Note: Some implementations close the body stream as part of response.close(),
          * and some close the body stream explicitly after consumption. We release on both
-         * response close and body close (guarded) so either lifecycle signal can end the permit.
+         * response close and body close (guarded by the stamp) so either lifecycle signal can end the permit.
          *
          * Ultimately, both signals represent the end of HTTP IO consumption, which is where
          * this bulkhead permit should be released.
@@ -44,7 +52,7 @@ final class BulkheadClientHttpResponseDecorator implements ClientHttpResponse {
             try {
                 delegate.close();
             } finally {
-                releaseOnceGate.run();
+                release();
             }
         }
 
@@ -57,16 +65,7 @@ final class BulkheadClientHttpResponseDecorator implements ClientHttpResponse {
          */
         @Override public InputStream getBody() throws IOException {
             if (cachedBody == null) {
-                cachedBody = new FilterInputStream(delegate.getBody()) {
-                    @Override
-                    public void close() throws IOException {
-                        try {
-                            super.close();
-                        } finally {
-                            releaseOnceGate.run();
-                        }
-                    }
-                };
+                cachedBody = new PermitReleasingInputStream(delegate.getBody(), this);
             }
 
             return cachedBody;
@@ -77,4 +76,32 @@ final class BulkheadClientHttpResponseDecorator implements ClientHttpResponse {
         @Override public String getStatusText() throws IOException { return delegate.getStatusText(); }
 
         @Override public HttpHeaders getHeaders() { return delegate.getHeaders(); }
+
+        // a 429/503 held its permit like any call, but tells an adaptive limit to back off
+        private void release() {
+            if (overloaded) {
+                permit.releaseDropped(stamp);
+            } else {
+                permit.release(stamp);
+            }
+        }
+
+        private static final class PermitReleasingInputStream extends FilterInputStream {
+
+            private final BulkheadClientHttpResponseDecorator response;
+
+            PermitReleasingInputStream(InputStream in, BulkheadClientHttpResponseDecorator response) {
+                super(in);
+                this.response = response;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    response.release();
+                }
+            }
+        }
     }
\ No newline at end of file
@@ -2,25 +2,64 @@ package com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpRequestFactory;
 
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+
+/**
+ * Bounds the concurrent calls of an outbound client.
+ *
+ * <p>
+ * A permit is taken from a {@link PooledConcurrencyLimiter} before the request is sent and held
+ * until the response is closed, so the admission path allocates nothing. When no permit is free
+ * the call waits up to {@code maxWaitDuration} (never past the request deadline) and is then
+ * rejected with {@link ConcurrencyLimitExceededException}.
+ * </p>
+ */
 public final class BulkheadRequestDecoratorFactory implements ClientHttpRequestFactory {
 
     private final ClientHttpRequestFactory delegate;
-    private final Bulkhead bulkhead;
+    private final PooledConcurrencyLimiter limiter;
+    private final long maxWaitNanos;
+    private final String name;
 
-    public BulkheadRequestDecoratorFactory(ClientHttpRequestFactory delegate, Bulkhead bulkhead) {
+    public BulkheadRequestDecoratorFactory(
+            ClientHttpRequestFactory delegate,
+            PooledConcurrencyLimiter limiter,
+            Duration maxWaitDuration,
+            String name
+    ) {
         this.delegate = delegate;
-        this.bulkhead = bulkhead;
+        this.limiter = limiter;
+        this.maxWaitNanos = maxWaitDuration.toNanos();
+        this.name = name;
     }
 
     @Override
     public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
         ClientHttpRequest req = delegate.createRequest(uri, httpMethod);
-        return new BulkheadClientHttpRequestDecorator(req, bulkhead);
+        return new BulkheadClientHttpRequestDecorator(req, this);
+    }
+
+    PooledConcurrencyLimiter.PooledPermit acquire() {
+        long waitNanos = maxWaitNanos;
+        if (waitNanos > 0) {
+            Deadline deadline = DeadlineContextHolder.context();
+            if (!deadline.isNone()) {
+                waitNanos = Math.min(waitNanos, deadline.remainingNanos());
+            }
+        }
+
+        PooledConcurrencyLimiter.PooledPermit permit = limiter.tryAcquire(waitNanos);
+        if (permit == null) {
+            throw new ConcurrencyLimitExceededException(name, limiter.limit());
+        }
+        return permit;
     }
 }
@@ -0,0 +1,15 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead;
+
+/**
+ * Thrown when an outbound client already has its maximum of concurrent calls in flight and no permit
+ * was released within the bulkhead's max wait.
+ *
+ * <p>A fail-fast capacity rejection, nothing was sent to the origin. Rejections come in bursts under
+ * overload, so no stack trace is captured.</p>
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String name, int limit) {
+        super("Max concurrent calls (" + limit + ") reached for " + name, null, false, false);
+    }
+}
@@ -0,0 +1,50 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import com.jay.voyager.core.concurrent.limit.LimitAlgorithm;
+import com.jay.voyager.core.concurrent.limit.LimiterStats;
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
+
+/**
+ * Outbound concurrency limiters, one per client instance name.
+ *
+ * <p>
+ * Limiters are created while client chains are assembled at startup. Listeners (metrics) see every
+ * limiter, the ones created before they registered included.
+ * </p>
+ */
+public class OutboundLimiterRegistry {
+
+    private final Map<String, PooledConcurrencyLimiter> limiters = new LinkedHashMap<>();
+    private final List<BiConsumer<String, LimiterStats>> listeners = new ArrayList<>();
+
+    /**
+     * @return the limiter registered under {@code name}, created with {@code algorithm} and
+     * {@code capacity} pooled permits when absent
+     */
+    public synchronized PooledConcurrencyLimiter limiter(String name, LimitAlgorithm algorithm, int capacity) {
+        PooledConcurrencyLimiter limiter = limiters.get(name);
+        if (limiter == null) {
+            limiter = new PooledConcurrencyLimiter(algorithm, capacity);
+            limiters.put(name, limiter);
+
+            PooledConcurrencyLimiter created = limiter;
+            listeners.forEach(listener -> listener.accept(name, created));
+        }
+        return limiter;
+    }
+
+    public synchronized void onLimiterAdded(BiConsumer<String, LimiterStats> listener) {
+        listeners.add(listener);
+        limiters.forEach(listener);
+    }
+
+    public synchronized Map<String, LimiterStats> limiters() {
+        return Map.copyOf(limiters);
+    }
+}
@@ -0,0 +1,30 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import com.jay.voyager.core.context.deadline.DeadlineExceededException;
+
+/*
+ * Overload signals tell an adaptive limit to back off: the downstream shedding load, or a call
+ * that ran out of time. Other failures say nothing about capacity and record no sample.
+ * Shared by the blocking and the async bulkhead.
+ */
+final class OverloadSignals {
+
+    private OverloadSignals() {}
+
+    static boolean isOverloaded(HttpStatusCode status) {
+        return status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                || status.isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    static boolean isOverloaded(Throwable failure) {
+        return failure instanceof HttpTimeoutException
+                || failure instanceof SocketTimeoutException
+                || failure instanceof DeadlineExceededException;
+    }
+}
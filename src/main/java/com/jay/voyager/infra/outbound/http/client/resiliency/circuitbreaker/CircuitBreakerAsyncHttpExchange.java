@@ -0,0 +1,66 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.circuitbreaker;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpExchange;
+
+/**
+ * Async circuit breaker stage, sharing the client's {@link CircuitBreaker} with its blocking chain.
+ *
+ * <p>
+ * An open breaker fails the call with {@link CallNotPermittedException} without sending it. Otherwise
+ * the outcome is recorded when the response future completes: failures as errors, responses through
+ * the breaker's result predicate (5xx), and a cancelled call gives its permission back unrecorded.
+ * </p>
+ */
+public final class CircuitBreakerAsyncHttpExchange implements AsyncHttpExchange {
+
+    private final AsyncHttpExchange delegate;
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerAsyncHttpExchange(AsyncHttpExchange delegate, CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(
+                    CallNotPermittedException.createCallNotPermittedException(circuitBreaker)
+            );
+        }
+        long start = circuitBreaker.getCurrentTimestamp();
+
+        CompletableFuture<HttpResponse<T>> response;
+        try {
+            response = delegate.send(request, bodyHandler);
+        } catch (RuntimeException ex) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), ex);
+            throw ex;
+        }
+
+        response.whenComplete((result, failure) -> {
+            long duration = circuitBreaker.getCurrentTimestamp() - start;
+            if (failure == null) {
+                circuitBreaker.onResult(duration, circuitBreaker.getTimestampUnit(), result);
+            } else if (failure instanceof CancellationException) {
+                circuitBreaker.releasePermission();
+            } else {
+                circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), unwrap(failure));
+            }
+        });
+        return response;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
@@ -0,0 +1,71 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.coalescing;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+/*
+ * Fully read response of a coalesced call. Every caller gets its own copy() with its own body stream,
+ * the buffered bytes and read-only headers are shared. Nothing to release on close, the live response
+ * (and its connection/bulkhead permit) was closed once the body was read.
+ */
+final class BufferedClientHttpResponse implements ClientHttpResponse {
+
+    private final HttpStatusCode statusCode;
+    private final String statusText;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    private InputStream bodyStream;
+
+    private BufferedClientHttpResponse(HttpStatusCode statusCode, String statusText, HttpHeaders headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.statusText = statusText;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    static BufferedClientHttpResponse of(ClientHttpResponse response) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+
+        byte[] body;
+        try (InputStream in = response.getBody()) {
+            body = in.readAllBytes();
+        }
+
+        return new BufferedClientHttpResponse(
+                response.getStatusCode(),
+                response.getStatusText(),
+                HttpHeaders.readOnlyHttpHeaders(headers),
+                body
+        );
+    }
+
+    BufferedClientHttpResponse copy() {
+        return new BufferedClientHttpResponse(statusCode, statusText, headers, body);
+    }
+
+    @Override
+    public InputStream getBody() {
+        if (bodyStream == null) {
+            bodyStream = new ByteArrayInputStream(body);
+        }
+        return bodyStream;
+    }
+
+    @Override
+    public void close() {
+        // buffered, nothing to release
+    }
+
+    @Override public HttpStatusCode getStatusCode() { return statusCode; }
+
+    @Override public String getStatusText() { return statusText; }
+
+    @Override public HttpHeaders getHeaders() { return headers; }
+}
@@ -0,0 +1,109 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.coalescing;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.core.context.deadline.DeadlineExceededException;
+
+final class CoalescingClientHttpRequestDecorator implements ClientHttpRequest {
+
+    private final ClientHttpRequest delegate;
+    private final CoalescingRequestDecoratorFactory factory;
+
+    // a written body makes the request unique, such requests are sent on their own
+    private boolean bodyRequested;
+
+    CoalescingClientHttpRequestDecorator(ClientHttpRequest delegate, CoalescingRequestDecoratorFactory factory) {
+        this.delegate = delegate;
+        this.factory = factory;
+    }
+
+    @Override
+    public ClientHttpResponse execute() throws IOException {
+        if (bodyRequested) {
+            return delegate.execute();
+        }
+
+        CoalescingRequestDecoratorFactory.CallKey key = factory.key(delegate);
+        CompletableFuture<BufferedClientHttpResponse> call = new CompletableFuture<>();
+        CompletableFuture<BufferedClientHttpResponse> leading = factory.inFlight().putIfAbsent(key, call);
+
+        if (leading != null) {
+            factory.onCoalesced();
+            return await(leading).copy();
+        }
+
+        try {
+            BufferedClientHttpResponse response;
+            try (ClientHttpResponse live = delegate.execute()) {
+                response = BufferedClientHttpResponse.of(live);
+            }
+            call.complete(response);
+            return response.copy();
+        } catch (IOException | RuntimeException ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            // later arrivals start a new call, the result is never served as a cache
+            factory.inFlight().remove(key, call);
+        }
+    }
+
+    /*
+     * Waiters share the leading call's outcome, failures included. The wait is bounded by the
+     * waiter's own deadline, which may be shorter than the one of the request that went out.
+     */
+    private static BufferedClientHttpResponse await(CompletableFuture<BufferedClientHttpResponse> leading)
+            throws IOException {
+        Deadline deadline = DeadlineContextHolder.context();
+        try {
+            return deadline.isNone()
+                    ? leading.get()
+                    : leading.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            throw rethrow(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new DeadlineExceededException("Request deadline passed while waiting for a coalesced call");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for coalesced request", ex);
+        }
+    }
+
+    private static IOException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (failure instanceof IOException io) {
+            return io;
+        }
+        return new IOException(failure);
+    }
+
+    @Override
+    public OutputStream getBody() throws IOException {
+        bodyRequested = true;
+        return delegate.getBody();
+    }
+
+    @Override public HttpMethod getMethod() { return delegate.getMethod(); }
+
+    @Override public URI getURI() { return delegate.getURI(); }
+
+    @Override public Map<String, Object> getAttributes() { return delegate.getAttributes(); }
+
+    @Override public HttpHeaders getHeaders() { return delegate.getHeaders(); }
+}
@@ -0,0 +1,96 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.coalescing;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+
+/**
+ * Coalesces identical concurrent idempotent requests into one call (single-flight).
+ *
+ * <p>
+ * Requests are identical when method, URI and the configured key headers match. The first one
+ * executes through the rest of the chain, requests arriving while it is in flight wait for it and
+ * get their own copy of its buffered response (or its failure). A thundering herd on a hot key
+ * therefore costs one outbound call and one bulkhead permit instead of one per caller.
+ * </p>
+ *
+ * <p>
+ * Only {@code GET} and {@code HEAD} requests without a body are coalesced, anything else passes
+ * straight through. Coalesced responses are read fully into memory, so this suits the small reads
+ * that hot keys usually are, not downloads. Headers outside the key (request id, deadline) are the
+ * ones of the request that went out.
+ * </p>
+ */
+public final class CoalescingRequestDecoratorFactory implements ClientHttpRequestFactory {
+
+    private static final Set<HttpMethod> COALESCED_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD);
+
+    private final ClientHttpRequestFactory delegate;
+    private final List<String> keyHeaders;
+
+    private final ConcurrentHashMap<CallKey, CompletableFuture<BufferedClientHttpResponse>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    public CoalescingRequestDecoratorFactory(
+            ClientHttpRequestFactory delegate,
+            ResiliencyPolicy.CoalescingPolicy coalescingPolicy
+    ) {
+        this.delegate = delegate;
+        this.keyHeaders = List.copyOf(coalescingPolicy.keyHeaders());
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest req = delegate.createRequest(uri, httpMethod);
+
+        if (!COALESCED_METHODS.contains(httpMethod)) {
+            return req;
+        }
+        return new CoalescingClientHttpRequestDecorator(req, this);
+    }
+
+    /**
+     * @return requests answered by another request's call instead of their own
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    CallKey key(ClientHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        List<List<String>> headerValues = new ArrayList<>(keyHeaders.size());
+        for (String header : keyHeaders) {
+            List<String> values = headers.get(header);
+            headerValues.add(values == null ? List.of() : List.copyOf(values));
+        }
+        return new CallKey(request.getMethod(), request.getURI(), headerValues);
+    }
+
+    ConcurrentHashMap<CallKey, CompletableFuture<BufferedClientHttpResponse>> inFlight() {
+        return inFlight;
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    void onCoalesced() {
+        coalesced.increment();
+    }
+
+    record CallKey(HttpMethod method, URI uri, List<List<String>> headerValues) {}
+}
@@ -0,0 +1,38 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.coalescing.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.jay.voyager.infra.outbound.http.client.resiliency.coalescing.CoalescingRequestDecoratorFactory;
+
+/**
+ * Publishes a client's coalesced requests, tagged by {@code client}.
+ *
+ * <p>
+ * {@code coalesced} counts requests answered by an identical request's call instead of their own, each
+ * one a call the downstream did not see. The counter is read on scrape, nothing is recorded on the
+ * request path beyond the factory's own counter.
+ * </p>
+ */
+public final class CoalescingMetrics implements MeterBinder {
+
+    public static final String COALESCED_METER = "http.client.coalesced";
+    static final String CLIENT_TAG = "client";
+
+    private final String client;
+    private final CoalescingRequestDecoratorFactory coalescing;
+
+    public CoalescingMetrics(String client, CoalescingRequestDecoratorFactory coalescing) {
+        this.client = client;
+        this.coalescing = coalescing;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(COALESCED_METER, coalescing, CoalescingRequestDecoratorFactory::coalesced)
+                .description("Requests answered by an identical in-flight request's call")
+                .tag(CLIENT_TAG, client)
+                .register(registry);
+    }
+}
@@ -0,0 +1,65 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.hedging;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/*
+ * How long to wait for the primary attempt before hedging.
+ * Fixed, or the observed latency percentile over a sliding window of recent successful attempts,
+ * never below the configured delay. The percentile is recomputed every RECOMPUTE_EVERY samples
+ * (sort of a small copy) so the request path only reads a volatile.
+ */
+final class HedgeDelay {
+
+    static final int WINDOW = 256;
+    static final int RECOMPUTE_EVERY = 32;
+
+    private final long floorNanos;
+    private final double percentile;
+
+    private final long[] samples = new long[WINDOW];
+    private long count;
+    private int next;
+
+    private volatile long currentNanos;
+
+    HedgeDelay(Duration delay, double percentile) {
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("delay must be >= 0 but was " + delay);
+        }
+        if (percentile < 0.0 || percentile >= 1.0) {
+            throw new IllegalArgumentException("delayPercentile must be in [0, 1) but was " + percentile);
+        }
+
+        this.floorNanos = delay.toNanos();
+        this.percentile = percentile;
+        this.currentNanos = floorNanos;
+    }
+
+    long nanos() {
+        return currentNanos;
+    }
+
+    void record(long latencyNanos) {
+        if (percentile == 0.0) {
+            return;
+        }
+
+        long[] snapshot = null;
+        synchronized (this) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % WINDOW;
+            count++;
+
+            if (count >= RECOMPUTE_EVERY && count % RECOMPUTE_EVERY == 0) {
+                snapshot = Arrays.copyOf(samples, (int) Math.min(count, WINDOW));
+            }
+        }
+
+        if (snapshot != null) {
+            Arrays.sort(snapshot);
+            int index = (int) Math.ceil(percentile * snapshot.length) - 1;
+            currentNanos = Math.max(floorNanos, snapshot[Math.max(0, index)]);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.hedging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+
+final class HedgingClientHttpRequestDecorator implements ClientHttpRequest {
+
+    private final ClientHttpRequest delegate;
+    private final HedgingRequestDecoratorFactory factory;
+
+    // a written body cannot be replayed on the hedge, such requests are sent once
+    private boolean bodyRequested;
+
+    HedgingClientHttpRequestDecorator(ClientHttpRequest delegate, HedgingRequestDecoratorFactory factory) {
+        this.delegate = delegate;
+        this.factory = factory;
+    }
+
+    /*
+     * The primary attempt runs on the caller's thread, a hedge only gets a thread of its own once the
+     * delay expired without a response. The common fast request costs a timer entry and a read of its
+     * deadline, no thread and no context copy.
+     */
+    @Override
+    public ClientHttpResponse execute() throws IOException {
+        if (bodyRequested) {
+            return delegate.execute();
+        }
+
+        factory.budget().onRequest();
+
+        Hedge hedge = new Hedge(Thread.currentThread(), DeadlineContextHolder.context());
+        hedge.schedule(factory.delay().nanos());
+
+        long startNanos = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = delegate.execute();
+        } catch (IOException | RuntimeException ex) {
+            return hedge.onPrimaryFailure(ex);
+        }
+        factory.delay().record(System.nanoTime() - startNanos);
+        return hedge.onPrimaryResponse(response);
+    }
+
+    private ClientHttpRequest hedgeRequest() throws IOException {
+        ClientHttpRequest hedge = factory.delegate().createRequest(delegate.getURI(), delegate.getMethod());
+        hedge.getHeaders().putAll(delegate.getHeaders());
+        hedge.getAttributes().putAll(delegate.getAttributes());
+        return hedge;
+    }
+
+    private static IOException rethrow(Exception failure) {
+        if (failure instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (failure instanceof IOException io) {
+            return io;
+        }
+        return new IOException(failure);
+    }
+
+    @Override
+    public OutputStream getBody() throws IOException {
+        bodyRequested = true;
+        return delegate.getBody();
+    }
+
+    @Override public HttpMethod getMethod() { return delegate.getMethod(); }
+
+    @Override public URI getURI() { return delegate.getURI(); }
+
+    @Override public Map<String, Object> getAttributes() { return delegate.getAttributes(); }
+
+    @Override public HttpHeaders getHeaders() { return delegate.getHeaders(); }
+
+    /*
+     * The hedge of one execute() call. A shared timer starts it once the delay expired, unless the
+     * primary answered first. A winning hedge interrupts the caller's thread, which cancels the
+     * primary's JDK exchange, and the caller returns the hedge's response instead. A primary response
+     * settles the race: an unfinished hedge is interrupted and its late response closed. A failed
+     * primary waits for a running hedge, at most until the deadline or the hedge's read timeout.
+     *
+     * The thread is only created by the timer. Of the caller's context the hedge carries just the
+     * deadline, which the request factory below reads to cap the hedge's read timeout. Identity and
+     * trace travel in the copied headers.
+     */
+    private final class Hedge implements Runnable {
+
+        private final Thread caller;
+        private final Deadline deadline;
+
+        private ScheduledFuture<?> timer;
+        private Thread thread;
+        private long startNanos;
+        private boolean primaryDone;
+        private boolean started;
+        private boolean finished;
+        private boolean primaryWon;
+        private boolean hedgeFailedFirst;
+        private boolean interruptedCaller;
+        private ClientHttpResponse response;
+        private Exception failure;
+
+        Hedge(Thread caller, Deadline deadline) {
+            this.caller = caller;
+            this.deadline = deadline;
+        }
+
+        void schedule(long delayNanos) {
+            ScheduledFuture<?> scheduled =
+                    HedgeTimer.INSTANCE.schedule(this::start, delayNanos, TimeUnit.NANOSECONDS);
+            synchronized (this) {
+                timer = scheduled;
+            }
+        }
+
+        // on the timer thread, must not block it
+        private void start() {
+            synchronized (this) {
+                if (primaryDone || !factory.budget().tryWithdraw()) {
+                    return;
+                }
+                thread = factory.threadFactory().newThread(this);
+                startNanos = System.nanoTime();
+                started = true;
+            }
+            factory.onHedge();
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            if (deadline.isNone()) {
+                exchange();
+            } else {
+                DeadlineContextHolder.where(deadline).run(this::exchange);
+            }
+        }
+
+        private void exchange() {
+            ClientHttpResponse result = null;
+            Exception error = null;
+            try {
+                result = hedgeRequest().execute();
+                factory.delay().record(System.nanoTime() - startNanos);
+            } catch (IOException | RuntimeException ex) {
+                error = ex;
+            }
+
+            synchronized (this) {
+                finished = true;
+                if (primaryWon) {
+                    if (result != null) {
+                        closeQuietly(result);
+                    }
+                    return;
+                }
+                response = result;
+                failure = error;
+                if (result != null && !primaryDone) {
+                    // cancels the primary, the caller returns this response instead
+                    interruptedCaller = true;
+                    caller.interrupt();
+                }
+                notifyAll();
+            }
+        }
+
+        ClientHttpResponse onPrimaryResponse(ClientHttpResponse primary) {
+            ClientHttpResponse hedgeResponse;
+            synchronized (this) {
+                settle();
+                hedgeResponse = response;
+                if (hedgeResponse == null) {
+                    primaryWon = true;
+                    if (started && !finished) {
+                        thread.interrupt();
+                    }
+                    return primary;
+                }
+            }
+            // the hedge won, the primary answered before noticing its interrupt
+            closeQuietly(primary);
+            factory.onHedgeWin();
+            return hedgeResponse;
+        }
+
+        ClientHttpResponse onPrimaryFailure(Exception primaryFailure) throws IOException {
+            synchronized (this) {
+                settle();
+                if (!started) {
+                    throw rethrow(primaryFailure);
+                }
+                try {
+                    long waitNanos = waitNanos();
+                    while (!finished && waitNanos > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this, waitNanos);
+                        waitNanos = waitNanos();
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    primaryFailure.addSuppressed(ex);
+                    throw abandon(primaryFailure);
+                }
+                if (!finished) {
+                    primaryFailure.addSuppressed(new IOException("Hedge outlived its read timeout or the deadline"));
+                    throw abandon(primaryFailure);
+                }
+                if (response != null) {
+                    factory.onHedgeWin();
+                    return response;
+                }
+                if (hedgeFailedFirst) {
+                    failure.addSuppressed(primaryFailure);
+                    throw rethrow(failure);
+                }
+                primaryFailure.addSuppressed(failure);
+                throw rethrow(primaryFailure);
+            }
+        }
+
+        // time left for a running hedge, called with the monitor held
+        private long waitNanos() {
+            long readTimeoutLeft = factory.readTimeout().toNanos() - (System.nanoTime() - startNanos);
+            return deadline.isNone() ? readTimeoutLeft : Math.min(readTimeoutLeft, deadline.remainingNanos());
+        }
+
+        // gives up on a running hedge, called with the monitor held
+        private IOException abandon(Exception primaryFailure) {
+            primaryWon = true; // nobody is left to take a late response
+            thread.interrupt();
+            return rethrow(primaryFailure);
+        }
+
+        // called with the monitor held once the primary returned or failed
+        private void settle() {
+            primaryDone = true;
+            hedgeFailedFirst = finished && failure != null;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            if (interruptedCaller) {
+                // set before primaryDone, so it was meant for the primary and nothing after it
+                Thread.interrupted();
+            }
+        }
+
+        private static void closeQuietly(ClientHttpResponse response) {
+            try {
+                response.close();
+            } catch (RuntimeException _) {
+                // loser response, nothing to report
+            }
+        }
+    }
+
+    // one daemon platform thread for every hedging client, it only starts hedges and never runs them
+    private static final class HedgeTimer {
+
+        static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private static ScheduledThreadPoolExecutor create() {
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(
+                    1, Thread.ofPlatform().name("http-hedge-timer").daemon().factory()
+            );
+            // most requests answer before their hedge is due, their cancelled timers must not pile up
+            timer.setRemoveOnCancelPolicy(true);
+            return timer;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.hedging;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import com.jay.voyager.core.outbound.resiliency.budget.RatioBudget;
+import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+
+/**
+ * Hedges idempotent requests to cut tail latency.
+ *
+ * <p>
+ * The request is sent on the caller's thread, and if no response arrived after the hedge delay a
+ * second, identical request is sent from a thread of the given factory, which is only started then.
+ * The first response wins, the other attempt is cancelled (its thread interrupted, which cancels the
+ * JDK exchange) and a late response is closed. A failure only counts once both attempts have failed,
+ * a failed primary waits for its hedge no longer than the client's read timeout or the request deadline.
+ * </p>
+ *
+ * <p>
+ * Only {@code GET}, {@code HEAD} and {@code OPTIONS} requests without a body are hedged, anything
+ * else passes straight through. Hedges are paid for from a {@link RatioBudget}, so during an incident,
+ * when every request is slow, at most {@code budgetRatio} extra load is sent instead of doubling it.
+ * </p>
+ *
+ * <p>
+ * The delay is either fixed, or tracks a percentile of observed latencies (never below the fixed
+ * delay), so only the slowest few percent of requests are hedged as the downstream speeds up or
+ * slows down.
+ * </p>
+ */
+public final class HedgingRequestDecoratorFactory implements ClientHttpRequestFactory {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    // banked tokens, bounds a hedge burst right after a quiet period
+    private static final int MAX_BUDGET_BALANCE = 10;
+
+    private final ClientHttpRequestFactory delegate;
+    private final Duration readTimeout;
+    private final ThreadFactory threadFactory;
+    private final HedgeDelay delay;
+    private final RatioBudget budget;
+
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    public HedgingRequestDecoratorFactory(
+            ClientHttpRequestFactory delegate,
+            ResiliencyPolicy.HedgingPolicy hedgingPolicy,
+            Duration readTimeout,
+            ThreadFactory threadFactory
+    ) {
+        this.delegate = delegate;
+        this.readTimeout = readTimeout;
+        this.threadFactory = threadFactory;
+        this.delay = new HedgeDelay(hedgingPolicy.delay(), hedgingPolicy.delayPercentile());
+        this.budget = new RatioBudget(hedgingPolicy.budgetRatio(), MAX_BUDGET_BALANCE);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest req = delegate.createRequest(uri, httpMethod);
+
+        if (!IDEMPOTENT_METHODS.contains(httpMethod)) {
+            return req;
+        }
+        return new HedgingClientHttpRequestDecorator(req, this);
+    }
+
+    /**
+     * @return hedges sent
+     */
+    public long hedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * @return hedges whose response was used, the primary attempt lost
+     */
+    public long hedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    ClientHttpRequestFactory delegate() {
+        return delegate;
+    }
+
+    Duration readTimeout() {
+        return readTimeout;
+    }
+
+    ThreadFactory threadFactory() {
+        return threadFactory;
+    }
+
+    HedgeDelay delay() {
+        return delay;
+    }
+
+    RatioBudget budget() {
+        return budget;
+    }
+
+    void onHedge() {
+        hedges.increment();
+    }
+
+    void onHedgeWin() {
+        hedgeWins.increment();
+    }
+}
@@ -0,0 +1,44 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.hedging.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.jay.voyager.infra.outbound.http.client.resiliency.hedging.HedgingRequestDecoratorFactory;
+
+/**
+ * Publishes a client's hedges, tagged by {@code client}.
+ *
+ * <p>
+ * {@code hedges} counts the second attempts actually sent, {@code hedge.wins} the ones whose response
+ * was used. A low win ratio means the hedge delay is too short and hedges mostly add load. Counters are
+ * read on scrape, nothing is recorded on the request path beyond the factory's own counters.
+ * </p>
+ */
+public final class HedgingMetrics implements MeterBinder {
+
+    public static final String HEDGES_METER = "http.client.hedges";
+    public static final String HEDGE_WINS_METER = "http.client.hedge.wins";
+    static final String CLIENT_TAG = "client";
+
+    private final String client;
+    private final HedgingRequestDecoratorFactory hedging;
+
+    public HedgingMetrics(String client, HedgingRequestDecoratorFactory hedging) {
+        this.client = client;
+        this.hedging = hedging;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(HEDGES_METER, hedging, HedgingRequestDecoratorFactory::hedges)
+                .description("Hedged attempts sent after the hedge delay")
+                .tag(CLIENT_TAG, client)
+                .register(registry);
+
+        FunctionCounter.builder(HEDGE_WINS_METER, hedging, HedgingRequestDecoratorFactory::hedgeWins)
+                .description("Hedged attempts whose response was used")
+                .tag(CLIENT_TAG, client)
+                .register(registry);
+    }
+}
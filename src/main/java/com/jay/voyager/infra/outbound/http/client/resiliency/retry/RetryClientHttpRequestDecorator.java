@@ -0,0 +1,109 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.retry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+
+final class RetryClientHttpRequestDecorator implements ClientHttpRequest {
+
+    private final ClientHttpRequest delegate;
+    private final RetryRequestDecoratorFactory factory;
+
+    // written body, replayed into every attempt
+    private ByteArrayOutputStream body;
+
+    RetryClientHttpRequestDecorator(ClientHttpRequest delegate, RetryRequestDecoratorFactory factory) {
+        this.delegate = delegate;
+        this.factory = factory;
+    }
+
+    @Override
+    public ClientHttpResponse execute() throws IOException {
+        factory.budget().onRequest();
+
+        ClientHttpRequest attempt = delegate;
+        for (int attemptNo = 1; ; attemptNo++) {
+            try {
+                writeBody(attempt);
+                return attempt.execute();
+            } catch (IOException ex) {
+                if (attemptNo >= factory.maxAttempts() || Thread.currentThread().isInterrupted()) {
+                    throw ex;
+                }
+
+                long backoffNanos = factory.backoffNanos(attemptNo);
+                if (!fitsDeadline(backoffNanos)) {
+                    throw ex;
+                }
+                if (!factory.budget().tryWithdraw()) {
+                    factory.onBudgetExhausted();
+                    throw ex;
+                }
+
+                backoff(backoffNanos, ex);
+                attempt = newAttempt();
+                factory.onRetry();
+            }
+        }
+    }
+
+    // a retry that cannot start before the request deadline only adds load
+    private static boolean fitsDeadline(long backoffNanos) {
+        Deadline deadline = DeadlineContextHolder.context();
+        return deadline.isNone() || deadline.remainingNanos() > backoffNanos;
+    }
+
+    private void backoff(long nanos, IOException failure) throws IOException {
+        if (nanos == 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failure.addSuppressed(ex);
+            throw failure;
+        }
+    }
+
+    private ClientHttpRequest newAttempt() throws IOException {
+        ClientHttpRequest attempt = factory.delegate().createRequest(delegate.getURI(), delegate.getMethod());
+        attempt.getHeaders().putAll(delegate.getHeaders());
+        attempt.getAttributes().putAll(delegate.getAttributes());
+        return attempt;
+    }
+
+    private void writeBody(ClientHttpRequest attempt) throws IOException {
+        if (body != null && body.size() > 0) {
+            body.writeTo(attempt.getBody());
+        }
+    }
+
+    @Override
+    public OutputStream getBody() {
+        if (body == null) {
+            body = new ByteArrayOutputStream();
+        }
+        return body;
+    }
+
+    @Override public HttpMethod getMethod() { return delegate.getMethod(); }
+
+    @Override public URI getURI() { return delegate.getURI(); }
+
+    @Override public Map<String, Object> getAttributes() { return delegate.getAttributes(); }
+
+    @Override public HttpHeaders getHeaders() { return delegate.getHeaders(); }
+}
@@ -0,0 +1,133 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.retry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import com.jay.voyager.core.outbound.resiliency.budget.RatioBudget;
+import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+
+/**
+ * Retries transport failures of idempotent requests.
+ *
+ * <p>
+ * Only an {@link IOException} from {@code execute()} (connect failure, reset, timeout) is retried.
+ * A response, whatever its status, is returned as-is, and runtime failures such as an open circuit
+ * breaker or a full stream limit end the call immediately. Requests that were interrupted are not
+ * retried either.
+ * </p>
+ *
+ * <p>
+ * Waits between attempts use exponential backoff with full jitter: the n-th retry sleeps a random
+ * time in {@code [0, min(maxBackoff, initialBackoff * multiplier^(n-1))]}, so clients that failed
+ * together do not retry together. Every retry is paid for from a {@link RatioBudget}; once a dependency
+ * degrades and most calls fail, retries stop at {@code budgetRatio} of the traffic instead of
+ * multiplying it by {@code maxAttempts}.
+ * </p>
+ *
+ * <p>
+ * Only {@code GET}, {@code HEAD}, {@code OPTIONS}, {@code PUT} and {@code DELETE} are retried. A
+ * request body is buffered so it can be written again for each attempt.
+ * </p>
+ */
+public final class RetryRequestDecoratorFactory implements ClientHttpRequestFactory {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE
+    );
+
+    // banked tokens, bounds a retry burst right after a quiet period
+    private static final int MAX_BUDGET_BALANCE = 10;
+
+    private final ClientHttpRequestFactory delegate;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final double multiplier;
+    private final RatioBudget budget;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    public RetryRequestDecoratorFactory(
+            ClientHttpRequestFactory delegate,
+            ResiliencyPolicy.RetryPolicy retryPolicy
+    ) {
+        if (retryPolicy.maxAttempts() < 1) {
+            throw new IllegalArgumentException("maxAttempts must be >= 1 but was " + retryPolicy.maxAttempts());
+        }
+        if (retryPolicy.multiplier() < 1.0) {
+            throw new IllegalArgumentException("multiplier must be >= 1 but was " + retryPolicy.multiplier());
+        }
+        if (retryPolicy.initialBackoff().isNegative() || retryPolicy.maxBackoff().isNegative()) {
+            throw new IllegalArgumentException("backoff must be >= 0");
+        }
+
+        this.delegate = delegate;
+        this.maxAttempts = retryPolicy.maxAttempts();
+        this.initialBackoffNanos = retryPolicy.initialBackoff().toNanos();
+        this.maxBackoffNanos = retryPolicy.maxBackoff().toNanos();
+        this.multiplier = retryPolicy.multiplier();
+        this.budget = new RatioBudget(retryPolicy.budgetRatio(), MAX_BUDGET_BALANCE);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest req = delegate.createRequest(uri, httpMethod);
+
+        if (maxAttempts == 1 || !IDEMPOTENT_METHODS.contains(httpMethod)) {
+            return req;
+        }
+        return new RetryClientHttpRequestDecorator(req, this);
+    }
+
+    /**
+     * @return retries sent
+     */
+    public long retries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return retries that were due but skipped because the budget was spent
+     */
+    public long budgetExhausted() {
+        return budgetExhausted.sum();
+    }
+
+    ClientHttpRequestFactory delegate() {
+        return delegate;
+    }
+
+    int maxAttempts() {
+        return maxAttempts;
+    }
+
+    RatioBudget budget() {
+        return budget;
+    }
+
+    /**
+     * @param retry 1 for the first retry
+     * @return jittered backoff before that retry
+     */
+    long backoffNanos(int retry) {
+        double cap = Math.min((double) maxBackoffNanos, initialBackoffNanos * Math.pow(multiplier, retry - 1));
+        long capNanos = (long) cap;
+        return capNanos <= 0 ? 0 : ThreadLocalRandom.current().nextLong(capNanos + 1);
+    }
+
+    void onRetry() {
+        retries.increment();
+    }
+
+    void onBudgetExhausted() {
+        budgetExhausted.increment();
+    }
+}
@@ -0,0 +1,45 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.retry.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.jay.voyager.infra.outbound.http.client.resiliency.retry.RetryRequestDecoratorFactory;
+
+/**
+ * Publishes a client's retries, tagged by {@code client}.
+ *
+ * <p>
+ * {@code retries} counts the retries actually sent, {@code retry.budget.exhausted} the ones that were
+ * due but skipped because the retry budget was spent. A rising exhausted count is the budget shedding
+ * retry load during an incident. Counters are read on scrape, nothing is recorded on the request path
+ * beyond the factory's own counters.
+ * </p>
+ */
+public final class RetryMetrics implements MeterBinder {
+
+    public static final String RETRIES_METER = "http.client.retries";
+    public static final String BUDGET_EXHAUSTED_METER = "http.client.retry.budget.exhausted";
+    static final String CLIENT_TAG = "client";
+
+    private final String client;
+    private final RetryRequestDecoratorFactory retry;
+
+    public RetryMetrics(String client, RetryRequestDecoratorFactory retry) {
+        this.client = client;
+        this.retry = retry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(RETRIES_METER, retry, RetryRequestDecoratorFactory::retries)
+                .description("Retries sent after a failed attempt")
+                .tag(CLIENT_TAG, client)
+                .register(registry);
+
+        FunctionCounter.builder(BUDGET_EXHAUSTED_METER, retry, RetryRequestDecoratorFactory::budgetExhausted)
+                .description("Retries skipped because the retry budget was spent")
+                .tag(CLIENT_TAG, client)
+                .register(registry);
+    }
+}
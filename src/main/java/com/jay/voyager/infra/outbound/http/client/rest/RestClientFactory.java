@@ -1,34 +1,43 @@
 package com.jay.voyager.infra.outbound.http.client.rest;
 
-import java.net.http.HttpClient;
 import java.util.List;
 
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
-import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
-import com.jay.voyager.core.outbound.http.client.settings.HttpClientSettings;
+import com.jay.voyager.infra.outbound.http.client.cache.HttpResponseCacheRegistry;
+import com.jay.voyager.infra.outbound.http.client.deadline.DeadlineRequestDecoratorFactory;
 import com.jay.voyager.infra.outbound.http.client.registry.HttpClientSettingsRegistry;
 import com.jay.voyager.infra.outbound.http.client.resiliency.ResiliencyChainAssembler;
+import com.jay.voyager.infra.outbound.http.client.transport.HttpTransportRegistry;
 
 public class RestClientFactory {
 
     private final RestClient.Builder restClientBuilder;
     private final HttpClientSettingsRegistry clientSettingsRegistry;
+    private final HttpTransportRegistry transportRegistry;
     private final ResiliencyChainAssembler resiliencyChainAssembler;
+    private final HttpResponseCacheRegistry responseCacheRegistry;
     private final List<ClientHttpRequestInterceptor> defaultRequestInterceptors;
+    private final String deadlineHeader;
 
     public RestClientFactory(
             RestClient.Builder restClientBuilder,
             HttpClientSettingsRegistry clientSettingsRegistry,
+            HttpTransportRegistry transportRegistry,
             List<ClientHttpRequestInterceptor> defaultRequestInterceptors,
-            ResiliencyChainAssembler resiliencyChainAssembler
+            ResiliencyChainAssembler resiliencyChainAssembler,
+            HttpResponseCacheRegistry responseCacheRegistry,
+            String deadlineHeader
     ) {
         this.restClientBuilder = restClientBuilder;
         this.clientSettingsRegistry = clientSettingsRegistry;
+        this.transportRegistry = transportRegistry;
         this.defaultRequestInterceptors = defaultRequestInterceptors;
         this.resiliencyChainAssembler = resiliencyChainAssembler;
+        this.responseCacheRegistry = responseCacheRegistry;
+        this.deadlineHeader = deadlineHeader;
     }
 
     public RestClient buildClient(String clientName) {
@@ -47,12 +56,30 @@ public class RestClientFactory {
          */
         RestClient.Builder builder = restClientBuilder.clone();
 
-        ClientHttpRequestFactory requestFactory = createJdkHttpClientFactory(settings);
+        /* Transport (JDK HttpClient) is shared per origin, so adapters calling the same origin reuse
+         * connections and TLS sessions. Read timeout and resiliency chain stay per client.
+         */
+        ClientHttpRequestFactory requestFactory = transportRegistry.requestFactory(settings);
+
+        /* Request deadline applies per attempt, so it sits below the resiliency chain:
+         * read timeout shrinks to the remaining budget and the budget is sent downstream.
+         */
+        requestFactory = new DeadlineRequestDecoratorFactory(
+                requestFactory,
+                settings.readTimeout(),
+                readTimeout -> transportRegistry.requestFactory(settings, readTimeout),
+                deadlineHeader
+        );
         requestFactory = resiliencyChainAssembler.assemble(
                 requestFactory,
                 settings.resiliencyPolicy(),
-                settings.clientName()
+                settings.clientName(),
+                settings.readTimeout()
         );
+
+        // Response cache in front of everything, a fresh hit takes no permit, breaker call or connection.
+        requestFactory = responseCacheRegistry.decorate(settings, requestFactory);
+
         builder.requestFactory(requestFactory)
                 .baseUrl(settings.baseUrl());
 
@@ -60,30 +87,4 @@ public class RestClientFactory {
 
         return builder.build();
     }
-
-    // signal intent: JDK Http Client usage default, but may want different Http clients in future.
-    private ClientHttpRequestFactory createJdkHttpClientFactory(
-            HttpClientSettings settings
-    ) {
-        var connectTimeout = settings.connectTimeout();
-        var readTimeout = settings.readTimeout();
-
-        /*
-         * connectTimeout bounds the entire connection-establishment attempt (DNS + TCP + TLS if https).
-         * This is I/O: with virtual threads the caller is typically parked while the OS/network stack
-         * completes the connect.
-         * JDK HttpClient does not expose a separate “wait for pooled connection” timeout like i.e Apache clients.
-         */
-
-        //transport creation, JDK HttpClient
-        HttpClient httpClient = HttpClient.newBuilder()
-                .connectTimeout(connectTimeout)
-                .build();
-
-        // Bridge JDK HttpClient to Spring.
-        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
-        requestFactory.setReadTimeout(readTimeout);
-
-        return requestFactory;
-    }
 }
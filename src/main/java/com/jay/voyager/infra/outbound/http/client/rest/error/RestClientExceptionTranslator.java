@@ -2,14 +2,16 @@ package com.jay.voyager.infra.outbound.http.client.rest.error;
 
 import java.util.function.Supplier;
 
-import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import com.jay.voyager.core.context.deadline.DeadlineExceededException;
 import com.jay.voyager.core.error.dependency.DependencyCallException;
 import com.jay.voyager.core.error.dependency.Reason;
+import com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead.ConcurrencyLimitExceededException;
+import com.jay.voyager.infra.outbound.http.client.transport.StreamLimitExceededException;
 
 public final class RestClientExceptionTranslator {
 
@@ -27,10 +29,12 @@ public final class RestClientExceptionTranslator {
              */
             //IO Exceptions like ConnectException, SocketException, DNS/handshake/connection refused etc.
             throw new DependencyCallException(clientName, Reason.IO_ERROR, ex);
-        } catch (BulkheadFullException ex) {
+        } catch (ConcurrencyLimitExceededException | StreamLimitExceededException ex) {
             throw new DependencyCallException(clientName, Reason.CAPACITY_REJECTED, ex);
         } catch (CallNotPermittedException ex) {
             throw new DependencyCallException(clientName, Reason.SHORT_CIRCUITED, ex);
+        } catch (DeadlineExceededException ex) {
+            throw new DependencyCallException(clientName, Reason.DEADLINE_EXCEEDED, ex);
         } catch (RuntimeException ex) {
             throw new DependencyCallException(clientName,  Reason.UNKNOWN, ex);
         }
@@ -0,0 +1,203 @@
+package com.jay.voyager.infra.outbound.http.client.transport;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import com.jay.voyager.core.outbound.http.client.settings.HttpClientSettings;
+import com.jay.voyager.core.outbound.http.client.settings.HttpTransportPolicy;
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpExchange;
+import com.jay.voyager.infra.outbound.http.client.registry.HttpClientSettingsRegistry;
+
+/**
+ * Owns the JDK {@link HttpClient} instances used by outbound clients, one per origin, connect timeout
+ * and {@link HttpTransportPolicy}.
+ *
+ * <p>Every {@code HttpClient} carries its own selector thread, connection pool and TLS session cache.
+ * Building one per client means adapters calling the same origin never reuse each other's
+ * connections and pay separate handshakes. Here clients resolving to the same {@link TransportKey}
+ * share a single {@code HttpClient}, while everything per client stays per client:</p>
+ * <ul>
+ *   <li>read timeout, applied per request by the {@link JdkClientHttpRequestFactory} returned for the client
+ *       (or by the caller of {@link #asyncExchange})</li>
+ *   <li>resiliency chain, interceptors and base url, applied on top by the caller</li>
+ * </ul>
+ *
+ * <p>With {@code HTTP_2} many exchanges to an origin are multiplexed as streams over a single
+ * connection, so a burst of virtual threads calling one origin opens one socket instead of one per
+ * caller. Each transport caps its in-flight streams at {@link HttpTransportPolicy#maxConcurrentStreams()}
+ * and fails fast with {@link StreamLimitExceededException} above it.</p>
+ *
+ * <p>Transports for every configured client are created up front, so {@link #stats()} (and the
+ * meters built from it) cover the full set from startup. The JDK client does not expose its pool,
+ * so stats count exchanges holding a connection rather than open sockets.</p>
+ *
+ * <p>Closing the registry closes every shared {@code HttpClient}.</p>
+ */
+public class HttpTransportRegistry implements AutoCloseable {
+
+    private final Map<TransportKey, SharedTransport> transports = new ConcurrentHashMap<>();
+
+    public HttpTransportRegistry(HttpClientSettingsRegistry clientSettingsRegistry) {
+        for (String clientName : clientSettingsRegistry.clientNames()) {
+            transport(clientSettingsRegistry.httpClientSettings(clientName));
+        }
+    }
+
+    /**
+     * @return a request factory for {@code settings} backed by the shared transport of its origin,
+     * with the client's read timeout applied
+     */
+    public ClientHttpRequestFactory requestFactory(HttpClientSettings settings) {
+        return requestFactory(settings, settings.readTimeout());
+    }
+
+    /**
+     * @return a request factory for {@code settings} backed by the shared transport of its origin,
+     * with {@code readTimeout} instead of the client's, e.g. shortened to a request deadline
+     */
+    public ClientHttpRequestFactory requestFactory(HttpClientSettings settings, Duration readTimeout) {
+        SharedTransport transport = transport(settings);
+
+        // Bridge JDK HttpClient to Spring. Cheap, holds no connections of its own.
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(transport.httpClient());
+        requestFactory.setReadTimeout(readTimeout);
+
+        return new TrackingClientHttpRequestFactory(requestFactory, transport);
+    }
+
+    /**
+     * @return a non-blocking exchange for {@code settings} on the same shared transport (and stream
+     * limit) as its request factory. The read timeout is applied per request by the caller.
+     */
+    public AsyncHttpExchange asyncExchange(HttpClientSettings settings) {
+        return new TrackingAsyncHttpExchange(transport(settings));
+    }
+
+    /**
+     * @return one entry per shared transport
+     */
+    public List<HttpTransportStats> stats() {
+        List<HttpTransportStats> stats = new ArrayList<>(transports.size());
+        for (SharedTransport transport : transports.values()) {
+            stats.add(transport.stats());
+        }
+        return List.copyOf(stats);
+    }
+
+    /**
+     * @return distinct origins with at least one shared transport
+     */
+    public Set<String> origins() {
+        Set<String> origins = new TreeSet<>();
+        for (TransportKey key : transports.keySet()) {
+            origins.add(key.origin());
+        }
+        return origins;
+    }
+
+    /**
+     * @return exchanges currently in flight to {@code origin}, summed over its transports
+     */
+    public int inFlight(String origin) {
+        return (int) sum(origin, SharedTransport::inFlight);
+    }
+
+    /**
+     * @return concurrent streams allowed to {@code origin}, summed over its transports
+     */
+    public int maxConcurrentStreams(String origin) {
+        return (int) sum(origin, SharedTransport::maxConcurrentStreams);
+    }
+
+    /**
+     * @return exchanges started against {@code origin}, summed over its transports
+     */
+    public long requests(String origin) {
+        return sum(origin, SharedTransport::requests);
+    }
+
+    /**
+     * @return exchanges refused by the stream limit of {@code origin}'s transports
+     */
+    public long rejected(String origin) {
+        return sum(origin, SharedTransport::rejected);
+    }
+
+    /**
+     * @return responses from {@code origin} received over {@code version}
+     */
+    public long responses(String origin, HttpClient.Version version) {
+        return sum(origin, transport -> transport.responses(version));
+    }
+
+    /**
+     * @return number of shared {@code HttpClient} instances
+     */
+    public int size() {
+        return transports.size();
+    }
+
+    @Override
+    public void close() {
+        transports.values().forEach(SharedTransport::close);
+    }
+
+    private long sum(String origin, ToLongFunction<SharedTransport> counter) {
+        long sum = 0;
+        for (Map.Entry<TransportKey, SharedTransport> entry : transports.entrySet()) {
+            if (entry.getKey().origin().equals(origin)) {
+                sum += counter.applyAsLong(entry.getValue());
+            }
+        }
+        return sum;
+    }
+
+    private SharedTransport transport(HttpClientSettings settings) {
+        TransportKey key = TransportKey.of(
+                settings.baseUrl(),
+                settings.connectTimeout(),
+                settings.transportPolicy()
+        );
+
+        SharedTransport transport = transports.computeIfAbsent(key, HttpTransportRegistry::createTransport);
+        transport.bind(settings.clientName());
+        return transport;
+    }
+
+    private static SharedTransport createTransport(TransportKey key) {
+        /*
+         * connectTimeout bounds the entire connection-establishment attempt (DNS + TCP + TLS if https).
+         * This is I/O: with virtual threads the caller is typically parked while the OS/network stack
+         * completes the connect.
+         * JDK HttpClient does not expose a separate “wait for pooled connection” timeout like i.e Apache clients.
+         */
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(key.connectTimeout())
+                .version(version(key.policy().protocol()))
+                .build();
+
+        return new SharedTransport(key, httpClient);
+    }
+
+    /*
+     * HTTP_2: ALPN over TLS, Upgrade: h2c over cleartext. The JDK client has no prior-knowledge h2c mode,
+     * the first request on a cleartext connection goes out as HTTP/1.1 with the upgrade offer.
+     * Origins that refuse HTTP/2 keep being served over HTTP/1.1 on the same transport.
+     */
+    private static HttpClient.Version version(HttpTransportPolicy.HttpProtocol protocol) {
+        return switch (protocol) {
+            case HTTP_1_1 -> HttpClient.Version.HTTP_1_1;
+            case HTTP_2 -> HttpClient.Version.HTTP_2;
+        };
+    }
+}
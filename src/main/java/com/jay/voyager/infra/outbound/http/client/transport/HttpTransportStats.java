@@ -0,0 +1,41 @@
+package com.jay.voyager.infra.outbound.http.client.transport;
+
+import java.time.Duration;
+import java.util.Set;
+
+import com.jay.voyager.core.outbound.http.client.settings.HttpTransportPolicy;
+
+/**
+ * Point-in-time view of one shared transport.
+ *
+ * @param origin {@code scheme://host:port} the transport connects to
+ * @param connectTimeout connect timeout configured on the shared {@code HttpClient}
+ * @param protocol HTTP version requested by the transport
+ * @param maxConcurrentStreams exchanges allowed in flight at once
+ * @param clients names of the clients sharing this transport
+ * @param inFlight exchanges currently holding a stream (request sent, response not closed yet)
+ * @param requests exchanges started since the transport was created
+ * @param rejected exchanges refused because {@code maxConcurrentStreams} was reached
+ * @param http2Responses responses received over HTTP/2, i.e. multiplexed on a shared connection
+ * @param http1Responses responses received over HTTP/1.1 (including refused or failed upgrades)
+ */
+public record HttpTransportStats(
+        String origin,
+        Duration connectTimeout,
+        HttpTransportPolicy.HttpProtocol protocol,
+        int maxConcurrentStreams,
+        Set<String> clients,
+        int inFlight,
+        long requests,
+        long rejected,
+        long http2Responses,
+        long http1Responses
+) {
+    /**
+     * @return share of responses that were multiplexed over HTTP/2, {@code 0} before the first response
+     */
+    public double multiplexedRatio() {
+        long responses = http2Responses + http1Responses;
+        return responses == 0 ? 0.0 : (double) http2Responses / responses;
+    }
+}
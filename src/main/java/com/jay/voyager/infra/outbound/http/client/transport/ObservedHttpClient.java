@@ -0,0 +1,99 @@
+package com.jay.voyager.infra.outbound.http.client.transport;
+
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+
+/*
+ * Delegating HttpClient that reports the negotiated HTTP version of every response.
+ * Spring's JdkClientHttpResponse does not expose HttpResponse.version(), so it is observed here,
+ * below the request factory. Async sends return the delegate's own future so cancellation
+ * (read timeout) still reaches the exchange.
+ */
+final class ObservedHttpClient extends HttpClient {
+
+    private final HttpClient delegate;
+    private final Consumer<Version> onResponse;
+
+    ObservedHttpClient(HttpClient delegate, Consumer<Version> onResponse) {
+        this.delegate = delegate;
+        this.onResponse = onResponse;
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(
+            HttpRequest request,
+            HttpResponse.BodyHandler<T> responseBodyHandler
+    ) throws IOException, InterruptedException {
+        HttpResponse<T> response = delegate.send(request, responseBodyHandler);
+        onResponse.accept(response.version());
+        return response;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            HttpRequest request,
+            HttpResponse.BodyHandler<T> responseBodyHandler
+    ) {
+        return observe(delegate.sendAsync(request, responseBodyHandler));
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            HttpRequest request,
+            HttpResponse.BodyHandler<T> responseBodyHandler,
+            HttpResponse.PushPromiseHandler<T> pushPromiseHandler
+    ) {
+        return observe(delegate.sendAsync(request, responseBodyHandler, pushPromiseHandler));
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> observe(CompletableFuture<HttpResponse<T>> future) {
+        future.whenComplete((response, failure) -> {
+            if (response != null) {
+                onResponse.accept(response.version());
+            }
+        });
+        return future;
+    }
+
+    @Override public Optional<CookieHandler> cookieHandler() { return delegate.cookieHandler(); }
+
+    @Override public Optional<Duration> connectTimeout() { return delegate.connectTimeout(); }
+
+    @Override public Redirect followRedirects() { return delegate.followRedirects(); }
+
+    @Override public Optional<ProxySelector> proxy() { return delegate.proxy(); }
+
+    @Override public SSLContext sslContext() { return delegate.sslContext(); }
+
+    @Override public SSLParameters sslParameters() { return delegate.sslParameters(); }
+
+    @Override public Optional<Authenticator> authenticator() { return delegate.authenticator(); }
+
+    @Override public Version version() { return delegate.version(); }
+
+    @Override public Optional<Executor> executor() { return delegate.executor(); }
+
+    @Override public void shutdown() { delegate.shutdown(); }
+
+    @Override public boolean awaitTermination(Duration duration) throws InterruptedException {
+        return delegate.awaitTermination(duration);
+    }
+
+    @Override public boolean isTerminated() { return delegate.isTerminated(); }
+
+    @Override public void shutdownNow() { delegate.shutdownNow(); }
+
+    @Override public void close() { delegate.close(); }
+}
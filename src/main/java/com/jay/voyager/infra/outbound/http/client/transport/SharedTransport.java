@@ -0,0 +1,107 @@
+package com.jay.voyager.infra.outbound.http.client.transport;
+
+import java.net.http.HttpClient;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// one JDK HttpClient (selector thread, connection pool, TLS session cache) plus its usage counters
+final class SharedTransport {
+
+    private final TransportKey key;
+    private final HttpClient httpClient;
+    private final Set<String> clients = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder http2Responses = new LongAdder();
+    private final LongAdder http1Responses = new LongAdder();
+
+    SharedTransport(TransportKey key, HttpClient httpClient) {
+        this.key = key;
+        this.httpClient = new ObservedHttpClient(httpClient, this::onResponse);
+    }
+
+    String origin() {
+        return key.origin();
+    }
+
+    HttpClient httpClient() {
+        return httpClient;
+    }
+
+    void bind(String clientName) {
+        clients.add(clientName);
+    }
+
+    /**
+     * @return {@code false} when the transport already has its maximum of streams in flight
+     */
+    boolean tryStartExchange() {
+        int maxStreams = key.policy().maxConcurrentStreams();
+
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= maxStreams) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        requests.increment();
+        return true;
+    }
+
+    void onExchangeEnded() {
+        inFlight.decrementAndGet();
+    }
+
+    void onResponse(HttpClient.Version version) {
+        if (version == HttpClient.Version.HTTP_2) {
+            http2Responses.increment();
+        } else {
+            http1Responses.increment();
+        }
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    int maxConcurrentStreams() {
+        return key.policy().maxConcurrentStreams();
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long rejected() {
+        return rejected.sum();
+    }
+
+    long responses(HttpClient.Version version) {
+        return version == HttpClient.Version.HTTP_2 ? http2Responses.sum() : http1Responses.sum();
+    }
+
+    HttpTransportStats stats() {
+        return new HttpTransportStats(
+                key.origin(),
+                key.connectTimeout(),
+                key.policy().protocol(),
+                key.policy().maxConcurrentStreams(),
+                Set.copyOf(clients),
+                inFlight.get(),
+                requests.sum(),
+                rejected.sum(),
+                http2Responses.sum(),
+                http1Responses.sum()
+        );
+    }
+
+    void close() {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,13 @@
+package com.jay.voyager.infra.outbound.http.client.transport;
+
+/**
+ * Thrown when a shared transport already has its maximum of concurrent streams in flight.
+ *
+ * <p>Like a full bulkhead this is a fail-fast capacity rejection, nothing was sent to the origin.</p>
+ */
+public class StreamLimitExceededException extends RuntimeException {
+
+    public StreamLimitExceededException(String origin, int maxConcurrentStreams) {
+        super("Max concurrent streams (" + maxConcurrentStreams + ") reached for origin " + origin);
+    }
+}
@@ -0,0 +1,41 @@
+package com.jay.voyager.infra.outbound.http.client.transport;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpExchange;
+
+/*
+ * Async exchange on the shared transport, counted against its max concurrent streams like
+ * TrackingClientHttpRequestFactory. The exchange is in flight until the response future completes,
+ * which for a streaming body handler is when the headers arrived.
+ */
+final class TrackingAsyncHttpExchange implements AsyncHttpExchange {
+
+    private final SharedTransport transport;
+
+    TrackingAsyncHttpExchange(SharedTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        if (!transport.tryStartExchange()) {
+            return CompletableFuture.failedFuture(
+                    new StreamLimitExceededException(transport.origin(), transport.maxConcurrentStreams())
+            );
+        }
+
+        CompletableFuture<HttpResponse<T>> response;
+        try {
+            response = transport.httpClient().sendAsync(request, bodyHandler);
+        } catch (RuntimeException ex) {
+            transport.onExchangeEnded();
+            throw ex;
+        }
+
+        response.whenComplete((_, _) -> transport.onExchangeEnded());
+        return response;
+    }
+}
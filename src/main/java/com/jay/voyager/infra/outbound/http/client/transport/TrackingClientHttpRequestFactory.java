@@ -0,0 +1,127 @@
+package com.jay.voyager.infra.outbound.http.client.transport;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/*
+ * Counts exchanges on the shared transport and caps them at its max concurrent streams.
+ * An exchange is in flight from execute() until the response (or its body stream) is closed,
+ * the same lifetime the bulkhead permit uses.
+ */
+final class TrackingClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final ClientHttpRequestFactory delegate;
+    private final SharedTransport transport;
+
+    TrackingClientHttpRequestFactory(ClientHttpRequestFactory delegate, SharedTransport transport) {
+        this.delegate = delegate;
+        this.transport = transport;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return new TrackingRequest(delegate.createRequest(uri, httpMethod), transport);
+    }
+
+    private static final class TrackingRequest implements ClientHttpRequest {
+
+        private final ClientHttpRequest delegate;
+        private final SharedTransport transport;
+
+        TrackingRequest(ClientHttpRequest delegate, SharedTransport transport) {
+            this.delegate = delegate;
+            this.transport = transport;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            if (!transport.tryStartExchange()) {
+                throw new StreamLimitExceededException(
+                        transport.origin(), transport.maxConcurrentStreams()
+                );
+            }
+
+            AtomicBoolean active = new AtomicBoolean(true);
+            Runnable endOnce = () -> {
+                if (active.compareAndSet(true, false)) {
+                    transport.onExchangeEnded();
+                }
+            };
+
+            try {
+                return new TrackingResponse(delegate.execute(), endOnce);
+            } catch (RuntimeException | IOException ex) {
+                endOnce.run();
+                throw ex;
+            }
+        }
+
+        @Override public OutputStream getBody() throws IOException { return delegate.getBody(); }
+
+        @Override public HttpMethod getMethod() { return delegate.getMethod(); }
+
+        @Override public URI getURI() { return delegate.getURI(); }
+
+        @Override public Map<String, Object> getAttributes() { return delegate.getAttributes(); }
+
+        @Override public HttpHeaders getHeaders() { return delegate.getHeaders(); }
+    }
+
+    private static final class TrackingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Runnable endOnce;
+
+        private InputStream cachedBody;
+
+        TrackingResponse(ClientHttpResponse delegate, Runnable endOnce) {
+            this.delegate = delegate;
+            this.endOnce = endOnce;
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                endOnce.run();
+            }
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (cachedBody == null) {
+                cachedBody = new FilterInputStream(delegate.getBody()) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            endOnce.run();
+                        }
+                    }
+                };
+            }
+
+            return cachedBody;
+        }
+
+        @Override public HttpStatusCode getStatusCode() throws IOException { return delegate.getStatusCode(); }
+
+        @Override public String getStatusText() throws IOException { return delegate.getStatusText(); }
+
+        @Override public HttpHeaders getHeaders() { return delegate.getHeaders(); }
+    }
+}
@@ -0,0 +1,44 @@
+package com.jay.voyager.infra.outbound.http.client.transport;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+
+import com.jay.voyager.core.outbound.http.client.settings.HttpTransportPolicy;
+
+/**
+ * Identity of a shared transport: clients with the same origin, connect timeout and transport policy
+ * share one {@link java.net.http.HttpClient}.
+ *
+ * <p>Connect timeout and protocol are part of the key because they are fixed on the {@code HttpClient}
+ * itself, the stream limit because it is enforced per transport. Read timeouts are per request and
+ * stay per client.</p>
+ */
+record TransportKey(String origin, Duration connectTimeout, HttpTransportPolicy policy) {
+
+    static TransportKey of(String baseUrl, Duration connectTimeout, HttpTransportPolicy policy) {
+        return new TransportKey(origin(baseUrl), connectTimeout, policy);
+    }
+
+    // scheme://host:port with default ports made explicit, so http://a and http://a:80 share a transport
+    static String origin(String baseUrl) {
+        URI uri;
+        try {
+            uri = URI.create(baseUrl);
+        } catch (IllegalArgumentException ex) {
+            return baseUrl;
+        }
+
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            return baseUrl;
+        }
+
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        int port = uri.getPort();
+        if (port == -1) {
+            port = "https".equals(scheme) ? 443 : 80;
+        }
+
+        return scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT) + ":" + port;
+    }
+}
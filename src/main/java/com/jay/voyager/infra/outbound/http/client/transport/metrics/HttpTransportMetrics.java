@@ -0,0 +1,98 @@
+package com.jay.voyager.infra.outbound.http.client.transport.metrics;
+
+import java.net.http.HttpClient;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.jay.voyager.infra.outbound.http.client.transport.HttpTransportRegistry;
+
+/**
+ * Publishes shared outbound transport usage, tagged by {@code origin}.
+ *
+ * <p>
+ * With HTTP/2 the JDK client keeps one connection per origin, so {@code inflight} is the number of
+ * streams multiplexed on it, and {@code multiplexed.ratio} is the share of responses that were served
+ * over that shared connection rather than over a connection of their own.
+ * </p>
+ *
+ * <p>
+ * Meters read the registry's counters on scrape, nothing is recorded on the request path beyond
+ * the counters themselves. Origins are taken from the registry when bound, which already holds a
+ * transport for every configured client.
+ * </p>
+ */
+public final class HttpTransportMetrics implements MeterBinder {
+
+    public static final String TRANSPORTS_METER = "http.client.transports";
+    public static final String IN_FLIGHT_METER = "http.client.transport.inflight";
+    public static final String REQUESTS_METER = "http.client.transport.requests";
+    public static final String STREAM_LIMIT_METER = "http.client.transport.streams.limit";
+    public static final String REJECTED_METER = "http.client.transport.rejected";
+    public static final String RESPONSES_METER = "http.client.transport.responses";
+    public static final String MULTIPLEXED_RATIO_METER = "http.client.transport.multiplexed.ratio";
+    static final String ORIGIN_TAG = "origin";
+    static final String PROTOCOL_TAG = "protocol";
+    static final String HTTP_2 = "h2";
+    static final String HTTP_1_1 = "http/1.1";
+
+    private final HttpTransportRegistry transportRegistry;
+
+    public HttpTransportMetrics(HttpTransportRegistry transportRegistry) {
+        this.transportRegistry = transportRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(TRANSPORTS_METER, transportRegistry, HttpTransportRegistry::size)
+                .description("Shared JDK HttpClient instances")
+                .register(registry);
+
+        for (String origin : transportRegistry.origins()) {
+            Gauge.builder(IN_FLIGHT_METER, transportRegistry, r -> r.inFlight(origin))
+                    .description("Exchanges currently holding a connection on the shared transport")
+                    .tag(ORIGIN_TAG, origin)
+                    .register(registry);
+
+            FunctionCounter.builder(REQUESTS_METER, transportRegistry, r -> r.requests(origin))
+                    .description("Exchanges started on the shared transport")
+                    .tag(ORIGIN_TAG, origin)
+                    .register(registry);
+
+            Gauge.builder(STREAM_LIMIT_METER, transportRegistry, r -> r.maxConcurrentStreams(origin))
+                    .description("Concurrent streams allowed on the shared transport")
+                    .tag(ORIGIN_TAG, origin)
+                    .register(registry);
+
+            FunctionCounter.builder(REJECTED_METER, transportRegistry, r -> r.rejected(origin))
+                    .description("Exchanges refused because the stream limit was reached")
+                    .tag(ORIGIN_TAG, origin)
+                    .register(registry);
+
+            FunctionCounter.builder(RESPONSES_METER, transportRegistry,
+                            r -> r.responses(origin, HttpClient.Version.HTTP_2))
+                    .description("Responses by negotiated protocol")
+                    .tags(ORIGIN_TAG, origin, PROTOCOL_TAG, HTTP_2)
+                    .register(registry);
+
+            FunctionCounter.builder(RESPONSES_METER, transportRegistry,
+                            r -> r.responses(origin, HttpClient.Version.HTTP_1_1))
+                    .description("Responses by negotiated protocol")
+                    .tags(ORIGIN_TAG, origin, PROTOCOL_TAG, HTTP_1_1)
+                    .register(registry);
+
+            Gauge.builder(MULTIPLEXED_RATIO_METER, transportRegistry, r -> multiplexedRatio(r, origin))
+                    .description("Share of responses multiplexed over a shared HTTP/2 connection")
+                    .tag(ORIGIN_TAG, origin)
+                    .register(registry);
+        }
+    }
+
+    private static double multiplexedRatio(HttpTransportRegistry transportRegistry, String origin) {
+        long http2 = transportRegistry.responses(origin, HttpClient.Version.HTTP_2);
+        long total = http2 + transportRegistry.responses(origin, HttpClient.Version.HTTP_1_1);
+        return total == 0 ? 0.0 : (double) http2 / total;
+    }
+}
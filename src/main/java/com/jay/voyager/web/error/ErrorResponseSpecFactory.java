@@ -19,14 +19,26 @@ public class ErrorResponseSpecFactory {
 
     public ErrorResponseSpec buildResponseSpec(ErrorType type) {
 
-        Span span = tracer.currentSpan();
-        String traceId = (span != null) ? span.context().traceId() : null;
-
         //Don't expose server errors to client, so body uses defaultMessage(). Log real error.
 
-        ErrorResponse body = new ErrorResponse(type.name(), type.defaultMessage(), traceId);
-        HttpStatus httpStatus = STATUS_MAPPER.mapErrorTypeToHttpStatus(type);
+        ErrorResponse body = buildResponseBody(type, currentTraceId());
+        HttpStatus httpStatus = status(type);
 
         return new ErrorResponseSpec(httpStatus, body);
     }
+
+    // building blocks for writers that pre-render the body once per type (see ErrorResponseWriter)
+
+    public ErrorResponse buildResponseBody(ErrorType type, String traceId) {
+        return new ErrorResponse(type.name(), type.defaultMessage(), traceId);
+    }
+
+    public HttpStatus status(ErrorType type) {
+        return STATUS_MAPPER.mapErrorTypeToHttpStatus(type);
+    }
+
+    public String currentTraceId() {
+        Span span = tracer.currentSpan();
+        return (span != null) ? span.context().traceId() : null;
+    }
 }
@@ -9,8 +9,10 @@ import org.springframework.http.HttpStatus;
 import com.jay.voyager.core.error.api.ErrorType;
 
 import static com.jay.voyager.core.error.api.ErrorType.BAD_REQUEST;
+import static com.jay.voyager.core.error.api.ErrorType.DEADLINE_EXCEEDED;
 import static com.jay.voyager.core.error.api.ErrorType.DEPENDENCY_UNAVAILABLE;
 import static com.jay.voyager.core.error.api.ErrorType.INTERNAL_SERVER_ERROR;
+import static com.jay.voyager.core.error.api.ErrorType.NOT_FOUND;
 import static com.jay.voyager.core.error.api.ErrorType.TOO_MANY_REQUESTS;
 import static com.jay.voyager.core.error.api.ErrorType.UNAUTHORIZED;
 
@@ -29,11 +31,13 @@ final class ErrorTypeHttpStatusMapper {
         // 400s
         map.put(BAD_REQUEST, HttpStatus.BAD_REQUEST);
         map.put(UNAUTHORIZED, HttpStatus.BAD_REQUEST);
+        map.put(NOT_FOUND, HttpStatus.NOT_FOUND);
         map.put(TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS);
 
         // 500s
         map.put(INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR);
         map.put(DEPENDENCY_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE);
+        map.put(DEADLINE_EXCEEDED, HttpStatus.GATEWAY_TIMEOUT);
 
         return Collections.unmodifiableMap(map);
     }
@@ -1,23 +1,57 @@
 package com.jay.voyager.web.mvc.controller.v1;
 
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import com.jay.voyager.api.v1.jobs.VoyagerJobApi;
 import com.jay.voyager.core.error.api.ApiException;
 import com.jay.voyager.core.error.api.ErrorType;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobBatchGetRequest;
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobBatchGetResponse;
 import com.jay.voyager.api.v1.jobs.model.VoyagerJobResponse;
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobSubmitRequest;
+import com.jay.voyager.app.jobs.service.JobCommandService;
+import com.jay.voyager.app.jobs.service.JobQueryService;
 import com.jay.voyager.core.context.identity.Identity;
 import com.jay.voyager.core.context.identity.IdentityContextHolder;
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.web.mvc.controller.v1.mapping.VoyagerJobResponseMapper;
+import com.jay.voyager.web.mvc.sse.JobStatusStreams;
 
 @RestController
 public class VoyagerJobController implements VoyagerJobApi {
 
-    static final String SUCCESS_MESSAGE = "Voyager Endpoint Success.";
+    // bounds the work and the response size of one batch lookup
+    static final int MAX_BATCH_GET_IDS = 500;
+
+    private final JobQueryService jobQueryService;
+    private final JobCommandService jobCommandService;
+    private final VoyagerJobResponseMapper responseMapper;
+    private final JobStatusStreams jobStatusStreams;
+
+    public VoyagerJobController(
+            JobQueryService jobQueryService,
+            JobCommandService jobCommandService,
+            VoyagerJobResponseMapper responseMapper,
+            JobStatusStreams jobStatusStreams
+    ) {
+        this.jobQueryService = jobQueryService;
+        this.jobCommandService = jobCommandService;
+        this.responseMapper = responseMapper;
+        this.jobStatusStreams = jobStatusStreams;
+    }
 
     @Override
     @GetMapping("/api/v1/jobs/{jobId}")
@@ -25,10 +59,75 @@ public class VoyagerJobController implements VoyagerJobApi {
 
         Identity identity = IdentityContextHolder.context().identity();
 
-        UUID jobUuid;
+        Job job = jobQueryService.get(parseJobId(jobId));
 
+        return responseMapper.mapJob(job, identity.requestId());
+    }
+
+    // served async, the admission permit is released once the stream is open
+    @Override
+    @GetMapping(path = "/api/v1/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable String jobId) {
+
+        UUID id = parseJobId(jobId);
+
+        return jobStatusStreams.open(id, () -> jobQueryService.get(id));
+    }
+
+    @Override
+    @PostMapping("/api/v1/jobs:batchGet")
+    public VoyagerJobBatchGetResponse batchGet(@RequestBody VoyagerJobBatchGetRequest request) {
+
+        Identity identity = IdentityContextHolder.context().identity();
+
+        List<String> rawJobIds = request.jobIds();
+        if (rawJobIds == null || rawJobIds.isEmpty()) {
+            throw new ApiException(ErrorType.BAD_REQUEST, "Job ids are required");
+        }
+        if (rawJobIds.size() > MAX_BATCH_GET_IDS) {
+            throw new ApiException(ErrorType.BAD_REQUEST, "At most " + MAX_BATCH_GET_IDS + " job ids per request");
+        }
+
+        List<UUID> jobIds = new ArrayList<>(rawJobIds.size());
+        for (String jobId : rawJobIds) {
+            jobIds.add(parseJobId(jobId));
+        }
+
+        Map<UUID, Job> found = jobQueryService.getAll(jobIds);
+
+        return responseMapper.mapBatch(jobIds, found, identity.requestId());
+    }
+
+    @Override
+    @PostMapping("/api/v1/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public VoyagerJobResponse submit(@RequestBody VoyagerJobSubmitRequest request) {
+
+        Identity identity = IdentityContextHolder.context().identity();
+
+        if (request.type() == null || request.type().isBlank()) {
+            throw new ApiException(ErrorType.BAD_REQUEST, "Job type is required");
+        }
+
+        Job job = jobCommandService.submit(request.type(), responseMapper.mapPriority(request.priority()));
+
+        return responseMapper.mapJob(job, identity.requestId());
+    }
+
+    @Override
+    @PostMapping("/api/v1/jobs/{jobId}:cancel")
+    public VoyagerJobResponse cancel(@PathVariable String jobId) {
+
+        Identity identity = IdentityContextHolder.context().identity();
+
+        Job job = jobCommandService.cancel(parseJobId(jobId));
+
+        return responseMapper.mapJob(job, identity.requestId());
+    }
+
+    private static UUID parseJobId(String jobId) {
         try {
-             jobUuid = UUID.fromString(jobId);
+            return UUID.fromString(jobId);
         } catch (IllegalArgumentException ex) {
             throw new ApiException(
                     ErrorType.BAD_REQUEST,
@@ -36,14 +135,5 @@ public class VoyagerJobController implements VoyagerJobApi {
                     ex
             );
         }
-
-
-        var job = new VoyagerJobResponse.Job(
-                jobUuid,
-                VoyagerJobResponse.JobStatus.SUCCEEDED,
-                Instant.now()
-        );
-
-        return new VoyagerJobResponse(job, identity.requestId());
     }
 }
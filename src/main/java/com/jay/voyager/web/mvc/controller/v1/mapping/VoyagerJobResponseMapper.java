@@ -0,0 +1,69 @@
+package com.jay.voyager.web.mvc.controller.v1.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobBatchGetResponse;
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobResponse;
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobSubmitRequest;
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobPriority;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+
+// Translate between the jobs API contract and the core job model
+@Component
+public class VoyagerJobResponseMapper {
+
+    public VoyagerJobResponse mapJob(Job job, String requestId) {
+        return new VoyagerJobResponse(mapJobEntity(job), requestId);
+    }
+
+    // one result per requested id, in request order, duplicates included
+    public VoyagerJobBatchGetResponse mapBatch(List<UUID> jobIds, Map<UUID, Job> found, String requestId) {
+        List<VoyagerJobBatchGetResponse.Result> results = new ArrayList<>(jobIds.size());
+        for (UUID jobId : jobIds) {
+            Job job = found.get(jobId);
+            results.add(new VoyagerJobBatchGetResponse.Result(
+                    jobId,
+                    job != null,
+                    job == null ? null : mapJobEntity(job)
+            ));
+        }
+        return new VoyagerJobBatchGetResponse(results, requestId);
+    }
+
+    // priority is optional on the request
+    public JobPriority mapPriority(VoyagerJobSubmitRequest.JobPriority priority) {
+        if (priority == null) {
+            return JobPriority.NORMAL;
+        }
+        return switch (priority) {
+            case HIGH -> JobPriority.HIGH;
+            case NORMAL -> JobPriority.NORMAL;
+            case LOW -> JobPriority.LOW;
+        };
+    }
+
+    // the bare job without the response envelope, e.g. as an event payload
+    public VoyagerJobResponse.Job mapJobEntity(Job job) {
+        return new VoyagerJobResponse.Job(
+                job.id(),
+                mapStatus(job.status()),
+                job.requestedAt()
+        );
+    }
+
+    private VoyagerJobResponse.JobStatus mapStatus(JobStatus status) {
+        return switch (status) {
+            case QUEUED -> VoyagerJobResponse.JobStatus.QUEUED;
+            case RUNNING -> VoyagerJobResponse.JobStatus.RUNNING;
+            case SUCCEEDED -> VoyagerJobResponse.JobStatus.SUCCEEDED;
+            case FAILED -> VoyagerJobResponse.JobStatus.FAILED;
+            case CANCELLED -> VoyagerJobResponse.JobStatus.CANCELLED;
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.jay.voyager.web.mvc.error;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -63,8 +64,10 @@ public class GlobalExceptionHandler {
     private ResponseEntity<ErrorResponse> buildResponseEntity(ErrorType type) {
         ErrorResponseSpec spec = errorResponseSpecFactory.buildResponseSpec(type);
 
+        // preset, so errors of event stream endpoints are still written for an Accept: text/event-stream client
         return ResponseEntity
                 .status(spec.status())
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(spec.body());
     }
 
@@ -0,0 +1,150 @@
+package com.jay.voyager.web.mvc.sse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+import com.jay.voyager.core.port.jobs.JobStatusFeed;
+import com.jay.voyager.web.mvc.controller.v1.mapping.VoyagerJobResponseMapper;
+
+/**
+ * One open Server-Sent Events stream of a job's status.
+ *
+ * <p>
+ * Status changes arrive through {@link #accept} on the thread that made them and are only parked
+ * in a single slot, the write to the client happens on the stream's own sender thread. A slow
+ * client therefore never holds up the job engine, and instead of queueing it skips intermediate
+ * states and gets the newest one. The slot only ever moves forward ({@code QUEUED}, {@code RUNNING},
+ * then a final status), which also drops changes published out of order. The stream completes
+ * after a final status.
+ * </p>
+ */
+final class JobStatusStream implements Consumer<Job> {
+
+    static final String STATUS_EVENT = "status";
+
+    private final SseEmitter emitter;
+    private final VoyagerJobResponseMapper mapper;
+    private final long heartbeatNanos;
+    private final Consumer<JobStatusStream> onClose;
+
+    private final AtomicReference<Job> pending = new AtomicReference<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile JobStatusFeed.Subscription subscription;
+    private volatile Thread sender;
+
+    // sender thread only
+    private int sentRank = -1;
+
+    JobStatusStream(
+            SseEmitter emitter,
+            VoyagerJobResponseMapper mapper,
+            long heartbeatNanos,
+            Consumer<JobStatusStream> onClose
+    ) {
+        this.emitter = emitter;
+        this.mapper = mapper;
+        this.heartbeatNanos = heartbeatNanos;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Ties the feed subscription to the stream, it is closed with the stream.
+     */
+    void subscribed(JobStatusFeed.Subscription subscription) {
+        this.subscription = subscription;
+        if (closed.get()) {
+            subscription.close(); // closed concurrently, e.g. on shutdown
+        }
+    }
+
+    @Override
+    public void accept(Job job) {
+        pending.accumulateAndGet(job, (current, next) ->
+                current == null || rank(next.status()) > rank(current.status()) ? next : current
+        );
+        Thread thread = sender;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Sender loop, writes pending status changes and heartbeats until the stream closes.
+     */
+    void run() {
+        sender = Thread.currentThread();
+        try {
+            long lastWrite = System.nanoTime();
+            while (!closed.get()) {
+                Job job = pending.getAndSet(null);
+                if (job != null && rank(job.status()) > sentRank) {
+                    emitter.send(SseEmitter.event()
+                            .name(STATUS_EVENT)
+                            .data(mapper.mapJobEntity(job), MediaType.APPLICATION_JSON));
+                    sentRank = rank(job.status());
+                    lastWrite = System.nanoTime();
+                    if (job.status().isFinished()) {
+                        emitter.complete();
+                        return;
+                    }
+                    continue;
+                }
+
+                long idle = System.nanoTime() - lastWrite;
+                if (idle >= heartbeatNanos) {
+                    // keeps proxies from timing the connection out and detects clients that went away
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    lastWrite = System.nanoTime();
+                    continue;
+                }
+                LockSupport.parkNanos(this, heartbeatNanos - idle);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // the client disconnected or the emitter already completed, nothing left to tell
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Ends the stream for the client, used on shutdown.
+     */
+    void complete() {
+        emitter.complete();
+        close();
+    }
+
+    /**
+     * Releases the stream's resources, runs once however the stream ended.
+     */
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        JobStatusFeed.Subscription current = subscription;
+        if (current != null) {
+            current.close();
+        }
+        onClose.accept(this);
+        Thread thread = sender;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private static int rank(JobStatus status) {
+        return switch (status) {
+            case QUEUED -> 0;
+            case RUNNING -> 1;
+            case SUCCEEDED, FAILED, CANCELLED -> 2;
+        };
+    }
+}
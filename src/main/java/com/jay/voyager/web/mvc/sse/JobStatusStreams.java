@@ -0,0 +1,126 @@
+package com.jay.voyager.web.mvc.sse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jay.voyager.core.concurrent.limit.ConcurrencyLimiter;
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.error.api.ApiException;
+import com.jay.voyager.core.error.api.ErrorType;
+import com.jay.voyager.core.port.jobs.JobStatusFeed;
+import com.jay.voyager.web.mvc.controller.v1.mapping.VoyagerJobResponseMapper;
+
+/**
+ * Opens and tracks Server-Sent Events streams of job status changes.
+ *
+ * <p>
+ * A stream is served asynchronously: the request returns as soon as the stream is open, which
+ * releases its inbound admission permit, and each stream writes from its own virtual thread. Open
+ * streams are instead counted against a separate {@link ConcurrencyLimiter}, so idle long-lived
+ * connections do not take the permits of short requests and the number of connections stays
+ * bounded. The limiter permit is held until the stream ends.
+ * </p>
+ *
+ * <p>
+ * A stream lives at most {@code maxDuration}, clients reconnect afterwards (EventSource does so on
+ * its own) and receive the current status first.
+ * </p>
+ */
+public final class JobStatusStreams implements AutoCloseable {
+
+    private final JobStatusFeed feed;
+    private final ConcurrencyLimiter connections;
+    private final Executor executor;
+    private final VoyagerJobResponseMapper mapper;
+    private final long heartbeatNanos;
+    private final long maxDurationMillis;
+
+    private final Set<JobStatusStream> open = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown;
+
+    /**
+     * @param executor runs each stream's sender, expected to be the platform virtual thread executor
+     */
+    public JobStatusStreams(
+            JobStatusFeed feed,
+            ConcurrencyLimiter connections,
+            Executor executor,
+            VoyagerJobResponseMapper mapper,
+            Duration heartbeatInterval,
+            Duration maxDuration
+    ) {
+        this.feed = feed;
+        this.connections = connections;
+        this.executor = executor;
+        this.mapper = mapper;
+        this.heartbeatNanos = heartbeatInterval.toNanos();
+        this.maxDurationMillis = maxDuration.toMillis();
+    }
+
+    /**
+     * Opens a stream that starts with the job's current status and follows its changes.
+     *
+     * @param current looks up the job's current state, its exceptions (e.g. not found) fail the request
+     * @throws ApiException {@code TOO_MANY_REQUESTS} when the connection limit is reached
+     */
+    public SseEmitter open(UUID jobId, Supplier<Job> current) {
+        if (shutdown) {
+            throw new ApiException(ErrorType.DEPENDENCY_UNAVAILABLE, "Job event streams are shutting down");
+        }
+        ConcurrencyLimiter.Permit permit = connections.tryAcquire();
+        if (permit == null) {
+            throw new ApiException(ErrorType.TOO_MANY_REQUESTS, "Too many open job event streams");
+        }
+
+        var emitter = new SseEmitter(maxDurationMillis);
+        var stream = new JobStatusStream(emitter, mapper, heartbeatNanos, ended -> {
+            open.remove(ended);
+            permit.releaseIgnored();
+        });
+        open.add(stream);
+
+        boolean started = false;
+        try {
+            // subscribed before the lookup, so no change between the two is missed
+            stream.subscribed(feed.subscribe(jobId, stream));
+            stream.accept(current.get());
+            executor.execute(stream::run);
+            started = true;
+        } catch (RejectedExecutionException ex) {
+            throw new ApiException(ErrorType.DEPENDENCY_UNAVAILABLE, "Job event streams are shutting down", ex);
+        } finally {
+            if (!started) {
+                stream.close();
+            }
+        }
+
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(stream::close);
+        emitter.onError(_ -> stream.close());
+        return emitter;
+    }
+
+    /**
+     * @return number of open streams
+     */
+    public int openStreams() {
+        return open.size();
+    }
+
+    /**
+     * Ends every open stream. Their senders run on the shared executor, which would otherwise wait
+     * for them on shutdown.
+     */
+    @Override
+    public void close() {
+        shutdown = true;
+        open.forEach(JobStatusStream::complete);
+    }
+}
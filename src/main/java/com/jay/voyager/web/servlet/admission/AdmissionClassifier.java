@@ -0,0 +1,98 @@
+package com.jay.voyager.web.servlet.admission;
+
+import java.util.List;
+import java.util.Locale;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.jay.voyager.core.inbound.admission.policy.AdmissionClass;
+import com.jay.voyager.core.inbound.admission.policy.AdmissionPolicy;
+
+/**
+ * Assigns an {@link AdmissionClass} to an inbound HTTP request.
+ *
+ * <p>
+ * Classification runs in the servlet filter chain, before the {@code DispatcherServlet} has
+ * resolved a handler, so route rules are matched against the raw request path using Spring's
+ * {@link PathPattern} syntax (the same syntax used in {@code @GetMapping}). The first matching
+ * rule wins; requests matching no rule get the policy's default class.
+ * </p>
+ *
+ * <p>
+ * The class header lets a caller volunteer a <em>lower</em> class, for example a batch job marking
+ * its calls {@code best-effort}. It can never promote a request above its route class, otherwise any
+ * client could exempt itself from shedding.
+ * </p>
+ */
+public class AdmissionClassifier {
+
+    private final AdmissionClass defaultClass;
+    private final String classHeader;
+    private final List<CompiledRule> rules;
+
+    public AdmissionClassifier(AdmissionPolicy admissionPolicy) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+
+        this.defaultClass = admissionPolicy.defaultClass();
+        this.classHeader = admissionPolicy.classHeader();
+        this.rules = admissionPolicy.routeRules()
+                .stream()
+                .map(rule -> new CompiledRule(
+                        parser.parse(rule.pathPattern()),
+                        rule.method(),
+                        rule.admissionClass()
+                ))
+                .toList();
+    }
+
+    public AdmissionClass classify(HttpServletRequest request) {
+        AdmissionClass routeClass = routeClass(request);
+        AdmissionClass requestedClass = requestedClass(request);
+
+        // higher ordinal = shed earlier, only ever move towards BEST_EFFORT
+        if (requestedClass != null && requestedClass.ordinal() > routeClass.ordinal()) {
+            return requestedClass;
+        }
+        return routeClass;
+    }
+
+    private AdmissionClass routeClass(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        String method = request.getMethod();
+
+        for (CompiledRule rule : rules) {
+            if (rule.matches(method, path)) {
+                return rule.admissionClass();
+            }
+        }
+        return defaultClass;
+    }
+
+    private AdmissionClass requestedClass(HttpServletRequest request) {
+        String value = request.getHeader(classHeader);
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+
+        // accept both "best-effort" and "BEST_EFFORT", ignore anything unknown
+        String normalized = value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+        for (AdmissionClass admissionClass : AdmissionClass.values()) {
+            if (admissionClass.name().equals(normalized)) {
+                return admissionClass;
+            }
+        }
+        return null;
+    }
+
+    private record CompiledRule(PathPattern pattern, String method, AdmissionClass admissionClass) {
+
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+    }
+}
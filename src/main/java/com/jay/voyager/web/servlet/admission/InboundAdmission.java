@@ -0,0 +1,145 @@
+package com.jay.voyager.web.servlet.admission;
+
+import java.time.Duration;
+import jakarta.servlet.http.HttpServletRequest;
+
+import com.jay.voyager.core.concurrent.limit.CoDelAdmissionQueue;
+import com.jay.voyager.core.concurrent.limit.ConcurrencyLimiter;
+import com.jay.voyager.core.concurrent.limit.FairShareGate;
+import com.jay.voyager.core.concurrent.limit.PartitionedConcurrencyLimiter;
+import com.jay.voyager.core.concurrent.limit.RateMeter;
+import com.jay.voyager.core.context.identity.IdentityContextHolder;
+import com.jay.voyager.core.inbound.admission.policy.AdmissionClass;
+
+/**
+ * Inbound admission decision for a single HTTP request.
+ *
+ * <p>
+ * Combines the admission pieces in order: the request is classified, the tenant fair share is
+ * checked, and a permit is taken from the class partition of the shared limiter, optionally
+ * parking in the admission queue. Every release is counted to estimate the permit drain rate.
+ * </p>
+ *
+ * <p>
+ * When a request is rejected, the {@link Rejection} carries the most likely {@link ShedReason}
+ * and a {@code Retry-After} estimate:
+ * </p>
+ *
+ * <pre>
+ *   retryAfter = ceil((queued + 1 + rejectionsPerSecond) / releasesPerSecond)   clamped to [1s, maxRetryAfter]
+ * </pre>
+ *
+ * <p>
+ * In words: everybody already waiting, and everybody turned away in the last second who is about
+ * to retry, has to drain through the permits before this caller has a realistic chance. The reason
+ * is diagnosed after the fact from the limiter state, so under races it is a hint, not a guarantee.
+ * </p>
+ */
+public class InboundAdmission {
+
+    private final PartitionedConcurrencyLimiter<AdmissionClass> limiter;
+    private final AdmissionClassifier admissionClassifier;
+    private final FairShareGate fairShareGate;
+    private final CoDelAdmissionQueue admissionQueue;
+    private final long maxRetryAfterSeconds;
+
+    private final RateMeter releases = new RateMeter();
+    private final RateMeter rejections = new RateMeter();
+
+    public InboundAdmission(
+            PartitionedConcurrencyLimiter<AdmissionClass> limiter,
+            AdmissionClassifier admissionClassifier,
+            FairShareGate fairShareGate,
+            CoDelAdmissionQueue admissionQueue,
+            Duration maxRetryAfter
+    ) {
+        this.limiter = limiter;
+        this.admissionClassifier = admissionClassifier;
+        this.fairShareGate = fairShareGate;
+        this.admissionQueue = admissionQueue;
+        this.maxRetryAfterSeconds = Math.max(1, maxRetryAfter.toSeconds());
+    }
+
+    /**
+     * @return a held permit, or {@code null} when the request must be rejected
+     */
+    public ConcurrencyLimiter.Permit tryAdmit(HttpServletRequest request) {
+        ConcurrencyLimiter classLimiter = limiter.partition(admissionClassifier.classify(request));
+        String tenant = tenant();
+
+        ConcurrencyLimiter.Permit permit = admissionQueue.acquire(() -> tryAcquire(tenant, classLimiter));
+        if (permit == null) {
+            rejections.record();
+        }
+        return permit;
+    }
+
+    /**
+     * Releases a permit obtained from {@link #tryAdmit}.
+     *
+     * @param completed {@code false} when the request ended with an exception, no latency sample is recorded
+     */
+    public void release(ConcurrencyLimiter.Permit permit, boolean completed) {
+        releases.record();
+
+        if (completed) {
+            permit.release();
+        } else {
+            permit.releaseIgnored();
+        }
+    }
+
+    /**
+     * Describes why {@code request} was just rejected by {@link #tryAdmit}.
+     */
+    public Rejection rejection(HttpServletRequest request) {
+        return new Rejection(shedReason(request), retryAfterSeconds());
+    }
+
+    private ConcurrencyLimiter.Permit tryAcquire(String tenant, ConcurrencyLimiter classLimiter) {
+        if (tenant.isBlank()) {
+            return classLimiter.tryAcquire();
+        }
+        return fairShareGate.tryAcquire(tenant, classLimiter);
+    }
+
+    // narrowest limit first, a queued request that timed out was still held back by its tenant or class
+    private ShedReason shedReason(HttpServletRequest request) {
+        String tenant = tenant();
+        if (!tenant.isBlank() && fairShareGate.isOverShare(tenant)) {
+            return ShedReason.TENANT_SHARE;
+        }
+
+        ConcurrencyLimiter classLimiter = limiter.partition(admissionClassifier.classify(request));
+        if (classLimiter.inFlight() >= classLimiter.limit()) {
+            return ShedReason.ADMISSION_CLASS;
+        }
+
+        if (admissionQueue.isEnabled()) {
+            return admissionQueue.isFull() ? ShedReason.QUEUE_FULL : ShedReason.QUEUE_TIMEOUT;
+        }
+        return ShedReason.CONCURRENCY_LIMIT;
+    }
+
+    private long retryAfterSeconds() {
+        double drainRate = releases.ratePerSecond();
+        if (drainRate <= 0.0) {
+            // nothing has completed recently, there is no basis for a shorter estimate
+            return maxRetryAfterSeconds;
+        }
+
+        double backlog = admissionQueue.queued() + 1 + rejections.ratePerSecond();
+        long seconds = (long) Math.ceil(backlog / drainRate);
+        return Math.clamp(seconds, 1, maxRetryAfterSeconds);
+    }
+
+    private static String tenant() {
+        return IdentityContextHolder.context().identity().userId();
+    }
+
+    /**
+     * @param reason most likely reason for the rejection
+     * @param retryAfterSeconds suggested client back-off, in whole seconds as required by {@code Retry-After}
+     */
+    public record Rejection(ShedReason reason, long retryAfterSeconds) {}
+}
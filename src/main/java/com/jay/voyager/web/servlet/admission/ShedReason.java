@@ -0,0 +1,25 @@
+package com.jay.voyager.web.servlet.admission;
+
+// why an inbound request was rejected, sent to clients as a load-shedding hint
+public enum ShedReason {
+    // global concurrency limit reached (or the remaining permits are reserved for other classes)
+    CONCURRENCY_LIMIT("concurrency-limit"),
+    // the request's admission class is at its max share
+    ADMISSION_CLASS("admission-class"),
+    // the calling tenant is over its fair share
+    TENANT_SHARE("tenant-share"),
+    // admission queue had no room to park the request
+    QUEUE_FULL("queue-full"),
+    // request waited in the admission queue without getting a permit
+    QUEUE_TIMEOUT("queue-timeout");
+
+    private final String headerValue;
+
+    ShedReason(String headerValue) {
+        this.headerValue = headerValue;
+    }
+
+    public String headerValue() {
+        return headerValue;
+    }
+}
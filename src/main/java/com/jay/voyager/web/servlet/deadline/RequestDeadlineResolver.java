@@ -0,0 +1,102 @@
+package com.jay.voyager.web.servlet.deadline;
+
+import java.time.Duration;
+import java.util.List;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlinePolicy;
+
+/**
+ * Resolves the {@link Deadline} of an inbound HTTP request.
+ *
+ * <p>
+ * The caller's remaining budget (header, milliseconds) wins, capped at the policy's max timeout so a
+ * caller cannot hold resources for longer than the service allows. Without a usable header the first
+ * matching route budget applies, then the policy default. Route rules use Spring's {@link PathPattern}
+ * syntax and are matched against the raw request path, as for admission classes.
+ * </p>
+ */
+public class RequestDeadlineResolver {
+
+    private final String header;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+    private final List<CompiledRule> rules;
+
+    public RequestDeadlineResolver(DeadlinePolicy deadlinePolicy) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+
+        this.header = deadlinePolicy.header();
+        this.defaultTimeout = deadlinePolicy.defaultTimeout();
+        this.maxTimeout = deadlinePolicy.maxTimeout();
+        this.rules = deadlinePolicy.routeRules()
+                .stream()
+                .map(rule -> new CompiledRule(
+                        parser.parse(rule.pathPattern()),
+                        rule.method(),
+                        rule.timeout()
+                ))
+                .toList();
+    }
+
+    /**
+     * @return the request's deadline, {@link Deadline#NONE} when neither header, route nor default set one
+     */
+    public Deadline resolve(HttpServletRequest request) {
+        Duration headerBudget = headerBudget(request);
+        if (headerBudget != null) {
+            // ZERO when the caller has already given up, the deadline is expired from the start
+            return Deadline.after(headerBudget);
+        }
+
+        Duration routeBudget = routeBudget(request);
+        return routeBudget.isZero() ? Deadline.NONE : Deadline.after(routeBudget);
+    }
+
+    // null when absent or unparsable
+    private Duration headerBudget(HttpServletRequest request) {
+        String value = request.getHeader(header);
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+
+        long millis;
+        try {
+            millis = Long.parseLong(value.trim());
+        } catch (NumberFormatException _) {
+            return null;
+        }
+
+        if (millis <= 0) {
+            return Duration.ZERO;
+        }
+        Duration budget = Duration.ofMillis(millis);
+        return budget.compareTo(maxTimeout) > 0 ? maxTimeout : budget;
+    }
+
+    private Duration routeBudget(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        String method = request.getMethod();
+
+        for (CompiledRule rule : rules) {
+            if (rule.matches(method, path)) {
+                return rule.timeout();
+            }
+        }
+        return defaultTimeout;
+    }
+
+    private record CompiledRule(PathPattern pattern, String method, Duration timeout) {
+
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+    }
+}
@@ -2,20 +2,43 @@ package com.jay.voyager.web.servlet.error;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.http.MediaType;
 import tools.jackson.databind.ObjectMapper;
 
 import com.jay.voyager.core.error.api.ErrorType;
-import com.jay.voyager.web.error.ErrorResponseSpec;
 import com.jay.voyager.web.error.ErrorResponseSpecFactory;
 
-// for servlet/ mapping
+/**
+ * Writes the standard JSON error body straight to the servlet response.
+ *
+ * <p>
+ * Used on paths that never reach Spring MVC, most importantly load shedding, where it can run
+ * thousands of times per second. The body of an {@link ErrorType} only differs by its trace id,
+ * so each body is rendered once at construction with the application {@link ObjectMapper} (same
+ * field names, order and null handling as MVC responses) and split into a UTF-8 prefix and suffix
+ * around a placeholder. At request time the trace id is spliced in between, with no Jackson and
+ * no intermediate buffers on the hot path.
+ * </p>
+ *
+ * <p>
+ * Trace ids are lowercase hex in practice. Any id that would need JSON escaping falls back to a
+ * regular Jackson write, so the output is always valid JSON.
+ * </p>
+ */
 public class ErrorResponseWriter {
 
+    // cannot collide with a real trace id, only used to locate the splice point
+    private static final String TRACE_ID_PLACEHOLDER = "\u0000trace-id\u0000";
+
     private final ErrorResponseSpecFactory errorResponseSpecFactory;
     private final ObjectMapper objectMapper;
+    private final Map<ErrorType, Template> templates;
 
     public ErrorResponseWriter(
             ErrorResponseSpecFactory errorResponseSpecFactory,
@@ -23,6 +46,7 @@ public class ErrorResponseWriter {
     ) {
         this.errorResponseSpecFactory = errorResponseSpecFactory;
         this.objectMapper = objectMapper;
+        this.templates = renderTemplates(errorResponseSpecFactory, objectMapper);
     }
 
     public void writeJsonErrorResponse(HttpServletResponse response, ErrorType type) throws IOException {
@@ -32,12 +56,92 @@ public class ErrorResponseWriter {
             return;
         }
 
-        ErrorResponseSpec spec = errorResponseSpecFactory.buildResponseSpec(type);
+        Template template = templates.get(type);
+        String traceId = errorResponseSpecFactory.currentTraceId();
 
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        response.setStatus(spec.status().value());
+        response.setStatus(template.status());
+
+        if (traceId == null) {
+            response.setContentLength(template.withoutTraceId().length);
+            response.getOutputStream().write(template.withoutTraceId());
+            return;
+        }
+
+        if (!isPlainAscii(traceId)) {
+            objectMapper.writeValue(
+                    response.getOutputStream(),
+                    errorResponseSpecFactory.buildResponseBody(type, traceId)
+            );
+            return;
+        }
+
+        response.setContentLength(template.prefix().length + traceId.length() + template.suffix().length);
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(template.prefix());
+        for (int i = 0; i < traceId.length(); i++) {
+            out.write(traceId.charAt(i));
+        }
+        out.write(template.suffix());
+    }
+
+    private static Map<ErrorType, Template> renderTemplates(
+            ErrorResponseSpecFactory factory,
+            ObjectMapper objectMapper
+    ) {
+        Map<ErrorType, Template> templates = new EnumMap<>(ErrorType.class);
+
+        byte[] encodedPlaceholder = objectMapper.writeValueAsBytes(TRACE_ID_PLACEHOLDER);
+        // strip the surrounding quotes, keep the escaped form Jackson produced for the control chars
+        byte[] needle = Arrays.copyOfRange(encodedPlaceholder, 1, encodedPlaceholder.length - 1);
+
+        for (ErrorType type : ErrorType.values()) {
+            byte[] withPlaceholder = objectMapper.writeValueAsBytes(
+                    factory.buildResponseBody(type, TRACE_ID_PLACEHOLDER)
+            );
+            byte[] withoutTraceId = objectMapper.writeValueAsBytes(factory.buildResponseBody(type, null));
+
+            int at = indexOf(withPlaceholder, needle);
+            if (at < 0) {
+                throw new IllegalStateException("Trace id placeholder not found in rendered " + type + " body");
+            }
 
-        objectMapper.writeValue(response.getOutputStream(), spec.body());
+            templates.put(type, new Template(
+                    factory.status(type).value(),
+                    Arrays.copyOfRange(withPlaceholder, 0, at),
+                    Arrays.copyOfRange(withPlaceholder, at + needle.length, withPlaceholder.length),
+                    withoutTraceId
+            ));
+        }
+
+        return templates;
     }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        outer:
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    // printable ASCII without the two characters JSON strings must escape
+    private static boolean isPlainAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7e || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Template(int status, byte[] prefix, byte[] suffix, byte[] withoutTraceId) {}
 }
@@ -6,9 +6,16 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.jay.voyager.core.concurrent.limit.CoDelAdmissionQueue;
+import com.jay.voyager.core.concurrent.limit.ConcurrencyLimiter;
+import com.jay.voyager.core.concurrent.limit.FairShareGate;
+import com.jay.voyager.core.concurrent.limit.PartitionedConcurrencyLimiter;
+import com.jay.voyager.core.inbound.admission.policy.AdmissionClass;
+import com.jay.voyager.web.servlet.admission.AdmissionClassifier;
+import com.jay.voyager.web.servlet.admission.InboundAdmission;
 import com.jay.voyager.web.servlet.error.ErrorResponseWriter;
 
 import static com.jay.voyager.core.error.api.ErrorType.TOO_MANY_REQUESTS;
@@ -17,7 +24,7 @@ import static com.jay.voyager.core.error.api.ErrorType.TOO_MANY_REQUESTS;
  * Inbound concurrency guard implemented as a servlet filter.
  *
  * <p>This filter enforces a global, filter-level concurrency limit using a
- * Resilience4j {@link io.github.resilience4j.bulkhead.Bulkhead} (semaphore-based).
+ * {@link PartitionedConcurrencyLimiter}, driven through {@link InboundAdmission}.
  * In traditional servlet error, the servlet container parsed requests and dispatched them
  * onto a bounded worker thread pool. With virtual threads, that implicit bound
  * no longer exists, so explicit admission control is required.</p>
@@ -25,18 +32,42 @@ import static com.jay.voyager.core.error.api.ErrorType.TOO_MANY_REQUESTS;
  * <h2>Behavior</h2>
  * <ul>
  *   <li>Runs once per HTTP request (via {@link OncePerRequestFilter}).</li>
- *   <li>Attempts to acquire a bulkhead permit before request processing.</li>
+ *   <li>Attempts to acquire a limiter permit before request processing.</li>
  *   <li>If a permit is available, the request proceeds and the permit is released
  *       when processing completes.</li>
  *   <li>If no permit is available, the request is rejected immediately.</li>
  * </ul>
  *
+ * <h2>Adaptive limit</h2>
+ * <p>The limit itself is owned by the limiter's {@link com.jay.voyager.core.concurrent.limit.LimitAlgorithm}.
+ * Each completed request is reported back with its permit hold time, so a gradient or AIMD
+ * algorithm can shrink the limit when in-flight latency rises (requests are queueing on CPU,
+ * heap or downstreams) and grow it again while latency stays flat. Requests that end with an
+ * exception are released without a sample so failures do not masquerade as fast successes.</p>
+ *
+ * <h2>Admission classes</h2>
+ * <p>Permits are partitioned by {@link AdmissionClass}. The {@link AdmissionClassifier} picks a
+ * class per request (route pattern, optionally demoted by header) and each class has a reserved
+ * and a maximum share of the limit. Under overload {@code BEST_EFFORT} traffic is rejected first,
+ * while {@code CRITICAL} and {@code INTERACTIVE} requests keep their reserved permits.</p>
+ *
+ * <h2>Tenant fair share</h2>
+ * <p>When the {@link FairShareGate} is enabled, permits are additionally capped per tenant, keyed on
+ * the {@code userId} bound by {@link IdentityFilter} (which runs before this filter). A single noisy
+ * caller is held at its share of the limit instead of exhausting it for everyone. Requests without a
+ * user id are not tenant-capped.</p>
+ *
  * <h2>Fail-fast design</h2>
- * <p>This filter is intentionally fail-fast. It does <strong>not</strong> wait
+ * <p>This filter is fail-fast by default. It does <strong>not</strong> wait
  * for permits. Waiting would park virtual threads while retaining request state
  * on the heap, increasing latency and memory pressure under load. Instead, excess
  * requests are rejected immediately to preserve service stability.</p>
  *
+ * <p>When the {@link CoDelAdmissionQueue} is enabled, requests may park for a few
+ * milliseconds to ride out short bursts. The queue is bounded in size and in wait
+ * time, and once it stops draining it only allows a very short wait (served LIFO),
+ * so sustained overload still turns into fast rejections.</p>
+ *
  * <h2>Error handling</h2>
  * <p>Rejections are handled directly at the filter layer, before the request
  * reaches Spring MVC. The {@link ErrorResponseWriter} is responsible for writing
@@ -44,22 +75,32 @@ import static com.jay.voyager.core.error.api.ErrorType.TOO_MANY_REQUESTS;
  * JSON payload and HTTP status to the response. This ensures consistent error
  * contracts even when the request never reaches {@code DispatcherServlet}.</p>
  *
+ * <p>Every rejection carries a {@code Retry-After} header estimated from the current
+ * permit drain rate and queue statistics, so well-behaved clients back off instead of
+ * retrying immediately. When enabled, {@code X-Load-Shed-Reason} tells the client which
+ * limit it hit (see {@link com.jay.voyager.web.servlet.admission.ShedReason}).</p>
+ *
  * <h2>Threading model</h2>
- * <p>This filter executes on a virtual thread. The semaphore-based bulkhead limits
- * the number of in-flight requests inside the service, protecting heap, CPU, and
- * downstream dependencies from unbounded concurrency.</p>
+ * <p>This filter executes on a virtual thread. The limiter bounds the number of in-flight
+ * requests inside the service, protecting heap, CPU, and downstream dependencies from
+ * unbounded concurrency.</p>
  */
 public class BulkheadFilter extends OncePerRequestFilter {
 
-    private final Bulkhead bulkhead;
+    public static final String LOAD_SHED_REASON_HEADER = "X-Load-Shed-Reason";
+
+    private final InboundAdmission inboundAdmission;
     private final ErrorResponseWriter errorResponseWriter;
+    private final boolean shedReasonHeaderEnabled;
 
     public BulkheadFilter(
-            Bulkhead bulkhead,
-            ErrorResponseWriter errorResponseWriter
+            InboundAdmission inboundAdmission,
+            ErrorResponseWriter errorResponseWriter,
+            boolean shedReasonHeaderEnabled
     ) {
-        this.bulkhead = bulkhead;
+        this.inboundAdmission = inboundAdmission;
         this.errorResponseWriter = errorResponseWriter;
+        this.shedReasonHeaderEnabled = shedReasonHeaderEnabled;
     }
 
     @Override
@@ -68,14 +109,30 @@ public class BulkheadFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
-        if (bulkhead.tryAcquirePermission()) {
-            try {
-                filterChain.doFilter(request, response);
-            } finally {
-                bulkhead.releasePermission();
-            }
-        } else {
-            errorResponseWriter.writeJsonErrorResponse(response, TOO_MANY_REQUESTS);
+        ConcurrencyLimiter.Permit permit = inboundAdmission.tryAdmit(request);
+
+        if (permit == null) {
+            reject(request, response);
+            return;
         }
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            inboundAdmission.release(permit, completed);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        InboundAdmission.Rejection rejection = inboundAdmission.rejection(request);
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(rejection.retryAfterSeconds()));
+        if (shedReasonHeaderEnabled) {
+            response.setHeader(LOAD_SHED_REASON_HEADER, rejection.reason().headerValue());
+        }
+
+        errorResponseWriter.writeJsonErrorResponse(response, TOO_MANY_REQUESTS);
     }
 }
@@ -0,0 +1,73 @@
+package com.jay.voyager.web.servlet.filter;
+
+import java.io.IOException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.web.servlet.deadline.RequestDeadlineResolver;
+import com.jay.voyager.web.servlet.error.ErrorResponseWriter;
+
+import static com.jay.voyager.core.error.api.ErrorType.DEADLINE_EXCEEDED;
+
+/**
+ * Captures the request deadline at ingress and binds it for the rest of the request.
+ *
+ * <p>
+ * The deadline comes from the caller's remaining budget header, a route budget or the default (see
+ * {@link RequestDeadlineResolver}). It is bound with {@link DeadlineContextHolder#where(Deadline)},
+ * so outbound clients and propagated tasks see it without anything to clear afterwards.
+ * </p>
+ *
+ * <p>
+ * A request whose caller has already given up (budget of zero) is answered with
+ * {@code 504 Gateway Timeout} right away. It runs before the {@link BulkheadFilter}, so such requests
+ * never take an admission permit.
+ * </p>
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final RequestDeadlineResolver deadlineResolver;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    public DeadlineFilter(RequestDeadlineResolver deadlineResolver, ErrorResponseWriter errorResponseWriter) {
+        this.deadlineResolver = deadlineResolver;
+        this.errorResponseWriter = errorResponseWriter;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Deadline deadline = deadlineResolver.resolve(request);
+
+        if (deadline.isNone()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (deadline.isExpired()) {
+            errorResponseWriter.writeJsonErrorResponse(response, DEADLINE_EXCEEDED);
+            return;
+        }
+
+        try {
+            DeadlineContextHolder.where(deadline).call(() -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (ServletException | IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // the chain only throws the types above, the carrier widens them to Exception
+            throw new ServletException(e);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.jay.voyager.core.context.identity.Identity;
+import com.jay.voyager.core.context.identity.IdentityBindingMode;
 import com.jay.voyager.core.context.identity.IdentityContextHolder;
 import com.jay.voyager.core.context.identity.IdentityContextSnapshot;
 import com.jay.voyager.core.transport.http.IdentityHeaders;
@@ -23,16 +24,25 @@ import com.jay.voyager.core.transport.http.IdentityHeaders;
  * </p>
  *
  * <p>
- * The identity propagation is cleared in a {@code finally} block to prevent leaking identity
- * state across thread reuse.
+ * With {@link IdentityBindingMode#THREAD_LOCAL} the identity propagation is cleared in a
+ * {@code finally} block to prevent leaking identity state across thread reuse. With
+ * {@link IdentityBindingMode#SCOPED_VALUE} the rest of the chain runs inside a scoped binding
+ * ({@link IdentityContextHolder#where(IdentityContextSnapshot)}) that ends with the request, so
+ * there is nothing to clear and the virtual thread never allocates a thread-local entry for it.
  * </p>
  */
 public class IdentityFilter extends OncePerRequestFilter {
 
     private final IdentityHeaders headers;
+    private final IdentityBindingMode bindingMode;
 
     public IdentityFilter(IdentityHeaders headers) {
+        this(headers, IdentityBindingMode.THREAD_LOCAL);
+    }
+
+    public IdentityFilter(IdentityHeaders headers, IdentityBindingMode bindingMode) {
         this.headers = headers;
+        this.bindingMode = bindingMode;
     }
 
     @Override
@@ -45,13 +55,37 @@ public class IdentityFilter extends OncePerRequestFilter {
         String userId = request.getHeader(headers.userId());
         String requestId = request.getHeader(headers.requestId());
 
-        Identity identity = new Identity(userId, requestId);
+        IdentityContextSnapshot snapshot = IdentityContextSnapshot.of(new Identity(userId, requestId));
+
+        if (bindingMode == IdentityBindingMode.SCOPED_VALUE) {
+            doFilterScoped(snapshot, request, response, filterChain);
+            return;
+        }
 
         try {
-            IdentityContextHolder.context(IdentityContextSnapshot.of(identity));
+            IdentityContextHolder.context(snapshot);
             filterChain.doFilter(request, response);
         } finally {
             IdentityContextHolder.clear();
         }
     }
+
+    private void doFilterScoped(
+            IdentityContextSnapshot snapshot,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        try {
+            IdentityContextHolder.where(snapshot).call(() -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (ServletException | IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // the chain only throws the types above, the carrier widens them to Exception
+            throw new ServletException(e);
+        }
+    }
 }
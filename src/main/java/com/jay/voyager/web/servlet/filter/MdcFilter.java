@@ -7,14 +7,14 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.jay.voyager.core.context.identity.Identity;
 import com.jay.voyager.core.context.identity.IdentityContextHolder;
+import com.jay.voyager.core.observability.accesslog.AccessLogRecord;
 import com.jay.voyager.core.observability.mdc.MdcFieldNames;
+import com.jay.voyager.core.port.observability.accesslog.AccessLogSink;
 
 /**
  * Populates MDC (Mapped Diagnostic Context) fields for structured identity logging.
@@ -32,18 +32,28 @@ import com.jay.voyager.core.observability.mdc.MdcFieldNames;
  * </p>
  *
  * <p>
+ * Once the response status is known, one immutable {@link AccessLogRecord} per request is handed
+ * to the {@link AccessLogSink}. The sink only buffers it; formatting and log I/O happen on a
+ * background writer, never on the request thread.
+ * </p>
+ *
+ * <p>
  * MDC is cleared in a {@code finally} block to prevent propagation leakage across thread
  * reuse.
  * </p>
  */
 public class MdcFilter extends OncePerRequestFilter {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(MdcFilter.class);
+    // keys maintained by the tracing bridge while the server observation is in scope
+    static final String TRACE_ID_MDC_KEY = "traceId";
+    static final String SPAN_ID_MDC_KEY = "spanId";
 
     private final MdcFieldNames mdcFieldNames;
+    private final AccessLogSink accessLogSink;
 
-    public MdcFilter(MdcFieldNames mdcProps) {
+    public MdcFilter(MdcFieldNames mdcProps, AccessLogSink accessLogSink) {
         this.mdcFieldNames = mdcProps;
+        this.accessLogSink = accessLogSink;
     }
 
     @Override
@@ -73,12 +83,21 @@ public class MdcFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
         } finally {
 
-            MDC.put(mdcFieldNames.status(), String.valueOf(response.getStatus()));
-
             long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
-            MDC.put(mdcFieldNames.durationMs(), String.valueOf(durationMs));
 
-            LOGGER.info("");
+            accessLogSink.offer(new AccessLogRecord(
+                    System.currentTimeMillis(),
+                    MDC.get(TRACE_ID_MDC_KEY),
+                    MDC.get(SPAN_ID_MDC_KEY),
+                    userId,
+                    requestId,
+                    mdcFieldNames.kindValues().http(),
+                    method,
+                    path,
+                    response.getStatus(),
+                    durationMs
+            ));
+
             MDC.clear();
         }
     }
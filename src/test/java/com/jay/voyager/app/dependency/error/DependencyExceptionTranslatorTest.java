@@ -32,4 +32,16 @@ class DependencyExceptionTranslatorTest {
         assertSame(ErrorType.DEPENDENCY_UNAVAILABLE, ex.type());
         assertInstanceOf(DependencyCallException.class, ex.getCause());
     }
-}
\ No newline at end of file
+
+    @Test
+    void deadlineExceededMapsToDeadlineExceeded() {
+        ApiException ex = assertThrows(ApiException.class,
+                () -> DependencyExceptionTranslator
+                        .execute(() -> {
+                            throw new DependencyCallException("someClient", Reason.DEADLINE_EXCEEDED);
+                        })
+        );
+
+        assertSame(ErrorType.DEADLINE_EXCEEDED, ex.type());
+    }
+}
@@ -0,0 +1,56 @@
+package com.jay.voyager.bootstrap.inbound.admission.properties;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.helper.YamlBinder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InboundAdmissionPropertiesTest {
+
+    private static final String PREFIX = "platform.inbound.admission";
+
+    @Test
+    void shippedConfigurationReservesOnlyReachableClasses() throws Exception {
+        var props = new YamlBinder("application.yml").bind(PREFIX, InboundAdmissionProperties.class);
+
+        assertTrue(props.isEveryReservedClassReachable());
+    }
+
+    @Test
+    void reservationForAClassNoRouteMapsToIsRejected() throws Exception {
+        var props = new YamlBinder("application.yml").bind(PREFIX, InboundAdmissionProperties.class);
+        var reservedCritical = new InboundAdmissionProperties.Classes(
+                new InboundAdmissionProperties.ClassShare(0.1, 1.0),
+                props.classes().interactive(),
+                props.classes().bestEffort()
+        );
+
+        assertFalse(withClasses(props, reservedCritical, props.routes()).isEveryReservedClassReachable());
+
+        var criticalRoute = new InboundAdmissionProperties.Route(
+                "/api/v1/control/**", null, InboundAdmissionProperties.AdmissionClass.CRITICAL
+        );
+        assertTrue(withClasses(props, reservedCritical, List.of(criticalRoute)).isEveryReservedClassReachable());
+    }
+
+    private static InboundAdmissionProperties withClasses(
+            InboundAdmissionProperties props,
+            InboundAdmissionProperties.Classes classes,
+            List<InboundAdmissionProperties.Route> routes
+    ) {
+        return new InboundAdmissionProperties(
+                props.limit(),
+                props.defaultClass(),
+                props.classHeader(),
+                classes,
+                routes,
+                props.fairShare(),
+                props.queue(),
+                props.rejection()
+        );
+    }
+}
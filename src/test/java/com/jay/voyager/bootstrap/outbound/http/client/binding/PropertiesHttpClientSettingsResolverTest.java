@@ -7,13 +7,18 @@ import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
+import com.jay.voyager.bootstrap.concurrent.limit.properties.LimitProperties;
 import com.jay.voyager.bootstrap.outbound.http.properties.OutboundHttpProperties;
 import com.jay.voyager.bootstrap.outbound.resiliency.properties.ResiliencyProperties;
+import com.jay.voyager.core.concurrent.limit.LimitPolicy;
 import com.jay.voyager.core.outbound.http.client.settings.HttpClientSettings;
+import com.jay.voyager.core.outbound.http.client.settings.HttpTransportPolicy;
 import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -41,11 +46,14 @@ class PropertiesHttpClientSettingsResolverTest {
         assertEquals("https://a.example.com", a.baseUrl());
         assertEquals(Duration.ofSeconds(2), a.connectTimeout());
         assertEquals(Duration.ofSeconds(3), a.readTimeout());
+        assertEquals(HttpTransportPolicy.HttpProtocol.HTTP_1_1, a.transportPolicy().protocol());
+        assertEquals(100, a.transportPolicy().maxConcurrentStreams());
 
         ResiliencyPolicy aPolicy = a.resiliencyPolicy();
         assertTrue(aPolicy.bulkheadPolicy().enabled());
         assertEquals(10, aPolicy.bulkheadPolicy().maxConcurrentCalls());
         assertEquals(Duration.ZERO, aPolicy.bulkheadPolicy().maxWaitDuration());
+        assertEquals(ResiliencyPolicy.BulkheadPolicy.Mode.STATIC, aPolicy.bulkheadPolicy().mode());
 
         assertTrue(aPolicy.circuitBreakerPolicy().enabled());
         assertEquals(50, aPolicy.circuitBreakerPolicy().failureRateThreshold());
@@ -59,6 +67,25 @@ class PropertiesHttpClientSettingsResolverTest {
         assertEquals(20, aPolicy.circuitBreakerPolicy().minimumNumberOfCalls());
         assertEquals(5, aPolicy.circuitBreakerPolicy().permittedNumberOfCallsInHalfOpenState());
         assertEquals(Duration.ofSeconds(10), aPolicy.circuitBreakerPolicy().waitDurationInOpenState());
+
+        assertTrue(aPolicy.retryPolicy().enabled());
+        assertEquals(3, aPolicy.retryPolicy().maxAttempts());
+        assertEquals(Duration.ofMillis(50), aPolicy.retryPolicy().initialBackoff());
+        assertEquals(Duration.ofSeconds(1), aPolicy.retryPolicy().maxBackoff());
+        assertEquals(2.0, aPolicy.retryPolicy().multiplier());
+        assertEquals(0.1, aPolicy.retryPolicy().budgetRatio());
+
+        assertFalse(aPolicy.hedgingPolicy().enabled());
+        assertEquals(Duration.ofMillis(50), aPolicy.hedgingPolicy().delay());
+        assertEquals(0.95, aPolicy.hedgingPolicy().delayPercentile());
+        assertEquals(0.1, aPolicy.hedgingPolicy().budgetRatio());
+
+        assertFalse(aPolicy.coalescingPolicy().enabled());
+        assertEquals(List.of("accept", "x-user-id"), aPolicy.coalescingPolicy().keyHeaders());
+
+        assertFalse(a.cachePolicy().enabled());
+        assertEquals(DataSize.ofMegabytes(16).toBytes(), a.cachePolicy().maxSizeBytes());
+        assertEquals(DataSize.ofKilobytes(256).toBytes(), a.cachePolicy().maxEntrySizeBytes());
     }
 
     @Test
@@ -72,12 +99,21 @@ class PropertiesHttpClientSettingsResolverTest {
         assertEquals("https://b.example.com", b.baseUrl());
         assertEquals(Duration.ofSeconds(5), b.connectTimeout());
         assertEquals(Duration.ofSeconds(3), b.readTimeout()); // default
+        assertEquals(HttpTransportPolicy.HttpProtocol.HTTP_2, b.transportPolicy().protocol()); // override
+        assertEquals(100, b.transportPolicy().maxConcurrentStreams()); // default
 
         ResiliencyPolicy bPolicy = b.resiliencyPolicy();
 
         assertTrue(bPolicy.bulkheadPolicy().enabled()); // default
         assertEquals(25, bPolicy.bulkheadPolicy().maxConcurrentCalls()); // override
         assertEquals(Duration.ZERO, bPolicy.bulkheadPolicy().maxWaitDuration()); // default
+        assertEquals(ResiliencyPolicy.BulkheadPolicy.Mode.ADAPTIVE, bPolicy.bulkheadPolicy().mode()); // override
+
+        LimitPolicy bAdaptive = bPolicy.bulkheadPolicy().adaptiveLimit();
+        assertEquals(LimitPolicy.Algorithm.GRADIENT, bAdaptive.algorithm()); // default
+        assertEquals(20, bAdaptive.initialLimit()); // default
+        assertEquals(50, bAdaptive.maxLimit()); // override
+        assertEquals(0.2, bAdaptive.gradient().smoothing()); // default
 
         assertTrue(bPolicy.circuitBreakerPolicy().enabled()); // default
         assertEquals(60, bPolicy.circuitBreakerPolicy().failureRateThreshold()); // override
@@ -91,6 +127,25 @@ class PropertiesHttpClientSettingsResolverTest {
         assertEquals(20, bPolicy.circuitBreakerPolicy().minimumNumberOfCalls()); // default
         assertEquals(5, bPolicy.circuitBreakerPolicy().permittedNumberOfCallsInHalfOpenState()); // default
         assertEquals(Duration.ofSeconds(30), bPolicy.circuitBreakerPolicy().waitDurationInOpenState()); // override
+
+        assertTrue(bPolicy.retryPolicy().enabled()); // default
+        assertEquals(5, bPolicy.retryPolicy().maxAttempts()); // override
+        assertEquals(Duration.ofMillis(50), bPolicy.retryPolicy().initialBackoff()); // default
+        assertEquals(Duration.ofSeconds(1), bPolicy.retryPolicy().maxBackoff()); // default
+        assertEquals(2.0, bPolicy.retryPolicy().multiplier()); // default
+        assertEquals(0.2, bPolicy.retryPolicy().budgetRatio()); // override
+
+        assertTrue(bPolicy.hedgingPolicy().enabled()); // override
+        assertEquals(Duration.ofMillis(20), bPolicy.hedgingPolicy().delay()); // override
+        assertEquals(0.95, bPolicy.hedgingPolicy().delayPercentile()); // default
+        assertEquals(0.1, bPolicy.hedgingPolicy().budgetRatio()); // default
+
+        assertTrue(bPolicy.coalescingPolicy().enabled()); // override
+        assertEquals(List.of("accept", "authorization"), bPolicy.coalescingPolicy().keyHeaders()); // override, normalized
+
+        assertTrue(b.cachePolicy().enabled()); // override
+        assertEquals(DataSize.ofMegabytes(4).toBytes(), b.cachePolicy().maxSizeBytes()); // override
+        assertEquals(DataSize.ofKilobytes(256).toBytes(), b.cachePolicy().maxEntrySizeBytes()); // default
     }
 
     @Test
@@ -106,7 +161,16 @@ class PropertiesHttpClientSettingsResolverTest {
         var defaultBulkhead = new ResiliencyProperties.Bulkhead(
                 true,
                 10,
-                Duration.ZERO
+                Duration.ZERO,
+                ResiliencyProperties.Bulkhead.Mode.STATIC,
+                new LimitProperties(
+                        LimitProperties.Algorithm.GRADIENT,
+                        20,
+                        5,
+                        200,
+                        new LimitProperties.Gradient(0.2, 2.0, 600),
+                        new LimitProperties.Aimd(0.9, Duration.ofSeconds(2))
+                )
         );
 
         var defaultCircuitBreaker = new ResiliencyProperties.CircuitBreaker(
@@ -121,25 +185,69 @@ class PropertiesHttpClientSettingsResolverTest {
                 Duration.ofSeconds(10)
         );
 
-        var resiliencyDefaults = new ResiliencyProperties(defaultBulkhead, defaultCircuitBreaker);
+        var defaultRetry = new ResiliencyProperties.Retry(
+                true,
+                3,
+                Duration.ofMillis(50),
+                Duration.ofSeconds(1),
+                2.0,
+                0.1
+        );
+
+        var defaultHedging = new ResiliencyProperties.Hedging(
+                false,
+                Duration.ofMillis(50),
+                0.95,
+                0.1
+        );
+
+        var defaultCoalescing = new ResiliencyProperties.Coalescing(
+                false,
+                List.of("accept", "x-user-id")
+        );
+
+        var resiliencyDefaults = new ResiliencyProperties(
+                defaultBulkhead,
+                defaultCircuitBreaker,
+                defaultRetry,
+                defaultHedging,
+                defaultCoalescing
+        );
+
+        var transportDefaults = new OutboundHttpProperties.Transport(
+                OutboundHttpProperties.Transport.Protocol.HTTP_1_1,
+                100
+        );
+
+        var cacheDefaults = new OutboundHttpProperties.Cache(
+                false,
+                DataSize.ofMegabytes(16),
+                DataSize.ofKilobytes(256)
+        );
 
         var clientDefaults = new OutboundHttpProperties.ClientDefaults(
                 Duration.ofSeconds(2),
                 Duration.ofSeconds(3),
-                resiliencyDefaults
+                transportDefaults,
+                resiliencyDefaults,
+                cacheDefaults
         );
 
         var clientA = new OutboundHttpProperties.Client(
                 "https://a.example.com",
                 null,
                 null,
+                null,
+                null,
                 null
         );
 
         var overrideBulkhead = new ResiliencyProperties.Bulkhead(
                 null,
                 25,
-                null
+                null,
+                ResiliencyProperties.Bulkhead.Mode.ADAPTIVE,
+                new LimitProperties(null, null, null, 50, null, null)
         );
 
         var overrideCircuitBreaker = new ResiliencyProperties.CircuitBreaker(
@@ -154,13 +262,53 @@ class PropertiesHttpClientSettingsResolverTest {
                 Duration.ofSeconds(30)
         );
 
-        var resiliencyOverride = new ResiliencyProperties(overrideBulkhead, overrideCircuitBreaker);
+        var overrideRetry = new ResiliencyProperties.Retry(
+                null,
+                5,
+                null,
+                null,
+                null,
+                0.2
+        );
+
+        var overrideHedging = new ResiliencyProperties.Hedging(
+                true,
+                Duration.ofMillis(20),
+                null,
+                null
+        );
+
+        var overrideCoalescing = new ResiliencyProperties.Coalescing(
+                true,
+                List.of(" Accept ", "Authorization")
+        );
+
+        var resiliencyOverride = new ResiliencyProperties(
+                overrideBulkhead,
+                overrideCircuitBreaker,
+                overrideRetry,
+                overrideHedging,
+                overrideCoalescing
+        );
+
+        var transportOverride = new OutboundHttpProperties.Transport(
+                OutboundHttpProperties.Transport.Protocol.HTTP_2,
+                null
+        );
+
+        var cacheOverride = new OutboundHttpProperties.Cache(
+                true,
+                DataSize.ofMegabytes(4),
+                null
+        );
 
         var clientB = new OutboundHttpProperties.Client(
                 "https://b.example.com",
                 Duration.ofSeconds(5),
                 null,
-                resiliencyOverride
+                transportOverride,
+                resiliencyOverride,
+                cacheOverride
         );
 
         Map<String, OutboundHttpProperties.Client> clients = new LinkedHashMap<>();
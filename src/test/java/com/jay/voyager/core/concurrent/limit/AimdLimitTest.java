@@ -0,0 +1,94 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AimdLimitTest {
+
+    private static final long FAST_NANOS = Duration.ofMillis(10).toNanos();
+    private static final long SLOW_NANOS = Duration.ofSeconds(2).toNanos();
+
+    @Test
+    void growsByOneWhenLimitIsUsed() {
+        AimdLimit limit = new AimdLimit(10, 1, 20, 0.5, Duration.ofSeconds(1));
+
+        limit.onSample(FAST_NANOS, 10, false);
+
+        assertEquals(11, limit.limit());
+    }
+
+    @Test
+    void doesNotGrowWhenAppLimited() {
+        AimdLimit limit = new AimdLimit(10, 1, 20, 0.5, Duration.ofSeconds(1));
+
+        limit.onSample(FAST_NANOS, 2, false);
+
+        assertEquals(10, limit.limit());
+    }
+
+    @Test
+    void backsOffOnDrop() {
+        AimdLimit limit = new AimdLimit(10, 1, 20, 0.5, Duration.ofSeconds(1));
+
+        limit.onSample(FAST_NANOS, 10, true);
+
+        assertEquals(5, limit.limit());
+    }
+
+    @Test
+    void backsOffOnTimeout() {
+        AimdLimit limit = new AimdLimit(10, 1, 20, 0.5, Duration.ofSeconds(1));
+
+        limit.onSample(SLOW_NANOS, 10, false);
+
+        assertEquals(5, limit.limit());
+    }
+
+    @Test
+    void staysWithinBounds() {
+        AimdLimit limit = new AimdLimit(4, 3, 5, 0.5, Duration.ofSeconds(1));
+
+        limit.onSample(FAST_NANOS, 4, true);
+        assertEquals(3, limit.limit());
+
+        limit.onSample(FAST_NANOS, 3, false);
+        limit.onSample(FAST_NANOS, 4, false);
+        limit.onSample(FAST_NANOS, 5, false);
+        assertEquals(5, limit.limit());
+    }
+
+    @Test
+    void concurrentSamplesAreNotLost() throws InterruptedException {
+        AimdLimit limit = new AimdLimit(10, 1, 10_000, 0.5, Duration.ofSeconds(1));
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 250; i++) {
+                    limit.onSample(FAST_NANOS, 10_000, false);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1010, limit.limit());
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        Duration timeout = Duration.ofSeconds(1);
+
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimit(10, 1, 20, 1.0, timeout));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimit(10, 1, 20, 0.0, timeout));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimit(30, 1, 20, 0.5, timeout));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimit(10, 0, 20, 0.5, timeout));
+    }
+}
@@ -0,0 +1,155 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoDelAdmissionQueueTest {
+
+    @Test
+    void waiterIsWokenWhenPermitIsReleased() throws Exception {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(1));
+        CoDelAdmissionQueue queue = new CoDelAdmissionQueue(Duration.ofMillis(50), Duration.ofSeconds(5), 10);
+
+        ConcurrencyLimiter.Permit held = queue.acquire(limiter::tryAcquire);
+        assertNotNull(held);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<ConcurrencyLimiter.Permit> waiting =
+                    CompletableFuture.supplyAsync(() -> queue.acquire(limiter::tryAcquire), executor);
+
+            awaitQueued(queue, 1);
+            held.release();
+
+            ConcurrencyLimiter.Permit granted = waiting.get(2, TimeUnit.SECONDS);
+            assertNotNull(granted);
+            assertEquals(0, queue.queued());
+            granted.release();
+        }
+
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void wakeupUnusableByWaiterIsPassedToTheNext() throws Exception {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(1));
+        CoDelAdmissionQueue queue = new CoDelAdmissionQueue(Duration.ofMillis(50), Duration.ofSeconds(1), 10);
+
+        ConcurrencyLimiter.Permit held = queue.acquire(limiter::tryAcquire);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // first in line, but capped elsewhere, like a tenant at its limit
+            CompletableFuture<ConcurrencyLimiter.Permit> capped =
+                    CompletableFuture.supplyAsync(() -> queue.acquire(() -> null), executor);
+            awaitQueued(queue, 1);
+            CompletableFuture<ConcurrencyLimiter.Permit> next =
+                    CompletableFuture.supplyAsync(() -> queue.acquire(limiter::tryAcquire), executor);
+            awaitQueued(queue, 2);
+
+            held.release();
+
+            // well before the capped waiter gives up
+            next.get(500, TimeUnit.MILLISECONDS).release();
+            assertNull(capped.get(2, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void parkedWaiterIsServedBeforeNewcomer() throws Exception {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(1));
+        CoDelAdmissionQueue queue = new CoDelAdmissionQueue(Duration.ofMillis(50), Duration.ofSeconds(5), 10);
+
+        ConcurrencyLimiter.Permit held = queue.acquire(limiter::tryAcquire);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<ConcurrencyLimiter.Permit> parked =
+                    CompletableFuture.supplyAsync(() -> queue.acquire(limiter::tryAcquire), executor);
+            awaitQueued(queue, 1);
+
+            held.release();
+            CompletableFuture<ConcurrencyLimiter.Permit> newcomer =
+                    CompletableFuture.supplyAsync(() -> queue.acquire(limiter::tryAcquire), executor);
+
+            ConcurrencyLimiter.Permit first = parked.get(2, TimeUnit.SECONDS);
+            assertNotNull(first);
+            first.release();
+            newcomer.get(2, TimeUnit.SECONDS).release();
+        }
+
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void waiterGivesUpAfterInterval() {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(1));
+        CoDelAdmissionQueue queue = new CoDelAdmissionQueue(Duration.ofMillis(5), Duration.ofMillis(20), 10);
+
+        assertNotNull(queue.acquire(limiter::tryAcquire));
+
+        long start = System.nanoTime();
+        assertNull(queue.acquire(limiter::tryAcquire));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(waitedMillis >= 15, "waited " + waitedMillis + "ms");
+        assertEquals(0, queue.queued());
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(1));
+        CoDelAdmissionQueue queue = new CoDelAdmissionQueue(Duration.ofMillis(50), Duration.ofSeconds(5), 1);
+
+        ConcurrencyLimiter.Permit held = queue.acquire(limiter::tryAcquire);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<ConcurrencyLimiter.Permit> waiting =
+                    CompletableFuture.supplyAsync(() -> queue.acquire(limiter::tryAcquire), executor);
+            awaitQueued(queue, 1);
+
+            long start = System.nanoTime();
+            assertNull(queue.acquire(limiter::tryAcquire));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+
+            held.release();
+            waiting.get(2, TimeUnit.SECONDS).release();
+        }
+    }
+
+    @Test
+    void disabledQueueNeverWaits() {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(1));
+        CoDelAdmissionQueue queue = CoDelAdmissionQueue.disabled();
+
+        assertNotNull(queue.acquire(limiter::tryAcquire));
+        assertNull(queue.acquire(limiter::tryAcquire));
+        assertEquals(0, queue.queued());
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CoDelAdmissionQueue(Duration.ZERO, Duration.ofMillis(10), 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CoDelAdmissionQueue(Duration.ofMillis(10), Duration.ofMillis(5), 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CoDelAdmissionQueue(Duration.ofMillis(5), Duration.ofMillis(10), 0));
+    }
+
+    private static void awaitQueued(CoDelAdmissionQueue queue, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (queue.queued() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, queue.queued());
+    }
+}
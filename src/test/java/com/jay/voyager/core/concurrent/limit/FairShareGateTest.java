@@ -0,0 +1,72 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FairShareGateTest {
+
+    @Test
+    void tenantOverShareCannotTakeLastFreeCapacity() {
+        // limit 8, cap 2 per tenant: above its cap a tenant may borrow until only 2 permits are free
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(8));
+        FairShareGate gate = new FairShareGate(limiter, 0.25, 16);
+
+        for (int i = 0; i < 6; i++) {
+            assertNotNull(gate.tryAcquire("noisy", limiter), "permit " + i);
+        }
+        assertNull(gate.tryAcquire("noisy", limiter), "noisy tenant must leave a cap's worth free");
+        assertEquals(6, gate.inFlight("noisy"));
+
+        assertNotNull(gate.tryAcquire("quiet", limiter));
+        assertNotNull(gate.tryAcquire("quiet", limiter));
+        assertEquals(8, limiter.inFlight());
+    }
+
+    @Test
+    void tenantWithinShareIsOnlyLimitedByLimiter() {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(2));
+        FairShareGate gate = new FairShareGate(limiter, 1.0, 4);
+
+        assertNotNull(gate.tryAcquire("a", limiter));
+        assertNotNull(gate.tryAcquire("b", limiter));
+        assertNull(gate.tryAcquire("c", limiter));
+
+        // rejected by the limiter, tenant counter is rolled back
+        assertEquals(0, gate.inFlight("c"));
+    }
+
+    @Test
+    void releaseDecrementsTenantOnceAndDelegates() {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(4));
+        FairShareGate gate = new FairShareGate(limiter, 0.5, 4);
+
+        ConcurrencyLimiter.Permit permit = gate.tryAcquire("a", limiter);
+        permit.releaseIgnored();
+        permit.release();
+
+        assertEquals(0, gate.inFlight("a"));
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void disabledGateDelegatesToLimiter() {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(2));
+        FairShareGate gate = FairShareGate.disabled();
+
+        assertNotNull(gate.tryAcquire("a", limiter));
+        assertNotNull(gate.tryAcquire("a", limiter));
+        assertNull(gate.tryAcquire("a", limiter));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(2));
+
+        assertThrows(IllegalArgumentException.class, () -> new FairShareGate(limiter, 0.0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new FairShareGate(limiter, 0.5, 0));
+    }
+}
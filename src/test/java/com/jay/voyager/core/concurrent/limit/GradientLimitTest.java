@@ -0,0 +1,90 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradientLimitTest {
+
+    private static final long BASELINE_NANOS = Duration.ofMillis(10).toNanos();
+
+    @Test
+    void growsWhileLatencyStaysAtBaseline() {
+        GradientLimit limit = new GradientLimit(100, 10, 1000, 0.2, 1.5, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(BASELINE_NANOS, limit.limit(), false);
+        }
+
+        assertTrue(limit.limit() > 100, "limit should grow, was " + limit.limit());
+    }
+
+    @Test
+    void shrinksWhenLatencyInflates() {
+        GradientLimit limit = new GradientLimit(100, 10, 1000, 0.2, 1.5, 100);
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(BASELINE_NANOS, limit.limit(), false);
+        }
+        int before = limit.limit();
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(BASELINE_NANOS * 10, limit.limit(), false);
+        }
+
+        assertTrue(limit.limit() < before, "limit should shrink from " + before + ", was " + limit.limit());
+    }
+
+    @Test
+    void doesNotGrowWhenAppLimited() {
+        GradientLimit limit = new GradientLimit(100, 10, 1000, 0.2, 1.5, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(BASELINE_NANOS, 1, false);
+        }
+
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    void dropShrinksLimitEvenWhenAppLimited() {
+        GradientLimit limit = new GradientLimit(100, 10, 1000, 1.0, 1.5, 100);
+
+        limit.onSample(BASELINE_NANOS, 1, true);
+
+        // 100 * 0.5 + sqrt(100)
+        assertEquals(60, limit.limit());
+    }
+
+    @Test
+    void neverDropsBelowMinLimit() {
+        GradientLimit limit = new GradientLimit(20, 15, 1000, 1.0, 1.0, 10);
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(BASELINE_NANOS, limit.limit(), true);
+        }
+
+        assertEquals(15, limit.limit());
+    }
+
+    @Test
+    void ignoresNonPositiveSamples() {
+        GradientLimit limit = new GradientLimit(100, 10, 1000, 1.0, 1.5, 100);
+
+        limit.onSample(0, 100, true);
+
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new GradientLimit(100, 10, 1000, 0.0, 1.5, 100));
+        assertThrows(IllegalArgumentException.class, () -> new GradientLimit(100, 10, 1000, 0.2, 0.9, 100));
+        assertThrows(IllegalArgumentException.class, () -> new GradientLimit(100, 10, 1000, 0.2, 1.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new GradientLimit(5, 10, 1000, 0.2, 1.5, 100));
+    }
+}
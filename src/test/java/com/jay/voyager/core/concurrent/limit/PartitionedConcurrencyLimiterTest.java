@@ -0,0 +1,144 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionedConcurrencyLimiterTest {
+
+    private enum Lane { HIGH, LOW }
+
+    @Test
+    void borrowingNeverConsumesAnotherPartitionsReservation() {
+        // limit 10: HIGH reserves 4, LOW may borrow up to the full limit
+        PartitionedConcurrencyLimiter<Lane> limiter = limiter(10, 0.4, 1.0, 0.0, 1.0);
+
+        for (int i = 0; i < 6; i++) {
+            assertNotNull(limiter.partition(Lane.LOW).tryAcquire());
+        }
+        assertNull(limiter.partition(Lane.LOW).tryAcquire(), "LOW must not borrow HIGH's reservation");
+
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(limiter.partition(Lane.HIGH).tryAcquire());
+        }
+        assertNull(limiter.partition(Lane.HIGH).tryAcquire(), "total limit reached");
+        assertEquals(10, limiter.inFlight());
+    }
+
+    @Test
+    void partitionIsCappedByMaxShare() {
+        PartitionedConcurrencyLimiter<Lane> limiter = limiter(10, 0.0, 1.0, 0.0, 0.3);
+
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(limiter.partition(Lane.LOW).tryAcquire());
+        }
+        assertNull(limiter.partition(Lane.LOW).tryAcquire());
+
+        assertEquals(3, limiter.partition(Lane.LOW).limit());
+        assertEquals(3, limiter.partition(Lane.LOW).inFlight());
+        assertNotNull(limiter.partition(Lane.HIGH).tryAcquire());
+    }
+
+    @Test
+    void releaseReturnsPermitToPartitionOnce() {
+        PartitionedConcurrencyLimiter<Lane> limiter = limiter(1, 0.0, 1.0, 0.0, 1.0);
+
+        ConcurrencyLimiter.Permit permit = limiter.partition(Lane.LOW).tryAcquire();
+        assertNull(limiter.partition(Lane.HIGH).tryAcquire());
+
+        permit.release();
+        permit.release();
+
+        assertEquals(0, limiter.inFlight());
+        assertEquals(0, limiter.partition(Lane.LOW).inFlight());
+        assertNotNull(limiter.partition(Lane.HIGH).tryAcquire());
+        assertNull(limiter.partition(Lane.LOW).tryAcquire());
+    }
+
+    @Test
+    void sharesFollowTheLimitAlgorithm() {
+        AimdLimit algorithm = new AimdLimit(10, 1, 100, 0.5, Duration.ofSeconds(1));
+        PartitionedConcurrencyLimiter<Lane> limiter = new PartitionedConcurrencyLimiter<>(
+                algorithm,
+                Lane.class,
+                Map.of(
+                        Lane.HIGH, new PartitionedConcurrencyLimiter.Share(0.5, 1.0),
+                        Lane.LOW, new PartitionedConcurrencyLimiter.Share(0.0, 0.5)
+                )
+        );
+
+        assertEquals(5, limiter.partition(Lane.LOW).limit());
+
+        limiter.partition(Lane.HIGH).tryAcquire().releaseDropped();
+
+        assertEquals(5, limiter.limit());
+        assertEquals(3, limiter.partition(Lane.LOW).limit());
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedTheLimit() throws InterruptedException {
+        PartitionedConcurrencyLimiter<Lane> limiter = limiter(8, 0.5, 1.0, 0.0, 1.0);
+        AtomicInteger holding = new AtomicInteger();
+        AtomicInteger maxHolding = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (Lane lane : List.of(Lane.HIGH, Lane.LOW, Lane.HIGH, Lane.LOW)) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ConcurrencyLimiter.Permit permit = limiter.partition(lane).tryAcquire();
+                    if (permit != null) {
+                        maxHolding.accumulateAndGet(holding.incrementAndGet(), Math::max);
+                        holding.decrementAndGet();
+                        permit.release();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(maxHolding.get() <= 8, "held " + maxHolding.get());
+        assertEquals(0, limiter.inFlight());
+        assertEquals(0, limiter.partition(Lane.HIGH).inFlight());
+        assertEquals(0, limiter.partition(Lane.LOW).inFlight());
+    }
+
+    @Test
+    void rejectsInvalidShares() {
+        assertThrows(IllegalArgumentException.class, () -> limiter(10, 0.6, 1.0, 0.6, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedConcurrencyLimiter.Share(0.5, 0.4));
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedConcurrencyLimiter<>(
+                new FixedLimit(10),
+                Lane.class,
+                Map.of(Lane.HIGH, new PartitionedConcurrencyLimiter.Share(0.0, 1.0))
+        ));
+    }
+
+    private static PartitionedConcurrencyLimiter<Lane> limiter(
+            int limit,
+            double highReserved,
+            double highMax,
+            double lowReserved,
+            double lowMax
+    ) {
+        return new PartitionedConcurrencyLimiter<>(
+                new FixedLimit(limit),
+                Lane.class,
+                Map.of(
+                        Lane.HIGH, new PartitionedConcurrencyLimiter.Share(highReserved, highMax),
+                        Lane.LOW, new PartitionedConcurrencyLimiter.Share(lowReserved, lowMax)
+                )
+        );
+    }
+}
@@ -0,0 +1,210 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledConcurrencyLimiterTest {
+
+    @Test
+    void rejectsOnceLimitIsReached() {
+        PooledConcurrencyLimiter limiter = new PooledConcurrencyLimiter(new FixedLimit(2), 2);
+
+        assertNotNull(limiter.tryAcquire());
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+        assertEquals(2, limiter.inFlight());
+    }
+
+    @Test
+    void limitIsCappedByCapacity() {
+        PooledConcurrencyLimiter limiter = new PooledConcurrencyLimiter(new FixedLimit(10), 2);
+
+        assertEquals(2, limiter.limit());
+        assertEquals(2, limiter.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new PooledConcurrencyLimiter(new FixedLimit(1), 0));
+    }
+
+    @Test
+    void permitsAreReusedWithoutAllocating() {
+        PooledConcurrencyLimiter limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
+
+        PooledConcurrencyLimiter.PooledPermit first = limiter.tryAcquire();
+        first.release(first.stamp());
+        PooledConcurrencyLimiter.PooledPermit second = limiter.tryAcquire();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void staleStampDoesNotReleaseLaterHold() {
+        PooledConcurrencyLimiter limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
+
+        PooledConcurrencyLimiter.PooledPermit permit = limiter.tryAcquire();
+        long firstStamp = permit.stamp();
+        permit.release(firstStamp);
+        permit.release(firstStamp);
+
+        PooledConcurrencyLimiter.PooledPermit reused = limiter.tryAcquire();
+        long secondStamp = reused.stamp();
+        assertNotEquals(firstStamp, secondStamp);
+
+        reused.releaseDropped(firstStamp);
+        reused.releaseIgnored(secondStamp - 1); // a free stamp never releases anything
+        assertEquals(1, limiter.inFlight());
+        assertNull(limiter.tryAcquire());
+
+        reused.release(secondStamp);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void reportsSampleWithHoldTimeAndInFlight() {
+        RecordingLimit algorithm = new RecordingLimit(10);
+        AtomicLong clock = new AtomicLong(1_000);
+        PooledConcurrencyLimiter limiter = new PooledConcurrencyLimiter(algorithm, 10, clock::get);
+
+        limiter.tryAcquire();
+        PooledConcurrencyLimiter.PooledPermit permit = limiter.tryAcquire();
+        clock.addAndGet(500);
+        permit.releaseDropped(permit.stamp());
+
+        assertEquals(1, algorithm.samples);
+        assertEquals(500, algorithm.lastRtt);
+        assertEquals(2, algorithm.lastInFlight);
+        assertTrue(algorithm.lastDropped);
+    }
+
+    @Test
+    void ignoredReleaseDoesNotSample() {
+        RecordingLimit algorithm = new RecordingLimit(10);
+        PooledConcurrencyLimiter limiter = new PooledConcurrencyLimiter(algorithm, 10);
+
+        PooledConcurrencyLimiter.PooledPermit permit = limiter.tryAcquire();
+        permit.releaseIgnored(permit.stamp());
+
+        assertEquals(0, algorithm.samples);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void followsLimitChangesUpToCapacity() {
+        RecordingLimit algorithm = new RecordingLimit(1);
+        PooledConcurrencyLimiter limiter = new PooledConcurrencyLimiter(algorithm, 2);
+
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+
+        algorithm.limit = 3;
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+        assertEquals(2, limiter.limit());
+    }
+
+    @Test
+    void boundedWaitGetsPermitReleasedInTime() throws InterruptedException {
+        PooledConcurrencyLimiter limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
+        PooledConcurrencyLimiter.PooledPermit held = limiter.tryAcquire();
+        long stamp = held.stamp();
+
+        Thread releaser = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(Duration.ofMillis(20));
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+            held.release(stamp);
+        });
+
+        assertNotNull(limiter.tryAcquire(TimeUnit.SECONDS.toNanos(5)));
+        releaser.join();
+    }
+
+    @Test
+    void boundedWaitGivesUp() {
+        PooledConcurrencyLimiter limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
+        limiter.tryAcquire();
+
+        long startNanos = System.nanoTime();
+        assertNull(limiter.tryAcquire(TimeUnit.MILLISECONDS.toNanos(10)));
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    void neverExceedsLimitUnderContention() throws InterruptedException {
+        int limit = 4;
+        PooledConcurrencyLimiter limiter = new PooledConcurrencyLimiter(new FixedLimit(limit), limit);
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException _) {
+                    return;
+                }
+                for (int i = 0; i < 2_000; i++) {
+                    PooledConcurrencyLimiter.PooledPermit permit = limiter.tryAcquire();
+                    if (permit == null) {
+                        continue;
+                    }
+                    long stamp = permit.stamp();
+                    maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                    concurrent.decrementAndGet();
+                    permit.release(stamp);
+                    permit.release(stamp);
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(maxConcurrent.get() <= limit);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    private static final class RecordingLimit implements LimitAlgorithm {
+
+        private volatile int limit;
+        private int samples;
+        private long lastRtt;
+        private int lastInFlight;
+        private boolean lastDropped;
+
+        RecordingLimit(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int limit() {
+            return limit;
+        }
+
+        @Override
+        public void onSample(long rttNanos, int inFlight, boolean dropped) {
+            samples++;
+            lastRtt = rttNanos;
+            lastInFlight = inFlight;
+            lastDropped = dropped;
+        }
+    }
+}
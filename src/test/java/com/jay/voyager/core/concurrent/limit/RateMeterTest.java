@@ -0,0 +1,72 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateMeterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void reportsZeroBeforeFirstTick() {
+        AtomicLong clock = new AtomicLong();
+        RateMeter meter = new RateMeter(clock::get);
+
+        meter.record();
+        clock.addAndGet(50 * MILLIS);
+
+        assertEquals(0.0, meter.ratePerSecond());
+    }
+
+    @Test
+    void firstTickUsesInstantRate() {
+        AtomicLong clock = new AtomicLong();
+        RateMeter meter = new RateMeter(clock::get);
+
+        for (int i = 0; i < 20; i++) {
+            meter.record();
+        }
+        clock.addAndGet(200 * MILLIS);
+
+        assertEquals(100.0, meter.ratePerSecond(), 0.001);
+    }
+
+    @Test
+    void laterTicksAreSmoothed() {
+        AtomicLong clock = new AtomicLong();
+        RateMeter meter = new RateMeter(clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            meter.record();
+        }
+        clock.addAndGet(100 * MILLIS);
+        assertEquals(100.0, meter.ratePerSecond(), 0.001);
+
+        // no events in the next tick: 100 + 0.3 * (0 - 100)
+        clock.addAndGet(100 * MILLIS);
+        assertEquals(70.0, meter.ratePerSecond(), 0.001);
+
+        // within the same tick the estimate is not recomputed
+        clock.addAndGet(10 * MILLIS);
+        assertEquals(70.0, meter.ratePerSecond(), 0.001);
+    }
+
+    @Test
+    void quietTicksBetweenReadsAllDecayTheEstimate() {
+        AtomicLong clock = new AtomicLong();
+        RateMeter meter = new RateMeter(clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            meter.record();
+        }
+        clock.addAndGet(100 * MILLIS);
+        assertEquals(100.0, meter.ratePerSecond(), 0.001);
+
+        // three quiet ticks read at once decay like three reads: 100 * 0.7^3
+        clock.addAndGet(300 * MILLIS);
+        assertEquals(34.3, meter.ratePerSecond(), 0.001);
+    }
+}
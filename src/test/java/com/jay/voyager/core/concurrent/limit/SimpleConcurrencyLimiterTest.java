@@ -0,0 +1,103 @@
+package com.jay.voyager.core.concurrent.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SimpleConcurrencyLimiterTest {
+
+    @Test
+    void rejectsOnceLimitIsReached() {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(2));
+
+        assertNotNull(limiter.tryAcquire());
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+        assertEquals(2, limiter.inFlight());
+    }
+
+    @Test
+    void releaseFreesPermitOnlyOnce() {
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(1));
+
+        ConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        permit.release();
+        permit.release();
+        permit.releaseDropped();
+
+        assertEquals(0, limiter.inFlight());
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+    }
+
+    @Test
+    void reportsSampleWithHoldTimeAndInFlight() {
+        RecordingLimit algorithm = new RecordingLimit(10);
+        AtomicLong clock = new AtomicLong(1_000);
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(algorithm, clock::get);
+
+        limiter.tryAcquire();
+        ConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        clock.addAndGet(500);
+        permit.releaseDropped();
+
+        assertEquals(1, algorithm.samples);
+        assertEquals(500, algorithm.lastRtt);
+        assertEquals(2, algorithm.lastInFlight);
+        assertEquals(true, algorithm.lastDropped);
+    }
+
+    @Test
+    void ignoredReleaseDoesNotSample() {
+        RecordingLimit algorithm = new RecordingLimit(10);
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(algorithm);
+
+        limiter.tryAcquire().releaseIgnored();
+
+        assertEquals(0, algorithm.samples);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void followsLimitChanges() {
+        RecordingLimit algorithm = new RecordingLimit(1);
+        SimpleConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(algorithm);
+
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+
+        algorithm.limit = 2;
+        assertNotNull(limiter.tryAcquire());
+        assertEquals(2, limiter.limit());
+    }
+
+    private static final class RecordingLimit implements LimitAlgorithm {
+
+        private volatile int limit;
+        private int samples;
+        private long lastRtt;
+        private int lastInFlight;
+        private boolean lastDropped;
+
+        RecordingLimit(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int limit() {
+            return limit;
+        }
+
+        @Override
+        public void onSample(long rttNanos, int inFlight, boolean dropped) {
+            samples++;
+            lastRtt = rttNanos;
+            lastInFlight = inFlight;
+            lastDropped = dropped;
+        }
+    }
+}
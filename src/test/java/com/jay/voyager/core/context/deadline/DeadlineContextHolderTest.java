@@ -0,0 +1,37 @@
+package com.jay.voyager.core.context.deadline;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DeadlineContextHolderTest {
+
+    @Test
+    void unboundIsNone() {
+        assertSame(Deadline.NONE, DeadlineContextHolder.context());
+    }
+
+    @Test
+    void bindingEndsWithTheCall() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(1));
+
+        DeadlineContextHolder.where(deadline).run(() -> assertSame(deadline, DeadlineContextHolder.context()));
+
+        assertSame(Deadline.NONE, DeadlineContextHolder.context());
+    }
+
+    @Test
+    void nestedBindingOnlyTightens() {
+        Deadline outer = Deadline.after(Duration.ofSeconds(1));
+        Deadline later = Deadline.after(Duration.ofSeconds(10));
+        Deadline sooner = Deadline.after(Duration.ofMillis(500));
+
+        DeadlineContextHolder.where(outer).run(() -> {
+            DeadlineContextHolder.where(later).run(() -> assertSame(outer, DeadlineContextHolder.context()));
+            DeadlineContextHolder.where(sooner).run(() -> assertSame(sooner, DeadlineContextHolder.context()));
+            DeadlineContextHolder.where(null).run(() -> assertSame(outer, DeadlineContextHolder.context()));
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package com.jay.voyager.core.context.deadline;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineTest {
+
+    @Test
+    void noneNeverExpiresAndDoesNotCap() {
+        Duration timeout = Duration.ofSeconds(5);
+
+        assertTrue(Deadline.NONE.isNone());
+        assertFalse(Deadline.NONE.isExpired());
+        assertSame(timeout, Deadline.NONE.cap(timeout));
+        assertThrows(IllegalStateException.class, Deadline.NONE::remainingNanos);
+    }
+
+    @Test
+    void futureDeadlineHasTimeLeft() {
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+        assertFalse(deadline.isNone());
+        assertFalse(deadline.isExpired());
+        assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(59)) > 0);
+        assertTrue(deadline.remaining().compareTo(Duration.ofMinutes(1)) <= 0);
+    }
+
+    @Test
+    void zeroOrNegativeBudgetIsExpired() {
+        assertTrue(Deadline.after(Duration.ZERO).isExpired());
+        assertTrue(Deadline.after(Duration.ofMillis(-10)).isExpired());
+        assertEquals(Duration.ZERO, Deadline.after(Duration.ofMillis(-10)).remaining());
+    }
+
+    @Test
+    void capShortensLongerTimeoutsOnly() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(1));
+
+        Duration shortTimeout = Duration.ofMillis(100);
+        assertSame(shortTimeout, deadline.cap(shortTimeout));
+        assertTrue(deadline.cap(Duration.ofSeconds(30)).compareTo(Duration.ofSeconds(1)) <= 0);
+        assertEquals(Duration.ZERO, Deadline.after(Duration.ZERO).cap(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void hugeBudgetDoesNotOverflow() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(Long.MAX_VALUE));
+
+        assertFalse(deadline.isExpired());
+        Duration timeout = Duration.ofSeconds(30);
+        assertSame(timeout, deadline.cap(timeout));
+    }
+
+    @Test
+    void earliestPicksEarlierAndIgnoresNone() {
+        Deadline soon = Deadline.after(Duration.ofSeconds(1));
+        Deadline later = Deadline.after(Duration.ofSeconds(10));
+
+        assertSame(soon, soon.earliest(later));
+        assertSame(soon, later.earliest(soon));
+        assertSame(soon, Deadline.NONE.earliest(soon));
+        assertSame(soon, soon.earliest(Deadline.NONE));
+        assertSame(Deadline.NONE, Deadline.NONE.earliest(Deadline.NONE));
+    }
+}
@@ -45,4 +45,33 @@ class IdentityContextHolderTest {
         assertNotSame(snapshot, context); //getContext returns a copy of snapshot
         assertEquals(identity, context.identity());
     }
-}
\ No newline at end of file
+
+    @Test
+    void scopedBindingTakesPrecedenceAndEndsWithCall() {
+        IdentityContextSnapshot local = IdentityContextSnapshot.of(new Identity("user-local", "req-local"));
+        IdentityContextSnapshot scoped = IdentityContextSnapshot.of(new Identity("user-scoped", "req-scoped"));
+        IdentityContextHolder.context(local);
+
+        IdentityContextHolder.where(scoped).run(() ->
+                assertEquals(scoped, IdentityContextHolder.context())
+        );
+
+        assertEquals(local, IdentityContextHolder.context());
+    }
+
+    @Test
+    void scopedNullBindsEmpty() {
+        IdentityContextHolder.context(IdentityContextSnapshot.of(new Identity("user-local", "req-local")));
+
+        IdentityContextHolder.where(null).run(() ->
+                assertSame(IdentityContextSnapshot.EMPTY, IdentityContextHolder.context())
+        );
+    }
+
+    @Test
+    void scopedEmptyIdentityIsNormalizedToSentinel() {
+        IdentityContextHolder.where(new IdentityContextSnapshot(new Identity(null, null))).run(() ->
+                assertSame(IdentityContextSnapshot.EMPTY, IdentityContextHolder.context())
+        );
+    }
+}
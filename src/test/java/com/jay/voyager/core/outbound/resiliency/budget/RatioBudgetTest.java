@@ -0,0 +1,57 @@
+package com.jay.voyager.core.outbound.resiliency.budget;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RatioBudgetTest {
+
+    @Test
+    void allowsOneWithdrawalPerTenRequestsAtTenPercent() {
+        var budget = new RatioBudget(0.1, 10);
+
+        for (int i = 0; i < 9; i++) {
+            budget.onRequest();
+        }
+        assertFalse(budget.tryWithdraw());
+
+        budget.onRequest();
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void balanceIsCappedAtMaxBalance() {
+        var budget = new RatioBudget(0.5, 2);
+
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest();
+        }
+
+        assertEquals(2.0, budget.balance());
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void zeroRatioNeverAllowsWithdrawal() {
+        var budget = new RatioBudget(0.0, 10);
+
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest();
+        }
+
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RatioBudget(-0.1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new RatioBudget(1.1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new RatioBudget(0.1, 0));
+    }
+}
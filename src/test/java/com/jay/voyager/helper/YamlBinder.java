@@ -18,8 +18,12 @@ public final class YamlBinder {
     private final Binder binder;
 
     public YamlBinder() throws IOException {
+        this(APP_YAML);
+    }
+
+    public YamlBinder(String yaml) throws IOException {
         YamlPropertySourceLoader loader = new YamlPropertySourceLoader();
-        ClassPathResource resource = new ClassPathResource(APP_YAML);
+        ClassPathResource resource = new ClassPathResource(yaml);
 
         List<PropertySource<?>> sources = loader.load("testAppYaml", resource);
 
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 
+import com.jay.voyager.core.observability.mdc.MdcPropagationMode;
 import com.jay.voyager.infra.concurrent.propagation.mdc.MdcContextPropagator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -61,4 +62,23 @@ class PlatformVirtualThreadFactoryTest {
 
         assertEquals("parent", MDC.get("mdc-key"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void newThreadSeesParentMdcInSnapshotMode() throws InterruptedException {
+        final ThreadFactory factory = new PlatformVirtualThreadFactory(
+                List.of(new MdcContextPropagator(MdcPropagationMode.SNAPSHOT)));
+
+        MDC.put("mdc-key", "parent");
+        AtomicReference<String> inside = new AtomicReference<>();
+
+        Thread thread = factory.newThread(() -> {
+            inside.set(MDC.get("mdc-key"));
+            MDC.put("mdc-key", "child");
+        });
+        thread.start();
+        thread.join();
+
+        assertEquals("parent", inside.get());
+        assertEquals("parent", MDC.get("mdc-key"));
+    }
+}
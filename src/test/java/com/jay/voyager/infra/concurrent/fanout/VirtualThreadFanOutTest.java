@@ -0,0 +1,257 @@
+package com.jay.voyager.infra.concurrent.fanout;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import com.jay.voyager.core.concurrent.fanout.FanOutException;
+import com.jay.voyager.core.concurrent.fanout.PartialResults;
+import com.jay.voyager.core.concurrent.fanout.TaskOutcome;
+import com.jay.voyager.core.context.identity.Identity;
+import com.jay.voyager.core.context.identity.IdentityContextHolder;
+import com.jay.voyager.core.context.identity.IdentityContextSnapshot;
+import com.jay.voyager.infra.concurrent.PlatformVirtualThreadFactory;
+import com.jay.voyager.infra.concurrent.propagation.identity.IdentityContextPropagator;
+import com.jay.voyager.infra.concurrent.propagation.mdc.MdcContextPropagator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadFanOutTest {
+
+    private static final Duration DEADLINE = Duration.ofSeconds(5);
+
+    private final VirtualThreadFanOut fanOut = new VirtualThreadFanOut(new PlatformVirtualThreadFactory(List.of(
+            new IdentityContextPropagator(),
+            new MdcContextPropagator()
+    )));
+
+    @BeforeEach
+    void setUp() {
+        MDC.clear();
+        IdentityContextHolder.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        IdentityContextHolder.clear();
+    }
+
+    @Test
+    void joinAllReturnsResultsInTaskOrder() {
+        List<String> results = fanOut.joinAll(List.of(
+                delayed("slow", 50),
+                () -> "fast",
+                () -> null
+        ), DEADLINE);
+
+        assertEquals("slow", results.get(0));
+        assertEquals("fast", results.get(1));
+        assertNull(results.get(2));
+    }
+
+    @Test
+    void joinAllRethrowsFirstFailureAndCancelsSiblings() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> fanOut.joinAll(List.of(
+                blockUntilInterrupted(interrupted),
+                () -> {
+                    throw failure;
+                }
+        ), DEADLINE));
+
+        assertSame(failure, thrown);
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void joinAllWrapsCheckedFailures() {
+        IOException failure = new IOException("io");
+
+        FanOutException thrown = assertThrows(FanOutException.class, () -> fanOut.joinAll(List.<Callable<String>>of(
+                () -> {
+                    throw failure;
+                }
+        ), DEADLINE));
+
+        assertEquals(FanOutException.Reason.TASK_FAILED, thrown.reason());
+        assertSame(failure, thrown.getCause());
+    }
+
+    @Test
+    void joinAllCancelsEverythingAtDeadline() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        FanOutException thrown = assertThrows(FanOutException.class, () -> fanOut.joinAll(List.of(
+                blockUntilInterrupted(interrupted),
+                () -> "done"
+        ), Duration.ofMillis(50)));
+
+        assertEquals(FanOutException.Reason.DEADLINE_EXCEEDED, thrown.reason());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cancelledTasksHaveFinishedWhenTheCallReturns() {
+        AtomicBoolean finished = new AtomicBoolean();
+
+        assertThrows(FanOutException.class, () -> fanOut.joinAll(List.of(
+                () -> {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        // slow cleanup after the cancellation
+                        Thread.sleep(100);
+                        finished.set(true);
+                        throw e;
+                    }
+                    return "never";
+                }
+        ), Duration.ofMillis(50)));
+
+        assertTrue(finished.get());
+    }
+
+    @Test
+    void firstSuccessReturnsFirstResultAndCancelsOthers() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        String result = fanOut.firstSuccess(List.of(
+                blockUntilInterrupted(interrupted),
+                () -> {
+                    throw new IllegalStateException("ignored while another task can still succeed");
+                },
+                delayed("winner", 20)
+        ), DEADLINE);
+
+        assertEquals("winner", result);
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void firstSuccessRethrowsWhenAllFail() {
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalArgumentException second = new IllegalArgumentException("second");
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> fanOut.firstSuccess(List.<Callable<String>>of(
+                () -> {
+                    throw first;
+                },
+                () -> {
+                    Thread.sleep(50);
+                    throw second;
+                }
+        ), DEADLINE));
+
+        assertSame(first, thrown);
+        assertSame(second, thrown.getSuppressed()[0]);
+    }
+
+    @Test
+    void firstSuccessNeedsTasks() {
+        assertThrows(IllegalArgumentException.class, () -> fanOut.firstSuccess(List.of(), DEADLINE));
+    }
+
+    @Test
+    void partialResultsKeepsSuccessesAndReportsFailuresAndCancellations() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        PartialResults<String> results = fanOut.partialResults(List.of(
+                () -> "ok",
+                () -> {
+                    throw failure;
+                },
+                blockUntilInterrupted(interrupted)
+        ), Duration.ofMillis(100));
+
+        assertEquals(List.of("ok"), results.successes());
+        assertFalse(results.isComplete());
+        assertEquals(TaskOutcome.succeeded("ok"), results.outcomes().get(0));
+        assertSame(failure, results.outcomes().get(1).failure());
+        assertEquals(TaskOutcome.State.CANCELLED, results.outcomes().get(2).state());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void partialResultsCompleteWhenAllSucceed() {
+        PartialResults<Integer> results = fanOut.partialResults(List.of(() -> 1, () -> 2), DEADLINE);
+
+        assertTrue(results.isComplete());
+        assertEquals(List.of(1, 2), results.successes());
+    }
+
+    @Test
+    void tasksSeeCallerIdentityAndMdc() {
+        IdentityContextHolder.context(IdentityContextSnapshot.of(new Identity("user-001", "req-001")));
+        MDC.put("mdc-key", "parent");
+
+        List<String> results = fanOut.joinAll(List.of(
+                () -> IdentityContextHolder.context().identity().userId(),
+                () -> MDC.get("mdc-key")
+        ), DEADLINE);
+
+        assertEquals(List.of("user-001", "parent"), results);
+    }
+
+    @Test
+    void rejectsNonPositiveDeadline() {
+        assertThrows(IllegalArgumentException.class, () -> fanOut.joinAll(List.of(() -> 1), Duration.ZERO));
+    }
+
+    @Test
+    void interruptedCallerCancelsTasks() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Thread.currentThread().interrupt();
+        try {
+            FanOutException thrown = assertThrows(FanOutException.class, () -> fanOut.joinAll(List.of(
+                    blockUntilInterrupted(interrupted)
+            ), DEADLINE));
+
+            assertEquals(FanOutException.Reason.INTERRUPTED, thrown.reason());
+            assertInstanceOf(InterruptedException.class, thrown.getCause());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    private static <T> Callable<T> delayed(T value, long millis) {
+        return () -> {
+            Thread.sleep(millis);
+            return value;
+        };
+    }
+
+    private static Callable<String> blockUntilInterrupted(CountDownLatch interrupted) {
+        return () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return "never";
+        };
+    }
+}
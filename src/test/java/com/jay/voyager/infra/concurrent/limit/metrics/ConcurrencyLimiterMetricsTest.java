@@ -0,0 +1,50 @@
+package com.jay.voyager.infra.concurrent.limit.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.concurrent.limit.ConcurrencyLimiter;
+import com.jay.voyager.core.concurrent.limit.FixedLimit;
+import com.jay.voyager.core.concurrent.limit.SimpleConcurrencyLimiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConcurrencyLimiterMetricsTest {
+
+    @Test
+    void publishesLimitAndInFlightGauges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(5));
+
+        new ConcurrencyLimiterMetrics("inbound", limiter).bindTo(registry);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        Gauge limit = registry.get(ConcurrencyLimiterMetrics.LIMIT_METER)
+                .tag(ConcurrencyLimiterMetrics.NAME_TAG, "inbound")
+                .gauge();
+        Gauge inFlight = registry.get(ConcurrencyLimiterMetrics.IN_FLIGHT_METER)
+                .tag(ConcurrencyLimiterMetrics.NAME_TAG, "inbound")
+                .gauge();
+
+        assertEquals(5.0, limit.value());
+        assertEquals(2.0, inFlight.value());
+    }
+
+    @Test
+    void tagsPartitionWhenGiven() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConcurrencyLimiter limiter = new SimpleConcurrencyLimiter(new FixedLimit(3));
+
+        new ConcurrencyLimiterMetrics("inbound", "critical", limiter).bindTo(registry);
+
+        Gauge limit = registry.get(ConcurrencyLimiterMetrics.LIMIT_METER)
+                .tag(ConcurrencyLimiterMetrics.NAME_TAG, "inbound")
+                .tag(ConcurrencyLimiterMetrics.PARTITION_TAG, "critical")
+                .gauge();
+
+        assertEquals(3.0, limit.value());
+    }
+}
@@ -0,0 +1,59 @@
+package com.jay.voyager.infra.concurrent.propagation.deadline;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DeadlineContextPropagatorTest {
+
+    private final DeadlineContextPropagator propagator = new DeadlineContextPropagator();
+
+    @Test
+    void withoutDeadlineTaskIsReturnedUnchanged() {
+        Runnable runnable = () -> {};
+        Callable<String> callable = () -> "done";
+
+        assertSame(runnable, propagator.propagate(runnable));
+        assertSame(callable, propagator.propagate(callable));
+    }
+
+    @Test
+    void runnablePropagateBindsCapturedOnOtherThread() throws InterruptedException {
+        Deadline captured = Deadline.after(Duration.ofSeconds(5));
+
+        Deadline[] inside = new Deadline[2];
+        Runnable propagated = DeadlineContextHolder.where(captured).call(() ->
+                propagator.propagate(() -> {
+                    inside[0] = DeadlineContextHolder.context();
+                })
+        );
+
+        Thread thread = new Thread(() -> {
+            propagated.run();
+            inside[1] = DeadlineContextHolder.context();
+        });
+        thread.start();
+        thread.join();
+
+        assertSame(captured, inside[0]);
+        assertSame(Deadline.NONE, inside[1]); // binding ends with the task
+    }
+
+    @Test
+    void callablePropagateBindsCaptured() throws Exception {
+        Deadline captured = Deadline.after(Duration.ofSeconds(5));
+
+        Callable<Deadline> propagated = DeadlineContextHolder.where(captured).call(() ->
+                propagator.propagate(DeadlineContextHolder::context)
+        );
+
+        assertSame(captured, propagated.call());
+        assertSame(Deadline.NONE, DeadlineContextHolder.context());
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.jay.voyager.core.context.identity.Identity;
+import com.jay.voyager.core.context.identity.IdentityBindingMode;
 import com.jay.voyager.core.context.identity.IdentityContextHolder;
 import com.jay.voyager.core.context.identity.IdentityContextSnapshot;
 
@@ -131,4 +132,43 @@ class IdentityContextPropagatorTest {
 
         assertEquals(previous, IdentityContextHolder.context());
     }
-}
\ No newline at end of file
+
+    @Test
+    void scopedRunnablePropagateBindsCapturedOnOtherThread() throws InterruptedException {
+        IdentityContextPropagator scopedPropagator = new IdentityContextPropagator(IdentityBindingMode.SCOPED_VALUE);
+        IdentityContextSnapshot captured = IdentityContextSnapshot.of(new Identity(PARENT_USER, PARENT_REQUEST));
+
+        IdentityContextSnapshot[] inside = new IdentityContextSnapshot[2];
+        Runnable propagated = IdentityContextHolder.where(captured).call(() ->
+                scopedPropagator.propagate(() -> {
+                    inside[0] = IdentityContextHolder.context();
+                })
+        );
+
+        Thread thread = new Thread(() -> {
+            propagated.run();
+            inside[1] = IdentityContextHolder.context();
+        });
+        thread.start();
+        thread.join();
+
+        assertEquals(captured, inside[0]);
+        assertSame(IdentityContextSnapshot.EMPTY, inside[1]); // binding ends with the task
+    }
+
+    @Test
+    void scopedCallablePropagateShadowsThreadLocalAndLeavesItUntouched() throws Exception {
+        IdentityContextPropagator scopedPropagator = new IdentityContextPropagator(IdentityBindingMode.SCOPED_VALUE);
+
+        IdentityContextHolder.context(IdentityContextSnapshot.of(new Identity(PARENT_USER, PARENT_REQUEST)));
+        IdentityContextSnapshot captured = IdentityContextHolder.context();
+
+        Callable<IdentityContextSnapshot> propagated = scopedPropagator.propagate(IdentityContextHolder::context);
+
+        IdentityContextSnapshot previous = IdentityContextSnapshot.of(new Identity(PREVIOUS_USER, PREVIOUS_REQUEST));
+        IdentityContextHolder.context(previous);
+
+        assertEquals(captured, propagated.call());
+        assertEquals(previous, IdentityContextHolder.context());
+    }
+}
@@ -8,10 +8,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 
+import com.jay.voyager.core.observability.mdc.MdcPropagationMode;
 import com.jay.voyager.infra.concurrent.propagation.ContextPropagator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class MdcContextPropagatorTest {
     private static final String MDC_KEY = "mdc-key";
@@ -123,4 +125,54 @@ class MdcContextPropagatorTest {
         assertEquals(RESULT, result);
         assertEquals(PREVIOUS, MDC.get(MDC_KEY));
     }
-}
\ No newline at end of file
+
+    @Test
+    void newThreadPropagateInCopyModeRestoresPrevious() {
+        MDC.put(MDC_KEY, PARENT);
+        Runnable propagated = propagator.propagateToNewThread(() -> MDC.put(MDC_KEY, CHILD));
+
+        propagated.run();
+
+        assertEquals(PARENT, MDC.get(MDC_KEY));
+    }
+
+    @Test
+    void newThreadPropagateInSnapshotModeInstallsCapturedWithoutRestore() {
+        ContextPropagator snapshotPropagator = new MdcContextPropagator(MdcPropagationMode.SNAPSHOT);
+
+        MDC.put(MDC_KEY, PARENT);
+        AtomicReference<String> inside = new AtomicReference<>();
+        Runnable propagated = snapshotPropagator.propagateToNewThread(() -> {
+            inside.set(MDC.get(MDC_KEY));
+            MDC.put(MDC_KEY, CHILD);
+        });
+
+        // captured at wrapping time, later changes on the submitting thread are not seen
+        MDC.put(MDC_KEY, PREVIOUS);
+        propagated.run();
+
+        assertEquals(PARENT, inside.get());
+        // a new thread is discarded after the task, so nothing is restored
+        assertEquals(CHILD, MDC.get(MDC_KEY));
+    }
+
+    @Test
+    void newThreadPropagateInSnapshotModeDoesNotWrapWhenMdcIsEmpty() {
+        ContextPropagator snapshotPropagator = new MdcContextPropagator(MdcPropagationMode.SNAPSHOT);
+        Runnable task = () -> MDC.put(MDC_KEY, CHILD);
+
+        assertSame(task, snapshotPropagator.propagateToNewThread(task));
+    }
+
+    @Test
+    void reusedThreadPropagateInSnapshotModeRestoresPrevious() {
+        ContextPropagator snapshotPropagator = new MdcContextPropagator(MdcPropagationMode.SNAPSHOT);
+
+        MDC.put(MDC_KEY, PARENT);
+        Runnable propagated = snapshotPropagator.propagate(() -> MDC.put(MDC_KEY, CHILD));
+
+        propagated.run();
+
+        assertEquals(PARENT, MDC.get(MDC_KEY));
+    }
+}
@@ -0,0 +1,395 @@
+package com.jay.voyager.infra.jobs.engine;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.core.context.identity.Identity;
+import com.jay.voyager.core.context.identity.IdentityBindingMode;
+import com.jay.voyager.core.context.identity.IdentityContextHolder;
+import com.jay.voyager.core.context.identity.IdentityContextSnapshot;
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobPriority;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+import com.jay.voyager.core.error.jobs.JobRejectedException;
+import com.jay.voyager.core.port.jobs.JobHandler;
+import com.jay.voyager.core.port.jobs.JobRepository;
+import com.jay.voyager.infra.concurrent.propagation.identity.IdentityContextPropagator;
+import com.jay.voyager.infra.jobs.store.InMemoryJobRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class VirtualThreadJobEngineTest {
+
+    private static final String TYPE = "test";
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final InMemoryJobRepository repository = new InMemoryJobRepository(4, 16);
+    private final GatedHandler handler = new GatedHandler();
+
+    @AfterEach
+    void tearDown() {
+        handler.openGate();
+        executor.close();
+    }
+
+    @Test
+    void submittedJobRunsToSuccess() throws InterruptedException {
+        var engine = engine(new JobTypeLimits(1, 10));
+        handler.openGate();
+
+        Job job = engine.submit(TYPE, JobPriority.NORMAL);
+
+        assertEquals(JobStatus.QUEUED, job.status());
+        awaitStatus(job.id(), JobStatus.SUCCEEDED);
+    }
+
+    @Test
+    void failingHandlerFailsJob() throws InterruptedException {
+        var failing = new JobHandler() {
+            @Override
+            public String type() {
+                return TYPE;
+            }
+
+            @Override
+            public void run(UUID jobId) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        var engine = new VirtualThreadJobEngine(
+                repository, executor, List.of(failing), Map.of(), new JobTypeLimits(1, 1)
+        );
+
+        Job job = engine.submit(TYPE, JobPriority.NORMAL);
+
+        awaitStatus(job.id(), JobStatus.FAILED);
+    }
+
+    @Test
+    void runsAtMostMaxConcurrencyJobsOfAType() throws InterruptedException {
+        var engine = engine(new JobTypeLimits(2, 10));
+
+        Job first = engine.submit(TYPE, JobPriority.NORMAL);
+        Job second = engine.submit(TYPE, JobPriority.NORMAL);
+        Job third = engine.submit(TYPE, JobPriority.NORMAL);
+
+        // the first two run concurrently and may start in either order
+        assertEquals(Set.of(first.id(), second.id()), Set.of(handler.nextStarted(), handler.nextStarted()));
+        assertEquals(JobStatus.QUEUED, status(third.id()));
+
+        handler.openGate();
+        awaitStatus(third.id(), JobStatus.SUCCEEDED);
+    }
+
+    @Test
+    void queuedJobsStartByPriorityThenSubmissionOrder() throws InterruptedException {
+        var engine = engine(new JobTypeLimits(1, 10));
+
+        Job blocker = engine.submit(TYPE, JobPriority.NORMAL);
+        handler.awaitStarted(blocker.id());
+
+        Job low = engine.submit(TYPE, JobPriority.LOW);
+        Job normal = engine.submit(TYPE, JobPriority.NORMAL);
+        Job firstHigh = engine.submit(TYPE, JobPriority.HIGH);
+        Job secondHigh = engine.submit(TYPE, JobPriority.HIGH);
+
+        handler.openGate();
+        handler.awaitStarted(firstHigh.id(), secondHigh.id(), normal.id(), low.id());
+    }
+
+    @Test
+    void rejectsSubmissionWhenQueueIsFull() {
+        var engine = engine(new JobTypeLimits(1, 1));
+
+        engine.submit(TYPE, JobPriority.NORMAL);
+        engine.submit(TYPE, JobPriority.NORMAL);
+
+        var ex = assertThrows(JobRejectedException.class, () -> engine.submit(TYPE, JobPriority.NORMAL));
+        assertEquals(JobRejectedException.Reason.QUEUE_FULL, ex.reason());
+        assertEquals(2, repository.size()); // nothing stored for the rejected job
+    }
+
+    @Test
+    void slowStoreDoesNotSerializeSubmissionsOfAType() throws InterruptedException {
+        var slowRepository = new StallingRepository(repository);
+        var engine = new VirtualThreadJobEngine(
+                slowRepository, executor, List.of(handler), Map.of(), new JobTypeLimits(1, 1)
+        );
+
+        Thread stalled = Thread.ofVirtual().start(() -> engine.submit(TYPE, JobPriority.NORMAL));
+        awaitTrue(() -> stalled.getState() == Thread.State.WAITING);
+
+        // answered while the first job is still being stored, whose reserved slot fills the queue
+        var ex = assertTimeoutPreemptively(
+                Duration.ofSeconds(5),
+                () -> assertThrows(JobRejectedException.class, () -> engine.submit(TYPE, JobPriority.NORMAL))
+        );
+        assertEquals(JobRejectedException.Reason.QUEUE_FULL, ex.reason());
+
+        slowRepository.storeGate.countDown();
+        stalled.join();
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void jobStartedByAnotherJobsReleaseRunsInItsSubmittersContext() throws Exception {
+        Map<UUID, IdentityContextSnapshot> identities = new ConcurrentHashMap<>();
+        Map<UUID, Deadline> deadlines = new ConcurrentHashMap<>();
+        var recording = new JobHandler() {
+            @Override
+            public String type() {
+                return TYPE;
+            }
+
+            @Override
+            public void run(UUID jobId) throws InterruptedException {
+                identities.put(jobId, IdentityContextHolder.context());
+                deadlines.put(jobId, DeadlineContextHolder.context());
+                handler.run(jobId);
+            }
+        };
+        var engine = new VirtualThreadJobEngine(
+                repository,
+                executor,
+                List.of(new IdentityContextPropagator(IdentityBindingMode.SCOPED_VALUE)),
+                List.of(recording),
+                Map.of(),
+                new JobTypeLimits(1, 10)
+        );
+
+        var alice = IdentityContextSnapshot.of(new Identity("alice", "request-a"));
+        var bob = IdentityContextSnapshot.of(new Identity("bob", "request-b"));
+        Deadline requestDeadline = Deadline.after(Duration.ofSeconds(30));
+
+        Job first = submitAs(engine, alice, requestDeadline);
+        handler.awaitStarted(first.id());
+        // queued behind the first job, started by its release
+        Job second = submitAs(engine, bob, requestDeadline);
+        handler.openGate();
+
+        handler.awaitStarted(second.id());
+        awaitStatus(second.id(), JobStatus.SUCCEEDED);
+        assertEquals(alice, identities.get(first.id()));
+        assertEquals(bob, identities.get(second.id()));
+        assertTrue(deadlines.get(first.id()).isNone());
+        assertTrue(deadlines.get(second.id()).isNone());
+    }
+
+    @Test
+    void rejectsUnknownType() {
+        var engine = engine(new JobTypeLimits(1, 1));
+
+        var ex = assertThrows(JobRejectedException.class, () -> engine.submit("other", JobPriority.NORMAL));
+        assertEquals(JobRejectedException.Reason.UNKNOWN_TYPE, ex.reason());
+    }
+
+    @Test
+    void cancelledQueuedJobNeverStartsAndFreesItsQueueSlot() throws InterruptedException {
+        var engine = engine(new JobTypeLimits(1, 1));
+
+        Job running = engine.submit(TYPE, JobPriority.NORMAL);
+        handler.awaitStarted(running.id());
+        Job queued = engine.submit(TYPE, JobPriority.NORMAL);
+
+        assertTrue(engine.cancel(queued.id()));
+        assertEquals(JobStatus.CANCELLED, status(queued.id()));
+
+        Job next = engine.submit(TYPE, JobPriority.NORMAL);
+        handler.openGate();
+
+        awaitStatus(next.id(), JobStatus.SUCCEEDED);
+        assertEquals(JobStatus.CANCELLED, status(queued.id()));
+        assertFalse(handler.started.contains(queued.id()));
+    }
+
+    @Test
+    void cancelledRunningJobIsInterruptedAndFreesItsSlot() throws InterruptedException {
+        var engine = engine(new JobTypeLimits(1, 10));
+
+        Job running = engine.submit(TYPE, JobPriority.NORMAL);
+        handler.awaitStarted(running.id());
+        Job queued = engine.submit(TYPE, JobPriority.NORMAL);
+
+        assertTrue(engine.cancel(running.id()));
+
+        assertEquals(running.id(), handler.interrupted.poll(5, TimeUnit.SECONDS));
+        assertEquals(JobStatus.CANCELLED, status(running.id()));
+        handler.awaitStarted(queued.id());
+    }
+
+    @Test
+    void cancelOfFinishedJobIsNoOp() throws InterruptedException {
+        var engine = engine(new JobTypeLimits(1, 10));
+        handler.openGate();
+
+        Job job = engine.submit(TYPE, JobPriority.NORMAL);
+        awaitStatus(job.id(), JobStatus.SUCCEEDED);
+
+        assertFalse(engine.cancel(job.id()));
+        assertEquals(JobStatus.SUCCEEDED, status(job.id()));
+    }
+
+    @Test
+    void closeCancelsJobsAndRejectsSubmissions() throws InterruptedException {
+        var engine = engine(new JobTypeLimits(1, 10));
+
+        Job running = engine.submit(TYPE, JobPriority.NORMAL);
+        handler.awaitStarted(running.id());
+        Job queued = engine.submit(TYPE, JobPriority.NORMAL);
+
+        engine.close();
+
+        assertEquals(JobStatus.CANCELLED, status(running.id()));
+        assertEquals(JobStatus.CANCELLED, status(queued.id()));
+        var ex = assertThrows(JobRejectedException.class, () -> engine.submit(TYPE, JobPriority.NORMAL));
+        assertEquals(JobRejectedException.Reason.SHUTTING_DOWN, ex.reason());
+    }
+
+    private VirtualThreadJobEngine engine(JobTypeLimits limits) {
+        return new VirtualThreadJobEngine(repository, executor, List.of(handler), Map.of(TYPE, limits), limits);
+    }
+
+    private static Job submitAs(VirtualThreadJobEngine engine, IdentityContextSnapshot identity, Deadline deadline)
+            throws Exception {
+        return IdentityContextHolder.where(identity).call(() ->
+                DeadlineContextHolder.where(deadline).call(() -> engine.submit(TYPE, JobPriority.NORMAL))
+        );
+    }
+
+    private JobStatus status(UUID id) {
+        return repository.find(id).orElseThrow().status();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5s");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitStatus(UUID id, JobStatus expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (status(id) != expected) {
+            if (System.nanoTime() > deadline) {
+                fail("Job " + id + " is " + status(id) + ", expected " + expected);
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    // the first save stalls until the gate opens, like a slow sync
+    private static final class StallingRepository implements JobRepository {
+
+        private final InMemoryJobRepository delegate;
+        private final CountDownLatch storeGate = new CountDownLatch(1);
+        private final AtomicBoolean first = new AtomicBoolean(true);
+
+        private StallingRepository(InMemoryJobRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void save(Job job) {
+            if (first.getAndSet(false)) {
+                try {
+                    storeGate.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+            }
+            delegate.save(job);
+        }
+
+        @Override
+        public Optional<Job> find(UUID id) {
+            return delegate.find(id);
+        }
+
+        @Override
+        public Map<UUID, Job> findAll(Collection<UUID> ids) {
+            return delegate.findAll(ids);
+        }
+
+        @Override
+        public boolean transition(UUID id, JobStatus from, JobStatus to) {
+            return delegate.transition(id, from, to);
+        }
+
+        @Override
+        public int evictFinished(Instant requestedBefore, int maxJobs) {
+            return delegate.evictFinished(requestedBefore, maxJobs);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+    }
+
+    // blocks every job until the gate opens, records start order and interrupts
+    private static final class GatedHandler implements JobHandler {
+
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final BlockingQueue<UUID> started = new LinkedBlockingQueue<>();
+        private final BlockingQueue<UUID> interrupted = new LinkedBlockingQueue<>();
+
+        @Override
+        public String type() {
+            return TYPE;
+        }
+
+        @Override
+        public void run(UUID jobId) throws InterruptedException {
+            started.add(jobId);
+            try {
+                gate.await();
+            } catch (InterruptedException ex) {
+                interrupted.add(jobId);
+                throw ex;
+            }
+        }
+
+        void openGate() {
+            gate.countDown();
+        }
+
+        void awaitStarted(UUID... expectedOrder) throws InterruptedException {
+            for (UUID expected : expectedOrder) {
+                assertEquals(expected, nextStarted());
+            }
+        }
+
+        UUID nextStarted() throws InterruptedException {
+            return started.poll(5, TimeUnit.SECONDS);
+        }
+    }
+}
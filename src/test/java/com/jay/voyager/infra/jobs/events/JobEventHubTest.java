@@ -0,0 +1,80 @@
+package com.jay.voyager.infra.jobs.events;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+import com.jay.voyager.core.port.jobs.JobStatusFeed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobEventHubTest {
+
+    private static final Instant REQUESTED_AT = Instant.parse("2026-03-04T05:06:07Z");
+
+    private final JobEventHub hub = new JobEventHub();
+
+    @Test
+    void publishReachesOnlySubscribersOfThatJob() {
+        UUID watched = UUID.randomUUID();
+        List<Job> received = new ArrayList<>();
+        hub.subscribe(watched, received::add);
+
+        var job = new Job(watched, JobStatus.RUNNING, REQUESTED_AT);
+        hub.publish(job);
+        hub.publish(new Job(UUID.randomUUID(), JobStatus.RUNNING, REQUESTED_AT));
+
+        assertEquals(List.of(job), received);
+    }
+
+    @Test
+    void closedSubscriptionStopsDeliveryAndRemovesTheJob() {
+        UUID jobId = UUID.randomUUID();
+        List<Job> received = new ArrayList<>();
+        JobStatusFeed.Subscription subscription = hub.subscribe(jobId, received::add);
+
+        subscription.close();
+        subscription.close(); // no-op
+        hub.publish(new Job(jobId, JobStatus.RUNNING, REQUESTED_AT));
+
+        assertTrue(received.isEmpty());
+        assertFalse(hub.hasSubscribers(jobId));
+    }
+
+    @Test
+    void sameListenerSubscribedTwiceIsUnsubscribedOnce() {
+        UUID jobId = UUID.randomUUID();
+        List<Job> received = new ArrayList<>();
+        Consumer<Job> listener = received::add;
+        JobStatusFeed.Subscription first = hub.subscribe(jobId, listener);
+        hub.subscribe(jobId, listener);
+
+        first.close();
+        hub.publish(new Job(jobId, JobStatus.RUNNING, REQUESTED_AT));
+
+        assertEquals(1, received.size());
+        assertTrue(hub.hasSubscribers(jobId));
+    }
+
+    @Test
+    void failingListenerDoesNotStarveOthers() {
+        UUID jobId = UUID.randomUUID();
+        List<Job> received = new ArrayList<>();
+        hub.subscribe(jobId, _ -> {
+            throw new IllegalStateException("boom");
+        });
+        hub.subscribe(jobId, received::add);
+
+        hub.publish(new Job(jobId, JobStatus.SUCCEEDED, REQUESTED_AT));
+
+        assertEquals(1, received.size());
+    }
+}
@@ -0,0 +1,48 @@
+package com.jay.voyager.infra.jobs.events;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+import com.jay.voyager.infra.jobs.store.InMemoryJobRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class PublishingJobRepositoryTest {
+
+    private static final Instant REQUESTED_AT = Instant.parse("2026-03-04T05:06:07.654321Z");
+
+    private final JobEventHub hub = new JobEventHub();
+    private final PublishingJobRepository repository =
+            new PublishingJobRepository(new InMemoryJobRepository(4, 16), hub);
+
+    @Test
+    void publishesSavesAndSuccessfulTransitions() {
+        var job = new Job(UUID.randomUUID(), JobStatus.QUEUED, REQUESTED_AT);
+        List<Job> received = new ArrayList<>();
+        hub.subscribe(job.id(), received::add);
+
+        repository.save(job);
+        repository.transition(job.id(), JobStatus.QUEUED, JobStatus.RUNNING);
+
+        assertEquals(List.of(job, new Job(job.id(), JobStatus.RUNNING, REQUESTED_AT)), received);
+    }
+
+    @Test
+    void failedTransitionIsNotPublished() {
+        var job = new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, REQUESTED_AT);
+        repository.save(job);
+        List<Job> received = new ArrayList<>();
+        hub.subscribe(job.id(), received::add);
+
+        assertFalse(repository.transition(job.id(), JobStatus.RUNNING, JobStatus.CANCELLED));
+
+        assertEquals(List.of(), received);
+    }
+}
@@ -0,0 +1,164 @@
+package com.jay.voyager.infra.jobs.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentUuidLongMapTest {
+
+    @Test
+    void putReturnsPreviousValue() {
+        var map = new ConcurrentUuidLongMap(1, 0);
+
+        assertEquals(0, map.put(1, 2, 10));
+        assertEquals(10, map.put(1, 2, 11));
+        assertEquals(11, map.get(1, 2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void keysDifferingInOneHalfAreDistinct() {
+        var map = new ConcurrentUuidLongMap(1, 0);
+
+        map.put(1, 2, 10);
+        map.put(2, 1, 20);
+        map.put(1, 3, 30);
+
+        assertEquals(10, map.get(1, 2));
+        assertEquals(20, map.get(2, 1));
+        assertEquals(30, map.get(1, 3));
+        assertEquals(0, map.get(3, 1));
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        var map = new ConcurrentUuidLongMap(2, 0);
+        List<UUID> ids = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            map.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), i + 1);
+        }
+
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            assertEquals(i + 1, map.get(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+        }
+    }
+
+    @Test
+    void replaceOnlyWhenExpectedValueMatches() {
+        var map = new ConcurrentUuidLongMap(1, 0);
+        map.put(1, 2, 10);
+
+        assertFalse(map.replace(1, 2, 11, 12));
+        assertTrue(map.replace(1, 2, 10, 12));
+        assertFalse(map.replace(3, 4, 10, 12));
+        assertEquals(12, map.get(1, 2));
+        assertEquals(0, map.get(3, 4));
+    }
+
+    @Test
+    void removeOnlyWhenExpectedValueMatches() {
+        var map = new ConcurrentUuidLongMap(1, 0);
+        map.put(1, 2, 10);
+
+        assertFalse(map.remove(1, 2, 11));
+        assertTrue(map.remove(1, 2, 10));
+        assertEquals(0, map.get(1, 2));
+        assertEquals(0, map.size());
+        assertEquals(0, map.remove(1, 2));
+    }
+
+    @Test
+    void removalKeepsEveryOtherEntryReachable() {
+        // one segment of 16 slots, so probe runs collide and wrap around
+        var map = new ConcurrentUuidLongMap(1, 0);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            map.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), i + 1);
+        }
+
+        for (int round = 0; round < 1_000; round++) {
+            UUID removed = ids.remove(round % ids.size());
+            long msb = removed.getMostSignificantBits();
+            long lsb = removed.getLeastSignificantBits();
+            long value = map.get(msb, lsb);
+            assertTrue(value != 0);
+            assertEquals(value, map.remove(msb, lsb));
+            assertEquals(0, map.get(msb, lsb));
+            for (UUID id : ids) {
+                assertTrue(map.get(id.getMostSignificantBits(), id.getLeastSignificantBits()) != 0);
+            }
+
+            UUID added = UUID.randomUUID();
+            ids.add(added);
+            map.put(added.getMostSignificantBits(), added.getLeastSignificantBits(), round + 1);
+            assertEquals(7, map.size());
+        }
+    }
+
+    @Test
+    void zeroValueIsRejected() {
+        var map = new ConcurrentUuidLongMap(1, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, 2, 0));
+    }
+
+    @Test
+    void concurrentWritersAndReadersSeeEveryEntry() throws InterruptedException {
+        int writers = 8;
+        int perWriter = 20_000;
+        var map = new ConcurrentUuidLongMap(4, 0);
+        var start = new CountDownLatch(1);
+        var misses = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int w = 0; w < writers; w++) {
+            long msb = w;
+            threads.add(Thread.ofPlatform().start(() -> {
+                await(start);
+                for (int i = 1; i <= perWriter; i++) {
+                    map.put(msb, i, i);
+                    // a reader racing resizes must still find what this thread just wrote
+                    if (map.get(msb, i) != i) {
+                        misses.increment();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, misses.sum());
+        assertEquals(writers * perWriter, map.size());
+        for (long w = 0; w < writers; w++) {
+            for (int i = 1; i <= perWriter; i++) {
+                assertEquals(i, map.get(w, i));
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.jay.voyager.infra.jobs.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DurableJobRepositoryTest {
+
+    private static final Instant REQUESTED_AT = Instant.parse("2026-03-04T05:06:07.654321Z");
+    // header and four records, forces frequent rollovers
+    private static final int SMALL_SEGMENT = WalSegment.HEADER_SIZE + 4 * WalSegment.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void savesAndTransitionsSurviveReopen() throws IOException {
+        var finished = new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, REQUESTED_AT);
+        var cancelled = new Job(UUID.randomUUID(), JobStatus.QUEUED, REQUESTED_AT);
+
+        try (var repository = open(1 << 16)) {
+            repository.save(finished);
+            repository.save(cancelled);
+            assertTrue(repository.transition(cancelled.id(), JobStatus.QUEUED, JobStatus.CANCELLED));
+            assertFalse(repository.transition(cancelled.id(), JobStatus.QUEUED, JobStatus.RUNNING));
+        }
+
+        try (var repository = open(1 << 16)) {
+            assertEquals(finished, repository.find(finished.id()).orElseThrow());
+            assertEquals(JobStatus.CANCELLED, repository.find(cancelled.id()).orElseThrow().status());
+            assertEquals(2, repository.size());
+        }
+    }
+
+    @Test
+    void unfinishedJobsAreFailedOnRecovery() throws IOException {
+        var queued = new Job(UUID.randomUUID(), JobStatus.QUEUED, REQUESTED_AT);
+        var running = new Job(UUID.randomUUID(), JobStatus.QUEUED, REQUESTED_AT);
+
+        try (var repository = open(1 << 16)) {
+            repository.save(queued);
+            repository.save(running);
+            repository.transition(running.id(), JobStatus.QUEUED, JobStatus.RUNNING);
+        }
+
+        try (var repository = open(1 << 16)) {
+            assertEquals(
+                    new Job(queued.id(), JobStatus.FAILED, REQUESTED_AT),
+                    repository.find(queued.id()).orElseThrow()
+            );
+            assertEquals(JobStatus.FAILED, repository.find(running.id()).orElseThrow().status());
+        }
+
+        // the failure was logged, it is recovered as is
+        try (var repository = open(1 << 16)) {
+            assertEquals(JobStatus.FAILED, repository.find(running.id()).orElseThrow().status());
+        }
+    }
+
+    @Test
+    void recoversAcrossSegmentRollovers() throws IOException {
+        List<Job> jobs = jobs(25);
+
+        try (var repository = open(SMALL_SEGMENT)) {
+            jobs.forEach(repository::save);
+        }
+        assertTrue(files(".wal").size() > 1);
+
+        try (var repository = open(SMALL_SEGMENT)) {
+            for (Job job : jobs) {
+                assertEquals(job, repository.find(job.id()).orElseThrow());
+            }
+            assertEquals(jobs.size(), repository.size());
+        }
+    }
+
+    @Test
+    void compactionReplacesSealedSegmentsWithSnapshot() throws IOException {
+        List<Job> jobs = jobs(25);
+        List<Job> later = jobs(3);
+
+        try (var repository = open(SMALL_SEGMENT)) {
+            jobs.forEach(repository::save);
+
+            assertTrue(repository.compact());
+            assertEquals(1, files(".snap").size());
+            assertEquals(1, files(".wal").size()); // only the fresh segment is left
+            assertFalse(repository.compact()); // nothing sealed since
+
+            later.forEach(repository::save);
+            assertTrue(repository.compact());
+            assertEquals(1, files(".snap").size());
+        }
+
+        try (var repository = open(SMALL_SEGMENT)) {
+            for (Job job : jobs) {
+                assertEquals(job, repository.find(job.id()).orElseThrow());
+            }
+            for (Job job : later) {
+                assertEquals(job, repository.find(job.id()).orElseThrow());
+            }
+            assertEquals(jobs.size() + later.size(), repository.size());
+        }
+    }
+
+    @Test
+    void evictionsSurviveReopenAndCompaction() throws IOException {
+        List<Job> jobs = jobs(10);
+
+        try (var repository = open(SMALL_SEGMENT)) {
+            jobs.forEach(repository::save);
+            assertEquals(4, repository.evictFinished(REQUESTED_AT.plusSeconds(4), 100));
+        }
+
+        try (var repository = open(SMALL_SEGMENT)) {
+            assertEquals(6, repository.size());
+            assertTrue(repository.find(jobs.getFirst().id()).isEmpty());
+            assertEquals(jobs.getLast(), repository.find(jobs.getLast().id()).orElseThrow());
+
+            assertEquals(3, repository.evictFinished(REQUESTED_AT, 3));
+            assertTrue(repository.compact());
+        }
+
+        try (var repository = open(SMALL_SEGMENT)) {
+            assertEquals(jobs.subList(7, 10), jobs.stream()
+                    .filter(job -> repository.find(job.id()).isPresent())
+                    .toList());
+        }
+    }
+
+    @Test
+    void tornTrailingRecordIsDropped() throws IOException {
+        var kept = new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, REQUESTED_AT);
+        var torn = new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, REQUESTED_AT);
+
+        try (var repository = open(1 << 16)) {
+            repository.save(kept);
+            repository.save(torn);
+        }
+
+        // a crash in the middle of the second record leaves its checksum unmatched
+        Path segment = files(".wal").getFirst();
+        long at = WalSegment.HEADER_SIZE + WalSegment.RECORD_SIZE + 3;
+        try (var channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer octet = ByteBuffer.allocate(1);
+            channel.read(octet, at);
+            octet.put(0, (byte) ~octet.get(0));
+            channel.write(octet.clear(), at);
+        }
+
+        try (var repository = open(1 << 16)) {
+            assertEquals(kept, repository.find(kept.id()).orElseThrow());
+            assertTrue(repository.find(torn.id()).isEmpty());
+        }
+    }
+
+    @Test
+    void directoryIsOpenedByOneRepositoryAtATime() throws IOException {
+        var job = new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, REQUESTED_AT);
+
+        try (var repository = open(1 << 16)) {
+            repository.save(job);
+            assertThrows(UncheckedIOException.class, () -> open(1 << 16));
+            // the failed open left the log alone
+            repository.save(new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, REQUESTED_AT));
+        }
+
+        try (var repository = open(1 << 16)) {
+            assertEquals(job, repository.find(job.id()).orElseThrow());
+            assertEquals(2, repository.size());
+        }
+    }
+
+    private DurableJobRepository open(int segmentSize) {
+        return new DurableJobRepository(
+                new InMemoryJobRepository(4, 16), directory, segmentSize, Duration.ofMinutes(5)
+        );
+    }
+
+    private static List<Job> jobs(int count) {
+        List<Job> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            jobs.add(new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, REQUESTED_AT.plusSeconds(i)));
+        }
+        return jobs;
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+}
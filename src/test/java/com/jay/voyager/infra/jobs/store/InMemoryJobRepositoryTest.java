@@ -0,0 +1,141 @@
+package com.jay.voyager.infra.jobs.store;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryJobRepositoryTest {
+
+    @Test
+    void saveAndFindRoundTripsEveryStatus() {
+        var repository = new InMemoryJobRepository(4, 16);
+        Instant requestedAt = Instant.parse("2026-03-04T05:06:07.654321Z");
+
+        for (JobStatus status : JobStatus.values()) {
+            var job = new Job(UUID.randomUUID(), status, requestedAt);
+            repository.save(job);
+
+            assertEquals(job, repository.find(job.id()).orElseThrow());
+        }
+        assertEquals(JobStatus.values().length, repository.size());
+    }
+
+    @Test
+    void saveReplacesExistingJob() {
+        var repository = new InMemoryJobRepository(4, 16);
+        UUID id = UUID.randomUUID();
+        Instant requestedAt = Instant.parse("2026-03-04T05:06:07Z");
+
+        repository.save(new Job(id, JobStatus.QUEUED, requestedAt));
+        repository.save(new Job(id, JobStatus.SUCCEEDED, requestedAt));
+
+        assertEquals(JobStatus.SUCCEEDED, repository.find(id).orElseThrow().status());
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void transitionOnlyFromExpectedStatus() {
+        var repository = new InMemoryJobRepository(4, 16);
+        UUID id = UUID.randomUUID();
+        Instant requestedAt = Instant.parse("2026-03-04T05:06:07Z");
+        repository.save(new Job(id, JobStatus.QUEUED, requestedAt));
+
+        assertTrue(repository.transition(id, JobStatus.QUEUED, JobStatus.RUNNING));
+        assertFalse(repository.transition(id, JobStatus.QUEUED, JobStatus.CANCELLED));
+        assertFalse(repository.transition(UUID.randomUUID(), JobStatus.QUEUED, JobStatus.RUNNING));
+
+        assertEquals(new Job(id, JobStatus.RUNNING, requestedAt), repository.find(id).orElseThrow());
+    }
+
+    @Test
+    void findUnknownJobIsEmpty() {
+        var repository = new InMemoryJobRepository(4, 16);
+
+        assertTrue(repository.find(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void findAllReturnsOnlyStoredJobs() {
+        var repository = new InMemoryJobRepository(4, 16);
+        var stored = new Job(UUID.randomUUID(), JobStatus.RUNNING, Instant.parse("2026-03-04T05:06:07Z"));
+        UUID unknown = UUID.randomUUID();
+        repository.save(stored);
+
+        Map<UUID, Job> found = repository.findAll(List.of(stored.id(), unknown, stored.id()));
+
+        assertEquals(Map.of(stored.id(), stored), found);
+    }
+
+    @Test
+    void requestedAtIsTruncatedToMicros() {
+        Instant requestedAt = Instant.parse("2026-03-04T05:06:07.123456789Z");
+
+        long state = InMemoryJobRepository.pack(JobStatus.FAILED, requestedAt);
+
+        assertEquals(JobStatus.FAILED, InMemoryJobRepository.status(state));
+        assertEquals(Instant.parse("2026-03-04T05:06:07.123456Z"), InMemoryJobRepository.requestedAt(state));
+    }
+
+    @Test
+    void instantsBeforeEpochRoundTrip() {
+        Instant requestedAt = Instant.parse("1969-12-31T23:59:59.999999Z");
+
+        long state = InMemoryJobRepository.pack(JobStatus.QUEUED, requestedAt);
+
+        assertEquals(requestedAt, InMemoryJobRepository.requestedAt(state));
+    }
+
+    @Test
+    void evictsFinishedJobsRequestedBeforeCutoff() {
+        var repository = new InMemoryJobRepository(4, 16);
+        Instant cutoff = Instant.parse("2026-03-04T05:06:07Z");
+        var expired = new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, cutoff.minusNanos(1_000));
+        var recent = new Job(UUID.randomUUID(), JobStatus.FAILED, cutoff);
+        var running = new Job(UUID.randomUUID(), JobStatus.RUNNING, cutoff.minusSeconds(60));
+        List.of(expired, recent, running).forEach(repository::save);
+
+        assertEquals(1, repository.evictFinished(cutoff, 100));
+
+        assertTrue(repository.find(expired.id()).isEmpty());
+        assertEquals(recent, repository.find(recent.id()).orElseThrow());
+        assertEquals(running, repository.find(running.id()).orElseThrow());
+        assertEquals(2, repository.size());
+    }
+
+    @Test
+    void evictsOldestFinishedJobsBeyondMaxJobs() {
+        var repository = new InMemoryJobRepository(4, 16);
+        Instant requestedAt = Instant.parse("2026-03-04T05:06:07Z");
+        var queued = new Job(UUID.randomUUID(), JobStatus.QUEUED, requestedAt);
+        var oldest = new Job(UUID.randomUUID(), JobStatus.CANCELLED, requestedAt.plusSeconds(1));
+        var older = new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, requestedAt.plusSeconds(2));
+        var newest = new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, requestedAt.plusSeconds(3));
+        List.of(queued, newest, oldest, older).forEach(repository::save);
+
+        assertEquals(2, repository.evictFinished(Instant.EPOCH, 2));
+
+        assertEquals(Map.of(queued.id(), queued, newest.id(), newest), repository.findAll(
+                List.of(queued.id(), oldest.id(), older.id(), newest.id())
+        ));
+
+        // unfinished jobs are kept even beyond the cap
+        assertEquals(1, repository.evictFinished(Instant.EPOCH, 0));
+        assertEquals(queued, repository.find(queued.id()).orElseThrow());
+    }
+
+    @Test
+    void rejectsInstantOutsideStorableRange() {
+        assertThrows(IllegalArgumentException.class, () -> InMemoryJobRepository.pack(JobStatus.QUEUED, Instant.MAX));
+    }
+}
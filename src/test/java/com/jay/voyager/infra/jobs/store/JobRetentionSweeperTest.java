@@ -0,0 +1,46 @@
+package com.jay.voyager.infra.jobs.store;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobRetentionSweeperTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-04T05:06:07Z");
+
+    @Test
+    void sweepEvictsFinishedJobsOlderThanTtl() {
+        var repository = new InMemoryJobRepository(4, 16);
+        var expired = new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, NOW.minus(Duration.ofHours(2)));
+        var kept = new Job(UUID.randomUUID(), JobStatus.SUCCEEDED, NOW.minus(Duration.ofMinutes(30)));
+        repository.save(expired);
+        repository.save(kept);
+
+        var sweeper = new JobRetentionSweeper(repository, Duration.ofHours(1), 100, Duration.ofMinutes(1));
+
+        assertEquals(1, sweeper.sweep(NOW));
+        assertTrue(repository.find(expired.id()).isEmpty());
+        assertEquals(kept, repository.find(kept.id()).orElseThrow());
+    }
+
+    @Test
+    void closeStopsTheSweeperThread() {
+        var sweeper = new JobRetentionSweeper(
+                new InMemoryJobRepository(4, 16), Duration.ofHours(1), 100, Duration.ofMinutes(1)
+        );
+        sweeper.start();
+
+        sweeper.close();
+
+        assertTrue(Thread.getAllStackTraces().keySet().stream()
+                .noneMatch(thread -> thread.getName().equals(JobRetentionSweeper.THREAD_NAME)));
+    }
+}
@@ -0,0 +1,198 @@
+package com.jay.voyager.infra.observability.accesslog;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.observability.accesslog.AccessLogPolicy;
+import com.jay.voyager.core.observability.accesslog.AccessLogRecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncAccessLogWriterTest {
+
+    private static final AccessLogEmitter DISCARD = _ -> {};
+
+    @Test
+    void emitsEveryRecordInOrder() {
+        List<AccessLogRecord> emitted = new CopyOnWriteArrayList<>();
+        AsyncAccessLogWriter writer =
+                new AsyncAccessLogWriter(policy(16, AccessLogPolicy.OverflowPolicy.DROP), emitted::add);
+        writer.start();
+
+        AccessLogRecord first = accessLogRecord("/a", "trace-1");
+        AccessLogRecord second = accessLogRecord("/b", null);
+        assertTrue(writer.offer(first));
+        assertTrue(writer.offer(second));
+        writer.close();
+
+        assertEquals(List.of(first, second), emitted);
+        assertEquals(2, writer.written());
+    }
+
+    @Test
+    void dropsAfterClose() {
+        AsyncAccessLogWriter writer = new AsyncAccessLogWriter(policy(4, AccessLogPolicy.OverflowPolicy.DROP), DISCARD);
+        writer.start();
+        writer.close();
+
+        assertFalse(writer.offer(accessLogRecord("/late", null)));
+        assertEquals(1, writer.dropped());
+    }
+
+    @Test
+    void dropPolicyKeepsRecordsUntilFull() throws InterruptedException {
+        BlockingEmitter out = new BlockingEmitter();
+        AsyncAccessLogWriter writer = new AsyncAccessLogWriter(policy(4, AccessLogPolicy.OverflowPolicy.DROP), out);
+        writer.start();
+
+        // the first record is taken by the writer, which then blocks in write
+        writer.offer(accessLogRecord("/0", null));
+        out.awaitWriting();
+
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(writer.offer(accessLogRecord("/" + i, null)));
+        }
+        assertFalse(writer.offer(accessLogRecord("/5", null)));
+
+        assertEquals(1, writer.dropped());
+        assertEquals(0, writer.sampledOut());
+        assertEquals(4, writer.buffered());
+
+        out.release();
+        writer.close();
+        assertEquals(5, writer.written());
+    }
+
+    @Test
+    void samplePolicyKeepsOneInRateAboveThreshold() throws InterruptedException {
+        BlockingEmitter out = new BlockingEmitter();
+        AsyncAccessLogWriter writer = new AsyncAccessLogWriter(
+                new AccessLogPolicy(8, 16, Duration.ofMillis(1), AccessLogPolicy.OverflowPolicy.SAMPLE, 0.5, 3),
+                out
+        );
+        writer.start();
+
+        writer.offer(accessLogRecord("/0", null));
+        out.awaitWriting();
+
+        // below the threshold (4 of 8) everything is kept
+        for (int i = 0; i < 4; i++) {
+            assertTrue(writer.offer(accessLogRecord("/below", null)));
+        }
+
+        // above it 1 in 3 is kept: offers 1, 4 and 7 of these 7
+        int kept = 0;
+        for (int i = 0; i < 7; i++) {
+            if (writer.offer(accessLogRecord("/above", null))) {
+                kept++;
+            }
+        }
+
+        assertEquals(3, kept);
+        assertEquals(4, writer.sampledOut());
+        assertEquals(0, writer.dropped());
+
+        out.release();
+        writer.close();
+    }
+
+    @Test
+    void countsFailedWrites() {
+        AccessLogEmitter failing = accessLogRecord -> {
+            if (accessLogRecord.name().equals("/fails")) {
+                throw new IllegalStateException("appender closed");
+            }
+        };
+        AsyncAccessLogWriter writer = new AsyncAccessLogWriter(policy(4, AccessLogPolicy.OverflowPolicy.DROP), failing);
+        writer.start();
+
+        writer.offer(accessLogRecord("/fails", null));
+        writer.offer(accessLogRecord("/a", null));
+        writer.close();
+
+        assertEquals(1, writer.failed());
+        assertEquals(1, writer.written());
+    }
+
+    @Test
+    void rejectsInvalidPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncAccessLogWriter(
+                new AccessLogPolicy(4, 0, Duration.ofMillis(1), AccessLogPolicy.OverflowPolicy.DROP, 0.5, 1),
+                DISCARD
+        ));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncAccessLogWriter(
+                new AccessLogPolicy(4, 1, Duration.ZERO, AccessLogPolicy.OverflowPolicy.DROP, 0.5, 1),
+                DISCARD
+        ));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncAccessLogWriter(
+                new AccessLogPolicy(4, 1, Duration.ofMillis(1), AccessLogPolicy.OverflowPolicy.SAMPLE, 0.0, 1),
+                DISCARD
+        ));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncAccessLogWriter(
+                new AccessLogPolicy(4, 1, Duration.ofMillis(1), AccessLogPolicy.OverflowPolicy.SAMPLE, 0.5, 0),
+                DISCARD
+        ));
+    }
+
+    @Test
+    void startTwiceFails() {
+        AsyncAccessLogWriter writer = new AsyncAccessLogWriter(policy(4, AccessLogPolicy.OverflowPolicy.DROP), DISCARD);
+        writer.start();
+        try {
+            assertThrows(IllegalStateException.class, writer::start);
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static AccessLogPolicy policy(int capacity, AccessLogPolicy.OverflowPolicy overflowPolicy) {
+        return new AccessLogPolicy(capacity, 16, Duration.ofMillis(1), overflowPolicy, 0.5, 2);
+    }
+
+    private static AccessLogRecord accessLogRecord(String name, String traceId) {
+        return new AccessLogRecord(
+                1_000L,
+                traceId,
+                traceId == null ? null : "span-1",
+                "user-1",
+                "req-1",
+                "http",
+                "GET",
+                name,
+                200,
+                12L
+        );
+    }
+
+    // holds the writer thread inside its first emit so the buffer can be filled deterministically
+    private static final class BlockingEmitter implements AccessLogEmitter {
+
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void emit(AccessLogRecord accessLogRecord) {
+            writing.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void awaitWriting() throws InterruptedException {
+            writing.await();
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.jay.voyager.infra.observability.accesslog;
+
+import java.util.Map;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import com.jay.voyager.core.observability.accesslog.AccessLogRecord;
+import com.jay.voyager.core.observability.mdc.MdcFieldNames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LoggerAccessLogEmitterTest {
+
+    private static final MdcFieldNames MDC_FIELD_NAMES = new MdcFieldNames(
+            "userId",
+            "requestId",
+            "kind",
+            "name",
+            "method",
+            "status",
+            "durationMs",
+            new MdcFieldNames.KindValues("http")
+    );
+
+    @Test
+    void logsOneInfoLineWithTheRecordInTheMdc() {
+        CapturingAppender appender = new CapturingAppender();
+        LoggerAccessLogEmitter emitter = new LoggerAccessLogEmitter(MDC_FIELD_NAMES, logger(appender));
+
+        // caller controlled values are handed to the encoder unchanged, it does the escaping
+        String name = "/a\"b\\c\nd";
+        emitter.emit(
+                new AccessLogRecord(1_000L, "trace-1", "span-1", "user-1", "req-1", "http", "GET", name, 200, 12L)
+        );
+        emitter.emit(new AccessLogRecord(2_000L, null, null, "user-2", "req-2", "http", "GET", "/b", 404, 3L));
+
+        assertEquals(2, appender.list.size());
+        ILoggingEvent first = appender.list.getFirst();
+        assertEquals(Level.INFO, first.getLevel());
+        assertEquals(
+                Map.of(
+                        "traceId", "trace-1",
+                        "spanId", "span-1",
+                        "userId", "user-1",
+                        "requestId", "req-1",
+                        "kind", "http",
+                        "method", "GET",
+                        "name", name,
+                        "status", "200",
+                        "durationMs", "12"
+                ),
+                first.getMDCPropertyMap()
+        );
+
+        Map<String, String> second = appender.list.get(1).getMDCPropertyMap();
+        assertFalse(second.containsKey("traceId"));
+        assertEquals("404", second.get("status"));
+        // the writer thread's MDC does not carry one record into the next line
+        assertNull(MDC.get("userId"));
+    }
+
+    // the application's logger context, so events capture the MDC slf4j writes to
+    private static Logger logger(CapturingAppender appender) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        appender.setContext(context);
+        appender.start();
+
+        Logger logger = context.getLogger(LoggerAccessLogEmitterTest.class);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    // the MDC is read lazily, encoders read it while appending, so it is captured at the same point
+    private static final class CapturingAppender extends ListAppender<ILoggingEvent> {
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            event.prepareForDeferredProcessing();
+            super.append(event);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.jay.voyager.infra.observability.accesslog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MpscRingBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(8, new MpscRingBuffer<String>(5).capacity());
+        assertEquals(8, new MpscRingBuffer<String>(8).capacity());
+    }
+
+    @Test
+    void rejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<String>(1));
+    }
+
+    @Test
+    void pollsInInsertionOrder() {
+        MpscRingBuffer<String> buffer = new MpscRingBuffer<>(4);
+
+        assertTrue(buffer.offer("a"));
+        assertTrue(buffer.offer("b"));
+
+        assertEquals(2, buffer.size());
+        assertEquals("a", buffer.poll());
+        assertEquals("b", buffer.poll());
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void rejectsWhenFullAndAcceptsAgainAfterPoll() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2);
+
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+        assertFalse(buffer.offer(3));
+
+        assertEquals(1, buffer.poll());
+        assertTrue(buffer.offer(3));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, buffer.drain(drained::add, 10));
+        assertEquals(List.of(2, 3), drained);
+    }
+
+    @Test
+    void drainStopsAtLimit() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, buffer.drain(drained::add, 3));
+        assertEquals(List.of(0, 1, 2), drained);
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    void concurrentProducersNeverLoseOrDuplicateElements() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 10_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                });
+            }
+
+            start.countDown();
+
+            boolean[] seen = new boolean[producers * perProducer];
+            int[] lastByProducer = new int[producers];
+            Arrays.fill(lastByProducer, -1);
+            int received = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+            while (received < seen.length && System.nanoTime() < deadline) {
+                Integer element = buffer.poll();
+                if (element == null) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                assertFalse(seen[element]);
+                seen[element] = true;
+
+                // elements of one producer keep their order
+                int producer = element / perProducer;
+                assertTrue(element > lastByProducer[producer]);
+                lastByProducer[producer] = element;
+                received++;
+            }
+
+            assertEquals(seen.length, received);
+        }
+    }
+}
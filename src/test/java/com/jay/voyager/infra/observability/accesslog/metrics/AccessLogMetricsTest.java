@@ -0,0 +1,47 @@
+package com.jay.voyager.infra.observability.accesslog.metrics;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.observability.accesslog.AccessLogPolicy;
+import com.jay.voyager.core.observability.accesslog.AccessLogRecord;
+import com.jay.voyager.infra.observability.accesslog.AsyncAccessLogWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AccessLogMetricsTest {
+
+    @Test
+    void publishesRecordOutcomesAndBufferGauges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AsyncAccessLogWriter writer = new AsyncAccessLogWriter(
+                new AccessLogPolicy(4, 16, Duration.ofMillis(1), AccessLogPolicy.OverflowPolicy.DROP, 0.5, 1),
+                _ -> {}
+        );
+
+        new AccessLogMetrics(writer).bindTo(registry);
+
+        writer.start();
+        writer.offer(new AccessLogRecord(1L, null, null, "user-1", "req-1", "http", "GET", "/a", 200, 1L));
+        writer.close();
+        // offered after close, counted as dropped
+        writer.offer(new AccessLogRecord(1L, null, null, "user-1", "req-1", "http", "GET", "/b", 200, 1L));
+
+        assertEquals(1.0, registry.get(AccessLogMetrics.RECORDS_METER)
+                .tag(AccessLogMetrics.OUTCOME_TAG, "written")
+                .functionCounter()
+                .count());
+        assertEquals(1.0, registry.get(AccessLogMetrics.RECORDS_METER)
+                .tag(AccessLogMetrics.OUTCOME_TAG, "dropped")
+                .functionCounter()
+                .count());
+        assertEquals(0.0, registry.get(AccessLogMetrics.RECORDS_METER)
+                .tag(AccessLogMetrics.OUTCOME_TAG, "sampled")
+                .functionCounter()
+                .count());
+        assertEquals(0.0, registry.get(AccessLogMetrics.BUFFERED_METER).gauge().value());
+        assertEquals(4.0, registry.get(AccessLogMetrics.CAPACITY_METER).gauge().value());
+    }
+}
@@ -0,0 +1,95 @@
+package com.jay.voyager.infra.outbound.http.client.async;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import com.jay.voyager.infra.concurrent.propagation.mdc.MdcContextPropagator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class AsyncHttpClientTest {
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void requestResolvesPathAgainstBaseUrl() {
+        var client = new AsyncHttpClient(
+                "clientA", "https://example.com/api", mock(AsyncHttpExchange.class), List.of()
+        );
+
+        assertEquals(URI.create("https://example.com/api/orders/1?expand=items"),
+                client.request("/orders/1?expand=items").build().uri());
+    }
+
+    @Test
+    void dependentStagesRunWithCallersContext() throws Exception {
+        var exchange = mock(AsyncHttpExchange.class);
+        var pending = new CompletableFuture<HttpResponse<String>>();
+        doReturn(pending).when(exchange).send(any(), any());
+
+        var client = new AsyncHttpClient(
+                "clientA", "https://example.com", exchange, List.of(new MdcContextPropagator())
+        );
+
+        MDC.put("requestId", "abc");
+        CompletableFuture<String> seen = client.send(request(client), HttpResponse.BodyHandlers.ofString())
+                .thenApply(_ -> MDC.get("requestId"));
+        MDC.clear();
+
+        // completed from a thread without any MDC, as the JDK client's executor would
+        Thread completer = Thread.ofPlatform().start(() -> pending.complete(mock()));
+        completer.join();
+
+        assertEquals("abc", seen.get());
+        assertNull(MDC.get("requestId"));
+    }
+
+    @Test
+    void cancellingResultCancelsExchange() {
+        var exchange = mock(AsyncHttpExchange.class);
+        var pending = new CompletableFuture<HttpResponse<String>>();
+        doReturn(pending).when(exchange).send(any(), any());
+
+        var client = new AsyncHttpClient("clientA", "https://example.com", exchange, List.of());
+
+        client.send(request(client), HttpResponse.BodyHandlers.ofString()).cancel(true);
+
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void synchronousFailureIsReportedThroughFuture() {
+        var exchange = mock(AsyncHttpExchange.class);
+        doThrow(new IllegalArgumentException("restricted header")).when(exchange).send(any(), any());
+
+        var client = new AsyncHttpClient("clientA", "https://example.com", exchange, List.of());
+        CompletableFuture<HttpResponse<String>> response =
+                client.send(request(client), HttpResponse.BodyHandlers.ofString());
+
+        var ex = assertThrows(ExecutionException.class, response::get);
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
+    private static HttpRequest request(AsyncHttpClient client) {
+        return client.request("/orders/1").build();
+    }
+}
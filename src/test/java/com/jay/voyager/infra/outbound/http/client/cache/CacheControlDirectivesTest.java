@@ -0,0 +1,45 @@
+package com.jay.voyager.infra.outbound.http.client.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheControlDirectivesTest {
+
+    @Test
+    void absentHeaderHasNoDirectives() {
+        assertSame(CacheControlDirectives.NONE, CacheControlDirectives.of(new HttpHeaders()));
+    }
+
+    @Test
+    void parsesFlagsAndDeltaSeconds() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("Public, max-age=60, s-maxage=\"30\", stale-while-revalidate=10, must-revalidate");
+
+        CacheControlDirectives directives = CacheControlDirectives.of(headers);
+
+        assertTrue(directives.isPublic());
+        assertTrue(directives.mustRevalidate());
+        assertFalse(directives.noStore());
+        assertEquals(60L, directives.maxAgeSeconds());
+        assertEquals(30L, directives.sMaxAgeSeconds());
+        assertEquals(10L, directives.staleWhileRevalidateSeconds());
+    }
+
+    @Test
+    void invalidDeltaSecondsAreStaleAndOverflowIsCapped() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("max-age=soon, s-maxage=99999999999999999999");
+
+        CacheControlDirectives directives = CacheControlDirectives.of(headers);
+
+        assertEquals(0L, directives.maxAgeSeconds());
+        assertEquals(1L << 31, directives.sMaxAgeSeconds());
+        assertNull(directives.staleWhileRevalidateSeconds());
+    }
+}
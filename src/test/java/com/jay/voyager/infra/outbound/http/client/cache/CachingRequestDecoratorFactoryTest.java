@@ -0,0 +1,202 @@
+package com.jay.voyager.infra.outbound.http.client.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.jay.voyager.core.outbound.http.client.settings.HttpCachePolicy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingRequestDecoratorFactoryTest {
+
+    private static final URI TARGET = URI.create("https://example.com/products/1");
+
+    private static final HttpCachePolicy POLICY = new HttpCachePolicy(true, 1024 * 1024, 64);
+
+    @Test
+    void createRequestWrapsGetOnly() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var getRequest = mock(ClientHttpRequest.class);
+        var headRequest = mock(ClientHttpRequest.class);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(getRequest);
+        when(delegate.createRequest(TARGET, HttpMethod.HEAD)).thenReturn(headRequest);
+
+        var factory = factory(delegate);
+
+        assertInstanceOf(CachingClientHttpRequestDecorator.class, factory.createRequest(TARGET, HttpMethod.GET));
+        assertSame(headRequest, factory.createRequest(TARGET, HttpMethod.HEAD));
+    }
+
+    @Test
+    void freshResponseIsServedFromCache() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var first = request();
+        var second = request();
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(first, second);
+        when(first.execute()).thenReturn(response(HttpStatus.OK, "hot", "max-age=60", null));
+
+        var cache = new HttpResponseCache(POLICY);
+        var factory = new CachingRequestDecoratorFactory(delegate, cache, Thread.ofVirtual().factory());
+
+        assertEquals("hot", body(factory.createRequest(TARGET, HttpMethod.GET).execute()));
+        assertEquals("hot", body(factory.createRequest(TARGET, HttpMethod.GET).execute()));
+
+        verify(first, times(1)).execute();
+        verify(second, never()).execute();
+        assertEquals(1, cache.nativeCache().stats().hitCount());
+    }
+
+    @Test
+    void noStoreAndPrivateResponsesAreNotCached() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var first = request();
+        var second = request();
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(first, second);
+        when(first.execute()).thenReturn(response(HttpStatus.OK, "one", "private, max-age=60", null));
+        when(second.execute()).thenReturn(response(HttpStatus.OK, "two", "no-store", null));
+
+        var factory = factory(delegate);
+
+        assertEquals("one", body(factory.createRequest(TARGET, HttpMethod.GET).execute()));
+        assertEquals("two", body(factory.createRequest(TARGET, HttpMethod.GET).execute()));
+    }
+
+    @Test
+    void staleResponseIsRevalidatedWithEtag() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var first = request();
+        var second = request();
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(first, second);
+        when(first.execute()).thenReturn(response(HttpStatus.OK, "v1", "no-cache", "\"v1\""));
+        when(second.execute()).thenReturn(response(HttpStatus.NOT_MODIFIED, "", "no-cache", "\"v1\""));
+
+        var cache = new HttpResponseCache(POLICY);
+        var factory = new CachingRequestDecoratorFactory(delegate, cache, Thread.ofVirtual().factory());
+
+        factory.createRequest(TARGET, HttpMethod.GET).execute();
+        ClientHttpResponse revalidated = factory.createRequest(TARGET, HttpMethod.GET).execute();
+
+        assertEquals(HttpStatus.OK, revalidated.getStatusCode());
+        assertEquals("v1", body(revalidated));
+        assertEquals("\"v1\"", second.getHeaders().getIfNoneMatch().getFirst());
+        assertEquals(1, cache.notModified());
+    }
+
+    @Test
+    void staleWhileRevalidateServesStaleAndRefreshesInBackground() throws Exception {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var first = request();
+        var second = request();
+        var refresh = request();
+        var refreshed = new CountDownLatch(1);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(first, second, refresh);
+        when(first.execute())
+                .thenReturn(response(HttpStatus.OK, "v1", "max-age=0, stale-while-revalidate=60", "\"v1\""));
+        when(refresh.execute()).thenAnswer(_ -> {
+            refreshed.countDown();
+            return response(HttpStatus.OK, "v2", "max-age=60", "\"v2\"");
+        });
+
+        var cache = new HttpResponseCache(POLICY);
+        var factory = new CachingRequestDecoratorFactory(delegate, cache, Thread.ofVirtual().factory());
+
+        factory.createRequest(TARGET, HttpMethod.GET).execute();
+        assertEquals("v1", body(factory.createRequest(TARGET, HttpMethod.GET).execute()));
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+
+        verify(second, never()).execute();
+        assertEquals(1, cache.staleServed());
+    }
+
+    @Test
+    void varyingResponseIsOnlyServedToMatchingRequests() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var english = request();
+        english.getHeaders().set(HttpHeaders.ACCEPT_LANGUAGE, "en");
+        var german = request();
+        german.getHeaders().set(HttpHeaders.ACCEPT_LANGUAGE, "de");
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(english, german);
+
+        ClientHttpResponse englishResponse = response(HttpStatus.OK, "hello", "max-age=60", null);
+        englishResponse.getHeaders().setVary(List.of(HttpHeaders.ACCEPT_LANGUAGE));
+        when(english.execute()).thenReturn(englishResponse);
+        when(german.execute()).thenReturn(response(HttpStatus.OK, "hallo", "max-age=60", null));
+
+        var factory = factory(delegate);
+
+        assertEquals("hello", body(factory.createRequest(TARGET, HttpMethod.GET).execute()));
+        assertEquals("hallo", body(factory.createRequest(TARGET, HttpMethod.GET).execute()));
+    }
+
+    @Test
+    void oversizedResponseIsPassedThroughIntact() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var first = request();
+        var second = request();
+        String large = "x".repeat(100);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(first, second);
+        when(first.execute()).thenReturn(response(HttpStatus.OK, large, "max-age=60", null));
+        when(second.execute()).thenReturn(response(HttpStatus.OK, large, "max-age=60", null));
+
+        var factory = factory(delegate);
+
+        assertEquals(large, body(factory.createRequest(TARGET, HttpMethod.GET).execute()));
+        assertEquals(large, body(factory.createRequest(TARGET, HttpMethod.GET).execute()));
+        verify(second, times(1)).execute();
+    }
+
+    private static CachingRequestDecoratorFactory factory(ClientHttpRequestFactory delegate) {
+        return new CachingRequestDecoratorFactory(delegate, new HttpResponseCache(POLICY), Thread.ofVirtual().factory());
+    }
+
+    private static ClientHttpRequest request() {
+        var request = mock(ClientHttpRequest.class);
+        var headers = new HttpHeaders();
+        when(request.getURI()).thenReturn(TARGET);
+        when(request.getMethod()).thenReturn(HttpMethod.GET);
+        when(request.getHeaders()).thenReturn(headers);
+        when(request.getAttributes()).thenReturn(new HashMap<>());
+        return request;
+    }
+
+    private static ClientHttpResponse response(HttpStatus status, String body, String cacheControl, String eTag)
+            throws IOException {
+        var response = mock(ClientHttpResponse.class);
+        var headers = new HttpHeaders();
+        headers.setCacheControl(cacheControl);
+        if (eTag != null) {
+            headers.setETag(eTag);
+        }
+        when(response.getStatusCode()).thenReturn(status);
+        when(response.getStatusText()).thenReturn(status.getReasonPhrase());
+        when(response.getHeaders()).thenReturn(headers);
+        when(response.getBody()).thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        return response;
+    }
+
+    private static String body(ClientHttpResponse response) throws IOException {
+        return new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,45 @@
+package com.jay.voyager.infra.outbound.http.client.cache.metrics;
+
+import java.util.Map;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.outbound.http.client.settings.HttpCachePolicy;
+import com.jay.voyager.infra.outbound.http.client.cache.HttpResponseCache;
+import com.jay.voyager.infra.outbound.http.client.cache.HttpResponseCacheRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HttpResponseCacheMetricsTest {
+
+    private static final String CLIENT = "catalog";
+
+    @Test
+    void publishesPerClientCacheUsage() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        HttpResponseCacheRegistry cacheRegistry = mock(HttpResponseCacheRegistry.class);
+        HttpResponseCache cache = new HttpResponseCache(new HttpCachePolicy(true, 1024, 512));
+        when(cacheRegistry.caches()).thenReturn(Map.of(CLIENT, cache));
+
+        new HttpResponseCacheMetrics(cacheRegistry).bindTo(registry);
+
+        assertNotNull(registry.get("cache.gets")
+                .tag("cache", HttpResponseCacheMetrics.CACHE_NAME)
+                .tag(HttpResponseCacheMetrics.CLIENT_TAG, CLIENT)
+                .tag("result", "miss")
+                .functionCounter());
+        assertEquals(0.0, registry.get(HttpResponseCacheMetrics.WEIGHT_METER)
+                .tag(HttpResponseCacheMetrics.CLIENT_TAG, CLIENT)
+                .gauge()
+                .value());
+        assertEquals(0.0, registry.get(HttpResponseCacheMetrics.REVALIDATIONS_METER)
+                .tag(HttpResponseCacheMetrics.CLIENT_TAG, CLIENT)
+                .tag(HttpResponseCacheMetrics.RESULT_TAG, "not_modified")
+                .functionCounter()
+                .count());
+    }
+}
@@ -0,0 +1,82 @@
+package com.jay.voyager.infra.outbound.http.client.deadline;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.core.context.deadline.DeadlineExceededException;
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpExchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class DeadlineAsyncHttpExchangeTest {
+
+    private static final URI TARGET = URI.create("https://example.com/orders/1");
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
+    private static final String HEADER = "x-request-deadline";
+
+    @Test
+    void withoutDeadlineReadTimeoutIsApplied() {
+        var delegate = mock(AsyncHttpExchange.class);
+        doReturn(new CompletableFuture<>()).when(delegate).send(any(), any());
+
+        var exchange = new DeadlineAsyncHttpExchange(delegate, READ_TIMEOUT, HEADER);
+        exchange.send(HttpRequest.newBuilder(TARGET).build(), HttpResponse.BodyHandlers.ofString());
+
+        HttpRequest sent = sentRequest(delegate);
+        assertEquals(READ_TIMEOUT, sent.timeout().orElseThrow());
+        assertTrue(sent.headers().firstValue(HEADER).isEmpty());
+    }
+
+    @Test
+    void shorterDeadlineShrinksTimeoutAndSendsRemainingBudget() {
+        var delegate = mock(AsyncHttpExchange.class);
+        doReturn(new CompletableFuture<>()).when(delegate).send(any(), any());
+
+        var exchange = new DeadlineAsyncHttpExchange(delegate, READ_TIMEOUT, HEADER);
+        DeadlineContextHolder.where(Deadline.after(Duration.ofSeconds(2))).run(() ->
+                exchange.send(HttpRequest.newBuilder(TARGET).build(), HttpResponse.BodyHandlers.ofString())
+        );
+
+        HttpRequest sent = sentRequest(delegate);
+        assertTrue(sent.timeout().orElseThrow().compareTo(Duration.ofSeconds(2)) <= 0);
+        long budgetMillis = Long.parseLong(sent.headers().firstValue(HEADER).orElseThrow());
+        assertTrue(budgetMillis > 0 && budgetMillis <= 2000);
+    }
+
+    @Test
+    void expiredDeadlineFailsWithoutSending() {
+        var delegate = mock(AsyncHttpExchange.class);
+
+        var exchange = new DeadlineAsyncHttpExchange(delegate, READ_TIMEOUT, HEADER);
+        HttpRequest request = HttpRequest.newBuilder(TARGET).build();
+        CompletableFuture<HttpResponse<String>> response = DeadlineContextHolder.where(Deadline.after(Duration.ZERO))
+                .call(() -> exchange.send(request, HttpResponse.BodyHandlers.ofString()));
+
+        var ex = assertThrows(ExecutionException.class, response::get);
+        assertInstanceOf(DeadlineExceededException.class, ex.getCause());
+        verifyNoInteractions(delegate);
+    }
+
+    private static HttpRequest sentRequest(AsyncHttpExchange delegate) {
+        var captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(delegate).send(captor.capture(), any());
+        return captor.getValue();
+    }
+}
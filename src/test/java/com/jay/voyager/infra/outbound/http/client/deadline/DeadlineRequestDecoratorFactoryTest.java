@@ -0,0 +1,124 @@
+package com.jay.voyager.infra.outbound.http.client.deadline;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.core.context.deadline.DeadlineExceededException;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DeadlineRequestDecoratorFactoryTest {
+
+    private static final URI TARGET = URI.create("https://example.com/orders/1");
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
+    private static final String HEADER = "x-request-deadline";
+
+    @SuppressWarnings("unchecked")
+    private final Function<Duration, ClientHttpRequestFactory> shortenedFactory = mock(Function.class);
+
+    @Test
+    void withoutDeadlineRequestPassesThrough() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var request = mock(ClientHttpRequest.class);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(request);
+
+        var factory = new DeadlineRequestDecoratorFactory(delegate, READ_TIMEOUT, shortenedFactory, HEADER);
+
+        assertSame(request, factory.createRequest(TARGET, HttpMethod.GET));
+        verifyNoInteractions(shortenedFactory);
+    }
+
+    @Test
+    void shorterDeadlineShrinksReadTimeoutAndSendsRemainingBudget() throws Exception {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var shortened = mock(ClientHttpRequestFactory.class);
+        var request = mock(ClientHttpRequest.class);
+        var response = mock(ClientHttpResponse.class);
+        var headers = new HttpHeaders();
+
+        when(shortenedFactory.apply(any())).thenReturn(shortened);
+        when(shortened.createRequest(TARGET, HttpMethod.GET)).thenReturn(request);
+        when(request.getHeaders()).thenReturn(headers);
+        when(request.execute()).thenReturn(response);
+
+        var factory = new DeadlineRequestDecoratorFactory(delegate, READ_TIMEOUT, shortenedFactory, HEADER);
+
+        ClientHttpResponse actual = DeadlineContextHolder.where(Deadline.after(Duration.ofSeconds(2)))
+                .call(() -> factory.createRequest(TARGET, HttpMethod.GET).execute());
+
+        assertSame(response, actual);
+        verify(shortenedFactory).apply(any());
+        verifyNoInteractions(delegate);
+
+        long sentMillis = Long.parseLong(headers.getFirst(HEADER));
+        assertTrue(sentMillis > 0 && sentMillis <= 2_000);
+    }
+
+    @Test
+    void longerDeadlineKeepsClientReadTimeout() throws Exception {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var request = mock(ClientHttpRequest.class);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(request);
+        when(request.getHeaders()).thenReturn(new HttpHeaders());
+
+        var factory = new DeadlineRequestDecoratorFactory(delegate, READ_TIMEOUT, shortenedFactory, HEADER);
+
+        DeadlineContextHolder.where(Deadline.after(Duration.ofMinutes(1)))
+                .call(() -> factory.createRequest(TARGET, HttpMethod.GET));
+
+        verify(delegate).createRequest(TARGET, HttpMethod.GET);
+        verifyNoInteractions(shortenedFactory);
+    }
+
+    @Test
+    void expiredDeadlineIsNotSent() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+
+        var factory = new DeadlineRequestDecoratorFactory(delegate, READ_TIMEOUT, shortenedFactory, HEADER);
+
+        assertThrows(DeadlineExceededException.class, () ->
+                DeadlineContextHolder.where(Deadline.after(Duration.ZERO))
+                        .call(() -> factory.createRequest(TARGET, HttpMethod.GET))
+        );
+        verify(delegate, never()).createRequest(any(), any());
+        verifyNoInteractions(shortenedFactory);
+    }
+
+    @Test
+    void deadlinePassingBeforeExecuteFailsTheAttempt() throws Exception {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var shortened = mock(ClientHttpRequestFactory.class);
+        var request = mock(ClientHttpRequest.class);
+        when(shortenedFactory.apply(any())).thenReturn(shortened);
+        when(shortened.createRequest(TARGET, HttpMethod.GET)).thenReturn(request);
+        when(request.getHeaders()).thenReturn(new HttpHeaders());
+
+        var factory = new DeadlineRequestDecoratorFactory(delegate, READ_TIMEOUT, shortenedFactory, HEADER);
+
+        ClientHttpRequest deadlineRequest = DeadlineContextHolder.where(Deadline.after(Duration.ofMillis(20)))
+                .call(() -> factory.createRequest(TARGET, HttpMethod.GET));
+        Thread.sleep(Duration.ofMillis(40));
+
+        assertThrows(DeadlineExceededException.class, deadlineRequest::execute);
+        verify(request, never()).execute();
+    }
+}
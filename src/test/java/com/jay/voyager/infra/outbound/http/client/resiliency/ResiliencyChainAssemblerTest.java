@@ -2,11 +2,11 @@ package com.jay.voyager.infra.outbound.http.client.resiliency;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
-import io.github.resilience4j.bulkhead.BulkheadConfig;
-import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -16,9 +16,20 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpResponse;
 
+import com.jay.voyager.core.concurrent.limit.FixedLimit;
+import com.jay.voyager.core.concurrent.limit.GradientLimit;
+import com.jay.voyager.core.concurrent.limit.LimitAlgorithm;
+import com.jay.voyager.core.concurrent.limit.LimitPolicy;
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
 import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpExchange;
+import com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead.BulkheadAsyncHttpExchange;
 import com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead.BulkheadRequestDecoratorFactory;
+import com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead.OutboundLimiterRegistry;
 import com.jay.voyager.infra.outbound.http.client.resiliency.circuitbreaker.CircuitBreakerRequestDecoratorFactory;
+import com.jay.voyager.infra.outbound.http.client.resiliency.coalescing.CoalescingRequestDecoratorFactory;
+import com.jay.voyager.infra.outbound.http.client.resiliency.hedging.HedgingRequestDecoratorFactory;
+import com.jay.voyager.infra.outbound.http.client.resiliency.retry.RetryRequestDecoratorFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -27,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.inOrder;
@@ -39,7 +51,7 @@ class ResiliencyChainAssemblerTest {
 
     @Test
     void assembleAppliesCircuitBreakerThenBulkhead() {
-        var bulkheadRegistry = mock(BulkheadRegistry.class);
+        var limiterRegistry = mock(OutboundLimiterRegistry.class);
         var circuitBreakerRegistry = mock(CircuitBreakerRegistry.class);
 
         var requestFactory = mock(ClientHttpRequestFactory.class);
@@ -47,11 +59,22 @@ class ResiliencyChainAssemblerTest {
         var resiliencyPolicy = mock(ResiliencyPolicy.class);
         var bulkheadPolicy = mock(ResiliencyPolicy.BulkheadPolicy.class);
         var circuitBreakerPolicy = mock(ResiliencyPolicy.CircuitBreakerPolicy.class);
+        var retryPolicy = mock(ResiliencyPolicy.RetryPolicy.class);
+        var hedgingPolicy = mock(ResiliencyPolicy.HedgingPolicy.class);
+        var coalescingPolicy = mock(ResiliencyPolicy.CoalescingPolicy.class);
 
         when(resiliencyPolicy.bulkheadPolicy()).thenReturn(bulkheadPolicy);
         when(resiliencyPolicy.circuitBreakerPolicy()).thenReturn(circuitBreakerPolicy);
+        when(resiliencyPolicy.retryPolicy()).thenReturn(retryPolicy);
+        when(resiliencyPolicy.hedgingPolicy()).thenReturn(hedgingPolicy);
+        when(resiliencyPolicy.coalescingPolicy()).thenReturn(coalescingPolicy);
+
+        when(retryPolicy.enabled()).thenReturn(false);
+        when(hedgingPolicy.enabled()).thenReturn(false);
+        when(coalescingPolicy.enabled()).thenReturn(false);
 
         when(bulkheadPolicy.enabled()).thenReturn(true);
+        when(bulkheadPolicy.mode()).thenReturn(ResiliencyPolicy.BulkheadPolicy.Mode.STATIC);
         when(bulkheadPolicy.maxConcurrentCalls()).thenReturn(1);
         when(bulkheadPolicy.maxWaitDuration()).thenReturn(Duration.ZERO);
 
@@ -68,23 +91,67 @@ class ResiliencyChainAssemblerTest {
 
         when(circuitBreakerRegistry.circuitBreaker(anyString(), any(CircuitBreakerConfig.class)))
                 .thenReturn(mock(CircuitBreaker.class));
-        when(bulkheadRegistry.bulkhead(anyString(), any(BulkheadConfig.class)))
-                .thenReturn(mock(Bulkhead.class));
+        when(limiterRegistry.limiter(anyString(), any(LimitAlgorithm.class), anyInt()))
+                .thenReturn(new PooledConcurrencyLimiter(new FixedLimit(1), 1));
 
-        var assembler = new ResiliencyChainAssembler(bulkheadRegistry, circuitBreakerRegistry);
+        var assembler = new ResiliencyChainAssembler(limiterRegistry, circuitBreakerRegistry);
 
-        assembler.assemble(requestFactory, resiliencyPolicy, "clientA");
+        assembler.assemble(requestFactory, resiliencyPolicy, "clientA", Duration.ofSeconds(2));
 
-        var inOrder = inOrder(circuitBreakerRegistry, bulkheadRegistry);
+        var inOrder = inOrder(circuitBreakerRegistry, limiterRegistry);
         inOrder.verify(circuitBreakerRegistry)
                 .circuitBreaker(eq("clientAOutboundClient"), any(CircuitBreakerConfig.class));
-        inOrder.verify(bulkheadRegistry)
-                .bulkhead(eq("clientAOutboundClient"), any(BulkheadConfig.class));
+        inOrder.verify(limiterRegistry)
+                .limiter(eq("clientAOutboundClient"), any(LimitAlgorithm.class), eq(1));
+    }
+
+    @Test
+    void assembleAsyncSharesLimiterAndCircuitBreakerWithBlockingChain() {
+        var limiterRegistry = mock(OutboundLimiterRegistry.class);
+        var circuitBreakerRegistry = mock(CircuitBreakerRegistry.class);
+
+        var resiliencyPolicy = mock(ResiliencyPolicy.class);
+        var bulkheadPolicy = mock(ResiliencyPolicy.BulkheadPolicy.class);
+        var circuitBreakerPolicy = mock(ResiliencyPolicy.CircuitBreakerPolicy.class);
+
+        when(resiliencyPolicy.bulkheadPolicy()).thenReturn(bulkheadPolicy);
+        when(resiliencyPolicy.circuitBreakerPolicy()).thenReturn(circuitBreakerPolicy);
+
+        when(bulkheadPolicy.enabled()).thenReturn(true);
+        when(bulkheadPolicy.mode()).thenReturn(ResiliencyPolicy.BulkheadPolicy.Mode.STATIC);
+        when(bulkheadPolicy.maxConcurrentCalls()).thenReturn(4);
+
+        when(circuitBreakerPolicy.enabled()).thenReturn(true);
+        when(circuitBreakerPolicy.failureRateThreshold()).thenReturn(50);
+        when(circuitBreakerPolicy.slowCallDurationThreshold()).thenReturn(Duration.ofSeconds(1));
+        when(circuitBreakerPolicy.slowCallRateThreshold()).thenReturn(50);
+        when(circuitBreakerPolicy.slidingWindowType())
+                .thenReturn(ResiliencyPolicy.CircuitBreakerPolicy.SlidingWindowType.COUNT_BASED);
+        when(circuitBreakerPolicy.slidingWindowSize()).thenReturn(10);
+        when(circuitBreakerPolicy.minimumNumberOfCalls()).thenReturn(10);
+        when(circuitBreakerPolicy.permittedNumberOfCallsInHalfOpenState()).thenReturn(5);
+        when(circuitBreakerPolicy.waitDurationInOpenState()).thenReturn(Duration.ofSeconds(5));
+
+        when(circuitBreakerRegistry.circuitBreaker(anyString(), any(CircuitBreakerConfig.class)))
+                .thenReturn(mock(CircuitBreaker.class));
+        when(limiterRegistry.limiter(anyString(), any(LimitAlgorithm.class), anyInt()))
+                .thenReturn(new PooledConcurrencyLimiter(new FixedLimit(4), 4));
+
+        var assembler = new ResiliencyChainAssembler(limiterRegistry, circuitBreakerRegistry);
+
+        var transport = mock(AsyncHttpExchange.class);
+
+        AsyncHttpExchange exchange = assembler.assembleAsync(transport, resiliencyPolicy, "clientA");
+
+        // bulkhead outermost, as in the blocking chain, under the blocking chain's instance names
+        assertInstanceOf(BulkheadAsyncHttpExchange.class, exchange);
+        verify(circuitBreakerRegistry).circuitBreaker(eq("clientAOutboundClient"), any(CircuitBreakerConfig.class));
+        verify(limiterRegistry).limiter(eq("clientAOutboundClient"), any(LimitAlgorithm.class), eq(4));
     }
 
     @Test
     void applyCircuitBreakerWhenDisabledReturnsSameDelegate() {
-        var bulkheadRegistry = mock(BulkheadRegistry.class);
+        var limiterRegistry = mock(OutboundLimiterRegistry.class);
         var circuitBreakerRegistry = mock(CircuitBreakerRegistry.class);
 
         var delegate = mock(ClientHttpRequestFactory.class);
@@ -92,7 +159,7 @@ class ResiliencyChainAssemblerTest {
         var circuitBreakerPolicy = mock(ResiliencyPolicy.CircuitBreakerPolicy.class);
         when(circuitBreakerPolicy.enabled()).thenReturn(false);
 
-        var assembler = new ResiliencyChainAssembler(bulkheadRegistry, circuitBreakerRegistry);
+        var assembler = new ResiliencyChainAssembler(limiterRegistry, circuitBreakerRegistry);
 
         var result =
                 assembler.applyCircuitBreaker(delegate, circuitBreakerPolicy, "clientAOutboundClient");
@@ -103,7 +170,7 @@ class ResiliencyChainAssemblerTest {
 
     @Test
     void applyCircuitBreakerWhenEnabledDecoratesRequestFactory() {
-        var bulkheadRegistry = mock(BulkheadRegistry.class);
+        var limiterRegistry = mock(OutboundLimiterRegistry.class);
         var circuitBreakerRegistry = mock(CircuitBreakerRegistry.class);
 
         var delegate = mock(ClientHttpRequestFactory.class);
@@ -123,7 +190,7 @@ class ResiliencyChainAssemblerTest {
         when(circuitBreakerRegistry.circuitBreaker(anyString(), any(CircuitBreakerConfig.class)))
                 .thenReturn(mock(CircuitBreaker.class));
 
-        var assembler = new ResiliencyChainAssembler(bulkheadRegistry, circuitBreakerRegistry);
+        var assembler = new ResiliencyChainAssembler(limiterRegistry, circuitBreakerRegistry);
 
         var result =
                 assembler.applyCircuitBreaker(delegate, circuitBreakerPolicy, "clientAOutboundClient");
@@ -133,9 +200,104 @@ class ResiliencyChainAssemblerTest {
                 .circuitBreaker(eq("clientAOutboundClient"), any(CircuitBreakerConfig.class));
     }
 
+    @Test
+    void applyRetryWhenDisabledReturnsSameDelegate() {
+        var assembler = new ResiliencyChainAssembler(mock(OutboundLimiterRegistry.class), mock(CircuitBreakerRegistry.class));
+
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var retryPolicy = new ResiliencyPolicy.RetryPolicy(
+                false, 3, Duration.ofMillis(50), Duration.ofSeconds(1), 2.0, 0.1
+        );
+
+        var result = assembler.applyRetry(delegate, retryPolicy, "clientA");
+
+        assertSame(delegate, result);
+    }
+
+    @Test
+    void applyRetryWhenEnabledDecoratesRequestFactory() {
+        var assembler = new ResiliencyChainAssembler(mock(OutboundLimiterRegistry.class), mock(CircuitBreakerRegistry.class));
+
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var retryPolicy = new ResiliencyPolicy.RetryPolicy(
+                true, 3, Duration.ofMillis(50), Duration.ofSeconds(1), 2.0, 0.1
+        );
+
+        var result = assembler.applyRetry(delegate, retryPolicy, "clientA");
+
+        assertInstanceOf(RetryRequestDecoratorFactory.class, result);
+    }
+
+    @Test
+    void applyCoalescingWhenDisabledReturnsSameDelegate() {
+        var assembler = new ResiliencyChainAssembler(mock(OutboundLimiterRegistry.class), mock(CircuitBreakerRegistry.class));
+
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var coalescingPolicy = new ResiliencyPolicy.CoalescingPolicy(false, List.of("accept"));
+
+        var result = assembler.applyCoalescing(delegate, coalescingPolicy, "clientA");
+
+        assertSame(delegate, result);
+    }
+
+    @Test
+    void applyCoalescingWhenEnabledDecoratesRequestFactory() {
+        var assembler = new ResiliencyChainAssembler(mock(OutboundLimiterRegistry.class), mock(CircuitBreakerRegistry.class));
+
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var coalescingPolicy = new ResiliencyPolicy.CoalescingPolicy(true, List.of("accept"));
+
+        var result = assembler.applyCoalescing(delegate, coalescingPolicy, "clientA");
+
+        assertInstanceOf(CoalescingRequestDecoratorFactory.class, result);
+    }
+
+    @Test
+    void applyHedgingWhenDisabledReturnsSameDelegate() {
+        var assembler = new ResiliencyChainAssembler(mock(OutboundLimiterRegistry.class), mock(CircuitBreakerRegistry.class));
+
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var hedgingPolicy = new ResiliencyPolicy.HedgingPolicy(false, Duration.ofMillis(50), 0.95, 0.1);
+
+        var result = assembler.applyHedging(delegate, hedgingPolicy, "clientA", Duration.ofSeconds(2));
+
+        assertSame(delegate, result);
+    }
+
+    @Test
+    void applyHedgingWhenEnabledDecoratesRequestFactory() {
+        var assembler = new ResiliencyChainAssembler(
+                mock(OutboundLimiterRegistry.class),
+                mock(CircuitBreakerRegistry.class),
+                Thread.ofVirtual().factory()
+        );
+
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var hedgingPolicy = new ResiliencyPolicy.HedgingPolicy(true, Duration.ofMillis(50), 0.95, 0.1);
+
+        var result = assembler.applyHedging(delegate, hedgingPolicy, "clientA", Duration.ofSeconds(2));
+
+        assertInstanceOf(HedgingRequestDecoratorFactory.class, result);
+    }
+
+    @Test
+    void stageListenerSeesStagesByClientNameIncludingEarlierOnes() {
+        var assembler = new ResiliencyChainAssembler(mock(OutboundLimiterRegistry.class), mock(CircuitBreakerRegistry.class));
+        var hedgingPolicy = new ResiliencyPolicy.HedgingPolicy(true, Duration.ofMillis(50), 0.95, 0.1);
+
+        var delegate = mock(ClientHttpRequestFactory.class);
+
+        var first = assembler.applyHedging(delegate, hedgingPolicy, "clientA", Duration.ofSeconds(2));
+        var seen = new LinkedHashMap<String, ClientHttpRequestFactory>();
+        assembler.onStageAdded(seen::put);
+        var second = assembler.applyHedging(delegate, hedgingPolicy, "clientB", Duration.ofSeconds(2));
+
+        assertEquals(Map.of("clientA", first, "clientB", second), seen);
+    }
+
     @Test
     void applyBulkheadWhenDisabledReturnsSameDelegate() {
-        var bulkheadRegistry = mock(BulkheadRegistry.class);
+        var limiterRegistry = mock(OutboundLimiterRegistry.class);
         var circuitBreakerRegistry = mock(CircuitBreakerRegistry.class);
 
         var delegate = mock(ClientHttpRequestFactory.class);
@@ -143,68 +305,99 @@ class ResiliencyChainAssemblerTest {
         var bulkheadPolicy = mock(ResiliencyPolicy.BulkheadPolicy.class);
         when(bulkheadPolicy.enabled()).thenReturn(false);
 
-        var assembler = new ResiliencyChainAssembler(bulkheadRegistry, circuitBreakerRegistry);
+        var assembler = new ResiliencyChainAssembler(limiterRegistry, circuitBreakerRegistry);
 
         var result =
                 assembler.applyBulkhead(delegate, bulkheadPolicy, "clientAOutboundClient");
 
         assertSame(delegate, result);
-        verifyNoInteractions(bulkheadRegistry);
+        verifyNoInteractions(limiterRegistry);
     }
 
     @Test
     void applyBulkheadWhenEnabledDecoratesRequestFactory() {
-        var bulkheadRegistry = mock(BulkheadRegistry.class);
+        var limiterRegistry = mock(OutboundLimiterRegistry.class);
         var circuitBreakerRegistry = mock(CircuitBreakerRegistry.class);
 
         var delegate = mock(ClientHttpRequestFactory.class);
 
         var bulkheadPolicy = mock(ResiliencyPolicy.BulkheadPolicy.class);
         when(bulkheadPolicy.enabled()).thenReturn(true);
+        when(bulkheadPolicy.mode()).thenReturn(ResiliencyPolicy.BulkheadPolicy.Mode.STATIC);
         when(bulkheadPolicy.maxConcurrentCalls()).thenReturn(3);
         when(bulkheadPolicy.maxWaitDuration()).thenReturn(Duration.ZERO);
 
-        when(bulkheadRegistry.bulkhead(anyString(), any(BulkheadConfig.class)))
-                .thenReturn(mock(Bulkhead.class));
+        when(limiterRegistry.limiter(anyString(), any(LimitAlgorithm.class), anyInt()))
+                .thenReturn(new PooledConcurrencyLimiter(new FixedLimit(1), 1));
 
-        var assembler = new ResiliencyChainAssembler(bulkheadRegistry, circuitBreakerRegistry);
+        var assembler = new ResiliencyChainAssembler(limiterRegistry, circuitBreakerRegistry);
 
         var result =
                 assembler.applyBulkhead(delegate, bulkheadPolicy, "clientAOutboundClient");
 
         assertInstanceOf(BulkheadRequestDecoratorFactory.class, result);
-        verify(bulkheadRegistry)
-                .bulkhead(eq("clientAOutboundClient"), any(BulkheadConfig.class));
+        verify(limiterRegistry)
+                .limiter(eq("clientAOutboundClient"), any(LimitAlgorithm.class), eq(3));
     }
 
     @Test
-    void applyBulkheadWhenEnabledMapsPolicyIntoBulkheadConfig() {
-        var bulkheadRegistry = mock(BulkheadRegistry.class);
+    void applyBulkheadWhenEnabledMapsPolicyIntoFixedLimit() {
+        var limiterRegistry = mock(OutboundLimiterRegistry.class);
         var circuitBreakerRegistry = mock(CircuitBreakerRegistry.class);
 
         var delegate = mock(ClientHttpRequestFactory.class);
 
         var bulkheadPolicy = mock(ResiliencyPolicy.BulkheadPolicy.class);
         when(bulkheadPolicy.enabled()).thenReturn(true);
+        when(bulkheadPolicy.mode()).thenReturn(ResiliencyPolicy.BulkheadPolicy.Mode.STATIC);
         when(bulkheadPolicy.maxConcurrentCalls()).thenReturn(12);
         when(bulkheadPolicy.maxWaitDuration()).thenReturn(Duration.ofSeconds(2));
 
-        var configCaptor = ArgumentCaptor.forClass(BulkheadConfig.class);
-        when(bulkheadRegistry.bulkhead(eq("clientAOutboundClient"), configCaptor.capture()))
-                .thenReturn(mock(Bulkhead.class));
+        var algorithmCaptor = ArgumentCaptor.forClass(LimitAlgorithm.class);
+        when(limiterRegistry.limiter(eq("clientAOutboundClient"), algorithmCaptor.capture(), eq(12)))
+                .thenReturn(new PooledConcurrencyLimiter(new FixedLimit(12), 12));
+
+        var assembler = new ResiliencyChainAssembler(limiterRegistry, circuitBreakerRegistry);
+
+        assembler.applyBulkhead(delegate, bulkheadPolicy, "clientAOutboundClient");
+
+        LimitAlgorithm algorithm = algorithmCaptor.getValue();
+        assertInstanceOf(FixedLimit.class, algorithm);
+        assertEquals(12, algorithm.limit());
+    }
+
+    @Test
+    void applyBulkheadInAdaptiveModeSizesPoolByMaxLimit() {
+        var limiterRegistry = mock(OutboundLimiterRegistry.class);
+        var circuitBreakerRegistry = mock(CircuitBreakerRegistry.class);
+
+        var delegate = mock(ClientHttpRequestFactory.class);
+
+        var adaptiveLimit = new LimitPolicy(
+                LimitPolicy.Algorithm.GRADIENT, 20, 5, 200,
+                new LimitPolicy.Gradient(0.2, 2.0, 600),
+                new LimitPolicy.Aimd(0.9, Duration.ofSeconds(2))
+        );
+        var bulkheadPolicy = new ResiliencyPolicy.BulkheadPolicy(
+                true, 10, Duration.ZERO, ResiliencyPolicy.BulkheadPolicy.Mode.ADAPTIVE, adaptiveLimit
+        );
+
+        var algorithmCaptor = ArgumentCaptor.forClass(LimitAlgorithm.class);
+        when(limiterRegistry.limiter(eq("clientAOutboundClient"), algorithmCaptor.capture(), eq(200)))
+                .thenReturn(new PooledConcurrencyLimiter(new FixedLimit(20), 200));
 
-        var assembler = new ResiliencyChainAssembler(bulkheadRegistry, circuitBreakerRegistry);
+        var assembler = new ResiliencyChainAssembler(limiterRegistry, circuitBreakerRegistry);
 
         assembler.applyBulkhead(delegate, bulkheadPolicy, "clientAOutboundClient");
 
-        BulkheadConfig cfg = configCaptor.getValue();
-        assertEquals(12, cfg.getMaxConcurrentCalls());
-        assertEquals(Duration.ofSeconds(2), cfg.getMaxWaitDuration());
+        LimitAlgorithm algorithm = algorithmCaptor.getValue();
+        assertInstanceOf(GradientLimit.class, algorithm);
+        assertEquals(20, algorithm.limit());
     }
 
     @Test
     void applyCircuitBreakerWhenEnabledMapsPolicyAndRecords5xxAsFailure() throws IOException {
-        var bulkheadRegistry = mock(BulkheadRegistry.class);
+        var limiterRegistry = mock(OutboundLimiterRegistry.class);
         var circuitBreakerRegistry = mock(CircuitBreakerRegistry.class);
 
         var delegate = mock(ClientHttpRequestFactory.class);
@@ -228,7 +421,7 @@ class ResiliencyChainAssemblerTest {
         when(circuitBreakerRegistry.circuitBreaker(eq("clientAOutboundClient"), configCaptor.capture()))
                 .thenReturn(mock(CircuitBreaker.class));
 
-        var assembler = new ResiliencyChainAssembler(bulkheadRegistry, circuitBreakerRegistry);
+        var assembler = new ResiliencyChainAssembler(limiterRegistry, circuitBreakerRegistry);
 
         assembler.applyCircuitBreaker(delegate, circuitBreakerPolicy, "clientAOutboundClient");
 
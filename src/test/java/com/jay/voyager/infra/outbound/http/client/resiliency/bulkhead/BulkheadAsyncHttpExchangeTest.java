@@ -0,0 +1,114 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.concurrent.limit.FixedLimit;
+import com.jay.voyager.core.concurrent.limit.LimitAlgorithm;
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpExchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkheadAsyncHttpExchangeTest {
+
+    private static final String NAME = "clientAOutboundClient";
+    private static final HttpRequest REQUEST =
+            HttpRequest.newBuilder(URI.create("https://example.com/orders/1")).build();
+
+    @Test
+    void permitIsHeldUntilResponseCompletes() {
+        var delegate = mock(AsyncHttpExchange.class);
+        var pending = new CompletableFuture<HttpResponse<String>>();
+        doReturn(pending).when(delegate).send(any(), any());
+
+        var limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
+        var exchange = new BulkheadAsyncHttpExchange(delegate, limiter, NAME);
+
+        CompletableFuture<HttpResponse<String>> response = exchange.send(REQUEST, HttpResponse.BodyHandlers.ofString());
+        assertEquals(1, limiter.inFlight());
+
+        pending.complete(response(200));
+
+        assertEquals(200, response.join().statusCode());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void callAboveLimitFailsWithoutWaitingOrSending() {
+        var delegate = mock(AsyncHttpExchange.class);
+        doReturn(new CompletableFuture<>()).when(delegate).send(any(), any());
+
+        var limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
+        var exchange = new BulkheadAsyncHttpExchange(delegate, limiter, NAME);
+
+        exchange.send(REQUEST, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<HttpResponse<String>> rejected = exchange.send(REQUEST, HttpResponse.BodyHandlers.ofString());
+
+        var ex = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(ConcurrencyLimitExceededException.class, ex.getCause());
+        verify(delegate, times(1)).send(any(), any());
+    }
+
+    @Test
+    void sheddingResponsesAndTimeoutsAreReleasedAsDropped() {
+        var delegate = mock(AsyncHttpExchange.class);
+        doReturn(
+                CompletableFuture.completedFuture(response(503)),
+                CompletableFuture.failedFuture(new HttpTimeoutException("request timed out")),
+                CompletableFuture.completedFuture(response(200))
+        ).when(delegate).send(any(), any());
+
+        var algorithm = new RecordingLimit();
+        var limiter = new PooledConcurrencyLimiter(algorithm, 1);
+        var exchange = new BulkheadAsyncHttpExchange(delegate, limiter, NAME);
+
+        for (int i = 0; i < 3; i++) {
+            exchange.send(REQUEST, HttpResponse.BodyHandlers.ofString());
+        }
+
+        assertEquals(3, algorithm.samples);
+        assertEquals(2, algorithm.dropped);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<String> response(int status) {
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        return response;
+    }
+
+    private static final class RecordingLimit implements LimitAlgorithm {
+
+        private int samples;
+        private int dropped;
+
+        @Override
+        public int limit() {
+            return 1;
+        }
+
+        @Override
+        public void onSample(long rttNanos, int inFlight, boolean dropped) {
+            samples++;
+            if (dropped) {
+                this.dropped++;
+            }
+        }
+    }
+}
@@ -1,108 +1,226 @@
 package com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead;
 
 import java.io.IOException;
+import java.net.http.HttpTimeoutException;
 import java.time.Duration;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
-import io.github.resilience4j.bulkhead.BulkheadConfig;
-import io.github.resilience4j.bulkhead.BulkheadFullException;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpResponse;
 
+import com.jay.voyager.core.concurrent.limit.FixedLimit;
+import com.jay.voyager.core.concurrent.limit.LimitAlgorithm;
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 class BulkheadClientHttpRequestDecoratorTest {
 
+    private static final String NAME = "clientAOutboundClient";
+
     @Test
     void executeWhenPermitAcquiredWrapsResponseAndDoesNotReleaseImmediately() throws IOException {
         var delegate = mock(ClientHttpRequest.class);
-        var bulkhead = mock(Bulkhead.class);
-        var response = mock(ClientHttpResponse.class);
+        var response = response(HttpStatus.OK);
+        var limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
 
-        when(bulkhead.tryAcquirePermission()).thenReturn(true);
         when(delegate.execute()).thenReturn(response);
 
-        var req = new BulkheadClientHttpRequestDecorator(delegate, bulkhead);
+        var req = new BulkheadClientHttpRequestDecorator(delegate, factory(limiter, Duration.ZERO));
 
         var out = req.execute();
 
-        verify(bulkhead).tryAcquirePermission();
         verify(delegate).execute();
-
-        verify(bulkhead, never()).releasePermission();
+        assertEquals(1, limiter.inFlight());
         assertInstanceOf(BulkheadClientHttpResponseDecorator.class, out);
+
+        out.close();
+        assertEquals(0, limiter.inFlight());
     }
 
     @Test
     void executeWhenDelegateThrowsIOExceptionReleasesPermitOnceAndRethrows() throws IOException {
         var delegate = mock(ClientHttpRequest.class);
-        var bulkhead = mock(Bulkhead.class);
+        var limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
 
-        when(bulkhead.tryAcquirePermission()).thenReturn(true);
         when(delegate.execute()).thenThrow(new IOException());
 
-        var req = new BulkheadClientHttpRequestDecorator(delegate, bulkhead);
+        var req = new BulkheadClientHttpRequestDecorator(delegate, factory(limiter, Duration.ZERO));
 
         assertThrows(IOException.class, req::execute);
 
-        verify(bulkhead).tryAcquirePermission();
         verify(delegate).execute();
-        verify(bulkhead, times(1)).releasePermission();
-        verifyNoMoreInteractions(bulkhead);
+        assertEquals(0, limiter.inFlight());
     }
 
     @Test
     void executeWhenDelegateThrowsRuntimeExceptionReleasesPermitOnceAndRethrows() throws IOException {
         var delegate = mock(ClientHttpRequest.class);
-        var bulkhead = mock(Bulkhead.class);
+        var limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
 
-        when(bulkhead.tryAcquirePermission()).thenReturn(true);
         when(delegate.execute()).thenThrow(new IllegalStateException());
 
-        var req = new BulkheadClientHttpRequestDecorator(delegate, bulkhead);
+        var req = new BulkheadClientHttpRequestDecorator(delegate, factory(limiter, Duration.ZERO));
 
         assertThrows(IllegalStateException.class, req::execute);
 
-        verify(bulkhead).tryAcquirePermission();
         verify(delegate).execute();
-        verify(bulkhead, times(1)).releasePermission();
-        verifyNoMoreInteractions(bulkhead);
+        assertEquals(0, limiter.inFlight());
     }
 
     @Test
-    void executeWhenPermitNotAcquiredThrowsBulkheadFullExceptionAndDoesNotCallDelegate() {
+    void executeWhenPermitNotAcquiredThrowsAndDoesNotCallDelegate() {
         var delegate = mock(ClientHttpRequest.class);
-
-        Bulkhead bulkhead =
-                Bulkhead.of(
-                        "clientAOutboundClient",
-                        BulkheadConfig.custom()
-                                .maxConcurrentCalls(1)
-                                .maxWaitDuration(Duration.ZERO)
-                                .build()
-                );
+        var limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
 
         // Occupy the only permit
-        boolean acquired = bulkhead.tryAcquirePermission();
-        assertTrue(acquired);
+        assertNotNull(limiter.tryAcquire());
+
+        var req = new BulkheadClientHttpRequestDecorator(delegate, factory(limiter, Duration.ZERO));
+
+        var ex = assertThrows(ConcurrencyLimitExceededException.class, req::execute);
+
+        assertTrue(ex.getMessage().contains(NAME));
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void executeWaitsForPermitReleasedWithinMaxWait() throws Exception {
+        var delegate = mock(ClientHttpRequest.class);
+        var response = response(HttpStatus.OK);
+        var limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
+        when(delegate.execute()).thenReturn(response);
+
+        var held = limiter.tryAcquire();
+        long stamp = held.stamp();
+        Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(Duration.ofMillis(20));
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+            held.release(stamp);
+        });
+
+        var req = new BulkheadClientHttpRequestDecorator(delegate, factory(limiter, Duration.ofSeconds(5)));
+
+        assertNotNull(req.execute());
+        verify(delegate).execute();
+    }
+
+    @Test
+    void executeDoesNotWaitPastRequestDeadline() {
+        var delegate = mock(ClientHttpRequest.class);
+        var limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
+        assertNotNull(limiter.tryAcquire());
 
-        var req = new BulkheadClientHttpRequestDecorator(delegate, bulkhead);
+        var req = new BulkheadClientHttpRequestDecorator(delegate, factory(limiter, Duration.ofSeconds(30)));
 
-        assertThrows(BulkheadFullException.class, req::execute);
+        long startNanos = System.nanoTime();
+        assertThrows(ConcurrencyLimitExceededException.class, () ->
+                DeadlineContextHolder.where(Deadline.after(Duration.ofMillis(10))).call(req::execute)
+        );
 
+        assertTrue(System.nanoTime() - startNanos < Duration.ofSeconds(5).toNanos());
         verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void lateSecondReleaseDoesNotFreeNextHoldersPermit() throws IOException {
+        var delegate = mock(ClientHttpRequest.class);
+        var limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
+        when(delegate.execute()).thenReturn(response(HttpStatus.OK));
+
+        var factory = factory(limiter, Duration.ZERO);
+
+        ClientHttpResponse first = new BulkheadClientHttpRequestDecorator(delegate, factory).execute();
+        first.close();
+
+        ClientHttpResponse second = new BulkheadClientHttpRequestDecorator(delegate, factory).execute();
+        first.close(); // stale signal for the same pooled permit
+
+        assertEquals(1, limiter.inFlight());
+        second.close();
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void sheddingResponseIsReleasedAsDropped() throws IOException {
+        var delegate = mock(ClientHttpRequest.class);
+        var algorithm = new RecordingLimit();
+        var limiter = new PooledConcurrencyLimiter(algorithm, 1);
+        when(delegate.execute()).thenReturn(response(HttpStatus.SERVICE_UNAVAILABLE), response(HttpStatus.OK));
+
+        var factory = factory(limiter, Duration.ZERO);
+
+        new BulkheadClientHttpRequestDecorator(delegate, factory).execute().close();
+        assertEquals(1, algorithm.dropped);
+
+        new BulkheadClientHttpRequestDecorator(delegate, factory).execute().close();
+        assertEquals(2, algorithm.samples);
+        assertEquals(1, algorithm.dropped);
+    }
+
+    @Test
+    void timeoutIsReleasedAsDroppedOtherFailuresAreIgnored() throws IOException {
+        var delegate = mock(ClientHttpRequest.class);
+        var algorithm = new RecordingLimit();
+        var limiter = new PooledConcurrencyLimiter(algorithm, 1);
+        when(delegate.execute())
+                .thenThrow(new HttpTimeoutException("request timed out"))
+                .thenThrow(new IOException("connection reset"));
+
+        var factory = factory(limiter, Duration.ZERO);
+
+        var timedOut = new BulkheadClientHttpRequestDecorator(delegate, factory);
+        assertThrows(HttpTimeoutException.class, timedOut::execute);
+
+        var reset = new BulkheadClientHttpRequestDecorator(delegate, factory);
+        assertThrows(IOException.class, reset::execute);
+
+        assertEquals(1, algorithm.samples);
+        assertEquals(1, algorithm.dropped);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    private static ClientHttpResponse response(HttpStatus status) throws IOException {
+        var response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(status);
+        return response;
+    }
+
+    private static BulkheadRequestDecoratorFactory factory(PooledConcurrencyLimiter limiter, Duration maxWait) {
+        return new BulkheadRequestDecoratorFactory(mock(ClientHttpRequestFactory.class), limiter, maxWait, NAME);
+    }
+
+    private static final class RecordingLimit implements LimitAlgorithm {
+
+        private int samples;
+        private int dropped;
+
+        @Override
+        public int limit() {
+            return 1;
+        }
 
-        // cleanup so the test doesn’t leak permits
-        bulkhead.releasePermission();
+        @Override
+        public void onSample(long rttNanos, int inFlight, boolean dropped) {
+            samples++;
+            if (dropped) {
+                this.dropped++;
+            }
+        }
     }
 }
@@ -3,14 +3,15 @@ package com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.concurrent.atomic.AtomicBoolean;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
 
+import com.jay.voyager.core.concurrent.limit.FixedLimit;
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
@@ -20,26 +21,21 @@ import static org.mockito.Mockito.when;
 
 class BulkheadClientHttpResponseDecoratorTest {
 
+    // two permits so a double release would show up as a negative in-flight count
+    private final PooledConcurrencyLimiter limiter = new PooledConcurrencyLimiter(new FixedLimit(2), 2);
+
     @Test
     void closeDelegatesAndReleasesPermitOnce() {
         var delegate = mock(ClientHttpResponse.class);
+        limiter.tryAcquire();
 
-        var permitHeld = new AtomicBoolean(true);
-        var bulkhead = mock(Bulkhead.class);
-
-        Runnable releaseOnceGate = () -> {
-            if (permitHeld.compareAndSet(true, false)) {
-                bulkhead.releasePermission();
-            }
-        };
-
-        var resp = new BulkheadClientHttpResponseDecorator(delegate, releaseOnceGate);
+        var resp = decorate(delegate);
 
         resp.close();
         resp.close();
 
         verify(delegate, times(2)).close();
-        verify(bulkhead, times(1)).releasePermission();
+        assertEquals(1, limiter.inFlight());
     }
 
     @Test
@@ -48,17 +44,9 @@ class BulkheadClientHttpResponseDecoratorTest {
 
         InputStream delegateBody = new ByteArrayInputStream(new byte[] { 1, 2, 3 });
         when(delegate.getBody()).thenReturn(delegateBody);
+        limiter.tryAcquire();
 
-        var permitHeld = new AtomicBoolean(true);
-        var bulkhead = mock(io.github.resilience4j.bulkhead.Bulkhead.class);
-
-        Runnable releaseOnceGate = () -> {
-            if (permitHeld.compareAndSet(true, false)) {
-                bulkhead.releasePermission();
-            }
-        };
-
-        var resp = new BulkheadClientHttpResponseDecorator(delegate, releaseOnceGate);
+        var resp = decorate(delegate);
 
         InputStream body1 = resp.getBody();
         InputStream body2 = resp.getBody();
@@ -69,7 +57,7 @@ class BulkheadClientHttpResponseDecoratorTest {
         body1.close();
         body1.close();
 
-        verify(bulkhead, times(1)).releasePermission();
+        assertEquals(1, limiter.inFlight());
     }
 
     @Test
@@ -78,24 +66,16 @@ class BulkheadClientHttpResponseDecoratorTest {
 
         InputStream delegateBody = new ByteArrayInputStream(new byte[] { 1 });
         when(delegate.getBody()).thenReturn(delegateBody);
+        limiter.tryAcquire();
 
-        var permitHeld = new AtomicBoolean(true);
-        var bulkhead = mock(Bulkhead.class);
-
-        Runnable releaseOnceGate = () -> {
-            if (permitHeld.compareAndSet(true, false)) {
-                bulkhead.releasePermission();
-            }
-        };
-
-        var resp = new BulkheadClientHttpResponseDecorator(delegate, releaseOnceGate);
+        var resp = decorate(delegate);
 
         InputStream body = resp.getBody();
         body.close();
         resp.close();
 
         verify(delegate).close();
-        verify(bulkhead, times(1)).releasePermission();
+        assertEquals(1, limiter.inFlight());
     }
 
     @Test
@@ -109,19 +89,15 @@ class BulkheadClientHttpResponseDecoratorTest {
         headers.add("x-test", "1");
         when(delegate.getHeaders()).thenReturn(headers);
 
-        var permitHeld = new AtomicBoolean(false);
-        var bulkhead = mock(Bulkhead.class);
-
-        Runnable releaseOnceGate = () -> {
-            if (permitHeld.compareAndSet(true, false)) {
-                bulkhead.releasePermission();
-            }
-        };
-
-        var resp = new BulkheadClientHttpResponseDecorator(delegate, releaseOnceGate);
+        var resp = decorate(delegate);
 
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertEquals("OK", resp.getStatusText());
         assertSame(headers, resp.getHeaders());
     }
+
+    private BulkheadClientHttpResponseDecorator decorate(ClientHttpResponse delegate) {
+        PooledConcurrencyLimiter.PooledPermit permit = limiter.tryAcquire();
+        return new BulkheadClientHttpResponseDecorator(delegate, permit, permit.stamp(), false);
+    }
 }
@@ -2,13 +2,16 @@ package com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpRequestFactory;
 
+import com.jay.voyager.core.concurrent.limit.FixedLimit;
+import com.jay.voyager.core.concurrent.limit.PooledConcurrencyLimiter;
+
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -19,7 +22,7 @@ class BulkheadRequestDecoratorFactoryTest {
     @Test
     void createRequestDelegatesAndWrapsWithBulkheadDecorator() throws IOException {
         var delegate = mock(ClientHttpRequestFactory.class);
-        var bulkhead = mock(Bulkhead.class);
+        var limiter = new PooledConcurrencyLimiter(new FixedLimit(1), 1);
         var originalRequest = mock(ClientHttpRequest.class);
 
         URI uri = URI.create("https://example.com");
@@ -28,7 +31,7 @@ class BulkheadRequestDecoratorFactoryTest {
         when(delegate.createRequest(uri, method)).thenReturn(originalRequest);
 
         var factory =
-                new BulkheadRequestDecoratorFactory(delegate, bulkhead);
+                new BulkheadRequestDecoratorFactory(delegate, limiter, Duration.ZERO, "clientAOutboundClient");
 
         var result = factory.createRequest(uri, method);
 
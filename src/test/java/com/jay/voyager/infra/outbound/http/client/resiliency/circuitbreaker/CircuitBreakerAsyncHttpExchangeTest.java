@@ -0,0 +1,93 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.circuitbreaker;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.infra.outbound.http.client.async.AsyncHttpExchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CircuitBreakerAsyncHttpExchangeTest {
+
+    private static final HttpRequest REQUEST =
+            HttpRequest.newBuilder(URI.create("https://example.com/orders/1")).build();
+
+    @Test
+    void outcomesAreRecordedWhenResponseCompletes() {
+        var delegate = mock(AsyncHttpExchange.class);
+        doReturn(
+                CompletableFuture.completedFuture(response(200)),
+                CompletableFuture.completedFuture(response(502)),
+                CompletableFuture.failedFuture(new IOException("connection reset"))
+        ).when(delegate).send(any(), any());
+
+        var circuitBreaker = circuitBreaker(10);
+        var exchange = new CircuitBreakerAsyncHttpExchange(delegate, circuitBreaker);
+
+        for (int i = 0; i < 3; i++) {
+            exchange.send(REQUEST, HttpResponse.BodyHandlers.ofString());
+        }
+
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfSuccessfulCalls());
+        assertEquals(2, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void openBreakerFailsWithoutSending() {
+        var delegate = mock(AsyncHttpExchange.class);
+        var circuitBreaker = circuitBreaker(10);
+        circuitBreaker.transitionToOpenState();
+
+        var exchange = new CircuitBreakerAsyncHttpExchange(delegate, circuitBreaker);
+        CompletableFuture<HttpResponse<String>> response = exchange.send(REQUEST, HttpResponse.BodyHandlers.ofString());
+
+        var ex = assertThrows(ExecutionException.class, response::get);
+        assertInstanceOf(CallNotPermittedException.class, ex.getCause());
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void cancelledCallIsNotRecorded() {
+        var delegate = mock(AsyncHttpExchange.class);
+        var pending = new CompletableFuture<HttpResponse<String>>();
+        doReturn(pending).when(delegate).send(any(), any());
+
+        var circuitBreaker = circuitBreaker(10);
+        var exchange = new CircuitBreakerAsyncHttpExchange(delegate, circuitBreaker);
+
+        exchange.send(REQUEST, HttpResponse.BodyHandlers.ofString()).cancel(true);
+
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfBufferedCalls());
+    }
+
+    private static CircuitBreaker circuitBreaker(int slidingWindowSize) {
+        return CircuitBreaker.of("clientAOutboundClient", CircuitBreakerConfig.custom()
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(slidingWindowSize)
+                .recordResult(result -> result instanceof HttpResponse<?> response && response.statusCode() >= 500)
+                .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<String> response(int status) {
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        return response;
+    }
+}
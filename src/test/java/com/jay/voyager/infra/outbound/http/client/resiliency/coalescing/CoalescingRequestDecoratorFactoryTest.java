@@ -0,0 +1,222 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.coalescing;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.core.context.deadline.DeadlineExceededException;
+import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoalescingRequestDecoratorFactoryTest {
+
+    private static final URI TARGET = URI.create("https://example.com/orders/1");
+
+    private static final ResiliencyPolicy.CoalescingPolicy POLICY =
+            new ResiliencyPolicy.CoalescingPolicy(true, List.of("x-user-id"));
+
+    @Test
+    void createRequestWrapsGetAndHeadOnly() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var getRequest = mock(ClientHttpRequest.class);
+        var putRequest = mock(ClientHttpRequest.class);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(getRequest);
+        when(delegate.createRequest(TARGET, HttpMethod.PUT)).thenReturn(putRequest);
+
+        var factory = new CoalescingRequestDecoratorFactory(delegate, POLICY);
+
+        assertInstanceOf(CoalescingClientHttpRequestDecorator.class, factory.createRequest(TARGET, HttpMethod.GET));
+        assertSame(putRequest, factory.createRequest(TARGET, HttpMethod.PUT));
+    }
+
+    @Test
+    void concurrentIdenticalRequestsShareOneCall() throws Exception {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var leader = request("user-1");
+        var follower = request("user-1");
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(leader, follower);
+        when(leader.execute()).thenAnswer(_ -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response("hot");
+        });
+
+        var factory = new CoalescingRequestDecoratorFactory(delegate, POLICY);
+        ClientHttpRequest first = factory.createRequest(TARGET, HttpMethod.GET);
+        ClientHttpRequest second = factory.createRequest(TARGET, HttpMethod.GET);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<ClientHttpResponse> firstResponse = executor.submit(first::execute);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Future<ClientHttpResponse> secondResponse = executor.submit(second::execute);
+            waitForCoalesced(factory);
+            release.countDown();
+
+            ClientHttpResponse a = firstResponse.get(5, TimeUnit.SECONDS);
+            ClientHttpResponse b = secondResponse.get(5, TimeUnit.SECONDS);
+
+            assertNotSame(a, b);
+            assertEquals(HttpStatus.OK, b.getStatusCode());
+            assertEquals("hot", new String(a.getBody().readAllBytes(), StandardCharsets.UTF_8));
+            assertEquals("hot", new String(b.getBody().readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        verify(leader, times(1)).execute();
+        verify(follower, times(0)).execute();
+        assertEquals(0, factory.inFlightCount());
+    }
+
+    @Test
+    void onlyKeyHeadersTellRequestsApart() {
+        var factory = new CoalescingRequestDecoratorFactory(mock(ClientHttpRequestFactory.class), POLICY);
+
+        // request ids differ on every request, they are not part of the key
+        assertEquals(factory.key(request("user-1")), factory.key(request("user-1")));
+        assertNotEquals(factory.key(request("user-1")), factory.key(request("user-2")));
+    }
+
+    @Test
+    void sequentialRequestsAreNotServedFromPreviousCall() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var first = request("user-1");
+        var second = request("user-1");
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(first, second);
+        when(first.execute()).thenReturn(response("one"));
+        when(second.execute()).thenReturn(response("two"));
+
+        var factory = new CoalescingRequestDecoratorFactory(delegate, POLICY);
+
+        factory.createRequest(TARGET, HttpMethod.GET).execute();
+        ClientHttpResponse latest = factory.createRequest(TARGET, HttpMethod.GET).execute();
+
+        assertEquals("two", new String(latest.getBody().readAllBytes(), StandardCharsets.UTF_8));
+        assertEquals(0, factory.coalesced());
+    }
+
+    @Test
+    void leaderFailureIsSharedWithWaiters() throws Exception {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var leader = request("user-1");
+        var follower = request("user-1");
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(leader, follower);
+        when(leader.execute()).thenAnswer(_ -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IOException("connection reset");
+        });
+
+        var factory = new CoalescingRequestDecoratorFactory(delegate, POLICY);
+        ClientHttpRequest first = factory.createRequest(TARGET, HttpMethod.GET);
+        ClientHttpRequest second = factory.createRequest(TARGET, HttpMethod.GET);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<ClientHttpResponse> firstResponse = executor.submit(first::execute);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Future<ClientHttpResponse> secondResponse = executor.submit(second::execute);
+            waitForCoalesced(factory);
+            release.countDown();
+
+            Exception a = assertThrows(Exception.class, () -> firstResponse.get(5, TimeUnit.SECONDS));
+            Exception b = assertThrows(Exception.class, () -> secondResponse.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IOException.class, a.getCause());
+            assertInstanceOf(IOException.class, b.getCause());
+        }
+    }
+
+    @Test
+    void waiterGivesUpAtItsOwnDeadline() throws Exception {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var leader = request("user-1");
+        var follower = request("user-1");
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(leader, follower);
+        when(leader.execute()).thenAnswer(_ -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response("late");
+        });
+
+        var factory = new CoalescingRequestDecoratorFactory(delegate, POLICY);
+        ClientHttpRequest first = factory.createRequest(TARGET, HttpMethod.GET);
+        ClientHttpRequest second = factory.createRequest(TARGET, HttpMethod.GET);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(first::execute);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(DeadlineExceededException.class, () ->
+                    DeadlineContextHolder.where(Deadline.after(Duration.ofMillis(30))).call(second::execute)
+            );
+            release.countDown();
+        }
+    }
+
+    private static void waitForCoalesced(CoalescingRequestDecoratorFactory factory) throws InterruptedException {
+        long until = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (factory.coalesced() == 0 && System.nanoTime() < until) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, factory.coalesced());
+    }
+
+    private static ClientHttpRequest request(String userId) {
+        var request = mock(ClientHttpRequest.class);
+        var headers = new HttpHeaders();
+        headers.add("x-user-id", userId);
+        headers.add("x-request-id", "req-" + System.nanoTime());
+        when(request.getURI()).thenReturn(TARGET);
+        when(request.getMethod()).thenReturn(HttpMethod.GET);
+        when(request.getHeaders()).thenReturn(headers);
+        when(request.getAttributes()).thenReturn(new HashMap<>());
+        return request;
+    }
+
+    private static ClientHttpResponse response(String body) throws IOException {
+        var response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+        when(response.getStatusText()).thenReturn("OK");
+        when(response.getHeaders()).thenReturn(new HttpHeaders());
+        when(response.getBody()).thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        return response;
+    }
+}
@@ -0,0 +1,34 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.coalescing.metrics;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+import com.jay.voyager.infra.outbound.http.client.resiliency.coalescing.CoalescingRequestDecoratorFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class CoalescingMetricsTest {
+
+    private static final String CLIENT = "catalog";
+
+    @Test
+    void publishesPerClientCoalescedCounter() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        var coalescing = new CoalescingRequestDecoratorFactory(
+                mock(ClientHttpRequestFactory.class),
+                new ResiliencyPolicy.CoalescingPolicy(true, List.of("accept"))
+        );
+
+        new CoalescingMetrics(CLIENT, coalescing).bindTo(registry);
+
+        assertEquals(0.0, registry.get(CoalescingMetrics.COALESCED_METER)
+                .tag(CoalescingMetrics.CLIENT_TAG, CLIENT)
+                .functionCounter()
+                .count());
+    }
+}
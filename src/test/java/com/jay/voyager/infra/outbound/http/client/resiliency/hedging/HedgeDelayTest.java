@@ -0,0 +1,51 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.hedging;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HedgeDelayTest {
+
+    @Test
+    void fixedDelayIgnoresObservedLatencies() {
+        var delay = new HedgeDelay(Duration.ofMillis(50), 0.0);
+
+        for (int i = 0; i < HedgeDelay.WINDOW; i++) {
+            delay.record(Duration.ofSeconds(1).toNanos());
+        }
+
+        assertEquals(Duration.ofMillis(50).toNanos(), delay.nanos());
+    }
+
+    @Test
+    void tracksPercentileOfObservedLatencies() {
+        var delay = new HedgeDelay(Duration.ofMillis(1), 0.75);
+
+        // 1..128ms, p75 = 96ms
+        for (int i = 1; i <= 128; i++) {
+            delay.record(Duration.ofMillis(i).toNanos());
+        }
+
+        assertEquals(Duration.ofMillis(96).toNanos(), delay.nanos());
+    }
+
+    @Test
+    void neverDropsBelowConfiguredDelay() {
+        var delay = new HedgeDelay(Duration.ofMillis(50), 0.95);
+
+        for (int i = 0; i < HedgeDelay.RECOMPUTE_EVERY; i++) {
+            delay.record(Duration.ofMillis(1).toNanos());
+        }
+
+        assertEquals(Duration.ofMillis(50).toNanos(), delay.nanos());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HedgeDelay(Duration.ofMillis(-1), 0.9));
+        assertThrows(IllegalArgumentException.class, () -> new HedgeDelay(Duration.ZERO, 1.0));
+    }
+}
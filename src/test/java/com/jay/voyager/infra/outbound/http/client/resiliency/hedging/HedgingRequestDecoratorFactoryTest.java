@@ -0,0 +1,257 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.hedging;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HedgingRequestDecoratorFactoryTest {
+
+    private static final URI TARGET = URI.create("https://example.com/orders/1");
+
+    // budget ratio 1.0 so every request may hedge
+    private static final ResiliencyPolicy.HedgingPolicy POLICY =
+            new ResiliencyPolicy.HedgingPolicy(true, Duration.ofMillis(20), 0.0, 1.0);
+
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void createRequestWrapsIdempotentMethodsOnly() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var getRequest = mock(ClientHttpRequest.class);
+        var postRequest = mock(ClientHttpRequest.class);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(getRequest);
+        when(delegate.createRequest(TARGET, HttpMethod.POST)).thenReturn(postRequest);
+
+        var factory = new HedgingRequestDecoratorFactory(delegate, POLICY, READ_TIMEOUT, Thread.ofVirtual().factory());
+
+        assertInstanceOf(HedgingClientHttpRequestDecorator.class, factory.createRequest(TARGET, HttpMethod.GET));
+        assertSame(postRequest, factory.createRequest(TARGET, HttpMethod.POST));
+    }
+
+    @Test
+    void fastPrimaryIsNotHedged() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var primary = request();
+        var response = mock(ClientHttpResponse.class);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(primary);
+        when(primary.execute()).thenReturn(response);
+
+        var threads = new AtomicInteger();
+        var factory = new HedgingRequestDecoratorFactory(delegate, POLICY, READ_TIMEOUT, task -> {
+            threads.incrementAndGet();
+            return Thread.ofVirtual().unstarted(task);
+        });
+
+        assertSame(response, factory.createRequest(TARGET, HttpMethod.GET).execute());
+        verify(delegate, times(1)).createRequest(TARGET, HttpMethod.GET);
+        assertEquals(0, factory.hedges());
+        assertEquals(0, threads.get());
+    }
+
+    @Test
+    void slowPrimaryIsHedgedAndCancelledWhenHedgeWins() throws Exception {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var primary = request();
+        var hedge = request();
+        var hedgeResponse = mock(ClientHttpResponse.class);
+        var primaryInterrupted = new CountDownLatch(1);
+
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(primary, hedge);
+        when(primary.execute()).thenAnswer(_ -> {
+            try {
+                Thread.sleep(Duration.ofSeconds(10));
+            } catch (InterruptedException ex) {
+                primaryInterrupted.countDown();
+                throw new IOException("cancelled", ex);
+            }
+            return mock(ClientHttpResponse.class);
+        });
+        when(hedge.execute()).thenReturn(hedgeResponse);
+
+        var factory = new HedgingRequestDecoratorFactory(delegate, POLICY, READ_TIMEOUT, Thread.ofVirtual().factory());
+        ClientHttpRequest request = factory.createRequest(TARGET, HttpMethod.GET);
+        request.getHeaders().add("X-Trace", "abc");
+
+        assertSame(hedgeResponse, request.execute());
+        assertEquals("abc", hedge.getHeaders().getFirst("X-Trace"));
+        assertEquals(1, factory.hedges());
+        assertEquals(1, factory.hedgeWins());
+        assertTrue(primaryInterrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void hedgeRunsUnderCallersDeadline() throws Exception {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var primary = request();
+        var hedge = request();
+        var hedgeResponse = mock(ClientHttpResponse.class);
+        var hedgeDeadline = new AtomicReference<Deadline>();
+        Deadline deadline = Deadline.after(Duration.ofSeconds(30));
+
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(primary, hedge);
+        when(primary.execute()).thenAnswer(_ -> {
+            Thread.sleep(Duration.ofSeconds(10));
+            return mock(ClientHttpResponse.class);
+        });
+        when(hedge.execute()).thenAnswer(_ -> {
+            hedgeDeadline.set(DeadlineContextHolder.context());
+            return hedgeResponse;
+        });
+
+        var factory = new HedgingRequestDecoratorFactory(delegate, POLICY, READ_TIMEOUT, Thread.ofVirtual().factory());
+
+        ClientHttpResponse response = DeadlineContextHolder.where(deadline)
+                .call(() -> factory.createRequest(TARGET, HttpMethod.GET).execute());
+
+        assertSame(hedgeResponse, response);
+        assertSame(deadline, hedgeDeadline.get());
+    }
+
+    @Test
+    void lateLosingResponseIsClosed() throws Exception {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var primary = request();
+        var hedge = request();
+        var primaryResponse = mock(ClientHttpResponse.class);
+        var hedgeResponse = mock(ClientHttpResponse.class);
+        var hedgeClosed = new CountDownLatch(1);
+
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(primary, hedge);
+        when(primary.execute()).thenAnswer(_ -> {
+            Thread.sleep(Duration.ofMillis(60));
+            return primaryResponse;
+        });
+        // the hedge ignores interruption, as a response already in flight would
+        when(hedge.execute()).thenAnswer(_ -> {
+            long until = System.nanoTime() + Duration.ofMillis(200).toNanos();
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+            return hedgeResponse;
+        });
+        doAnswer(_ -> {
+            hedgeClosed.countDown();
+            return null;
+        }).when(hedgeResponse).close();
+
+        var factory = new HedgingRequestDecoratorFactory(delegate, POLICY, READ_TIMEOUT, Thread.ofVirtual().factory());
+
+        assertSame(primaryResponse, factory.createRequest(TARGET, HttpMethod.GET).execute());
+        assertEquals(0, factory.hedgeWins());
+        assertTrue(hedgeClosed.await(5, TimeUnit.SECONDS));
+        verify(primaryResponse, never()).close();
+    }
+
+    @Test
+    void failsOnlyWhenBothAttemptsFail() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var primary = request();
+        var hedge = request();
+
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(primary, hedge);
+        when(primary.execute()).thenAnswer(_ -> {
+            Thread.sleep(Duration.ofMillis(60));
+            throw new IOException("primary");
+        });
+        when(hedge.execute()).thenThrow(new IOException("hedge"));
+
+        var factory = new HedgingRequestDecoratorFactory(delegate, POLICY, READ_TIMEOUT, Thread.ofVirtual().factory());
+
+        IOException ex = assertThrows(IOException.class, () -> factory.createRequest(TARGET, HttpMethod.GET).execute());
+        assertEquals("hedge", ex.getMessage());
+        assertEquals("primary", ex.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    void failedPrimaryStopsWaitingForHedgeAfterReadTimeout() throws Exception {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var primary = request();
+        var hedge = request();
+        var hedgeInterrupted = new CountDownLatch(1);
+
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(primary, hedge);
+        when(primary.execute()).thenAnswer(_ -> {
+            Thread.sleep(Duration.ofMillis(60));
+            throw new IOException("primary");
+        });
+        when(hedge.execute()).thenAnswer(_ -> {
+            try {
+                Thread.sleep(Duration.ofSeconds(10));
+            } catch (InterruptedException ex) {
+                hedgeInterrupted.countDown();
+                throw new IOException("cancelled", ex);
+            }
+            return mock(ClientHttpResponse.class);
+        });
+
+        var factory = new HedgingRequestDecoratorFactory(
+                delegate, POLICY, Duration.ofMillis(100), Thread.ofVirtual().factory()
+        );
+
+        long startNanos = System.nanoTime();
+        IOException ex = assertThrows(IOException.class, () -> factory.createRequest(TARGET, HttpMethod.GET).execute());
+
+        assertEquals("primary", ex.getMessage());
+        assertTrue(System.nanoTime() - startNanos < Duration.ofSeconds(5).toNanos());
+        assertTrue(hedgeInterrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void noHedgeWithoutBudget() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var primary = request();
+        var response = mock(ClientHttpResponse.class);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(primary);
+        when(primary.execute()).thenAnswer(_ -> {
+            Thread.sleep(Duration.ofMillis(60));
+            return response;
+        });
+
+        var noBudget = new ResiliencyPolicy.HedgingPolicy(true, Duration.ofMillis(20), 0.0, 0.0);
+        var factory = new HedgingRequestDecoratorFactory(
+                delegate, noBudget, READ_TIMEOUT, Thread.ofVirtual().factory()
+        );
+
+        assertSame(response, factory.createRequest(TARGET, HttpMethod.GET).execute());
+        verify(delegate, times(1)).createRequest(TARGET, HttpMethod.GET);
+        assertEquals(0, factory.hedges());
+    }
+
+    private static ClientHttpRequest request() {
+        var request = mock(ClientHttpRequest.class);
+        var headers = new HttpHeaders();
+        when(request.getURI()).thenReturn(TARGET);
+        when(request.getMethod()).thenReturn(HttpMethod.GET);
+        when(request.getHeaders()).thenReturn(headers);
+        when(request.getAttributes()).thenReturn(new HashMap<>());
+        return request;
+    }
+}
@@ -0,0 +1,40 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.hedging.metrics;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+import com.jay.voyager.infra.outbound.http.client.resiliency.hedging.HedgingRequestDecoratorFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class HedgingMetricsTest {
+
+    private static final String CLIENT = "catalog";
+
+    @Test
+    void publishesPerClientHedgeCounters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        var hedging = new HedgingRequestDecoratorFactory(
+                mock(ClientHttpRequestFactory.class),
+                new ResiliencyPolicy.HedgingPolicy(true, Duration.ofMillis(20), 0.0, 1.0),
+                Duration.ofSeconds(5),
+                Thread.ofVirtual().factory()
+        );
+
+        new HedgingMetrics(CLIENT, hedging).bindTo(registry);
+
+        assertEquals(0.0, registry.get(HedgingMetrics.HEDGES_METER)
+                .tag(HedgingMetrics.CLIENT_TAG, CLIENT)
+                .functionCounter()
+                .count());
+        assertEquals(0.0, registry.get(HedgingMetrics.HEDGE_WINS_METER)
+                .tag(HedgingMetrics.CLIENT_TAG, CLIENT)
+                .functionCounter()
+                .count());
+    }
+}
@@ -0,0 +1,167 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.retry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+import com.jay.voyager.infra.outbound.http.client.transport.StreamLimitExceededException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RetryRequestDecoratorFactoryTest {
+
+    private static final URI TARGET = URI.create("https://example.com/orders/1");
+
+    // budget ratio 1.0 so every request may retry once, no backoff to keep tests fast
+    private static final ResiliencyPolicy.RetryPolicy POLICY =
+            new ResiliencyPolicy.RetryPolicy(true, 2, Duration.ZERO, Duration.ZERO, 2.0, 1.0);
+
+    @Test
+    void createRequestWrapsIdempotentMethodsOnly() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var putRequest = mock(ClientHttpRequest.class);
+        var postRequest = mock(ClientHttpRequest.class);
+        when(delegate.createRequest(TARGET, HttpMethod.PUT)).thenReturn(putRequest);
+        when(delegate.createRequest(TARGET, HttpMethod.POST)).thenReturn(postRequest);
+
+        var factory = new RetryRequestDecoratorFactory(delegate, POLICY);
+
+        assertInstanceOf(RetryClientHttpRequestDecorator.class, factory.createRequest(TARGET, HttpMethod.PUT));
+        assertSame(postRequest, factory.createRequest(TARGET, HttpMethod.POST));
+    }
+
+    @Test
+    void retriesIoFailureOnFreshRequestWithSameHeadersAndBody() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var first = request(HttpMethod.PUT);
+        var second = request(HttpMethod.PUT);
+        var response = mock(ClientHttpResponse.class);
+        var secondBody = new ByteArrayOutputStream();
+
+        when(delegate.createRequest(TARGET, HttpMethod.PUT)).thenReturn(first, second);
+        when(first.getBody()).thenReturn(new ByteArrayOutputStream());
+        when(first.execute()).thenThrow(new IOException("connection reset"));
+        when(second.getBody()).thenReturn(secondBody);
+        when(second.execute()).thenReturn(response);
+
+        var factory = new RetryRequestDecoratorFactory(delegate, POLICY);
+        ClientHttpRequest request = factory.createRequest(TARGET, HttpMethod.PUT);
+        request.getHeaders().add("X-Trace", "abc");
+        request.getBody().write("payload".getBytes(StandardCharsets.UTF_8));
+
+        assertSame(response, request.execute());
+        assertEquals("abc", second.getHeaders().getFirst("X-Trace"));
+        assertEquals("payload", secondBody.toString(StandardCharsets.UTF_8));
+        assertEquals(1, factory.retries());
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var attempt = request(HttpMethod.GET);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(attempt);
+        when(attempt.execute()).thenThrow(new IOException("connection refused"));
+
+        var factory = new RetryRequestDecoratorFactory(delegate, POLICY);
+
+        assertThrows(IOException.class, () -> factory.createRequest(TARGET, HttpMethod.GET).execute());
+        verify(attempt, times(2)).execute();
+        assertEquals(1, factory.retries());
+    }
+
+    @Test
+    void doesNotRetryRuntimeFailures() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var attempt = request(HttpMethod.GET);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(attempt);
+        when(attempt.execute()).thenThrow(new StreamLimitExceededException("https://example.com:443", 1));
+
+        var factory = new RetryRequestDecoratorFactory(delegate, POLICY);
+
+        assertThrows(StreamLimitExceededException.class, () -> factory.createRequest(TARGET, HttpMethod.GET).execute());
+        verify(attempt, times(1)).execute();
+    }
+
+    @Test
+    void stopsRetryingWhenBudgetIsSpent() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var attempt = request(HttpMethod.GET);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(attempt);
+        when(attempt.execute()).thenThrow(new IOException("connection refused"));
+
+        // 0.5 token per request, the first call cannot afford a retry, the second one can
+        var halfBudget = new ResiliencyPolicy.RetryPolicy(true, 2, Duration.ZERO, Duration.ZERO, 2.0, 0.5);
+        var factory = new RetryRequestDecoratorFactory(delegate, halfBudget);
+
+        assertThrows(IOException.class, () -> factory.createRequest(TARGET, HttpMethod.GET).execute());
+        assertEquals(0, factory.retries());
+        assertEquals(1, factory.budgetExhausted());
+
+        assertThrows(IOException.class, () -> factory.createRequest(TARGET, HttpMethod.GET).execute());
+        assertEquals(1, factory.retries());
+        assertEquals(1, factory.budgetExhausted());
+    }
+
+    @Test
+    void doesNotRetryPastRequestDeadline() throws IOException {
+        var delegate = mock(ClientHttpRequestFactory.class);
+        var attempt = request(HttpMethod.GET);
+        when(delegate.createRequest(TARGET, HttpMethod.GET)).thenReturn(attempt);
+        when(attempt.execute()).thenThrow(new IOException("connection refused"));
+
+        var factory = new RetryRequestDecoratorFactory(delegate, POLICY);
+
+        assertThrows(IOException.class, () ->
+                DeadlineContextHolder.where(Deadline.after(Duration.ZERO))
+                        .call(() -> factory.createRequest(TARGET, HttpMethod.GET).execute())
+        );
+        verify(attempt, times(1)).execute();
+        assertEquals(0, factory.retries());
+        assertEquals(0, factory.budgetExhausted()); // no token spent on a retry that could not finish
+    }
+
+    @Test
+    void backoffIsJitteredBelowGrowingCap() {
+        var policy = new ResiliencyPolicy.RetryPolicy(
+                true, 5, Duration.ofMillis(10), Duration.ofMillis(25), 2.0, 0.1
+        );
+        var factory = new RetryRequestDecoratorFactory(mock(ClientHttpRequestFactory.class), policy);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(factory.backoffNanos(1) <= Duration.ofMillis(10).toNanos());
+            assertTrue(factory.backoffNanos(2) <= Duration.ofMillis(20).toNanos());
+            assertTrue(factory.backoffNanos(4) <= Duration.ofMillis(25).toNanos());
+        }
+    }
+
+    private static ClientHttpRequest request(HttpMethod method) {
+        var request = mock(ClientHttpRequest.class);
+        var headers = new HttpHeaders();
+        when(request.getURI()).thenReturn(TARGET);
+        when(request.getMethod()).thenReturn(method);
+        when(request.getHeaders()).thenReturn(headers);
+        when(request.getAttributes()).thenReturn(new HashMap<>());
+        return request;
+    }
+}
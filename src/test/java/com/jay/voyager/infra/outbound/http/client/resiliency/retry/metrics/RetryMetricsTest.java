@@ -0,0 +1,38 @@
+package com.jay.voyager.infra.outbound.http.client.resiliency.retry.metrics;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+import com.jay.voyager.infra.outbound.http.client.resiliency.retry.RetryRequestDecoratorFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class RetryMetricsTest {
+
+    private static final String CLIENT = "catalog";
+
+    @Test
+    void publishesPerClientRetryCounters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        var retry = new RetryRequestDecoratorFactory(
+                mock(ClientHttpRequestFactory.class),
+                new ResiliencyPolicy.RetryPolicy(true, 3, Duration.ofMillis(50), Duration.ofSeconds(1), 2.0, 0.1)
+        );
+
+        new RetryMetrics(CLIENT, retry).bindTo(registry);
+
+        assertEquals(0.0, registry.get(RetryMetrics.RETRIES_METER)
+                .tag(RetryMetrics.CLIENT_TAG, CLIENT)
+                .functionCounter()
+                .count());
+        assertEquals(0.0, registry.get(RetryMetrics.BUDGET_EXHAUSTED_METER)
+                .tag(RetryMetrics.CLIENT_TAG, CLIENT)
+                .functionCounter()
+                .count());
+    }
+}
@@ -11,11 +11,16 @@ import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestClient;
 
+import com.jay.voyager.core.outbound.http.client.settings.HttpCachePolicy;
 import com.jay.voyager.core.outbound.http.client.settings.HttpClientSettings;
+import com.jay.voyager.core.outbound.http.client.settings.HttpTransportPolicy;
 import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+import com.jay.voyager.infra.outbound.http.client.cache.HttpResponseCacheRegistry;
+import com.jay.voyager.infra.outbound.http.client.deadline.DeadlineRequestDecoratorFactory;
 import com.jay.voyager.infra.outbound.http.client.interceptor.IdentityHeaderInterceptor;
 import com.jay.voyager.infra.outbound.http.client.registry.HttpClientSettingsRegistry;
 import com.jay.voyager.infra.outbound.http.client.resiliency.ResiliencyChainAssembler;
+import com.jay.voyager.infra.outbound.http.client.transport.HttpTransportRegistry;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,29 +45,45 @@ class RestClientFactoryTest {
                 "test-base-url.com",
                 Duration.ofSeconds(10),
                 Duration.ofSeconds(10),
-                mock(ResiliencyPolicy.class)
+                new HttpTransportPolicy(HttpTransportPolicy.HttpProtocol.HTTP_1_1, 100),
+                mock(ResiliencyPolicy.class),
+                new HttpCachePolicy(false, 1024, 1024)
         );
 
         ClientHttpRequestInterceptor identityHeaderInterceptor = mock(IdentityHeaderInterceptor.class);
         ClientHttpRequestInterceptor otherInterceptor = mock(ClientHttpRequestInterceptor.class);
         List<ClientHttpRequestInterceptor> interceptors = List.of(identityHeaderInterceptor, otherInterceptor);
 
+        HttpTransportRegistry transportRegistry = mock(HttpTransportRegistry.class);
+        ClientHttpRequestFactory transportFactory = mock(ClientHttpRequestFactory.class);
+
         ResiliencyChainAssembler resiliencyChainAssembler = mock(ResiliencyChainAssembler.class);
         ClientHttpRequestFactory decoratorFactory = mock(ClientHttpRequestFactory.class);
 
+        HttpResponseCacheRegistry responseCacheRegistry = mock(HttpResponseCacheRegistry.class);
+        ClientHttpRequestFactory cachingFactory = mock(ClientHttpRequestFactory.class);
+
         RestClient expectedRestClient = mock(RestClient.class);
 
         when(clientSettingsRegistry.httpClientSettings(anyString()))
                 .thenReturn(httpClientSettings);
+        when(transportRegistry.requestFactory(httpClientSettings)).thenReturn(transportFactory);
         when(rootBuilder.clone()).thenReturn(builder);
-        when(resiliencyChainAssembler.assemble(any(), any(), anyString())).thenReturn(decoratorFactory);
+        when(resiliencyChainAssembler.assemble(any(), any(), anyString(), any())).thenReturn(decoratorFactory);
+        when(responseCacheRegistry.decorate(httpClientSettings, decoratorFactory)).thenReturn(cachingFactory);
         when(builder.requestFactory(any())).thenReturn(builder);
         when(builder.baseUrl(anyString())).thenReturn(builder);
         when(builder.requestInterceptors(any())).thenReturn(builder);
         when(builder.build()).thenReturn(expectedRestClient);
 
         RestClientFactory factory = new RestClientFactory(
-                rootBuilder, clientSettingsRegistry, interceptors, resiliencyChainAssembler
+                rootBuilder,
+                clientSettingsRegistry,
+                transportRegistry,
+                interceptors,
+                resiliencyChainAssembler,
+                responseCacheRegistry,
+                "x-request-deadline"
         );
 
         RestClient builtRestClient = factory.buildClient("clientNameKey");
@@ -70,11 +91,13 @@ class RestClientFactoryTest {
         assertSame(expectedRestClient, builtRestClient);
 
         verify(rootBuilder).clone();
-        verify(builder).requestFactory(same(decoratorFactory));
+        verify(builder).requestFactory(same(cachingFactory));
+        verify(transportRegistry).requestFactory(httpClientSettings);
         verify(resiliencyChainAssembler).assemble(
-                any(),
+                any(DeadlineRequestDecoratorFactory.class),
                 eq(httpClientSettings.resiliencyPolicy()),
-                eq(httpClientSettings.clientName())
+                eq(httpClientSettings.clientName()),
+                eq(httpClientSettings.readTimeout())
         );
         verify(builder).baseUrl(httpClientSettings.baseUrl());
         verify(builder).build();
@@ -2,9 +2,6 @@ package com.jay.voyager.infra.outbound.http.client.rest.error;
 
 import java.util.function.Predicate;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
-import io.github.resilience4j.bulkhead.BulkheadConfig;
-import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.jupiter.api.Test;
@@ -15,8 +12,11 @@ import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import com.jay.voyager.core.context.deadline.DeadlineExceededException;
 import com.jay.voyager.core.error.dependency.DependencyCallException;
 import com.jay.voyager.core.error.dependency.Reason;
+import com.jay.voyager.infra.outbound.http.client.resiliency.bulkhead.ConcurrencyLimitExceededException;
+import com.jay.voyager.infra.outbound.http.client.transport.StreamLimitExceededException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -54,10 +54,7 @@ class RestClientExceptionTranslatorTest {
     void supplierCatchesBulkheadExceptionAndThrowsDependencyCallException() {
         String clientName = "someClient";
 
-        BulkheadFullException bulkheadEx =
-                BulkheadFullException.createBulkheadFullException(
-                        Bulkhead.of(clientName, BulkheadConfig.ofDefaults())
-                );
+        ConcurrencyLimitExceededException bulkheadEx = new ConcurrencyLimitExceededException(clientName, 1);
 
         var depEx =
                 assertThrows(DependencyCallException.class, () ->
@@ -69,6 +66,34 @@ class RestClientExceptionTranslatorTest {
         assertSame(bulkheadEx, depEx.getCause());
     }
 
+    @Test
+    void supplierCatchesStreamLimitExceptionAndThrowsDependencyCallException() {
+        String clientName = "someClient";
+        StreamLimitExceededException streamLimitEx = new StreamLimitExceededException("http://a:80", 1);
+
+        var depEx =
+                assertThrows(DependencyCallException.class, () ->
+                        RestClientExceptionTranslator.execute(() -> { throw streamLimitEx; }, clientName)
+                );
+
+        assertEquals(Reason.CAPACITY_REJECTED, depEx.reason());
+        assertSame(streamLimitEx, depEx.getCause());
+    }
+
+    @Test
+    void supplierCatchesDeadlineExceededExceptionAndThrowsDependencyCallException() {
+        String clientName = "someClient";
+        DeadlineExceededException deadlineEx = new DeadlineExceededException("expired");
+
+        var depEx =
+                assertThrows(DependencyCallException.class, () ->
+                        RestClientExceptionTranslator.execute(() -> { throw deadlineEx; }, clientName)
+                );
+
+        assertEquals(Reason.DEADLINE_EXCEEDED, depEx.reason());
+        assertSame(deadlineEx, depEx.getCause());
+    }
+
     @Test
     void supplierCatchesCallNotPermittedExceptionAndThrowsDependencyCallException() {
         String clientName = "someClient";
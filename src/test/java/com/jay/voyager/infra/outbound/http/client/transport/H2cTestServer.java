@@ -0,0 +1,60 @@
+package com.jay.voyager.infra.outbound.http.client.transport;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.Callback;
+
+/*
+ * Local cleartext origin speaking HTTP/1.1 and h2c (upgrade), stands in for a downstream in transport tests.
+ * Every request is answered with 200 "ok".
+ */
+final class H2cTestServer implements AutoCloseable {
+
+    private static final ByteBuffer OK = ByteBuffer.wrap("ok".getBytes(StandardCharsets.UTF_8));
+
+    private final Server server;
+    private final ServerConnector connector;
+
+    H2cTestServer() throws Exception {
+        HttpConfiguration config = new HttpConfiguration();
+
+        server = new Server();
+        connector = new ServerConnector(
+                server,
+                new HttpConnectionFactory(config),
+                new HTTP2CServerConnectionFactory(config)
+        );
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+        server.addConnector(connector);
+
+        server.setHandler(new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, Response response, Callback callback) {
+                response.setStatus(200);
+                response.write(true, OK.slice(), callback);
+                return true;
+            }
+        });
+
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + connector.getLocalPort();
+    }
+
+    @Override
+    public void close() throws Exception {
+        server.stop();
+    }
+}
@@ -0,0 +1,287 @@
+package com.jay.voyager.infra.outbound.http.client.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.jay.voyager.core.outbound.http.client.settings.HttpCachePolicy;
+import com.jay.voyager.core.outbound.http.client.settings.HttpClientSettings;
+import com.jay.voyager.core.outbound.http.client.settings.HttpTransportPolicy;
+import com.jay.voyager.core.outbound.resiliency.policy.ResiliencyPolicy;
+import com.jay.voyager.infra.outbound.http.client.registry.HttpClientSettingsRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HttpTransportRegistryTest {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
+    private static final HttpTransportPolicy HTTP_1_1 =
+            new HttpTransportPolicy(HttpTransportPolicy.HttpProtocol.HTTP_1_1, 100);
+    private static final HttpTransportPolicy HTTP_2 =
+            new HttpTransportPolicy(HttpTransportPolicy.HttpProtocol.HTTP_2, 100);
+
+    @Test
+    void clientsOnSameOriginShareOneTransport() {
+        try (HttpTransportRegistry registry = registry(
+                settings("orders", "http://orders.internal", CONNECT_TIMEOUT),
+                settings("ordersAdmin", "HTTP://Orders.internal:80/admin", CONNECT_TIMEOUT),
+                settings("payments", "https://payments.internal", CONNECT_TIMEOUT)
+        )) {
+            assertEquals(2, registry.size());
+            assertEquals(Set.of("http://orders.internal:80", "https://payments.internal:443"), registry.origins());
+
+            HttpTransportStats orders = stats(registry, "http://orders.internal:80");
+            assertEquals(Set.of("orders", "ordersAdmin"), orders.clients());
+            assertEquals(CONNECT_TIMEOUT, orders.connectTimeout());
+        }
+    }
+
+    @Test
+    void differentConnectTimeoutsGetSeparateTransports() {
+        try (HttpTransportRegistry registry = registry(
+                settings("fast", "http://orders.internal", Duration.ofMillis(500)),
+                settings("slow", "http://orders.internal", CONNECT_TIMEOUT)
+        )) {
+            assertEquals(2, registry.size());
+            assertEquals(Set.of("http://orders.internal:80"), registry.origins());
+        }
+    }
+
+    @Test
+    void differentProtocolsGetSeparateTransports() {
+        try (HttpTransportRegistry registry = registry(
+                settings("h1", "http://orders.internal", CONNECT_TIMEOUT, HTTP_1_1),
+                settings("h2", "http://orders.internal", CONNECT_TIMEOUT, HTTP_2)
+        )) {
+            assertEquals(2, registry.size());
+            assertEquals(200, registry.maxConcurrentStreams("http://orders.internal:80"));
+        }
+    }
+
+    @Test
+    void requestFactoryForUnregisteredClientCreatesTransport() {
+        try (HttpTransportRegistry registry = registry()) {
+            ClientHttpRequestFactory factory =
+                    registry.requestFactory(settings("late", "http://late.internal", CONNECT_TIMEOUT));
+
+            assertNotNull(factory);
+            assertEquals(1, registry.size());
+            assertEquals(Set.of("late"), stats(registry, "http://late.internal:80").clients());
+        }
+    }
+
+    @Test
+    void baseUrlWithoutSchemeIsItsOwnOrigin() {
+        assertEquals("test-base-url.com", TransportKey.origin("test-base-url.com"));
+    }
+
+    @Test
+    void tracksExchangeUntilResponseIsClosed() throws IOException {
+        SharedTransport transport = new SharedTransport(
+                new TransportKey("http://orders.internal:80", CONNECT_TIMEOUT, HTTP_1_1), null
+        );
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        ClientHttpRequestFactory factory = new TrackingClientHttpRequestFactory(delegate(response), transport);
+
+        ClientHttpResponse tracked = factory.createRequest(URI.create("http://orders.internal"), HttpMethod.GET)
+                .execute();
+
+        assertEquals(1, transport.inFlight());
+        assertEquals(1, transport.requests());
+
+        tracked.close();
+        tracked.close();
+
+        assertEquals(0, transport.inFlight());
+        assertEquals(1, transport.requests());
+    }
+
+    @Test
+    void tracksExchangeUntilBodyIsClosed() throws IOException {
+        SharedTransport transport = new SharedTransport(
+                new TransportKey("http://orders.internal:80", CONNECT_TIMEOUT, HTTP_1_1), null
+        );
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getBody()).thenReturn(new ByteArrayInputStream(new byte[] {1}));
+        ClientHttpRequestFactory factory = new TrackingClientHttpRequestFactory(delegate(response), transport);
+
+        ClientHttpResponse tracked = factory.createRequest(URI.create("http://orders.internal"), HttpMethod.GET)
+                .execute();
+
+        try (InputStream body = tracked.getBody()) {
+            assertEquals(1, body.read());
+            assertEquals(1, transport.inFlight());
+        }
+
+        assertEquals(0, transport.inFlight());
+    }
+
+    @Test
+    void failedExchangeIsNoLongerInFlight() throws IOException {
+        SharedTransport transport = new SharedTransport(
+                new TransportKey("http://orders.internal:80", CONNECT_TIMEOUT, HTTP_1_1), null
+        );
+        ClientHttpRequest request = mock(ClientHttpRequest.class);
+        when(request.execute()).thenThrow(new IOException("connection refused"));
+        ClientHttpRequestFactory factory =
+                new TrackingClientHttpRequestFactory((uri, method) -> request, transport);
+
+        ClientHttpRequest tracked = factory.createRequest(URI.create("http://orders.internal"), HttpMethod.GET);
+
+        assertThrows(IOException.class, tracked::execute);
+        assertEquals(0, transport.inFlight());
+        assertEquals(1, transport.requests());
+    }
+
+    @Test
+    void rejectsExchangesAboveStreamLimit() throws IOException {
+        SharedTransport transport = new SharedTransport(
+                new TransportKey(
+                        "http://orders.internal:80",
+                        CONNECT_TIMEOUT,
+                        new HttpTransportPolicy(HttpTransportPolicy.HttpProtocol.HTTP_2, 1)
+                ),
+                null
+        );
+        ClientHttpRequestFactory factory =
+                new TrackingClientHttpRequestFactory(delegate(mock(ClientHttpResponse.class)), transport);
+        URI uri = URI.create("http://orders.internal");
+
+        ClientHttpResponse held = factory.createRequest(uri, HttpMethod.GET).execute();
+        ClientHttpRequest second = factory.createRequest(uri, HttpMethod.GET);
+
+        assertThrows(StreamLimitExceededException.class, second::execute);
+        assertEquals(1, transport.rejected());
+
+        held.close();
+        factory.createRequest(uri, HttpMethod.GET).execute().close();
+
+        assertEquals(2, transport.requests());
+        assertEquals(0, transport.inFlight());
+    }
+
+    @Test
+    void http2TransportMultiplexesOverH2c() throws Exception {
+        try (H2cTestServer server = new H2cTestServer();
+             HttpTransportRegistry registry = registry()) {
+
+            String origin = TransportKey.origin(server.baseUrl());
+            ClientHttpRequestFactory factory =
+                    registry.requestFactory(settings("h2", server.baseUrl(), CONNECT_TIMEOUT, HTTP_2));
+
+            // first exchange upgrades the connection, the rest are streams on it
+            send(factory, server.baseUrl());
+
+            int callers = 32;
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < callers; i++) {
+                    futures.add(executor.submit(() -> {
+                        send(factory, server.baseUrl());
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            awaitCount(callers + 1, () -> registry.responses(origin, HttpClient.Version.HTTP_2));
+            assertEquals(0, registry.responses(origin, HttpClient.Version.HTTP_1_1));
+            assertEquals(1.0, stats(registry, origin).multiplexedRatio());
+            assertEquals(0, registry.inFlight(origin));
+        }
+    }
+
+    @Test
+    void http11TransportStaysOnHttp11() throws Exception {
+        try (H2cTestServer server = new H2cTestServer();
+             HttpTransportRegistry registry = registry()) {
+
+            String origin = TransportKey.origin(server.baseUrl());
+            ClientHttpRequestFactory factory =
+                    registry.requestFactory(settings("h1", server.baseUrl(), CONNECT_TIMEOUT, HTTP_1_1));
+
+            send(factory, server.baseUrl());
+
+            awaitCount(1, () -> registry.responses(origin, HttpClient.Version.HTTP_1_1));
+            assertEquals(0, registry.responses(origin, HttpClient.Version.HTTP_2));
+        }
+    }
+
+    private static ClientHttpRequestFactory delegate(ClientHttpResponse response) throws IOException {
+        ClientHttpRequest request = mock(ClientHttpRequest.class);
+        when(request.execute()).thenReturn(response);
+        return (uri, method) -> request;
+    }
+
+    private static HttpTransportRegistry registry(HttpClientSettings... settings) {
+        List<HttpClientSettings> settingsList = List.of(settings);
+        return new HttpTransportRegistry(new HttpClientSettingsRegistry(() -> settingsList));
+    }
+
+    private static HttpClientSettings settings(String clientName, String baseUrl, Duration connectTimeout) {
+        return settings(clientName, baseUrl, connectTimeout, HTTP_1_1);
+    }
+
+    private static HttpClientSettings settings(
+            String clientName,
+            String baseUrl,
+            Duration connectTimeout,
+            HttpTransportPolicy transportPolicy
+    ) {
+        return new HttpClientSettings(
+                clientName,
+                baseUrl,
+                connectTimeout,
+                Duration.ofSeconds(5),
+                transportPolicy,
+                mock(ResiliencyPolicy.class),
+                new HttpCachePolicy(false, 1024, 1024)
+        );
+    }
+
+    private static void send(ClientHttpRequestFactory factory, String baseUrl) throws IOException {
+        try (ClientHttpResponse response = factory.createRequest(URI.create(baseUrl + "/"), HttpMethod.GET).execute()) {
+            assertEquals(200, response.getStatusCode().value());
+            response.getBody().readAllBytes();
+        }
+    }
+
+    // responses are counted when the client's future completes, which may trail the caller by a moment
+    private static void awaitCount(long expected, LongSupplier count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (count.getAsLong() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, count.getAsLong());
+    }
+
+    private static HttpTransportStats stats(HttpTransportRegistry registry, String origin) {
+        return registry.stats()
+                .stream()
+                .filter(stats -> stats.origin().equals(origin))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,51 @@
+package com.jay.voyager.infra.outbound.http.client.transport.metrics;
+
+import java.net.http.HttpClient;
+import java.util.Set;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.infra.outbound.http.client.transport.HttpTransportRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HttpTransportMetricsTest {
+
+    private static final String ORIGIN = "http://orders.internal:80";
+
+    @Test
+    void publishesPerOriginUsage() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        HttpTransportRegistry transportRegistry = mock(HttpTransportRegistry.class);
+        when(transportRegistry.size()).thenReturn(1);
+        when(transportRegistry.origins()).thenReturn(Set.of(ORIGIN));
+        when(transportRegistry.inFlight(ORIGIN)).thenReturn(3);
+        when(transportRegistry.requests(ORIGIN)).thenReturn(42L);
+        when(transportRegistry.responses(ORIGIN, HttpClient.Version.HTTP_2)).thenReturn(30L);
+        when(transportRegistry.responses(ORIGIN, HttpClient.Version.HTTP_1_1)).thenReturn(10L);
+
+        new HttpTransportMetrics(transportRegistry).bindTo(registry);
+
+        assertEquals(1.0, registry.get(HttpTransportMetrics.TRANSPORTS_METER).gauge().value());
+        assertEquals(3.0, registry.get(HttpTransportMetrics.IN_FLIGHT_METER)
+                .tag(HttpTransportMetrics.ORIGIN_TAG, ORIGIN)
+                .gauge()
+                .value());
+        assertEquals(42.0, registry.get(HttpTransportMetrics.REQUESTS_METER)
+                .tag(HttpTransportMetrics.ORIGIN_TAG, ORIGIN)
+                .functionCounter()
+                .count());
+        assertEquals(30.0, registry.get(HttpTransportMetrics.RESPONSES_METER)
+                .tag(HttpTransportMetrics.ORIGIN_TAG, ORIGIN)
+                .tag(HttpTransportMetrics.PROTOCOL_TAG, HttpTransportMetrics.HTTP_2)
+                .functionCounter()
+                .count());
+        assertEquals(0.75, registry.get(HttpTransportMetrics.MULTIPLEXED_RATIO_METER)
+                .tag(HttpTransportMetrics.ORIGIN_TAG, ORIGIN)
+                .gauge()
+                .value());
+    }
+}
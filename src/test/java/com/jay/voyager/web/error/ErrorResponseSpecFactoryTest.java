@@ -51,4 +51,16 @@ class ErrorResponseSpecFactoryTest {
         assertNull(body.correlationId());
     }
 
-}
\ No newline at end of file
+    @Test
+    void buildingBlocksMatchResponseSpec() {
+        String traceId = "trace-001";
+        ErrorResponseSpecFactory factory = new ErrorResponseSpecFactory(MockTracerUtils.mockTracer(traceId));
+
+        ErrorType type = INTERNAL_SERVER_ERROR;
+        ErrorResponseSpec spec = factory.buildResponseSpec(type);
+
+        assertEquals(traceId, factory.currentTraceId());
+        assertEquals(spec.status(), factory.status(type));
+        assertEquals(spec.body(), factory.buildResponseBody(type, traceId));
+    }
+}
@@ -16,8 +16,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import static com.jay.voyager.core.error.api.ErrorType.BAD_REQUEST;
+import static com.jay.voyager.core.error.api.ErrorType.DEADLINE_EXCEEDED;
 import static com.jay.voyager.core.error.api.ErrorType.DEPENDENCY_UNAVAILABLE;
 import static com.jay.voyager.core.error.api.ErrorType.INTERNAL_SERVER_ERROR;
+import static com.jay.voyager.core.error.api.ErrorType.NOT_FOUND;
 import static com.jay.voyager.core.error.api.ErrorType.TOO_MANY_REQUESTS;
 import static com.jay.voyager.core.error.api.ErrorType.UNAUTHORIZED;
 
@@ -27,11 +29,13 @@ class ErrorTypeHttpStatusMapperTest {
             // 400s
             arguments(BAD_REQUEST, HttpStatus.BAD_REQUEST),
             arguments(UNAUTHORIZED, HttpStatus.BAD_REQUEST),
+            arguments(NOT_FOUND, HttpStatus.NOT_FOUND),
             arguments(TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS),
 
             // 500s
             arguments(INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR),
-            arguments(DEPENDENCY_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE)
+            arguments(DEPENDENCY_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE),
+            arguments(DEADLINE_EXCEEDED, HttpStatus.GATEWAY_TIMEOUT)
     );
 
     private static Stream<Arguments> statusMappings() {
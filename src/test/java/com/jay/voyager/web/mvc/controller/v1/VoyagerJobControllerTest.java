@@ -1,25 +1,59 @@
 package com.jay.voyager.web.mvc.controller.v1;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobBatchGetRequest;
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobBatchGetResponse;
 import com.jay.voyager.api.v1.jobs.model.VoyagerJobResponse;
+import com.jay.voyager.api.v1.jobs.model.VoyagerJobSubmitRequest;
+import com.jay.voyager.app.jobs.service.JobCommandService;
+import com.jay.voyager.app.jobs.service.JobQueryService;
 import com.jay.voyager.core.context.identity.Identity;
 import com.jay.voyager.core.context.identity.IdentityContextHolder;
 import com.jay.voyager.core.context.identity.IdentityContextSnapshot;
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobPriority;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+import com.jay.voyager.core.error.api.ApiException;
+import com.jay.voyager.core.error.api.ErrorType;
+import com.jay.voyager.core.error.jobs.JobRejectedException;
+import com.jay.voyager.core.port.jobs.JobEngine;
+import com.jay.voyager.infra.jobs.store.InMemoryJobRepository;
+import com.jay.voyager.web.mvc.controller.v1.mapping.VoyagerJobResponseMapper;
+import com.jay.voyager.web.mvc.sse.JobStatusStreams;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class VoyagerJobControllerTest {
 
+    private final InMemoryJobRepository repository = new InMemoryJobRepository(4, 16);
+    private final JobEngine jobEngine = mock(JobEngine.class);
+    private final JobStatusStreams jobStatusStreams = mock(JobStatusStreams.class);
+    private final VoyagerJobController controller = new VoyagerJobController(
+            new JobQueryService(repository),
+            new JobCommandService(jobEngine, repository),
+            new VoyagerJobResponseMapper(),
+            jobStatusStreams
+    );
+
     @BeforeEach
     void setUp() {
         IdentityContextHolder.clear();
+        IdentityContextHolder.context(IdentityContextSnapshot.of(new Identity("user-001", "identity-001")));
     }
 
     @AfterEach
@@ -28,26 +62,146 @@ class VoyagerJobControllerTest {
     }
 
     @Test
-    void getReturnsResponse() {
-        String userId = "user-001";
-        String requestId = "identity-001";
-
-        Identity identity = new Identity(userId, requestId);
-        IdentityContextHolder.context(IdentityContextSnapshot.of(identity));
-
-        VoyagerJobController controller = new VoyagerJobController();
-
+    void getReturnsStoredJob() {
         UUID uuid = UUID.randomUUID();
-        Instant beforeRequestedAt = Instant.now();
+        Instant requestedAt = Instant.parse("2026-01-02T03:04:05.123456Z");
+        repository.save(new Job(uuid, JobStatus.RUNNING, requestedAt));
 
         VoyagerJobResponse voyagerResponse = controller.get(uuid.toString());
 
         var responseJob = voyagerResponse.job();
 
         assertEquals(uuid, responseJob.id());
-        assertEquals(VoyagerJobResponse.JobStatus.SUCCEEDED, responseJob.status());
-        assertTrue(beforeRequestedAt.toEpochMilli() <= responseJob.requestedAt().toEpochMilli());
+        assertEquals(VoyagerJobResponse.JobStatus.RUNNING, responseJob.status());
+        assertEquals(requestedAt, responseJob.requestedAt());
+
+        assertEquals("identity-001", voyagerResponse.requestId());
+    }
+
+    @Test
+    void unknownJobIsNotFound() {
+        ApiException ex = assertThrows(ApiException.class, () -> controller.get(UUID.randomUUID().toString()));
+
+        assertEquals(ErrorType.NOT_FOUND, ex.type());
+    }
+
+    @Test
+    void malformedJobIdIsBadRequest() {
+        ApiException ex = assertThrows(ApiException.class, () -> controller.get("not-a-uuid"));
+
+        assertEquals(ErrorType.BAD_REQUEST, ex.type());
+    }
+
+    @Test
+    void eventsWithMalformedJobIdIsBadRequest() {
+        ApiException ex = assertThrows(ApiException.class, () -> controller.events("not-a-uuid"));
+
+        assertEquals(ErrorType.BAD_REQUEST, ex.type());
+    }
+
+    @Test
+    void batchGetMarksEachIdFoundOrNotFoundInRequestOrder() {
+        UUID stored = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        Instant requestedAt = Instant.parse("2026-01-02T03:04:05.123456Z");
+        repository.save(new Job(stored, JobStatus.SUCCEEDED, requestedAt));
+
+        VoyagerJobBatchGetResponse voyagerResponse = controller.batchGet(
+                new VoyagerJobBatchGetRequest(List.of(unknown.toString(), stored.toString()))
+        );
+
+        var results = voyagerResponse.results();
+        assertEquals(2, results.size());
+
+        assertEquals(unknown, results.get(0).id());
+        assertFalse(results.get(0).found());
+        assertNull(results.get(0).job());
+
+        assertEquals(stored, results.get(1).id());
+        assertTrue(results.get(1).found());
+        assertEquals(VoyagerJobResponse.JobStatus.SUCCEEDED, results.get(1).job().status());
+        assertEquals(requestedAt, results.get(1).job().requestedAt());
+
+        assertEquals("identity-001", voyagerResponse.requestId());
+    }
+
+    @Test
+    void batchGetWithoutIdsIsBadRequest() {
+        var request = new VoyagerJobBatchGetRequest(List.of());
+
+        ApiException ex = assertThrows(ApiException.class, () -> controller.batchGet(request));
+
+        assertEquals(ErrorType.BAD_REQUEST, ex.type());
+    }
+
+    @Test
+    void batchGetAboveLimitIsBadRequest() {
+        var request = new VoyagerJobBatchGetRequest(
+                Collections.nCopies(VoyagerJobController.MAX_BATCH_GET_IDS + 1, UUID.randomUUID().toString())
+        );
+
+        ApiException ex = assertThrows(ApiException.class, () -> controller.batchGet(request));
+
+        assertEquals(ErrorType.BAD_REQUEST, ex.type());
+    }
+
+    @Test
+    void batchGetWithMalformedIdIsBadRequest() {
+        var request = new VoyagerJobBatchGetRequest(List.of(UUID.randomUUID().toString(), "not-a-uuid"));
+
+        ApiException ex = assertThrows(ApiException.class, () -> controller.batchGet(request));
+
+        assertEquals(ErrorType.BAD_REQUEST, ex.type());
+    }
+
+    @Test
+    void submitDefaultsToNormalPriority() {
+        var job = new Job(UUID.randomUUID(), JobStatus.QUEUED, Instant.parse("2026-01-02T03:04:05Z"));
+        when(jobEngine.submit("demo", JobPriority.NORMAL)).thenReturn(job);
+
+        VoyagerJobResponse voyagerResponse = controller.submit(new VoyagerJobSubmitRequest("demo", null));
+
+        assertEquals(job.id(), voyagerResponse.job().id());
+        assertEquals(VoyagerJobResponse.JobStatus.QUEUED, voyagerResponse.job().status());
+    }
+
+    @Test
+    void submitWithoutTypeIsBadRequest() {
+        var request = new VoyagerJobSubmitRequest(" ", VoyagerJobSubmitRequest.JobPriority.HIGH);
+
+        ApiException ex = assertThrows(ApiException.class, () -> controller.submit(request));
+
+        assertEquals(ErrorType.BAD_REQUEST, ex.type());
+    }
+
+    @Test
+    void submitToFullQueueIsTooManyRequests() {
+        when(jobEngine.submit("demo", JobPriority.LOW))
+                .thenThrow(new JobRejectedException(JobRejectedException.Reason.QUEUE_FULL, "full"));
+        var request = new VoyagerJobSubmitRequest("demo", VoyagerJobSubmitRequest.JobPriority.LOW);
+
+        ApiException ex = assertThrows(ApiException.class, () -> controller.submit(request));
+
+        assertEquals(ErrorType.TOO_MANY_REQUESTS, ex.type());
+    }
+
+    @Test
+    void cancelReturnsStateAfterCancellation() {
+        UUID uuid = UUID.randomUUID();
+        repository.save(new Job(uuid, JobStatus.QUEUED, Instant.parse("2026-01-02T03:04:05Z")));
+        when(jobEngine.cancel(uuid))
+                .thenAnswer(_ -> repository.transition(uuid, JobStatus.QUEUED, JobStatus.CANCELLED));
+
+        VoyagerJobResponse voyagerResponse = controller.cancel(uuid.toString());
+
+        verify(jobEngine).cancel(uuid);
+        assertEquals(VoyagerJobResponse.JobStatus.CANCELLED, voyagerResponse.job().status());
+    }
+
+    @Test
+    void cancelUnknownJobIsNotFound() {
+        ApiException ex = assertThrows(ApiException.class, () -> controller.cancel(UUID.randomUUID().toString()));
 
-        assertEquals(requestId, voyagerResponse.requestId());
+        assertEquals(ErrorType.NOT_FOUND, ex.type());
     }
-}
\ No newline at end of file
+}
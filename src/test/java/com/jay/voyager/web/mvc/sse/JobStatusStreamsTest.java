@@ -0,0 +1,128 @@
+package com.jay.voyager.web.mvc.sse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.jay.voyager.core.concurrent.limit.FixedLimit;
+import com.jay.voyager.core.concurrent.limit.SimpleConcurrencyLimiter;
+import com.jay.voyager.core.domain.jobs.Job;
+import com.jay.voyager.core.domain.jobs.JobStatus;
+import com.jay.voyager.core.error.api.ApiException;
+import com.jay.voyager.core.error.api.ErrorType;
+import com.jay.voyager.infra.jobs.events.JobEventHub;
+import com.jay.voyager.infra.jobs.events.PublishingJobRepository;
+import com.jay.voyager.infra.jobs.store.InMemoryJobRepository;
+import com.jay.voyager.web.mvc.controller.v1.mapping.VoyagerJobResponseMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class JobStatusStreamsTest {
+
+    private static final Instant REQUESTED_AT = Instant.parse("2026-03-04T05:06:07Z");
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final JobEventHub hub = new JobEventHub();
+    private final PublishingJobRepository repository =
+            new PublishingJobRepository(new InMemoryJobRepository(4, 16), hub);
+    private final SimpleConcurrencyLimiter connections = new SimpleConcurrencyLimiter(new FixedLimit(1));
+    private final JobStatusStreams streams = new JobStatusStreams(
+            hub,
+            connections,
+            executor,
+            new VoyagerJobResponseMapper(),
+            Duration.ofSeconds(15),
+            Duration.ofMinutes(30)
+    );
+
+    @AfterEach
+    void tearDown() {
+        streams.close();
+        executor.close();
+    }
+
+    @Test
+    void streamOfFinishedJobEndsAfterItsStatus() throws InterruptedException {
+        Job job = save(JobStatus.SUCCEEDED);
+
+        streams.open(job.id(), () -> job);
+
+        awaitTrue(() -> streams.openStreams() == 0);
+        assertEquals(0, connections.inFlight());
+    }
+
+    @Test
+    void streamFollowsTransitionsUntilTheJobFinishes() throws InterruptedException {
+        Job job = save(JobStatus.QUEUED);
+
+        streams.open(job.id(), () -> repository.find(job.id()).orElseThrow());
+        repository.transition(job.id(), JobStatus.QUEUED, JobStatus.RUNNING);
+        assertEquals(1, streams.openStreams());
+
+        repository.transition(job.id(), JobStatus.RUNNING, JobStatus.SUCCEEDED);
+
+        awaitTrue(() -> streams.openStreams() == 0);
+        assertFalse(hub.hasSubscribers(job.id()));
+        assertEquals(0, connections.inFlight());
+    }
+
+    @Test
+    void rejectsStreamsAboveTheConnectionLimit() {
+        Job job = save(JobStatus.QUEUED);
+        streams.open(job.id(), () -> job);
+
+        var ex = assertThrows(ApiException.class, () -> streams.open(job.id(), () -> job));
+
+        assertEquals(ErrorType.TOO_MANY_REQUESTS, ex.type());
+    }
+
+    @Test
+    void failedLookupReleasesItsConnection() {
+        UUID unknown = UUID.randomUUID();
+
+        var ex = assertThrows(ApiException.class, () -> streams.open(unknown, () -> {
+            throw new ApiException(ErrorType.NOT_FOUND);
+        }));
+
+        assertEquals(ErrorType.NOT_FOUND, ex.type());
+        assertEquals(0, connections.inFlight());
+        assertFalse(hub.hasSubscribers(unknown));
+    }
+
+    @Test
+    void closeEndsOpenStreams() throws InterruptedException {
+        Job job = save(JobStatus.RUNNING);
+        streams.open(job.id(), () -> job);
+
+        streams.close();
+
+        awaitTrue(() -> connections.inFlight() == 0);
+        assertEquals(0, streams.openStreams());
+        assertFalse(hub.hasSubscribers(job.id()));
+    }
+
+    private Job save(JobStatus status) {
+        var job = new Job(UUID.randomUUID(), status, REQUESTED_AT);
+        repository.save(job);
+        return job;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5s");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
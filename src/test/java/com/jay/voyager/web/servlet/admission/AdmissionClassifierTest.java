@@ -0,0 +1,76 @@
+package com.jay.voyager.web.servlet.admission;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.jay.voyager.core.inbound.admission.policy.AdmissionClass;
+import com.jay.voyager.core.inbound.admission.policy.AdmissionPolicy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdmissionClassifierTest {
+
+    private static final String CLASS_HEADER = "x-admission-class";
+
+    private final AdmissionClassifier classifier = new AdmissionClassifier(new AdmissionPolicy(
+            null,
+            AdmissionClass.INTERACTIVE,
+            CLASS_HEADER,
+            Map.of(),
+            List.of(
+                    new AdmissionPolicy.RouteRule("/api/v1/jobs/{jobId}", "GET", AdmissionClass.CRITICAL),
+                    new AdmissionPolicy.RouteRule("/api/v1/jobs/**", null, AdmissionClass.BEST_EFFORT)
+            ),
+            null,
+            null,
+            null
+    ));
+
+    @Test
+    void firstMatchingRouteWins() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs/job-1");
+
+        assertEquals(AdmissionClass.CRITICAL, classifier.classify(request));
+    }
+
+    @Test
+    void ruleMethodMustMatch() {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/v1/jobs/job-1");
+
+        assertEquals(AdmissionClass.BEST_EFFORT, classifier.classify(request));
+    }
+
+    @Test
+    void unmatchedRequestGetsDefaultClass() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/smoke");
+
+        assertEquals(AdmissionClass.INTERACTIVE, classifier.classify(request));
+    }
+
+    @Test
+    void headerCanDemoteRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs/job-1");
+        request.addHeader(CLASS_HEADER, "best-effort");
+
+        assertEquals(AdmissionClass.BEST_EFFORT, classifier.classify(request));
+    }
+
+    @Test
+    void headerCannotPromoteRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/smoke");
+        request.addHeader(CLASS_HEADER, "CRITICAL");
+
+        assertEquals(AdmissionClass.INTERACTIVE, classifier.classify(request));
+    }
+
+    @Test
+    void unknownHeaderValueIsIgnored() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/smoke");
+        request.addHeader(CLASS_HEADER, "urgent");
+
+        assertEquals(AdmissionClass.INTERACTIVE, classifier.classify(request));
+    }
+}
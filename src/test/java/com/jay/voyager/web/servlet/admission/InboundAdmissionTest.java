@@ -0,0 +1,166 @@
+package com.jay.voyager.web.servlet.admission;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.jay.voyager.core.concurrent.limit.CoDelAdmissionQueue;
+import com.jay.voyager.core.concurrent.limit.ConcurrencyLimiter;
+import com.jay.voyager.core.concurrent.limit.FairShareGate;
+import com.jay.voyager.core.concurrent.limit.FixedLimit;
+import com.jay.voyager.core.concurrent.limit.PartitionedConcurrencyLimiter;
+import com.jay.voyager.core.context.identity.Identity;
+import com.jay.voyager.core.context.identity.IdentityContextHolder;
+import com.jay.voyager.core.context.identity.IdentityContextSnapshot;
+import com.jay.voyager.core.inbound.admission.policy.AdmissionClass;
+import com.jay.voyager.core.inbound.admission.policy.AdmissionPolicy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class InboundAdmissionTest {
+
+    private static final Duration MAX_RETRY_AFTER = Duration.ofSeconds(30);
+
+    private final PartitionedConcurrencyLimiter<AdmissionClass> limiter = new PartitionedConcurrencyLimiter<>(
+            new FixedLimit(4),
+            AdmissionClass.class,
+            Map.of(
+                    AdmissionClass.CRITICAL, new PartitionedConcurrencyLimiter.Share(0.0, 1.0),
+                    AdmissionClass.INTERACTIVE, new PartitionedConcurrencyLimiter.Share(0.0, 1.0),
+                    AdmissionClass.BEST_EFFORT, new PartitionedConcurrencyLimiter.Share(0.0, 0.25)
+            )
+    );
+
+    private final AdmissionClassifier classifier = new AdmissionClassifier(new AdmissionPolicy(
+            null,
+            AdmissionClass.INTERACTIVE,
+            "x-admission-class",
+            Map.of(),
+            List.of(new AdmissionPolicy.RouteRule("/api/batch/**", null, AdmissionClass.BEST_EFFORT)),
+            null,
+            null,
+            null
+    ));
+
+    @AfterEach
+    void tearDown() {
+        IdentityContextHolder.clear();
+    }
+
+    @Test
+    void classFullIsReportedAsAdmissionClass() {
+        InboundAdmission admission = admission(FairShareGate.disabled());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/batch/export");
+
+        assertNotNull(admission.tryAdmit(request));
+        assertNull(admission.tryAdmit(request));
+
+        assertEquals(ShedReason.ADMISSION_CLASS, admission.rejection(request).reason());
+    }
+
+    @Test
+    void limitFullIsReportedAsConcurrencyLimit() {
+        InboundAdmission admission = admission(FairShareGate.disabled());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs/job-1");
+
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(admission.tryAdmit(request));
+        }
+        assertNotNull(admission.tryAdmit(new MockHttpServletRequest("GET", "/api/batch/export")));
+        assertNull(admission.tryAdmit(request));
+
+        assertEquals(ShedReason.CONCURRENCY_LIMIT, admission.rejection(request).reason());
+    }
+
+    @Test
+    void tenantOverShareIsReportedAsTenantShare() {
+        InboundAdmission admission = admission(new FairShareGate(limiter, 0.25, 16));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs/job-1");
+        IdentityContextHolder.context(IdentityContextSnapshot.of(new Identity("noisy", "req-1")));
+
+        // cap is 1, a tenant may borrow until only one permit is left
+        assertNotNull(admission.tryAdmit(request));
+        assertNotNull(admission.tryAdmit(request));
+        assertNotNull(admission.tryAdmit(request));
+        assertNull(admission.tryAdmit(request));
+
+        assertEquals(ShedReason.TENANT_SHARE, admission.rejection(request).reason());
+    }
+
+    @Test
+    void queueRejectionIsReportedAsQueueTimeout() {
+        InboundAdmission admission = queued();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs/job-1");
+
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(admission.tryAdmit(request));
+        }
+        assertNull(admission.tryAdmit(request));
+
+        assertEquals(ShedReason.QUEUE_TIMEOUT, admission.rejection(request).reason());
+    }
+
+    @Test
+    void classFullIsReportedAsAdmissionClassEvenWhenQueued() {
+        InboundAdmission admission = queued();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/batch/export");
+
+        assertNotNull(admission.tryAdmit(request));
+        assertNull(admission.tryAdmit(request));
+
+        // the limiter had room, the request waited in vain for its class
+        assertEquals(ShedReason.ADMISSION_CLASS, admission.rejection(request).reason());
+    }
+
+    @Test
+    void retryAfterFallsBackToMaxWithoutDrainHistory() {
+        InboundAdmission admission = admission(FairShareGate.disabled());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/batch/export");
+
+        admission.tryAdmit(request);
+        admission.tryAdmit(request);
+
+        assertEquals(MAX_RETRY_AFTER.toSeconds(), admission.rejection(request).retryAfterSeconds());
+    }
+
+    @Test
+    void releaseDelegatesToPermit() {
+        InboundAdmission admission = admission(FairShareGate.disabled());
+        ConcurrencyLimiter.Permit completed = mock(ConcurrencyLimiter.Permit.class);
+        ConcurrencyLimiter.Permit failed = mock(ConcurrencyLimiter.Permit.class);
+
+        admission.release(completed, true);
+        admission.release(failed, false);
+
+        verify(completed).release();
+        verify(failed).releaseIgnored();
+    }
+
+    private InboundAdmission queued() {
+        return new InboundAdmission(
+                limiter,
+                classifier,
+                FairShareGate.disabled(),
+                new CoDelAdmissionQueue(Duration.ofMillis(1), Duration.ofMillis(5), 10),
+                MAX_RETRY_AFTER
+        );
+    }
+
+    private InboundAdmission admission(FairShareGate fairShareGate) {
+        return new InboundAdmission(
+                limiter,
+                classifier,
+                fairShareGate,
+                CoDelAdmissionQueue.disabled(),
+                MAX_RETRY_AFTER
+        );
+    }
+}
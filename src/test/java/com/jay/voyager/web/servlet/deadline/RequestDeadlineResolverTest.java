@@ -0,0 +1,77 @@
+package com.jay.voyager.web.servlet.deadline;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlinePolicy;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestDeadlineResolverTest {
+
+    private static final String HEADER = "x-request-deadline";
+
+    private final RequestDeadlineResolver resolver = new RequestDeadlineResolver(new DeadlinePolicy(
+            HEADER,
+            Duration.ZERO,
+            Duration.ofSeconds(30),
+            List.of(
+                    new DeadlinePolicy.RouteRule("/api/v1/jobs/{jobId}", "GET", Duration.ofSeconds(2)),
+                    new DeadlinePolicy.RouteRule("/api/v1/jobs/**", null, Duration.ofSeconds(5))
+            )
+    ));
+
+    @Test
+    void headerBudgetWinsOverRoute() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs/job-1");
+        request.addHeader(HEADER, "500");
+
+        Deadline deadline = resolver.resolve(request);
+
+        assertTrue(deadline.remaining().compareTo(Duration.ofMillis(500)) <= 0);
+    }
+
+    @Test
+    void headerBudgetIsCappedAtMaxTimeout() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/smoke");
+        request.addHeader(HEADER, "3600000");
+
+        Deadline deadline = resolver.resolve(request);
+
+        assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(30)) <= 0);
+        assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(29)) > 0);
+    }
+
+    @Test
+    void spentHeaderBudgetIsExpired() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/smoke");
+        request.addHeader(HEADER, "0");
+
+        assertTrue(resolver.resolve(request).isExpired());
+    }
+
+    @Test
+    void unparsableHeaderFallsBackToRoute() {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/v1/jobs/job-1");
+        request.addHeader(HEADER, "soon");
+
+        Deadline deadline = resolver.resolve(request);
+
+        assertFalse(deadline.isNone());
+        assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(2)) > 0); // second rule, method must match
+        assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(5)) <= 0);
+    }
+
+    @Test
+    void unmatchedRequestGetsDefaultWhichMeansNoDeadline() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/smoke");
+
+        assertSame(Deadline.NONE, resolver.resolve(request));
+    }
+}
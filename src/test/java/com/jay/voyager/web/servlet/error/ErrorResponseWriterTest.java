@@ -3,69 +3,105 @@ package com.jay.voyager.web.servlet.error;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 
+import io.micrometer.tracing.Tracer;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
 
 import com.jay.voyager.api.v1.common.error.ErrorResponse;
 import com.jay.voyager.core.error.api.ErrorType;
-import com.jay.voyager.web.error.ErrorResponseSpec;
+import com.jay.voyager.helper.MockTracerUtils;
 import com.jay.voyager.web.error.ErrorResponseSpecFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import static com.jay.voyager.core.error.api.ErrorType.DEPENDENCY_UNAVAILABLE;
 import static com.jay.voyager.core.error.api.ErrorType.TOO_MANY_REQUESTS;
 
 class ErrorResponseWriterTest {
 
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
     @Test
     void writeErrorResponseWriterTest() throws IOException {
-        ErrorResponseSpecFactory factory = mock(ErrorResponseSpecFactory.class);
-        ObjectMapper objectMapper = mock(ObjectMapper.class);
-
-        ErrorResponseWriter writer = new ErrorResponseWriter(factory, objectMapper);
+        String traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+        ErrorResponseWriter writer = new ErrorResponseWriter(
+                new ErrorResponseSpecFactory(MockTracerUtils.mockTracer(traceId)),
+                objectMapper
+        );
 
         ErrorType type = TOO_MANY_REQUESTS;
-        String correlationId = "trace-001";
-        ErrorResponse body = new ErrorResponse(type.name(), type.defaultMessage(), correlationId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.writeJsonErrorResponse(response, type);
+
+        // spliced template must be byte for byte what Jackson would have written
+        String expected = objectMapper.writeValueAsString(
+                new ErrorResponse(type.name(), type.defaultMessage(), traceId)
+        );
+        assertEquals(expected, response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(expected.getBytes(StandardCharsets.UTF_8).length, response.getContentLength());
+
+        MediaType contentType = MediaType.parseMediaType(response.getContentType());
+        MediaType expectedType = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+
+        assertEquals(expectedType, contentType);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+    }
 
-        ErrorResponseSpec spec = new ErrorResponseSpec(HttpStatus.TOO_MANY_REQUESTS, body);
+    @Test
+    void writesNullCorrelationIdWhenNoCurrentSpan() throws IOException {
+        Tracer tracer = mock(Tracer.class);
+        when(tracer.currentSpan()).thenReturn(null);
 
-        when(factory.buildResponseSpec(type)).thenReturn(spec);
+        ErrorResponseWriter writer = new ErrorResponseWriter(new ErrorResponseSpecFactory(tracer), objectMapper);
 
+        ErrorType type = DEPENDENCY_UNAVAILABLE;
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         writer.writeJsonErrorResponse(response, type);
 
-        verify(factory).buildResponseSpec(type);
-        // Verify the writer passes the response output stream and the response body to Jackson
-        verify(objectMapper).writeValue(response.getOutputStream(), body);
+        String expected = objectMapper.writeValueAsString(
+                new ErrorResponse(type.name(), type.defaultMessage(), null)
+        );
+        assertEquals(expected, response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+    }
 
-        MediaType contentType = MediaType.parseMediaType(response.getContentType());
-        MediaType expected = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+    @Test
+    void traceIdNeedingEscapingFallsBackToJackson() throws IOException {
+        String traceId = "trace\"001";
+        ErrorResponseWriter writer = new ErrorResponseWriter(
+                new ErrorResponseSpecFactory(MockTracerUtils.mockTracer(traceId)),
+                objectMapper
+        );
+
+        ErrorType type = TOO_MANY_REQUESTS;
+        MockHttpServletResponse response = new MockHttpServletResponse();
 
-        assertEquals(expected, contentType);
-        assertEquals(spec.status().value(), response.getStatus());
+        writer.writeJsonErrorResponse(response, type);
+
+        ErrorResponse body = objectMapper.readValue(response.getContentAsByteArray(), ErrorResponse.class);
+        assertEquals(new ErrorResponse(type.name(), type.defaultMessage(), traceId), body);
     }
 
     @Test
     void whenResponseIsCommittedReturns() throws IOException {
-        ErrorResponseSpecFactory factory = mock(ErrorResponseSpecFactory.class);
-        ObjectMapper objectMapper = mock(ObjectMapper.class);
-
-        ErrorResponseWriter writer = new ErrorResponseWriter(factory, objectMapper);
+        Tracer tracer = mock(Tracer.class);
+        ErrorResponseWriter writer = new ErrorResponseWriter(new ErrorResponseSpecFactory(tracer), objectMapper);
 
         MockHttpServletResponse response = new MockHttpServletResponse();
         response.setCommitted(true);
 
         writer.writeJsonErrorResponse(response, TOO_MANY_REQUESTS);
 
-        verifyNoInteractions(factory, objectMapper);
+        verifyNoInteractions(tracer);
+        assertEquals(0, response.getContentAsByteArray().length);
     }
-}
\ No newline at end of file
+}
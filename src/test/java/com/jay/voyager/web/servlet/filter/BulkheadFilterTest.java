@@ -4,13 +4,17 @@ import java.io.IOException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import com.jay.voyager.core.concurrent.limit.ConcurrencyLimiter;
+import com.jay.voyager.web.servlet.admission.InboundAdmission;
+import com.jay.voyager.web.servlet.admission.ShedReason;
 import com.jay.voyager.web.servlet.error.ErrorResponseWriter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -25,62 +29,86 @@ class BulkheadFilterTest {
 
     @Test
     void acquiresPermitThenReleasesPermit() throws ServletException, IOException {
-        Bulkhead bulkhead = mock(Bulkhead.class);
-        when(bulkhead.tryAcquirePermission()).thenReturn(true);
+        InboundAdmission inboundAdmission = mock(InboundAdmission.class);
+        ConcurrencyLimiter.Permit permit = mock(ConcurrencyLimiter.Permit.class);
 
         ErrorResponseWriter errorResponseWriter = mock(ErrorResponseWriter.class);
 
-        BulkheadFilter bulkheadFilter = new BulkheadFilter(bulkhead, errorResponseWriter);
+        BulkheadFilter bulkheadFilter = new BulkheadFilter(inboundAdmission, errorResponseWriter, true);
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         MockHttpServletResponse response = new MockHttpServletResponse();
         FilterChain filterChain = mock(FilterChain.class);
 
+        when(inboundAdmission.tryAdmit(request)).thenReturn(permit);
+
         bulkheadFilter.doFilter(request, response, filterChain);
 
-        verify(bulkhead).tryAcquirePermission();
+        verify(inboundAdmission).tryAdmit(request);
         verify(filterChain).doFilter(request, response);
-        verify(bulkhead).releasePermission();
 
-        //after releasing permissions, bulkhead will not be used anymore.
-        verifyNoMoreInteractions(bulkhead);
+        // successful request is released as a latency sample for the limit algorithm
+        verify(inboundAdmission).release(permit, true);
+
+        verifyNoMoreInteractions(inboundAdmission);
 
         verifyNoInteractions(errorResponseWriter); //never used in happy path.
     }
 
     @Test
-    void whenFailsToAcquirePermitThenWritesErrorResponse() throws ServletException, IOException {
-        Bulkhead bulkhead = mock(Bulkhead.class);
-        when(bulkhead.tryAcquirePermission()).thenReturn(false);
+    void whenFailsToAcquirePermitThenWritesErrorResponseWithHints() throws ServletException, IOException {
+        InboundAdmission inboundAdmission = mock(InboundAdmission.class);
 
         ErrorResponseWriter errorResponseWriter = mock(ErrorResponseWriter.class);
 
-        BulkheadFilter bulkheadFilter = new BulkheadFilter(bulkhead, errorResponseWriter);
+        BulkheadFilter bulkheadFilter = new BulkheadFilter(inboundAdmission, errorResponseWriter, true);
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         MockHttpServletResponse response = new MockHttpServletResponse();
         FilterChain filterChain = mock(FilterChain.class);
 
-        bulkheadFilter.doFilter(request, response, filterChain);
+        when(inboundAdmission.tryAdmit(request)).thenReturn(null);
+        when(inboundAdmission.rejection(request))
+                .thenReturn(new InboundAdmission.Rejection(ShedReason.TENANT_SHARE, 3));
 
-        verify(bulkhead).tryAcquirePermission();
-        //due to fail-fast, bulkhead should no longer be used.
-        verifyNoMoreInteractions(bulkhead);
+        bulkheadFilter.doFilter(request, response, filterChain);
 
         // filterChain will never be called when permit is not granted. Write error response
         verifyNoInteractions(filterChain);
 
+        assertEquals("3", response.getHeader("Retry-After"));
+        assertEquals("tenant-share", response.getHeader(BulkheadFilter.LOAD_SHED_REASON_HEADER));
+        verify(errorResponseWriter).writeJsonErrorResponse(response, TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void shedReasonHeaderCanBeDisabled() throws ServletException, IOException {
+        InboundAdmission inboundAdmission = mock(InboundAdmission.class);
+        ErrorResponseWriter errorResponseWriter = mock(ErrorResponseWriter.class);
+
+        BulkheadFilter bulkheadFilter = new BulkheadFilter(inboundAdmission, errorResponseWriter, false);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(inboundAdmission.rejection(request))
+                .thenReturn(new InboundAdmission.Rejection(ShedReason.CONCURRENCY_LIMIT, 1));
+
+        bulkheadFilter.doFilter(request, response, mock(FilterChain.class));
+
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertNull(response.getHeader(BulkheadFilter.LOAD_SHED_REASON_HEADER));
         verify(errorResponseWriter).writeJsonErrorResponse(response, TOO_MANY_REQUESTS);
     }
 
     @Test
-    void acquiresPermitThenThrowsReleasesPermit() throws ServletException, IOException {
-        Bulkhead bulkhead = mock(Bulkhead.class);
-        when(bulkhead.tryAcquirePermission()).thenReturn(true);
+    void acquiresPermitThenThrowsReleasesPermitWithoutSample() throws ServletException, IOException {
+        InboundAdmission inboundAdmission = mock(InboundAdmission.class);
+        ConcurrencyLimiter.Permit permit = mock(ConcurrencyLimiter.Permit.class);
 
         ErrorResponseWriter errorResponseWriter = mock(ErrorResponseWriter.class);
 
-        BulkheadFilter bulkheadFilter = new BulkheadFilter(bulkhead, errorResponseWriter);
+        BulkheadFilter bulkheadFilter = new BulkheadFilter(inboundAdmission, errorResponseWriter, true);
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         MockHttpServletResponse response = new MockHttpServletResponse();
@@ -88,19 +116,22 @@ class BulkheadFilterTest {
         FilterChain filterChain = mock(FilterChain.class);
         doThrow(new IOException("filterChain throws")).when(filterChain).doFilter(request, response);
 
+        when(inboundAdmission.tryAdmit(request)).thenReturn(permit);
+
         assertThrows(IOException.class, () ->
                 bulkheadFilter.doFilter(request, response, filterChain)
         );
 
-        verify(bulkhead).tryAcquirePermission();
+        verify(inboundAdmission).tryAdmit(request);
         verify(filterChain).doFilter(request, response);
-        verify(bulkhead).releasePermission();
 
-        //after releasing permissions, bulkhead will not be used anymore.
-        verifyNoMoreInteractions(bulkhead);
+        // failed request must not feed its (possibly very short) latency into the limit
+        verify(inboundAdmission).release(permit, false);
+
+        verifyNoMoreInteractions(inboundAdmission);
 
         //never used since filterChain threw, not this filter's error.
         verifyNoInteractions(errorResponseWriter);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.jay.voyager.web.servlet.filter;
+
+import java.io.IOException;
+import java.time.Duration;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.jay.voyager.core.context.deadline.Deadline;
+import com.jay.voyager.core.context.deadline.DeadlineContextHolder;
+import com.jay.voyager.web.servlet.deadline.RequestDeadlineResolver;
+import com.jay.voyager.web.servlet.error.ErrorResponseWriter;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import static com.jay.voyager.core.error.api.ErrorType.DEADLINE_EXCEEDED;
+
+class DeadlineFilterTest {
+
+    private final RequestDeadlineResolver deadlineResolver = mock(RequestDeadlineResolver.class);
+    private final ErrorResponseWriter errorResponseWriter = mock(ErrorResponseWriter.class);
+    private final DeadlineFilter filter = new DeadlineFilter(deadlineResolver, errorResponseWriter);
+
+    @Test
+    void deadlineIsBoundForTheChainOnly() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+        when(deadlineResolver.resolve(request)).thenReturn(deadline);
+
+        Deadline[] inside = new Deadline[1];
+        FilterChain chain = (_, _) -> inside[0] = DeadlineContextHolder.context();
+
+        filter.doFilter(request, response, chain);
+
+        assertSame(deadline, inside[0]);
+        assertSame(Deadline.NONE, DeadlineContextHolder.context());
+        verifyNoInteractions(errorResponseWriter);
+    }
+
+    @Test
+    void withoutDeadlineChainRunsUnbound() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(deadlineResolver.resolve(request)).thenReturn(Deadline.NONE);
+
+        Deadline[] inside = new Deadline[1];
+        FilterChain chain = (_, _) -> inside[0] = DeadlineContextHolder.context();
+
+        filter.doFilter(request, response, chain);
+
+        assertSame(Deadline.NONE, inside[0]);
+    }
+
+    @Test
+    void expiredDeadlineIsRejectedWithoutCallingTheChain() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(deadlineResolver.resolve(request)).thenReturn(Deadline.after(Duration.ZERO));
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request, response, chain);
+
+        verify(errorResponseWriter).writeJsonErrorResponse(response, DEADLINE_EXCEEDED);
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void chainExceptionsAreRethrownUnwrapped() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(deadlineResolver.resolve(request)).thenReturn(Deadline.after(Duration.ofSeconds(5)));
+
+        IOException failure = new IOException("boom");
+        FilterChain chain = (_, _) -> {
+            throw failure;
+        };
+
+        IOException thrown = assertThrows(IOException.class, () -> filter.doFilter(request, response, chain));
+        assertSame(failure, thrown);
+    }
+}
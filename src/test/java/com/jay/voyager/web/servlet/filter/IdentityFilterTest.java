@@ -12,6 +12,7 @@ import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import com.jay.voyager.core.context.identity.IdentityBindingMode;
 import com.jay.voyager.core.context.identity.IdentityContextHolder;
 import com.jay.voyager.core.context.identity.IdentityContextSnapshot;
 import com.jay.voyager.core.transport.http.IdentityHeaders;
@@ -21,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IdentityFilterTest {
 
@@ -96,4 +98,47 @@ class IdentityFilterTest {
         assertSame(IdentityContextSnapshot.EMPTY, IdentityContextHolder.context());
     }
 
-}
\ No newline at end of file
+    @Test
+    void scopedBindingIsVisibleInChainAndEndsWithRequest() throws ServletException, IOException {
+        IdentityFilter filter = new IdentityFilter(identityHeaders, IdentityBindingMode.SCOPED_VALUE);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(identityHeaders.userId(), "user-001");
+        request.addHeader(identityHeaders.requestId(), "req-001");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean[] chainCalled = new boolean[1];
+        FilterChain assertingChain = (req, res) -> {
+            IdentityContextSnapshot ctx = IdentityContextHolder.context();
+            assertEquals("user-001", ctx.identity().userId());
+            assertEquals("req-001", ctx.identity().requestId());
+            chainCalled[0] = true;
+        };
+
+        filter.doFilter(request, response, assertingChain);
+
+        assertTrue(chainCalled[0]);
+        assertSame(IdentityContextSnapshot.EMPTY, IdentityContextHolder.context());
+    }
+
+    @Test
+    void scopedBindingRethrowsChainExceptions() {
+        IdentityFilter filter = new IdentityFilter(identityHeaders, IdentityBindingMode.SCOPED_VALUE);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(identityHeaders.userId(), "user-001");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ServletException servletException = new ServletException("error");
+        IOException ioException = new IOException("io");
+        IllegalStateException runtimeException = new IllegalStateException("runtime");
+
+        assertSame(servletException, assertThrows(ServletException.class,
+                () -> filter.doFilter(request, response, (req, res) -> { throw servletException; })));
+        assertSame(ioException, assertThrows(IOException.class,
+                () -> filter.doFilter(request, response, (req, res) -> { throw ioException; })));
+        assertSame(runtimeException, assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request, response, (req, res) -> { throw runtimeException; })));
+        assertSame(IdentityContextSnapshot.EMPTY, IdentityContextHolder.context());
+    }
+}